@@ -47,7 +47,7 @@ public class BindingHelperObserver implements InvalidationListener {
         final Binding<?> binding = ref.get();
         if (binding == null) {
             observable.removeListener(this);
-        } else {
+        } else if (!InvalidationScheduler.deferInvalidation(binding)) {
             binding.invalidate();
         }
     }
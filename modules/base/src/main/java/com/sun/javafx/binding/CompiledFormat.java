@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A format string for {@link String#format(Locale, String, Object...)} that
+ * is parsed once and shared by all bindings that use the same string.
+ * <p>
+ * Formats that only consist of text and the specifiers {@code %s},
+ * {@code %d}, {@code %f}, {@code %.<i>n</i>f}, {@code %tF}, {@code %%} and
+ * {@code %n}, without flags, width or argument index, are formatted directly
+ * into a {@code StringBuilder} if the arguments have the expected types. All
+ * other formats, and arguments of other types, go through a
+ * {@link Formatter}. The builder and the formatter are kept per thread and
+ * reused, so formatting does not allocate more than the resulting string in
+ * the common case. The results are the same as those of
+ * {@code String.format}, including the exceptions thrown for illegal formats
+ * and arguments.
+ */
+final class CompiledFormat {
+
+    private static final int MAX_CACHED_FORMATS = 512;
+    private static final Map<String, CompiledFormat> CACHE = new ConcurrentHashMap<>();
+
+    private static final int TEXT = 0;
+    private static final int STRING = 1;
+    private static final int INTEGER = 2;
+    private static final int FIXED = 3;
+    private static final int ISO_DATE = 4;
+
+    /**
+     * The scratch space of one thread.
+     */
+    private static final class Scratch {
+        final StringBuilder builder = new StringBuilder();
+        final Formatter formatter = new Formatter(builder);
+        boolean busy;
+        Locale symbolsLocale;
+        char zeroDigit = '0';
+        char decimalSeparator = '.';
+
+        void useSymbolsOf(Locale locale) {
+            if (locale != symbolsLocale) {
+                if (locale == null) {
+                    zeroDigit = '0';
+                    decimalSeparator = '.';
+                } else {
+                    final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+                    zeroDigit = symbols.getZeroDigit();
+                    decimalSeparator = symbols.getDecimalSeparator();
+                }
+                symbolsLocale = locale;
+            }
+        }
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final String format;
+    // null if the format has to go through a Formatter
+    private final int[] kinds;
+    private final String[] texts;
+    private final int[] precisions;
+    private final int argumentCount;
+
+    private CompiledFormat(String format) {
+        this.format = format;
+        final List<Object> segments = parse(format);
+        if (segments == null) {
+            kinds = null;
+            texts = null;
+            precisions = null;
+            argumentCount = 0;
+        } else {
+            final int n = segments.size() / 3;
+            kinds = new int[n];
+            texts = new String[n];
+            precisions = new int[n];
+            int count = 0;
+            for (int i = 0; i < n; ++i) {
+                kinds[i] = (Integer) segments.get(3 * i);
+                texts[i] = (String) segments.get(3 * i + 1);
+                precisions[i] = (Integer) segments.get(3 * i + 2);
+                if (kinds[i] != TEXT) {
+                    ++count;
+                }
+            }
+            argumentCount = count;
+        }
+    }
+
+    /**
+     * Returns the compiled form of a format string. Compiled formats are
+     * shared, so that many bindings with the same format parse it only once.
+     */
+    static CompiledFormat of(String format) {
+        CompiledFormat compiled = CACHE.get(format);
+        if (compiled == null) {
+            compiled = new CompiledFormat(format);
+            if (CACHE.size() >= MAX_CACHED_FORMATS) {
+                CACHE.clear();
+            }
+            CACHE.put(format, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Splits a format into triples of kind, text and precision, or returns
+     * null if it contains anything that is not handled directly.
+     */
+    private static List<Object> parse(String format) {
+        final List<Object> segments = new ArrayList<>();
+        final StringBuilder text = new StringBuilder();
+        final int length = format.length();
+        int i = 0;
+        while (i < length) {
+            final char c = format.charAt(i++);
+            if (c != '%') {
+                text.append(c);
+                continue;
+            }
+            if (i == length) {
+                return null;
+            }
+            final char next = format.charAt(i++);
+            int kind;
+            int precision = 0;
+            if (next == '%') {
+                text.append('%');
+                continue;
+            } else if (next == 'n') {
+                text.append(System.lineSeparator());
+                continue;
+            } else if (next == 's') {
+                kind = STRING;
+            } else if (next == 'd') {
+                kind = INTEGER;
+            } else if (next == 'f') {
+                kind = FIXED;
+                precision = 6;
+            } else if (next == 't' && i < length && format.charAt(i) == 'F') {
+                ++i;
+                kind = ISO_DATE;
+            } else if (next == '.') {
+                final int start = i;
+                while (i < length && Character.isDigit(format.charAt(i))) {
+                    ++i;
+                }
+                if (i == start || i == length || format.charAt(i) != 'f' || i - start > 2) {
+                    return null;
+                }
+                precision = Integer.parseInt(format.substring(start, i));
+                ++i;
+                kind = FIXED;
+            } else {
+                return null;
+            }
+            if (text.length() > 0) {
+                segments.add(TEXT);
+                segments.add(text.toString());
+                segments.add(0);
+                text.setLength(0);
+            }
+            segments.add(kind);
+            segments.add(null);
+            segments.add(precision);
+        }
+        if (text.length() > 0) {
+            segments.add(TEXT);
+            segments.add(text.toString());
+            segments.add(0);
+        }
+        return segments;
+    }
+
+    /**
+     * Formats the arguments like {@code String.format(locale, format, args)}.
+     */
+    String format(Locale locale, Object... args) {
+        final Scratch scratch = SCRATCH.get();
+        if (scratch.busy) {
+            // an argument formats itself with another binding
+            return String.format(locale, format, args);
+        }
+        scratch.busy = true;
+        try {
+            final StringBuilder builder = scratch.builder;
+            builder.setLength(0);
+            if (kinds == null || !appendDirectly(scratch, locale, args)) {
+                builder.setLength(0);
+                scratch.formatter.format(locale, format, args);
+            }
+            return builder.toString();
+        } finally {
+            scratch.busy = false;
+        }
+    }
+
+    private boolean appendDirectly(Scratch scratch, Locale locale, Object[] args) {
+        if (args == null || args.length < argumentCount) {
+            return false;
+        }
+        final StringBuilder builder = scratch.builder;
+        int argument = 0;
+        for (int i = 0; i < kinds.length; ++i) {
+            switch (kinds[i]) {
+                case TEXT:
+                    builder.append(texts[i]);
+                    break;
+                case STRING: {
+                    final Object arg = args[argument++];
+                    if (arg instanceof Formattable) {
+                        return false;
+                    }
+                    builder.append(arg);
+                    break;
+                }
+                case INTEGER: {
+                    final Object arg = args[argument++];
+                    if (!(arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte)) {
+                        return false;
+                    }
+                    scratch.useSymbolsOf(locale);
+                    if (scratch.zeroDigit != '0') {
+                        return false;
+                    }
+                    builder.append(((Number) arg).longValue());
+                    break;
+                }
+                case FIXED: {
+                    final Object arg = args[argument++];
+                    if (!(arg instanceof Double || arg instanceof Float)) {
+                        return false;
+                    }
+                    scratch.useSymbolsOf(locale);
+                    if (scratch.zeroDigit != '0') {
+                        return false;
+                    }
+                    appendFixed(builder, ((Number) arg).doubleValue(), precisions[i], scratch.decimalSeparator);
+                    break;
+                }
+                case ISO_DATE: {
+                    final Object arg = args[argument++];
+                    if (!(arg instanceof LocalDate)) {
+                        return false;
+                    }
+                    final LocalDate date = (LocalDate) arg;
+                    scratch.useSymbolsOf(locale);
+                    if (scratch.zeroDigit != '0' || date.getYear() < 0 || date.getYear() > 9999) {
+                        return false;
+                    }
+                    appendPadded(builder, date.getYear(), 4);
+                    builder.append('-');
+                    appendPadded(builder, date.getMonthValue(), 2);
+                    builder.append('-');
+                    appendPadded(builder, date.getDayOfMonth(), 2);
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void appendPadded(StringBuilder builder, int value, int width) {
+        for (int limit = 10, i = 1; i < width; ++i, limit *= 10) {
+            if (value < limit) {
+                builder.append('0');
+            }
+        }
+        builder.append(value);
+    }
+
+    /**
+     * Appends a double with a fixed number of decimals. Like the
+     * {@code Formatter}, this rounds the shortest decimal representation of
+     * the value half up, rather than the exact binary value.
+     */
+    static void appendFixed(StringBuilder builder, double value, int precision, char decimalSeparator) {
+        if (Double.isNaN(value)) {
+            builder.append("NaN");
+            return;
+        }
+        if (Double.isInfinite(value)) {
+            builder.append(value > 0 ? "Infinity" : "-Infinity");
+            return;
+        }
+        final String s = Double.toString(value);
+        final boolean negative = s.charAt(0) == '-';
+        final int exponentIndex = s.indexOf('E');
+        final int end = exponentIndex < 0 ? s.length() : exponentIndex;
+        // the digits, after a leading zero that takes a carry, and the
+        // number of digits before the decimal point
+        final char[] digits = new char[end + 1];
+        digits[0] = '0';
+        int count = 1;
+        int point = 0;
+        for (int i = negative ? 1 : 0; i < end; ++i) {
+            final char c = s.charAt(i);
+            if (c == '.') {
+                point = count;
+            } else {
+                digits[count++] = c;
+            }
+        }
+        if (exponentIndex >= 0) {
+            point += Integer.parseInt(s.substring(exponentIndex + 1));
+        }
+        // round half up at the requested precision
+        final int keep = point + precision;
+        if (keep <= 0) {
+            count = 0;
+        } else if (keep < count) {
+            final boolean up = digits[keep] >= '5';
+            count = keep;
+            if (up) {
+                int i = keep - 1;
+                while (digits[i] == '9') {
+                    digits[i--] = '0';
+                }
+                ++digits[i];
+            }
+        }
+        if (negative) {
+            builder.append('-');
+        }
+        int first = 0;
+        while (first < point - 1 && digit(digits, count, first) == '0') {
+            ++first;
+        }
+        if (first >= point) {
+            builder.append('0');
+        }
+        for (int i = first; i < point; ++i) {
+            builder.append(digit(digits, count, i));
+        }
+        if (precision > 0) {
+            builder.append(decimalSeparator);
+            for (int i = point; i < keep; ++i) {
+                builder.append(digit(digits, count, i));
+            }
+        }
+    }
+
+    private static char digit(char[] digits, int count, int index) {
+        return index >= 0 && index < count ? digits[index] : '0';
+    }
+}
@@ -52,32 +52,40 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             throw new NullPointerException();
         }
         observable.getValue(); // validate observable
-        return (helper == null)? new SingleInvalidation<T>(observable, listener) : helper.addListener(listener);
+        return replaced(observable, helper, (helper == null)? new SingleInvalidation<T>(observable, listener) : helper.addListener(listener));
     }
 
     public static <T> ExpressionHelper<T> removeListener(ExpressionHelper<T> helper, InvalidationListener listener) {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return (helper == null)? null : helper.removeListener(listener);
+        return (helper == null)? null : replaced(helper.observable, helper, helper.removeListener(listener));
     }
 
     public static <T> ExpressionHelper<T> addListener(ExpressionHelper<T> helper, ObservableValue<T> observable, ChangeListener<? super T> listener) {
         if ((observable == null) || (listener == null)) {
             throw new NullPointerException();
         }
-        return (helper == null)? new SingleChange<T>(observable, listener) : helper.addListener(listener);
+        return replaced(observable, helper, (helper == null)? new SingleChange<T>(observable, listener) : helper.addListener(listener));
     }
 
     public static <T> ExpressionHelper<T> removeListener(ExpressionHelper<T> helper, ChangeListener<? super T> listener) {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return (helper == null)? null : helper.removeListener(listener);
+        return (helper == null)? null : replaced(helper.observable, helper, helper.removeListener(listener));
+    }
+
+    // the notifications deferred by a binding transaction go to the current helper
+    private static <T> ExpressionHelper<T> replaced(ObservableValue<T> observable, ExpressionHelper<T> oldHelper, ExpressionHelper<T> newHelper) {
+        if (newHelper != oldHelper) {
+            InvalidationScheduler.helperChanged(observable, newHelper);
+        }
+        return newHelper;
     }
 
     public static <T> void fireValueChangedEvent(ExpressionHelper<T> helper) {
-        if (helper != null) {
+        if ((helper != null) && !InvalidationScheduler.deferNotification(helper)) {
             helper.fireValueChangedEvent();
         }
     }
@@ -99,6 +107,20 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent();
 
+    /**
+     * Notifies only the {@link BindingHelperObserver BindingHelperObservers},
+     * the other listeners are notified later with
+     * {@link #fireDeferredValueChangedEvent()}.
+     */
+    abstract void notifyBindingObservers();
+
+    /**
+     * Notifies all listeners except the
+     * {@link BindingHelperObserver BindingHelperObservers}, which have been
+     * notified with {@link #notifyBindingObservers()} already.
+     */
+    abstract void fireDeferredValueChangedEvent();
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
 
@@ -139,6 +161,20 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
             }
         }
+
+        @Override
+        void notifyBindingObservers() {
+            if (listener instanceof BindingHelperObserver) {
+                listener.invalidated(observable);
+            }
+        }
+
+        @Override
+        void fireDeferredValueChangedEvent() {
+            if (!(listener instanceof BindingHelperObserver)) {
+                fireValueChangedEvent();
+            }
+        }
     }
 
     private static class SingleChange<T> extends ExpressionHelper<T> {
@@ -185,6 +221,15 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 }
             }
         }
+
+        @Override
+        void notifyBindingObservers() {
+        }
+
+        @Override
+        void fireDeferredValueChangedEvent() {
+            fireValueChangedEvent();
+        }
     }
 
     private static class Generic<T> extends ExpressionHelper<T> {
@@ -193,7 +238,11 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         private ChangeListener<? super T>[] changeListeners;
         private int invalidationSize;
         private int changeSize;
-        private boolean locked;
+        private int lockCount;
+        // true while a notification iterates over the array, modifications then work on a copy
+        private boolean invalidationShared;
+        private boolean changeShared;
+        private int trimEpoch;
         private T currentValue;
 
         private Generic(ObservableValue<T> observable, InvalidationListener listener0, InvalidationListener listener1) {
@@ -225,9 +274,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (invalidationShared) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
+                    invalidationShared = false;
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
                     if (invalidationSize == oldCapacity) {
@@ -256,15 +306,17 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
+                            final boolean shared = invalidationShared;
+                            if (shared) {
                                 invalidationListeners = new InvalidationListener[invalidationListeners.length];
                                 System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
+                                invalidationShared = false;
                             }
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
                             }
                             invalidationSize--;
-                            if (!locked) {
+                            if (!shared) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
                             }
                         }
@@ -282,9 +334,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (changeShared) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
+                    changeShared = false;
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
                     if (changeSize == oldCapacity) {
@@ -316,15 +369,17 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ChangeListener<? super T>[] oldListeners = changeListeners;
-                            if (locked) {
+                            final boolean shared = changeShared;
+                            if (shared) {
                                 changeListeners = new ChangeListener[changeListeners.length];
                                 System.arraycopy(oldListeners, 0, changeListeners, 0, index);
+                                changeShared = false;
                             }
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
                             }
                             changeSize--;
-                            if (!locked) {
+                            if (!shared) {
                                 changeListeners[changeSize] = null; // Let gc do its work
                             }
                         }
@@ -337,21 +392,43 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         @Override
         protected void fireValueChangedEvent() {
+            notifyListeners(true, true);
+        }
+
+        @Override
+        void notifyBindingObservers() {
+            notifyListeners(true, false);
+        }
+
+        @Override
+        void fireDeferredValueChangedEvent() {
+            notifyListeners(false, true);
+        }
+
+        private void notifyListeners(boolean bindingObservers, boolean otherListeners) {
+            trimCollectedListeners();
             final InvalidationListener[] curInvalidationList = invalidationListeners;
             final int curInvalidationSize = invalidationSize;
             final ChangeListener<? super T>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
 
+            lockCount++;
+            invalidationShared = true;
+            changeShared = true;
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
+                    final InvalidationListener listener = curInvalidationList[i];
+                    if (!(bindingObservers && otherListeners)
+                            && ((listener instanceof BindingHelperObserver) != bindingObservers)) {
+                        continue;
+                    }
                     try {
-                        curInvalidationList[i].invalidated(observable);
+                        listener.invalidated(observable);
                     } catch (Exception e) {
                         Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
                     }
                 }
-                if (curChangeSize > 0) {
+                if (otherListeners && (curChangeSize > 0)) {
                     final T oldValue = currentValue;
                     currentValue = observable.getValue();
                     final boolean changed = (currentValue == null)? (oldValue != null) : !currentValue.equals(oldValue);
@@ -366,7 +443,24 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--lockCount == 0) {
+                    invalidationShared = false;
+                    changeShared = false;
+                }
+            }
+        }
+
+        private void trimCollectedListeners() {
+            // only trim in place if no notification is iterating over the arrays
+            final int epoch = weakListenerEpoch();
+            if ((epoch != trimEpoch) && (lockCount == 0)) {
+                trimEpoch = epoch;
+                if (invalidationListeners != null) {
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                }
+                if (changeListeners != null) {
+                    changeSize = trim(changeSize, changeListeners);
+                }
             }
         }
     }
@@ -25,12 +25,39 @@
 
 package com.sun.javafx.binding;
 
+import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import javafx.beans.WeakListener;
 
 /**
  */
 public class ExpressionHelperBase {
 
+    /**
+     * The queue the weak listeners register their references with. When a
+     * listener that is only weakly referenced is collected, its reference is
+     * enqueued here, which tells the helpers that there is something to trim.
+     */
+    public static final ReferenceQueue<Object> WEAK_LISTENER_QUEUE = new ReferenceQueue<Object>();
+
+    private static final AtomicInteger collectedEpoch = new AtomicInteger();
+
+    /**
+     * Returns a counter that is incremented whenever the garbage collector
+     * has cleared weakly referenced listeners. A helper that remembers the
+     * value at the time it last trimmed its listeners only needs to trim
+     * again when the value has changed.
+     */
+    protected static int weakListenerEpoch() {
+        if (WEAK_LISTENER_QUEUE.poll() != null) {
+            while (WEAK_LISTENER_QUEUE.poll() != null) {
+                // drain the references cleared by the same collection
+            }
+            return collectedEpoch.incrementAndGet();
+        }
+        return collectedEpoch.get();
+    }
+
     protected static int trim(int size, Object[] listeners) {
         for (int index = 0; index < size; index++) {
             final Object listener = listeners[index];
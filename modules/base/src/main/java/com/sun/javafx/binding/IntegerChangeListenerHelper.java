@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.util.Arrays;
+import javafx.beans.value.IntegerChangeListener;
+import javafx.beans.value.ObservableIntegerValue;
+
+/**
+ * Keeps the {@link IntegerChangeListener IntegerChangeListeners} of an
+ * {@link ObservableIntegerValue} and notifies them without boxing the old and
+ * the new value. Like {@link ExpressionHelper}, listeners can be added and
+ * removed while the listeners are being notified, in which case the listener
+ * array is copied once, and the helper is not thread-safe.
+ */
+public final class IntegerChangeListenerHelper {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static IntegerChangeListenerHelper addListener(IntegerChangeListenerHelper helper, ObservableIntegerValue observable, IntegerChangeListener listener) {
+        if ((observable == null) || (listener == null)) {
+            throw new NullPointerException();
+        }
+        if (helper == null) {
+            return new IntegerChangeListenerHelper(observable, listener);
+        }
+        helper.addListener(listener);
+        return helper;
+    }
+
+    public static IntegerChangeListenerHelper removeListener(IntegerChangeListenerHelper helper, IntegerChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return (helper == null)? null : helper.removeListener(listener);
+    }
+
+    public static void fireValueChangedEvent(IntegerChangeListenerHelper helper) {
+        if (helper != null) {
+            helper.fireValueChangedEvent();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementation
+
+    private final ObservableIntegerValue observable;
+    private IntegerChangeListener[] listeners;
+    private int size;
+    private int lockCount;
+    // true while a notification iterates over the array, modifications then work on a copy
+    private boolean shared;
+    private int currentValue;
+
+    private IntegerChangeListenerHelper(ObservableIntegerValue observable, IntegerChangeListener listener) {
+        this.observable = observable;
+        this.listeners = new IntegerChangeListener[] {listener};
+        this.size = 1;
+        this.currentValue = observable.get();
+    }
+
+    private void addListener(IntegerChangeListener listener) {
+        final int oldCapacity = listeners.length;
+        if (shared || (size == oldCapacity)) {
+            final int newCapacity = (size < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
+            listeners = Arrays.copyOf(listeners, newCapacity);
+            shared = false;
+        }
+        listeners[size++] = listener;
+    }
+
+    private IntegerChangeListenerHelper removeListener(IntegerChangeListener listener) {
+        for (int index = 0; index < size; index++) {
+            if (listener.equals(listeners[index])) {
+                if (size == 1) {
+                    return null;
+                }
+                final IntegerChangeListener[] oldListeners = listeners;
+                if (shared) {
+                    listeners = new IntegerChangeListener[oldListeners.length];
+                    System.arraycopy(oldListeners, 0, listeners, 0, index);
+                    shared = false;
+                }
+                System.arraycopy(oldListeners, index+1, listeners, index, size - index - 1);
+                listeners[--size] = null; // Let gc do its work
+                break;
+            }
+        }
+        return this;
+    }
+
+    private void fireValueChangedEvent() {
+        final int oldValue = currentValue;
+        currentValue = observable.get();
+        if (oldValue == currentValue) {
+            return;
+        }
+        final int newValue = currentValue;
+        final IntegerChangeListener[] curListeners = listeners;
+        final int curSize = size;
+        lockCount++;
+        shared = true;
+        try {
+            for (int i = 0; i < curSize; i++) {
+                try {
+                    curListeners[i].changed(observable, oldValue, newValue);
+                } catch (Exception e) {
+                    Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                }
+            }
+        } finally {
+            if (--lockCount == 0) {
+                shared = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.beans.binding.Binding;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Implementation of {@link javafx.beans.binding.BindingScheduler}.
+ * <p>
+ * While a transaction is open, a {@link BindingHelperObserver} does not
+ * invalidate its binding, but queues it here. When the outermost transaction
+ * ends, the queued bindings are processed in two phases:
+ * <ol>
+ * <li>The queued bindings are invalidated one after another. The
+ * {@link BindingHelperObserver BindingHelperObservers} of the dependent
+ * bindings are notified immediately and queue their bindings in turn, all
+ * other listeners of the bindings are deferred. At the end of this phase
+ * every affected binding is invalid and no listener has seen an
+ * intermediate value. The queue replaces the recursion, so deep chains of
+ * bindings do not grow the stack.</li>
+ * <li>The deferred listeners are notified. A listener that reads a binding
+ * triggers its evaluation, which evaluates its dependencies first. As all of
+ * them have been invalidated in the first phase, every binding is evaluated
+ * at most once and only with current values.</li>
+ * </ol>
+ * If a listener modifies an observable in the second phase, the dependent
+ * bindings are queued again and both phases are repeated.
+ * <p>
+ * The state of a transaction is kept per thread, every thread can have its
+ * own transaction. Invalidations on a thread without a transaction are not
+ * affected.
+ */
+public final class InvalidationScheduler {
+
+    private static final class Transaction {
+        int depth;
+        boolean propagating;
+
+        final ArrayDeque<Binding<?>> pending = new ArrayDeque<Binding<?>>();
+        final Set<Binding<?>> queued = Collections.newSetFromMap(new IdentityHashMap<Binding<?>, Boolean>());
+
+        // the bindings whose listeners are deferred, in the order of their
+        // invalidation, and their current helpers
+        final ArrayList<ObservableValue<?>> deferred = new ArrayList<ObservableValue<?>>();
+        final Map<ObservableValue<?>, ExpressionHelper<?>> helpers = new IdentityHashMap<ObservableValue<?>, ExpressionHelper<?>>();
+    }
+
+    // only set while the thread has an open transaction
+    private static final ThreadLocal<Transaction> transaction = new ThreadLocal<Transaction>();
+    // the number of threads with an open transaction, the others skip the look up of theirs
+    private static final AtomicInteger openTransactions = new AtomicInteger();
+
+    private static volatile boolean countEvaluations;
+    private static final Map<Binding<?>, int[]> evaluations = new WeakHashMap<Binding<?>, int[]>();
+
+    private InvalidationScheduler() {
+    }
+
+    private static Transaction current() {
+        return (openTransactions.get() == 0)? null : transaction.get();
+    }
+
+    public static void beginTransaction() {
+        Transaction t = transaction.get();
+        if (t == null) {
+            t = new Transaction();
+            transaction.set(t);
+            openTransactions.incrementAndGet();
+        }
+        t.depth++;
+    }
+
+    public static void endTransaction() {
+        final Transaction t = current();
+        if (t == null) {
+            throw new IllegalStateException("No binding transaction is open on this thread");
+        }
+        if (t.depth > 1) {
+            t.depth--;
+            return;
+        }
+        try {
+            processPending(t);
+        } finally {
+            transaction.remove();
+            openTransactions.decrementAndGet();
+        }
+    }
+
+    public static boolean isInTransaction() {
+        return current() != null;
+    }
+
+    /**
+     * Called by a {@link BindingHelperObserver} before it invalidates its
+     * binding.
+     *
+     * @return {@code true} if the invalidation has been queued and must not
+     *         be done now
+     */
+    static boolean deferInvalidation(Binding<?> binding) {
+        final Transaction t = current();
+        if (t == null) {
+            return false;
+        }
+        if (t.queued.add(binding)) {
+            t.pending.add(binding);
+        }
+        return true;
+    }
+
+    /**
+     * Called by {@link ExpressionHelper} before it notifies the listeners of
+     * an observable.
+     *
+     * @return {@code true} if the notification has been deferred and must
+     *         not be done now
+     */
+    static boolean deferNotification(ExpressionHelper<?> helper) {
+        if (!(helper.observable instanceof Binding)) {
+            return false;
+        }
+        final Transaction t = current();
+        if ((t == null) || !t.propagating) {
+            return false;
+        }
+        helper.notifyBindingObservers();
+        if (t.helpers.put(helper.observable, helper) == null) {
+            t.deferred.add(helper.observable);
+        }
+        return true;
+    }
+
+    /**
+     * Called by {@link ExpressionHelper} when the helper of an observable
+     * has been replaced, so that deferred listeners are notified by the
+     * current helper. Listeners removed in the meantime are not notified.
+     */
+    static void helperChanged(ObservableValue<?> observable, ExpressionHelper<?> helper) {
+        final Transaction t = current();
+        if ((t != null) && t.helpers.containsKey(observable)) {
+            t.helpers.put(observable, helper);
+        }
+    }
+
+    private static void processPending(Transaction t) {
+        while (!t.pending.isEmpty()) {
+            t.propagating = true;
+            try {
+                Binding<?> binding;
+                while ((binding = t.pending.poll()) != null) {
+                    try {
+                        binding.invalidate();
+                    } catch (Exception e) {
+                        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            } finally {
+                t.propagating = false;
+                t.queued.clear();
+            }
+            final ObservableValue<?>[] observables = t.deferred.toArray(new ObservableValue<?>[t.deferred.size()]);
+            t.deferred.clear();
+            for (final ObservableValue<?> observable : observables) {
+                // read the helper only now, listeners may have been removed
+                final ExpressionHelper<?> helper = t.helpers.remove(observable);
+                if (helper != null) {
+                    try {
+                        helper.fireDeferredValueChangedEvent();
+                    } catch (Exception e) {
+                        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Evaluation counts
+
+    public static void setEvaluationCountingEnabled(boolean enabled) {
+        countEvaluations = enabled;
+    }
+
+    public static boolean isEvaluationCountingEnabled() {
+        return countEvaluations;
+    }
+
+    /**
+     * Called by the bindings whenever they computed their value.
+     */
+    public static void evaluated(Binding<?> binding) {
+        if (countEvaluations) {
+            synchronized (evaluations) {
+                final int[] count = evaluations.get(binding);
+                if (count == null) {
+                    evaluations.put(binding, new int[] {1});
+                } else {
+                    count[0]++;
+                }
+            }
+        }
+    }
+
+    public static int getEvaluationCount(Binding<?> binding) {
+        synchronized (evaluations) {
+            final int[] count = evaluations.get(binding);
+            return (count == null)? 0 : count[0];
+        }
+    }
+
+    public static void resetEvaluationCounts() {
+        synchronized (evaluations) {
+            evaluations.clear();
+        }
+    }
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import javafx.beans.binding.Binding;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.WeakListChangeListener;
+import com.sun.javafx.collections.OrderStatisticTree;
+
+/**
+ * Maintains an aggregate of the elements of an {@code ObservableList} from
+ * the changes of the list, instead of visiting all elements whenever the
+ * list changes.
+ * <p>
+ * The contribution of every element is remembered in a {@link Slot}. The
+ * slots are kept in list order in an {@link OrderStatisticTree}, so the
+ * contribution of a removed or updated element can be taken back in
+ * O(log n), even if the element itself has changed in the meantime. After
+ * every change the binding which presents the aggregate, if any, is
+ * invalidated.
+ * <p>
+ * The list is observed through a weak listener, the binding keeps the
+ * aggregate alive.
+ *
+ * @param <E> the element type of the list
+ */
+public abstract class ListAggregate<E> {
+
+    /**
+     * The contribution of one element to the aggregate.
+     */
+    static final class Slot extends OrderStatisticTree.Node<Slot> {
+        double number;
+        Object object;
+        boolean flag;
+    }
+
+    private final ObservableList<? extends E> list;
+    private final Binding<?> binding;
+    private final OrderStatisticTree<Slot> slots = new OrderStatisticTree<>();
+    private final ListChangeListener<E> listener = this::onChanged;
+    private final WeakListChangeListener<E> weakListener = new WeakListChangeListener<>(listener);
+
+    ListAggregate(ObservableList<? extends E> list, Binding<?> binding) {
+        this.list = Objects.requireNonNull(list, "List cannot be null.");
+        this.binding = binding;
+    }
+
+    /**
+     * Adds the contribution of an element and records it in the slot.
+     */
+    abstract void add(Slot slot, E element);
+
+    /**
+     * Takes back the contribution recorded in a slot.
+     */
+    abstract void remove(Slot slot);
+
+    /**
+     * Resets the aggregate to that of an empty list.
+     */
+    abstract void clear();
+
+    /**
+     * Called after a change of the list was applied, before the binding is
+     * invalidated.
+     */
+    void commit() {
+    }
+
+    /**
+     * Returns the number of elements of the list.
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Stops observing the list.
+     */
+    public void dispose() {
+        list.removeListener(weakListener);
+    }
+
+    /**
+     * Computes the aggregate of the current content and starts observing
+     * the list. Called once by the subclasses when they are initialized.
+     */
+    final void start() {
+        rebuild();
+        commit();
+        list.addListener(weakListener);
+    }
+
+    private void rebuild() {
+        clear();
+        final int size = list.size();
+        final Slot[] nodes = new Slot[size];
+        for (int i = 0; i < size; ++i) {
+            nodes[i] = new Slot();
+            add(nodes[i], list.get(i));
+        }
+        slots.setAll(nodes, size);
+    }
+
+    private void onChanged(Change<? extends E> c) {
+        while (c.next()) {
+            final int from = c.getFrom();
+            final int to = c.getTo();
+            if (c.wasPermutated()) {
+                final int count = to - from;
+                final Slot[] nodes = new Slot[count];
+                final Slot[] permuted = new Slot[count];
+                slots.toArray(from, nodes, count);
+                for (int i = 0; i < count; ++i) {
+                    permuted[c.getPermutation(from + i) - from] = nodes[i];
+                }
+                slots.setRange(from, permuted, count);
+            } else if (c.wasUpdated()) {
+                Slot slot = slots.get(from);
+                for (int i = from; i < to; ++i, slot = slots.next(slot)) {
+                    remove(slot);
+                    add(slot, list.get(i));
+                }
+            } else if (from == 0 && c.getRemovedSize() == slots.size() && to == list.size()) {
+                // the whole content was replaced, as by setAll()
+                rebuild();
+            } else {
+                for (int i = 0, n = c.getRemovedSize(); i < n; ++i) {
+                    remove(slots.remove(from));
+                }
+                for (int i = from; i < to; ++i) {
+                    final Slot slot = new Slot();
+                    add(slot, list.get(i));
+                    slots.add(i, slot);
+                }
+            }
+        }
+        commit();
+        if (binding != null) {
+            binding.invalidate();
+        }
+    }
+
+    /**
+     * A sum of doubles which can be decreased again. Finite values are added
+     * with Neumaier's compensated summation, so rounding errors do not pile up
+     * when many values are added and removed. Infinite and NaN values are
+     * counted instead of added, so the sum becomes finite again once they are
+     * removed.
+     */
+    static final class DoubleSum {
+        private double sum;
+        private double compensation;
+        private int nanCount;
+        private int positiveInfinityCount;
+        private int negativeInfinityCount;
+        private int count;
+
+        void add(double value) {
+            ++count;
+            accumulate(value, 1);
+        }
+
+        void remove(double value) {
+            if (--count == 0) {
+                reset();
+            } else {
+                accumulate(value, -1);
+            }
+        }
+
+        void reset() {
+            sum = compensation = 0;
+            nanCount = positiveInfinityCount = negativeInfinityCount = count = 0;
+        }
+
+        int count() {
+            return count;
+        }
+
+        double get() {
+            if (nanCount > 0 || (positiveInfinityCount > 0 && negativeInfinityCount > 0)) {
+                return Double.NaN;
+            }
+            if (positiveInfinityCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (negativeInfinityCount > 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            return sum + compensation;
+        }
+
+        private void accumulate(double value, int sign) {
+            if (Double.isNaN(value)) {
+                nanCount += sign;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                positiveInfinityCount += sign;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                negativeInfinityCount += sign;
+            } else {
+                final double v = sign * value;
+                final double t = sum + v;
+                if (Math.abs(sum) >= Math.abs(v)) {
+                    compensation += (sum - t) + v;
+                } else {
+                    compensation += (v - t) + sum;
+                }
+                sum = t;
+            }
+        }
+    }
+
+    /**
+     * The sum and the average of a numeric property of the elements.
+     */
+    public static final class Sum<E> extends ListAggregate<E> {
+        private final ToDoubleFunction<? super E> mapper;
+        private final DoubleSum sum = new DoubleSum();
+
+        public Sum(ObservableList<? extends E> list, ToDoubleFunction<? super E> mapper, Binding<?> binding) {
+            super(list, binding);
+            this.mapper = Objects.requireNonNull(mapper, "Mapper cannot be null.");
+            start();
+        }
+
+        @Override
+        void add(Slot slot, E element) {
+            slot.number = mapper.applyAsDouble(element);
+            sum.add(slot.number);
+        }
+
+        @Override
+        void remove(Slot slot) {
+            sum.remove(slot.number);
+        }
+
+        @Override
+        void clear() {
+            sum.reset();
+        }
+
+        public double getSum() {
+            return sum.get();
+        }
+
+        /**
+         * Returns the average, or {@code NaN} if the list is empty.
+         */
+        public double getAverage() {
+            return size() == 0 ? Double.NaN : sum.get() / size();
+        }
+    }
+
+    /**
+     * The number of elements which satisfy a predicate.
+     */
+    public static final class Count<E> extends ListAggregate<E> {
+        private final Predicate<? super E> predicate;
+        private int count;
+
+        public Count(ObservableList<? extends E> list, Predicate<? super E> predicate, Binding<?> binding) {
+            super(list, binding);
+            this.predicate = Objects.requireNonNull(predicate, "Predicate cannot be null.");
+            start();
+        }
+
+        @Override
+        void add(Slot slot, E element) {
+            slot.flag = predicate.test(element);
+            if (slot.flag) {
+                ++count;
+            }
+        }
+
+        @Override
+        void remove(Slot slot) {
+            if (slot.flag) {
+                --count;
+            }
+        }
+
+        @Override
+        void clear() {
+            count = 0;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * The least and the greatest value of a property of the elements. The
+     * values are kept sorted in a second tree, so the extremes are found in
+     * O(log n) after any change.
+     */
+    public static final class Extremum<E, T> extends ListAggregate<E> {
+
+        private static final class Value extends OrderStatisticTree.Node<Value> {
+            final Object value;
+
+            Value(Object value) {
+                this.value = value;
+            }
+        }
+
+        private final Function<? super E, ? extends T> mapper;
+        private final Comparator<Value> order;
+        private final OrderStatisticTree<Value> values = new OrderStatisticTree<>();
+
+        public Extremum(ObservableList<? extends E> list, Function<? super E, ? extends T> mapper,
+                        Comparator<? super T> comparator, Binding<?> binding) {
+            super(list, binding);
+            this.mapper = Objects.requireNonNull(mapper, "Mapper cannot be null.");
+            Objects.requireNonNull(comparator, "Comparator cannot be null.");
+            this.order = (a, b) -> comparator.compare(cast(a.value), cast(b.value));
+            start();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T cast(Object value) {
+            return (T) value;
+        }
+
+        @Override
+        void add(Slot slot, E element) {
+            final Value value = new Value(mapper.apply(element));
+            slot.object = value;
+            values.add(values.upperBound(value, order), value);
+        }
+
+        @Override
+        void remove(Slot slot) {
+            values.remove((Value) slot.object);
+        }
+
+        @Override
+        void clear() {
+            values.clear();
+        }
+
+        /**
+         * Returns the least value, or {@code null} if the list is empty.
+         */
+        public T getMin() {
+            return values.size() == 0 ? null : cast(values.first().value);
+        }
+
+        /**
+         * Returns the greatest value, or {@code null} if the list is empty.
+         */
+        public T getMax() {
+            return values.size() == 0 ? null : cast(values.get(values.size() - 1).value);
+        }
+    }
+
+    /**
+     * The number of elements, or the sum of a numeric property of them, per
+     * key, kept in an {@code ObservableMap}. The map is updated once per
+     * change of the list and key, and keys without elements are removed.
+     */
+    public static final class Grouping<E, K, V> extends ListAggregate<E> {
+
+        private static final class Group {
+            final DoubleSum sum = new DoubleSum();
+            boolean dirty;
+        }
+
+        private final Function<? super E, ? extends K> classifier;
+        private final ToDoubleFunction<? super E> mapper;
+        private final Map<K, Group> groups = new HashMap<>();
+        private final List<K> dirty = new ArrayList<>();
+        private final ObservableMap<K, V> map = FXCollections.observableHashMap();
+        private final ObservableMap<K, V> unmodifiableMap = FXCollections.unmodifiableObservableMap(map);
+
+        /**
+         * Creates a grouping which counts the elements per key if
+         * {@code mapper} is {@code null}, and sums the mapped values
+         * otherwise. {@code V} must be {@code Integer} or {@code Double}
+         * accordingly.
+         */
+        public Grouping(ObservableList<? extends E> list, Function<? super E, ? extends K> classifier,
+                        ToDoubleFunction<? super E> mapper, Binding<?> binding) {
+            super(list, binding);
+            this.classifier = Objects.requireNonNull(classifier, "Classifier cannot be null.");
+            this.mapper = mapper;
+            start();
+        }
+
+        @Override
+        void add(Slot slot, E element) {
+            final K key = classifier.apply(element);
+            slot.object = key;
+            slot.number = mapper == null ? 0 : mapper.applyAsDouble(element);
+            Group group = groups.get(key);
+            if (group == null) {
+                group = new Group();
+                groups.put(key, group);
+            }
+            group.sum.add(slot.number);
+            markDirty(key, group);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void remove(Slot slot) {
+            final K key = (K) slot.object;
+            final Group group = groups.get(key);
+            group.sum.remove(slot.number);
+            markDirty(key, group);
+        }
+
+        private void markDirty(K key, Group group) {
+            if (!group.dirty) {
+                group.dirty = true;
+                dirty.add(key);
+            }
+        }
+
+        @Override
+        void clear() {
+            for (Map.Entry<K, Group> entry : groups.entrySet()) {
+                entry.getValue().sum.reset();
+                markDirty(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void commit() {
+            for (K key : dirty) {
+                final Group group = groups.get(key);
+                group.dirty = false;
+                if (group.sum.count() == 0) {
+                    groups.remove(key);
+                    map.remove(key);
+                } else {
+                    final Object value = mapper == null ? (Object) group.sum.count() : (Object) group.sum.get();
+                    if (!Objects.equals(map.get(key), value)) {
+                        map.put(key, (V) value);
+                    }
+                }
+            }
+            dirty.clear();
+        }
+
+        /**
+         * Returns the unmodifiable map of the values per key.
+         */
+        public ObservableMap<K, V> getMap() {
+            return unmodifiableMap;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.util.function.Function;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import com.sun.javafx.collections.annotations.ReturnsUnmodifiableCollection;
+
+/**
+ * A binding used to get a member, such as {@code a.b.c}, where the steps are
+ * given as functions instead of property names. Apart from that it works like
+ * {@link SelectBinding}: the binding listens to every observable on the path,
+ * and its value is {@code null} if one of the intermediate values is
+ * {@code null}. No reflection is involved.
+ */
+public class PathBinding<T> extends ObjectBinding<T> {
+
+    private final Function<Object, ObservableValue<?>>[] steps;
+    private final ObservableValue<?>[] properties;
+    private final InvalidationListener listener = observable -> invalidate();
+    private final WeakInvalidationListener observer = new WeakInvalidationListener(listener);
+
+    private ObservableList<ObservableValue<?>> dependencies;
+
+    public PathBinding(ObservableValue<?> root, Function<Object, ObservableValue<?>>[] steps) {
+        if (root == null) {
+            throw new NullPointerException("Must specify the root");
+        }
+        this.steps = steps;
+        properties = new ObservableValue<?>[steps.length + 1];
+        properties[0] = root;
+        root.addListener(observer);
+    }
+
+    @Override
+    public void dispose() {
+        unregisterListener();
+        properties[0].removeListener(observer);
+    }
+
+    @Override
+    protected void onInvalidating() {
+        unregisterListener();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected T computeValue() {
+        final int n = steps.length;
+        for (int i = 0; i < n; i++) {
+            final Object value = properties[i].getValue();
+            if (value == null) {
+                updateDependencies();
+                return null;
+            }
+            final ObservableValue<?> next;
+            try {
+                next = steps[i].apply(value);
+            } catch (RuntimeException ex) {
+                Logging.getLogger().warning("Exception while evaluating step " + i + " of path-binding", ex);
+                // return default
+                updateDependencies();
+                return null;
+            }
+            if (next == null) {
+                Logging.getLogger().fine("Step " + i + " of path-binding returned null");
+                updateDependencies();
+                return null;
+            }
+            properties[i + 1] = next;
+            next.addListener(observer);
+        }
+        updateDependencies();
+        return (T)properties[n].getValue();
+    }
+
+    private void unregisterListener() {
+        final int n = properties.length;
+        for (int i = 1; i < n; i++) {
+            if (properties[i] == null) {
+                break;
+            }
+            properties[i].removeListener(observer);
+            properties[i] = null;
+        }
+        updateDependencies();
+    }
+
+    private void updateDependencies() {
+        if (dependencies != null) {
+            dependencies.clear();
+            for (final ObservableValue<?> property : properties) {
+                if (property == null) {
+                    break;
+                }
+                dependencies.add(property);
+            }
+        }
+    }
+
+    @Override
+    @ReturnsUnmodifiableCollection
+    public ObservableList<ObservableValue<?>> getDependencies() {
+        if (dependencies == null) {
+            dependencies = FXCollections.observableArrayList();
+            updateDependencies();
+        }
+        return FXCollections.unmodifiableObservableList(dependencies);
+    }
+}
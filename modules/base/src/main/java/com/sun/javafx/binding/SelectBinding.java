@@ -36,6 +36,7 @@ import javafx.beans.binding.IntegerBinding;
 import javafx.beans.binding.LongBinding;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.value.ObservableBooleanValue;
 import javafx.beans.value.ObservableNumberValue;
 import javafx.beans.value.ObservableValue;
@@ -47,6 +48,7 @@ import com.sun.javafx.property.JavaBeanAccessHelper;
 import sun.util.logging.PlatformLogger;
 import sun.util.logging.PlatformLogger.Level;
 import com.sun.javafx.property.PropertyReference;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 
 /**
@@ -418,6 +420,7 @@ public class SelectBinding {
         private final String[] propertyNames;
         private final ObservableValue<?>[] properties;
         private final PropertyReference<?>[] propRefs;
+        private final WeakReference<?>[] javaBeanProperties;
         private final WeakInvalidationListener observer;
 
         private ObservableList<ObservableValue<?>> dependencies;
@@ -443,6 +446,7 @@ public class SelectBinding {
             propertyNames = new String[n];
             System.arraycopy(steps, 0, propertyNames, 0, n);
             propRefs = new PropertyReference<?>[n];
+            javaBeanProperties = new WeakReference<?>[n];
             properties = new ObservableValue<?>[n + 1];
             properties[0] = firstProperty;
             properties[0].addListener(observer);
@@ -484,7 +488,7 @@ public class SelectBinding {
                     if (propRefs[i].hasProperty()) {
                         properties[i + 1] = propRefs[i].getProperty(obj);
                     } else {
-                        properties[i + 1] = JavaBeanAccessHelper.createReadOnlyJavaBeanProperty(obj, propRefs[i].getName());
+                        properties[i + 1] = getJavaBeanProperty(i, obj);
                     }
                 } catch (NoSuchMethodException ex) {
                     Logging.getLogger().warning("Exception while evaluating select-binding " + stepsToString(), ex);
@@ -517,6 +521,18 @@ public class SelectBinding {
             return result;
         }
 
+        private ObservableValue<?> getJavaBeanProperty(int step, Object bean) throws NoSuchMethodException {
+            // The adapter of a Java Bean property is reused as long as the step refers to the same bean,
+            // creating a new one looks up the accessors and registers a listener with the bean.
+            final Object cached = (javaBeanProperties[step] == null)? null : javaBeanProperties[step].get();
+            if ((cached != null) && (((ReadOnlyProperty<?>)cached).getBean() == bean)) {
+                return (ObservableValue<?>)cached;
+            }
+            final ReadOnlyProperty<?> property = JavaBeanAccessHelper.createReadOnlyJavaBeanProperty(bean, propertyNames[step]);
+            javaBeanProperties[step] = new WeakReference<ReadOnlyProperty<?>>(property);
+            return property;
+        }
+
         private String stepsToString() {
             return Arrays.toString(propertyNames);
         }
@@ -145,6 +145,7 @@ public abstract class StringFormatter extends StringBinding {
         if (extractDependencies(args).length == 0) {
             return StringConstant.valueOf(String.format(locale, format, args));
         }
+        final CompiledFormat compiled = CompiledFormat.of(format);
         final StringFormatter formatter = new StringFormatter() {
             {
                 super.bind(extractDependencies(args));
@@ -158,7 +159,7 @@ public abstract class StringFormatter extends StringBinding {
             @Override
             protected String computeValue() {
                 final Object[] values = extractValues(args);
-                return String.format(locale, format, values);
+                return compiled.format(locale, values);
             }
 
             @Override
@@ -180,6 +181,7 @@ public abstract class StringFormatter extends StringBinding {
         if (extractDependencies(args).length == 0) {
             return StringConstant.valueOf(String.format(format, args));
         }
+        final CompiledFormat compiled = CompiledFormat.of(format);
         final StringFormatter formatter = new StringFormatter() {
             {
                 super.bind(extractDependencies(args));
@@ -193,7 +195,7 @@ public abstract class StringFormatter extends StringBinding {
             @Override
             protected String computeValue() {
                 final Object[] values = extractValues(args);
-                return String.format(format, values);
+                return compiled.format(Locale.getDefault(Locale.Category.FORMAT), values);
             }
 
             @Override
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import com.sun.javafx.logging.PulseLogger;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
+/**
+ * Keeps track of the coalescing collections that have undelivered changes.
+ * A coalescing collection registers itself on its first modification after
+ * a flush, and gets its accumulated changes delivered the next time
+ * {@link #flush()} is called. The toolkit calls {@code flush()} at the start
+ * of every pulse and installs a pulse requester, so that a pulse is scheduled
+ * as soon as there are pending changes.
+ *
+ * The coalescer also keeps the number of modifications made to coalescing
+ * collections and the number of change notifications actually delivered for
+ * them. Their ratio tells how much work coalescing saved.
+ *
+ * Like the collections themselves, this class must only be used from a
+ * single thread, normally the FX application thread. The only exception is
+ * {@link #scheduleFromAnyThread(Pending)}, which lets background producers
+ * hand work over to the next flush.
+ */
+public final class ChangeCoalescer {
+
+    /**
+     * A collection with accumulated changes.
+     */
+    public interface Pending {
+        /**
+         * Delivers the accumulated changes to the listeners.
+         * @return the number of change notifications delivered
+         */
+        int deliverChanges();
+    }
+
+    private static List<Pending> pending = new ArrayList<>();
+    private static final Queue<Pending> concurrentPending = new ConcurrentLinkedQueue<>();
+    private static volatile Runnable pulseRequester;
+    private static volatile Thread flushThread;
+
+    private static long mutationCount;
+    private static long notificationCount;
+    private static long flushCount;
+
+    private ChangeCoalescer() {
+    }
+
+    /**
+     * Installs the callback used to request a pulse when the first change is
+     * scheduled after a flush.
+     * @param requester the callback, or null
+     */
+    public static void setPulseRequester(Runnable requester) {
+        pulseRequester = requester;
+    }
+
+    /**
+     * Sets the thread that calls {@link #flush()}, normally the FX
+     * application thread.
+     * @param thread the thread, or null if it is not known
+     */
+    public static void setFlushThread(Thread thread) {
+        flushThread = thread;
+    }
+
+    /**
+     * Returns the thread that calls {@link #flush()}.
+     * @return the thread, or null if it is not known
+     */
+    public static Thread getFlushThread() {
+        return flushThread;
+    }
+
+    /**
+     * Registers a collection that has accumulated changes. A collection must
+     * register at most once between two flushes.
+     * @param collection the collection
+     */
+    public static void schedule(Pending collection) {
+        pending.add(collection);
+        if (pending.size() == 1 && pulseRequester != null) {
+            pulseRequester.run();
+        }
+    }
+
+    /**
+     * Registers a collection that has accumulated changes from any thread.
+     * The pulse requester must be thread safe for this to be used.
+     * @param collection the collection
+     */
+    public static void scheduleFromAnyThread(Pending collection) {
+        concurrentPending.add(collection);
+        final Runnable requester = pulseRequester;
+        if (requester != null) {
+            requester.run();
+        }
+    }
+
+    /**
+     * Records a single modification of a coalescing collection.
+     */
+    public static void mutated() {
+        mutationCount++;
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Coalesced collection modifications");
+        }
+    }
+
+    /**
+     * Delivers the changes of all collections registered so far. Changes
+     * made by listeners while the changes are delivered are kept for the
+     * next flush.
+     */
+    public static void flush() {
+        Pending p;
+        while ((p = concurrentPending.poll()) != null) {
+            pending.add(p);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        final List<Pending> toFlush = pending;
+        pending = new ArrayList<>();
+        flushCount++;
+        for (Pending c : toFlush) {
+            final int n = c.deliverChanges();
+            notificationCount += n;
+            if (PULSE_LOGGING_ENABLED) {
+                for (int i = 0; i < n; i++) {
+                    PulseLogger.incrementCounter("Coalesced collection notifications");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if there are collections with undelivered changes.
+     * @return true if a flush is pending
+     */
+    public static boolean hasPendingChanges() {
+        return !pending.isEmpty() || !concurrentPending.isEmpty();
+    }
+
+    public static long getMutationCount() {
+        return mutationCount;
+    }
+
+    public static long getNotificationCount() {
+        return notificationCount;
+    }
+
+    public static long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Returns the average number of modifications that were folded into a
+     * single change notification, or 0 if nothing has been delivered yet.
+     * @return the coalescing ratio
+     */
+    public static double getCoalescingRatio() {
+        return notificationCount == 0 ? 0 : (double) mutationCount / notificationCount;
+    }
+
+    public static void resetCounters() {
+        mutationCount = 0;
+        notificationCount = 0;
+        flushCount = 0;
+    }
+}
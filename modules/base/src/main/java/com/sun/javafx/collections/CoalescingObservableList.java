@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list that defers its change notifications. The first
+ * modification after a flush opens a change on the list's change builder and
+ * registers the list with the {@link ChangeCoalescer}; every following
+ * modification is merged into that change, and the listeners see a single,
+ * compacted Change when the coalescer is flushed.
+ */
+public class CoalescingObservableList<E> extends ModifiableObservableListBase<E>
+        implements SortableList<E>, RandomAccess, ChangeCoalescer.Pending {
+
+    private final List<E> backingList;
+    private boolean pending;
+    private SortHelper helper;
+
+    public CoalescingObservableList(List<E> list) {
+        backingList = list;
+    }
+
+    private void modify() {
+        ChangeCoalescer.mutated();
+        if (!pending) {
+            pending = true;
+            beginChange();
+            ChangeCoalescer.schedule(this);
+        }
+    }
+
+    @Override
+    public int deliverChanges() {
+        if (!pending) {
+            return 0;
+        }
+        pending = false;
+        // the changes may cancel out, in which case nothing is fired
+        final boolean fired = ObservableListBaseAccessor.getDefault().endChange(this);
+        return (fired && hasListeners())? 1 : 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        modify();
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        modify();
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        modify();
+        return backingList.remove(index);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void sort() {
+        if (backingList.isEmpty()) {
+            return;
+        }
+        modify();
+        int[] perm = getSortHelper().sort((List<? extends Comparable>) backingList);
+        nextPermutation(0, size(), perm);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        if (backingList.isEmpty()) {
+            return;
+        }
+        modify();
+        int[] perm = getSortHelper().sort(backingList, comparator);
+        nextPermutation(0, size(), perm);
+    }
+
+    private SortHelper getSortHelper() {
+        if (helper == null) {
+            helper = new SortHelper();
+        }
+        return helper;
+    }
+}
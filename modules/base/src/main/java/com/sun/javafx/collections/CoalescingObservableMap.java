@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javafx.collections.MapChangeListener;
+
+/**
+ * An observable map that defers its change notifications until the
+ * {@link ChangeCoalescer} is flushed. Changes are merged per key, so that
+ * listeners see at most one change for every key, going from the value the
+ * key had at the previous flush to the value it has now. Keys that end up
+ * with their original value are not reported.
+ */
+public class CoalescingObservableMap<K, V> extends ObservableMapWrapper<K, V>
+        implements ChangeCoalescer.Pending {
+
+    private static class NetChange<V> {
+        final boolean wasPresent;
+        final V oldValue;
+        boolean present;
+        V value;
+
+        NetChange(boolean wasPresent, V oldValue) {
+            this.wasPresent = wasPresent;
+            this.oldValue = oldValue;
+        }
+    }
+
+    private Map<K, NetChange<V>> changes = new LinkedHashMap<>();
+
+    public CoalescingObservableMap(Map<K, V> map) {
+        super(map);
+    }
+
+    @Override
+    protected void callObservers(MapChangeListener.Change<K, V> change) {
+        ChangeCoalescer.mutated();
+        if (changes.isEmpty()) {
+            ChangeCoalescer.schedule(this);
+        }
+        final K key = change.getKey();
+        NetChange<V> net = changes.get(key);
+        if (net == null) {
+            net = new NetChange<>(change.wasRemoved(), change.getValueRemoved());
+            changes.put(key, net);
+        }
+        net.present = change.wasAdded();
+        net.value = change.getValueAdded();
+    }
+
+    @Override
+    public int deliverChanges() {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        final Map<K, NetChange<V>> toDeliver = changes;
+        changes = new LinkedHashMap<>();
+        final List<MapChangeListener.Change<K, V>> list = new ArrayList<>(toDeliver.size());
+        for (Map.Entry<K, NetChange<V>> e : toDeliver.entrySet()) {
+            final NetChange<V> net = e.getValue();
+            if (net.wasPresent == net.present
+                    && (!net.present || Objects.equals(net.oldValue, net.value))) {
+                continue;
+            }
+            list.add(new CoalescedChange(e.getKey(), net));
+        }
+        for (MapChangeListener.Change<K, V> change : list) {
+            super.callObservers(change);
+        }
+        return list.size();
+    }
+
+    private class CoalescedChange extends MapChangeListener.Change<K, V> {
+
+        private final K key;
+        private final NetChange<V> net;
+
+        CoalescedChange(K key, NetChange<V> net) {
+            super(CoalescingObservableMap.this);
+            this.key = key;
+            this.net = net;
+        }
+
+        @Override
+        public boolean wasAdded() {
+            return net.present;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return net.wasPresent;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValueAdded() {
+            return net.present ? net.value : null;
+        }
+
+        @Override
+        public V getValueRemoved() {
+            return net.wasPresent ? net.oldValue : null;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            if (wasAdded()) {
+                if (wasRemoved()) {
+                    builder.append("replaced ").append(net.oldValue).append(" by ").append(net.value);
+                } else {
+                    builder.append("added ").append(net.value);
+                }
+            } else {
+                builder.append("removed ").append(net.oldValue);
+            }
+            builder.append(" at key ").append(key);
+            return builder.toString();
+        }
+    }
+}
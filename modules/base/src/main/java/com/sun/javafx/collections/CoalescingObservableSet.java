@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.collections.SetChangeListener;
+
+/**
+ * An observable set that defers its change notifications until the
+ * {@link ChangeCoalescer} is flushed. Changes are merged per element, so that
+ * listeners see at most one change for every element, and elements that were
+ * added and removed again between two flushes are not reported at all.
+ */
+public class CoalescingObservableSet<E> extends ObservableSetWrapper<E>
+        implements ChangeCoalescer.Pending {
+
+    // element -> whether it was part of the set at the previous flush
+    private Map<E, Boolean> changes = new LinkedHashMap<>();
+
+    public CoalescingObservableSet(Set<E> set) {
+        super(set);
+    }
+
+    @Override
+    protected void callObservers(SetChangeListener.Change<E> change) {
+        ChangeCoalescer.mutated();
+        if (changes.isEmpty()) {
+            ChangeCoalescer.schedule(this);
+        }
+        final E element = change.wasAdded() ? change.getElementAdded() : change.getElementRemoved();
+        if (!changes.containsKey(element)) {
+            changes.put(element, change.wasRemoved());
+        }
+    }
+
+    @Override
+    public int deliverChanges() {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        final Map<E, Boolean> toDeliver = changes;
+        changes = new LinkedHashMap<>();
+        final List<SetChangeListener.Change<E>> list = new ArrayList<>(toDeliver.size());
+        for (Map.Entry<E, Boolean> e : toDeliver.entrySet()) {
+            final boolean wasPresent = e.getValue();
+            if (wasPresent != contains(e.getKey())) {
+                list.add(new CoalescedChange(e.getKey(), !wasPresent));
+            }
+        }
+        for (SetChangeListener.Change<E> change : list) {
+            super.callObservers(change);
+        }
+        return list.size();
+    }
+
+    private class CoalescedChange extends SetChangeListener.Change<E> {
+
+        private final E element;
+        private final boolean added;
+
+        CoalescedChange(E element, boolean added) {
+            super(CoalescingObservableSet.this);
+            this.element = element;
+            this.added = added;
+        }
+
+        @Override
+        public boolean wasAdded() {
+            return added;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            return !added;
+        }
+
+        @Override
+        public E getElementAdded() {
+            return added ? element : null;
+        }
+
+        @Override
+        public E getElementRemoved() {
+            return added ? null : element;
+        }
+
+        @Override
+        public String toString() {
+            return (added ? "added " : "removed ") + element;
+        }
+    }
+}
@@ -173,7 +173,11 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
         private MapChangeListener<? super K, ? super V>[] changeListeners;
         private int invalidationSize;
         private int changeSize;
-        private boolean locked;
+        private int lockCount;
+        // true while a notification iterates over the array, modifications then work on a copy
+        private boolean invalidationShared;
+        private boolean changeShared;
+        private int trimEpoch;
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
             this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
@@ -199,9 +203,10 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (invalidationShared) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
+                    invalidationShared = false;
                 } else if (invalidationSize == oldCapacity) {
                     invalidationSize = trim(invalidationSize, invalidationListeners);
                     if (invalidationSize == oldCapacity) {
@@ -230,15 +235,17 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
+                            final boolean shared = invalidationShared;
+                            if (shared) {
                                 invalidationListeners = new InvalidationListener[invalidationListeners.length];
                                 System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
+                                invalidationShared = false;
                             }
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
                             }
                             invalidationSize--;
-                            if (!locked) {
+                            if (!shared) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
                             }
                         }
@@ -256,9 +263,10 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (changeShared) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
+                    changeShared = false;
                 } else if (changeSize == oldCapacity) {
                     changeSize = trim(changeSize, changeListeners);
                     if (changeSize == oldCapacity) {
@@ -287,15 +295,17 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final MapChangeListener<? super K, ? super V>[] oldListeners = changeListeners;
-                            if (locked) {
+                            final boolean shared = changeShared;
+                            if (shared) {
                                 changeListeners = new MapChangeListener[changeListeners.length];
                                 System.arraycopy(oldListeners, 0, changeListeners, 0, index);
+                                changeShared = false;
                             }
                             if (numMoved > 0) {
                                 System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
                             }
                             changeSize--;
-                            if (!locked) {
+                            if (!shared) {
                                 changeListeners[changeSize] = null; // Let gc do its work
                             }
                         }
@@ -308,13 +318,16 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
 
         @Override
         protected void fireValueChangedEvent(MapChangeListener.Change<? extends K, ? extends V> change) {
+            trimCollectedListeners();
             final InvalidationListener[] curInvalidationList = invalidationListeners;
             final int curInvalidationSize = invalidationSize;
             final MapChangeListener<? super K, ? super V>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
 
+            lockCount++;
+            invalidationShared = true;
+            changeShared = true;
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     try {
                         curInvalidationList[i].invalidated(change.getMap());
@@ -330,7 +343,24 @@ public abstract class MapListenerHelper<K, V> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--lockCount == 0) {
+                    invalidationShared = false;
+                    changeShared = false;
+                }
+            }
+        }
+
+        private void trimCollectedListeners() {
+            // only trim in place if no notification is iterating over the arrays
+            final int epoch = weakListenerEpoch();
+            if ((epoch != trimEpoch) && (lockCount == 0)) {
+                trimEpoch = epoch;
+                if (invalidationListeners != null) {
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                }
+                if (changeListeners != null) {
+                    changeSize = trim(changeSize, changeListeners);
+                }
             }
         }
     }
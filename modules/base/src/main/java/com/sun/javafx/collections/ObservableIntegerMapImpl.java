@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import javafx.beans.InvalidationListener;
+import javafx.collections.IntegerMapChangeListener;
+import javafx.collections.ObservableIntegerMap;
+
+/**
+ * ObservableIntegerMap default implementation. Keys are kept in an open
+ * addressing table with linear probing, and removal uses backward shifting so
+ * that no tombstones are left behind. Listeners are stored in copy-on-write
+ * arrays, so notification does not allocate.
+ */
+public final class ObservableIntegerMapImpl<V> implements ObservableIntegerMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final InvalidationListener[] NO_INVALIDATION_LISTENERS = new InvalidationListener[0];
+    private static final IntegerMapChangeListener<?>[] NO_CHANGE_LISTENERS = new IntegerMapChangeListener<?>[0];
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int threshold;
+
+    private InvalidationListener[] invalidationListeners = NO_INVALIDATION_LISTENERS;
+    @SuppressWarnings("unchecked")
+    private IntegerMapChangeListener<? super V>[] changeListeners =
+            (IntegerMapChangeListener<? super V>[]) NO_CHANGE_LISTENERS;
+
+    public ObservableIntegerMapImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ObservableIntegerMapImpl(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize cannot be negative");
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * 3 / 4 < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        threshold = capacity * 3 / 4;
+    }
+
+    static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(int key) {
+        final int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override public int size() {
+        return size;
+    }
+
+    @Override public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public V get(int key) {
+        int i = indexOf(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    @Override public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("ObservableIntegerMap does not accept null values");
+        }
+        final int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                values[i] = value;
+                if (!old.equals(value)) {
+                    fireChange(key, old, value);
+                }
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        fireChange(key, null, value);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public V remove(int key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        V old = (V) values[i];
+        removeAt(i);
+        fireChange(key, old, null);
+        return old;
+    }
+
+    private void removeAt(int i) {
+        final int mask = keys.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == null) {
+                break;
+            }
+            int home = hash(keys[j]) & mask;
+            // leave the entry where it is if its home slot lies cyclically in (i, j]
+            boolean stays = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+            if (!stays) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        values[i] = null;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                int i = hash(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public void clear() {
+        if (size == 0) {
+            return;
+        }
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        size = 0;
+        allocate(DEFAULT_CAPACITY);
+        final IntegerMapChangeListener<? super V>[] curChangeListeners = changeListeners;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                for (IntegerMapChangeListener<? super V> listener : curChangeListeners) {
+                    try {
+                        listener.onChanged(this, oldKeys[j], (V) oldValues[j], null);
+                    } catch (Exception e) {
+                        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            }
+        }
+        fireInvalidation();
+    }
+
+    @Override public int[] keys() {
+        final int[] result = new int[size];
+        int n = 0;
+        for (int j = 0; j < values.length; j++) {
+            if (values[j] != null) {
+                result[n++] = keys[j];
+            }
+        }
+        return result;
+    }
+
+    @Override public void forEachKey(IntConsumer action) {
+        final int[] curKeys = keys;
+        final Object[] curValues = values;
+        for (int j = 0; j < curValues.length; j++) {
+            if (curValues[j] != null) {
+                action.accept(curKeys[j]);
+            }
+        }
+    }
+
+    private void fireChange(int key, V removedValue, V addedValue) {
+        for (IntegerMapChangeListener<? super V> listener : changeListeners) {
+            try {
+                listener.onChanged(this, key, removedValue, addedValue);
+            } catch (Exception e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+        fireInvalidation();
+    }
+
+    private void fireInvalidation() {
+        for (InvalidationListener listener : invalidationListeners) {
+            try {
+                listener.invalidated(this);
+            } catch (Exception e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+
+    @Override public void addListener(InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        invalidationListeners = append(invalidationListeners, listener);
+    }
+
+    @Override public void removeListener(InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        invalidationListeners = without(invalidationListeners, listener);
+    }
+
+    @Override public void addListener(IntegerMapChangeListener<? super V> listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        changeListeners = append(changeListeners, listener);
+    }
+
+    @Override public void removeListener(IntegerMapChangeListener<? super V> listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        changeListeners = without(changeListeners, listener);
+    }
+
+    static <L> L[] append(L[] listeners, L listener) {
+        L[] result = Arrays.copyOf(listeners, listeners.length + 1);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    static <L> L[] without(L[] listeners, L listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listener.equals(listeners[i])) {
+                L[] result = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, result, i, listeners.length - i - 1);
+                return result;
+            }
+        }
+        return listeners;
+    }
+
+    @Override public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        boolean first = true;
+        for (int j = 0; j < values.length; j++) {
+            if (values[j] != null) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(keys[j]).append('=').append(values[j]);
+                first = false;
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
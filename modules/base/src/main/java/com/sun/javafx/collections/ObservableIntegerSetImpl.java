@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.function.IntConsumer;
+import javafx.beans.InvalidationListener;
+import javafx.collections.IntegerSetChangeListener;
+import javafx.collections.ObservableIntegerSet;
+
+/**
+ * ObservableIntegerSet default implementation. Elements are kept in an open
+ * addressing table with linear probing and backward-shift removal; slot
+ * occupancy is tracked separately so that every {@code int} value, including
+ * zero, can be stored.
+ */
+public final class ObservableIntegerSetImpl implements ObservableIntegerSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final InvalidationListener[] NO_INVALIDATION_LISTENERS = new InvalidationListener[0];
+    private static final IntegerSetChangeListener[] NO_CHANGE_LISTENERS = new IntegerSetChangeListener[0];
+
+    private int[] elements;
+    private boolean[] used;
+    private int size;
+    private int threshold;
+
+    private InvalidationListener[] invalidationListeners = NO_INVALIDATION_LISTENERS;
+    private IntegerSetChangeListener[] changeListeners = NO_CHANGE_LISTENERS;
+
+    public ObservableIntegerSetImpl() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    public ObservableIntegerSetImpl(int... elements) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * 3 / 4 < elements.length) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+        for (int e : elements) {
+            insert(e);
+        }
+    }
+
+    private void allocate(int capacity) {
+        elements = new int[capacity];
+        used = new boolean[capacity];
+        threshold = capacity * 3 / 4;
+    }
+
+    private int indexOf(int element) {
+        final int mask = elements.length - 1;
+        int i = ObservableIntegerMapImpl.hash(element) & mask;
+        while (used[i]) {
+            if (elements[i] == element) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override public int size() {
+        return size;
+    }
+
+    @Override public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override public boolean contains(int element) {
+        return indexOf(element) >= 0;
+    }
+
+    private boolean insert(int element) {
+        final int mask = elements.length - 1;
+        int i = ObservableIntegerMapImpl.hash(element) & mask;
+        while (used[i]) {
+            if (elements[i] == element) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        elements[i] = element;
+        used[i] = true;
+        if (++size > threshold) {
+            rehash(elements.length << 1);
+        }
+        return true;
+    }
+
+    @Override public boolean add(int element) {
+        if (insert(element)) {
+            fireChange(element, true);
+            fireInvalidation();
+            return true;
+        }
+        return false;
+    }
+
+    @Override public boolean addAll(int... elements) {
+        boolean changed = false;
+        for (int e : elements) {
+            if (insert(e)) {
+                fireChange(e, true);
+                changed = true;
+            }
+        }
+        if (changed) {
+            fireInvalidation();
+        }
+        return changed;
+    }
+
+    @Override public boolean remove(int element) {
+        int i = indexOf(element);
+        if (i < 0) {
+            return false;
+        }
+        removeAt(i);
+        fireChange(element, false);
+        fireInvalidation();
+        return true;
+    }
+
+    private void removeAt(int i) {
+        final int mask = elements.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (!used[j]) {
+                break;
+            }
+            int home = ObservableIntegerMapImpl.hash(elements[j]) & mask;
+            // leave the element where it is if its home slot lies cyclically in (i, j]
+            boolean stays = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+            if (!stays) {
+                elements[i] = elements[j];
+                i = j;
+            }
+        }
+        used[i] = false;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldElements = elements;
+        final boolean[] oldUsed = used;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int j = 0; j < oldUsed.length; j++) {
+            if (oldUsed[j]) {
+                int i = ObservableIntegerMapImpl.hash(oldElements[j]) & mask;
+                while (used[i]) {
+                    i = (i + 1) & mask;
+                }
+                elements[i] = oldElements[j];
+                used[i] = true;
+            }
+        }
+    }
+
+    @Override public void clear() {
+        if (size == 0) {
+            return;
+        }
+        final int[] oldElements = elements;
+        final boolean[] oldUsed = used;
+        size = 0;
+        allocate(DEFAULT_CAPACITY);
+        for (int j = 0; j < oldUsed.length; j++) {
+            if (oldUsed[j]) {
+                fireChange(oldElements[j], false);
+            }
+        }
+        fireInvalidation();
+    }
+
+    @Override public int[] toArray() {
+        final int[] result = new int[size];
+        int n = 0;
+        for (int j = 0; j < used.length; j++) {
+            if (used[j]) {
+                result[n++] = elements[j];
+            }
+        }
+        return result;
+    }
+
+    @Override public void forEach(IntConsumer action) {
+        final int[] curElements = elements;
+        final boolean[] curUsed = used;
+        for (int j = 0; j < curUsed.length; j++) {
+            if (curUsed[j]) {
+                action.accept(curElements[j]);
+            }
+        }
+    }
+
+    private void fireChange(int element, boolean wasAdded) {
+        for (IntegerSetChangeListener listener : changeListeners) {
+            try {
+                listener.onChanged(this, element, wasAdded);
+            } catch (Exception e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+
+    private void fireInvalidation() {
+        for (InvalidationListener listener : invalidationListeners) {
+            try {
+                listener.invalidated(this);
+            } catch (Exception e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+
+    @Override public void addListener(InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        invalidationListeners = ObservableIntegerMapImpl.append(invalidationListeners, listener);
+    }
+
+    @Override public void removeListener(InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        invalidationListeners = ObservableIntegerMapImpl.without(invalidationListeners, listener);
+    }
+
+    @Override public void addListener(IntegerSetChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        changeListeners = ObservableIntegerMapImpl.append(changeListeners, listener);
+    }
+
+    @Override public void removeListener(IntegerSetChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        changeListeners = ObservableIntegerMapImpl.without(changeListeners, listener);
+    }
+
+    @Override public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        boolean first = true;
+        for (int j = 0; j < used.length; j++) {
+            if (used[j]) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(elements[j]);
+                first = false;
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
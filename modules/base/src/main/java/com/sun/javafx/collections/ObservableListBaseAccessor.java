@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * Gives classes outside of {@code javafx.collections} access to the change
+ * building methods of {@link ObservableListBase}, so that they can report
+ * several modifications of such a list as a single Change.
+ */
+public abstract class ObservableListBaseAccessor {
+    public static ObservableListBaseAccessor DEFAULT;
+
+    public static ObservableListBaseAccessor getDefault() {
+        if (DEFAULT != null) {
+            return DEFAULT;
+        }
+
+        // invokes static initializer of ObservableListBase.class
+        // that will assign value to the DEFAULT field above
+        Class<?> c = ObservableListBase.class;
+        try {
+            Class.forName(c.getName());
+        } catch (ClassNotFoundException ex) {
+            assert false : ex;
+        }
+        assert DEFAULT != null : "The DEFAULT field must be initialized";
+        return DEFAULT;
+    }
+
+    public abstract void beginChange(ObservableListBase<?> list);
+
+    /**
+     * Ends a change of the list like {@code endChange()}.
+     *
+     * @return {@code true} if a Change has been fired, {@code false} if
+     *         the change is nested or its modifications cancelled out
+     */
+    public abstract boolean endChange(ObservableListBase<?> list);
+}
@@ -124,7 +124,7 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     }
 
-    private void callObservers(SetChangeListener.Change<E> change) {
+    protected void callObservers(SetChangeListener.Change<E> change) {
         SetListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
@@ -203,7 +203,7 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
      * @return an iterator over the elements in this set
      */
     @Override
-    public Iterator iterator() {
+    public Iterator<E> iterator() {
         return new Iterator<E>() {
 
             private final Iterator<E> backingIt = backingSet.iterator();
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Comparator;
+
+/**
+ * A list of nodes backed by an implicit treap. Every node knows the size of
+ * its subtree and its parent, so nodes can be looked up by index, the index
+ * of a node can be computed, and nodes can be inserted or removed at any
+ * position in O(log n) expected time.
+ * <p>
+ * Nodes are intrusive: a class that needs to find its own entries in the tree
+ * extends {@link Node}. A node can be a member of only one tree at a time.
+ * The tree does not keep its nodes in any particular order, but if the caller
+ * keeps them sorted, {@link #lowerBound} and {@link #upperBound} locate
+ * insertion points.
+ * <p>
+ * The last node returned from {@link #get(int)} is remembered, so walking the
+ * list in either direction costs O(1) amortized per step.
+ *
+ * @param <N> the node type
+ */
+public final class OrderStatisticTree<N extends OrderStatisticTree.Node<N>> {
+
+    /**
+     * A node of an {@code OrderStatisticTree}.
+     *
+     * @param <N> the node type
+     */
+    public static abstract class Node<N extends Node<N>> {
+        N left, right, parent;
+        int size;
+        int priority;
+    }
+
+    private N root;
+    private int seed = 0x2545F491;
+
+    private N cachedNode;
+    private int cachedIndex;
+
+    // results of split()
+    private N splitLeft, splitRight;
+
+    /**
+     * Returns the number of nodes in this tree.
+     * @return the number of nodes
+     */
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    /**
+     * Returns the node at the given index.
+     * @param index the index
+     * @return the node at {@code index}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public N get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        N n;
+        if (cachedNode != null && index == cachedIndex) {
+            return cachedNode;
+        } else if (cachedNode != null && index == cachedIndex + 1) {
+            n = next(cachedNode);
+        } else if (cachedNode != null && index == cachedIndex - 1) {
+            n = previous(cachedNode);
+        } else {
+            n = root;
+            int i = index;
+            while (true) {
+                final int ls = size(n.left);
+                if (i < ls) {
+                    n = n.left;
+                } else if (i > ls) {
+                    i -= ls + 1;
+                    n = n.right;
+                } else {
+                    break;
+                }
+            }
+        }
+        cachedNode = n;
+        cachedIndex = index;
+        return n;
+    }
+
+    /**
+     * Returns the index of a node of this tree.
+     * @param node a node of this tree
+     * @return the index of {@code node}
+     */
+    public int indexOf(N node) {
+        int index = size(node.left);
+        for (N n = node; n.parent != null; n = n.parent) {
+            if (n == n.parent.right) {
+                index += size(n.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the first node of this tree.
+     * @return the first node or null if the tree is empty
+     */
+    public N first() {
+        N n = root;
+        if (n != null) {
+            while (n.left != null) {
+                n = n.left;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns the node following the given node.
+     * @param node a node of this tree
+     * @return the next node or null if {@code node} is the last one
+     */
+    public N next(N node) {
+        N n = node;
+        if (n.right != null) {
+            n = n.right;
+            while (n.left != null) {
+                n = n.left;
+            }
+            return n;
+        }
+        while (n.parent != null && n == n.parent.right) {
+            n = n.parent;
+        }
+        return n.parent;
+    }
+
+    /**
+     * Returns the node preceding the given node.
+     * @param node a node of this tree
+     * @return the previous node or null if {@code node} is the first one
+     */
+    public N previous(N node) {
+        N n = node;
+        if (n.left != null) {
+            n = n.left;
+            while (n.right != null) {
+                n = n.right;
+            }
+            return n;
+        }
+        while (n.parent != null && n == n.parent.left) {
+            n = n.parent;
+        }
+        return n.parent;
+    }
+
+    /**
+     * Inserts a node, which must not be a member of any tree, at the given
+     * index.
+     * @param index the index
+     * @param node the node
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add(int index, N node) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        cachedNode = null;
+        node.left = node.right = node.parent = null;
+        node.size = 1;
+        node.priority = nextPriority();
+        split(root, index);
+        final N right = splitRight;
+        root = merge(merge(splitLeft, node), right);
+        root.parent = null;
+    }
+
+    /**
+     * Removes a node from this tree.
+     * @param node a node of this tree
+     */
+    public void remove(N node) {
+        cachedNode = null;
+        final N parent = node.parent;
+        final N replacement = merge(node.left, node.right);
+        if (replacement != null) {
+            replacement.parent = parent;
+        }
+        if (parent == null) {
+            root = replacement;
+        } else {
+            if (parent.left == node) {
+                parent.left = replacement;
+            } else {
+                parent.right = replacement;
+            }
+            for (N n = parent; n != null; n = n.parent) {
+                n.size--;
+            }
+        }
+        node.left = node.right = node.parent = null;
+        node.size = 1;
+    }
+
+    /**
+     * Removes the node at the given index.
+     * @param index the index
+     * @return the removed node
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public N remove(int index) {
+        final N node = get(index);
+        remove(node);
+        return node;
+    }
+
+    /**
+     * Returns the index of the first node which is not less than
+     * {@code key}. The nodes must be sorted by {@code comparator}.
+     * @param key the key
+     * @param comparator the comparator the tree is sorted by
+     * @return the index of the first node not less than {@code key}
+     */
+    public int lowerBound(N key, Comparator<? super N> comparator) {
+        int index = 0;
+        for (N n = root; n != null;) {
+            if (comparator.compare(n, key) < 0) {
+                index += size(n.left) + 1;
+                n = n.right;
+            } else {
+                n = n.left;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the first node which is greater than
+     * {@code key}. The nodes must be sorted by {@code comparator}.
+     * @param key the key
+     * @param comparator the comparator the tree is sorted by
+     * @return the index of the first node greater than {@code key}
+     */
+    public int upperBound(N key, Comparator<? super N> comparator) {
+        int index = 0;
+        for (N n = root; n != null;) {
+            if (comparator.compare(n, key) <= 0) {
+                index += size(n.left) + 1;
+                n = n.right;
+            } else {
+                n = n.left;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the content of this tree with the given nodes, in O(n).
+     * @param nodes the nodes
+     * @param count the number of nodes to take from {@code nodes}
+     */
+    public void setAll(N[] nodes, int count) {
+        cachedNode = null;
+        root = build(nodes, 0, count);
+    }
+
+    /**
+     * Replaces the nodes in the range {@code [from, from + count)} by the
+     * given nodes, which are typically the same nodes in a different order.
+     * @param from the index of the first node to replace
+     * @param nodes the new nodes
+     * @param count the number of nodes to replace
+     */
+    public void setRange(int from, N[] nodes, int count) {
+        cachedNode = null;
+        split(root, from);
+        final N left = splitLeft;
+        split(splitRight, count);
+        final N right = splitRight;
+        root = merge(merge(left, build(nodes, 0, count)), right);
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    /**
+     * Copies the nodes in the range {@code [from, from + count)} to an array.
+     * @param from the index of the first node
+     * @param nodes the target array
+     * @param count the number of nodes to copy
+     */
+    public void toArray(int from, N[] nodes, int count) {
+        N n = count > 0 ? get(from) : null;
+        for (int i = 0; i < count; ++i, n = next(n)) {
+            nodes[i] = n;
+        }
+    }
+
+    /**
+     * Removes all nodes from this tree.
+     */
+    public void clear() {
+        cachedNode = null;
+        root = null;
+    }
+
+    private static int size(Node<?> n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private int nextPriority() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return x;
+    }
+
+    private void split(N t, int k) {
+        if (t == null) {
+            splitLeft = splitRight = null;
+            return;
+        }
+        final int ls = size(t.left);
+        if (k <= ls) {
+            split(t.left, k);
+            t.left = splitRight;
+            if (splitRight != null) {
+                splitRight.parent = t;
+            }
+            t.size = ls - k + size(t.right) + 1;
+            splitRight = t;
+        } else {
+            split(t.right, k - ls - 1);
+            t.right = splitLeft;
+            if (splitLeft != null) {
+                splitLeft.parent = t;
+            }
+            t.size = k;
+            splitLeft = t;
+        }
+        if (splitLeft != null) {
+            splitLeft.parent = null;
+        }
+        if (splitRight != null) {
+            splitRight.parent = null;
+        }
+    }
+
+    private N merge(N a, N b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            final N r = merge(a.right, b);
+            a.right = r;
+            r.parent = a;
+            a.size = size(a.left) + r.size + 1;
+            return a;
+        } else {
+            final N l = merge(a, b.left);
+            b.left = l;
+            l.parent = b;
+            b.size = l.size + size(b.right) + 1;
+            return b;
+        }
+    }
+
+    /**
+     * Builds a treap of the given nodes in O(n), keeping their order. The
+     * right spine of the tree built so far is walked through the parent links.
+     */
+    private N build(N[] nodes, int from, int to) {
+        N top = null;
+        N last = null;
+        for (int i = from; i < to; ++i) {
+            final N n = nodes[i];
+            n.left = n.right = n.parent = null;
+            n.priority = nextPriority();
+            N child = null;
+            N p = last;
+            while (p != null && p.priority < n.priority) {
+                child = p;
+                p = p.parent;
+            }
+            if (child != null) {
+                n.left = child;
+                child.parent = n;
+            }
+            if (p != null) {
+                p.right = n;
+                n.parent = p;
+            } else {
+                top = n;
+            }
+            last = n;
+        }
+        if (top != null) {
+            computeSize(top);
+        }
+        return top;
+    }
+
+    private static int computeSize(Node<?> n) {
+        if (n == null) {
+            return 0;
+        }
+        n.size = computeSize(n.left) + computeSize(n.right) + 1;
+        return n.size;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+/**
+ * A bit set which answers rank and select queries in O(log n). The bits are
+ * stored in words of 64, and a Fenwick tree over the population counts of
+ * the words gives the number of set bits before any word.
+ * <p>
+ * Unlike {@link java.util.BitSet}, bits can be inserted and removed in the
+ * middle of the set, which shifts the following bits. A shift only marks the
+ * Fenwick tree as out of date from the first shifted word on; that part is
+ * rebuilt on the next query, so that bulk operations cost O(n / 64).
+ * <p>
+ * The last position returned by {@link #select(int)} is remembered, so
+ * walking the set bits in order costs O(1) amortized per step.
+ */
+public final class RankedBitSet {
+
+    private long[] words;
+    private int[] counts;
+    private int length;
+    private int cardinality;
+
+    // the first word whose Fenwick node is out of date
+    private int staleFrom = Integer.MAX_VALUE;
+
+    private int cachedRank = -1;
+    private int cachedIndex;
+
+    /**
+     * Creates an empty bit set.
+     * @param capacity the initial capacity in bits
+     */
+    public RankedBitSet(int capacity) {
+        words = new long[(capacity + 63) >>> 6];
+        counts = new int[words.length + 1];
+    }
+
+    /**
+     * Returns the number of bits in this set.
+     * @return the number of bits
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of set bits.
+     * @return the number of set bits
+     */
+    public int cardinality() {
+        updateIndex();
+        return cardinality;
+    }
+
+    /**
+     * Returns the value of a bit.
+     * @param index the index of the bit
+     * @return the value of the bit
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the value of a bit.
+     * @param index the index of the bit
+     * @param value the new value
+     * @return true if the bit was changed
+     */
+    public boolean set(int index, boolean value) {
+        checkIndex(index);
+        final int w = index >>> 6;
+        final long mask = 1L << index;
+        if (((words[w] & mask) != 0) == value) {
+            return false;
+        }
+        words[w] ^= mask;
+        cachedRank = -1;
+        if (w < staleFrom) {
+            final int delta = value ? 1 : -1;
+            cardinality += delta;
+            for (int i = w + 1; i < counts.length; i += i & -i) {
+                counts[i] += delta;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of set bits before the given index.
+     * @param index an index between 0 and {@link #length()}, inclusive
+     * @return the number of set bits in {@code [0, index)}
+     */
+    public int rank(int index) {
+        if (index < 0 || index > length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        updateIndex();
+        final int w = index >>> 6;
+        int rank = 0;
+        for (int i = w; i > 0; i -= i & -i) {
+            rank += counts[i];
+        }
+        if ((index & 63) != 0) {
+            rank += Long.bitCount(words[w] & ((1L << index) - 1));
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the index of the set bit with the given rank.
+     * @param rank a number between 0 and {@link #cardinality()}, exclusive
+     * @return the index of the {@code rank}-th set bit
+     */
+    public int select(int rank) {
+        updateIndex();
+        if (rank < 0 || rank >= cardinality) {
+            throw new IndexOutOfBoundsException("Rank: " + rank + ", Cardinality: " + cardinality);
+        }
+        final int index;
+        if (cachedRank >= 0 && rank == cachedRank) {
+            return cachedIndex;
+        } else if (cachedRank >= 0 && rank == cachedRank + 1) {
+            index = nextSetBit(cachedIndex + 1);
+        } else {
+            int w = 0;
+            int remaining = rank;
+            for (int step = Integer.highestOneBit(counts.length - 1); step > 0; step >>>= 1) {
+                if (w + step < counts.length && counts[w + step] <= remaining) {
+                    w += step;
+                    remaining -= counts[w];
+                }
+            }
+            long word = words[w];
+            for (; remaining > 0; --remaining) {
+                word &= word - 1;
+            }
+            index = (w << 6) + Long.numberOfTrailingZeros(word);
+        }
+        cachedRank = rank;
+        cachedIndex = index;
+        return index;
+    }
+
+    /**
+     * Returns the index of the first set bit at or after the given index.
+     * @param from the index to start at
+     * @return the index of the next set bit or -1 if there is none
+     */
+    public int nextSetBit(int from) {
+        if (from >= length) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                final int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                return index < length ? index : -1;
+            }
+            if (++w >= words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
+    /**
+     * Sets the length of this bit set and all of its bits to the same value.
+     * @param length the new length
+     * @param value the value of all bits
+     */
+    public void reset(int length, boolean value) {
+        ensureCapacity(length);
+        final int used = (length + 63) >>> 6;
+        for (int i = 0; i < words.length; ++i) {
+            words[i] = value && i < used ? -1L : 0L;
+        }
+        if (value && (length & 63) != 0) {
+            words[used - 1] = (1L << length) - 1;
+        }
+        this.length = length;
+        invalidateIndex(0);
+    }
+
+    /**
+     * Removes bits from and inserts clear bits into the middle of this set.
+     * The bits following the removed range are shifted accordingly.
+     * @param from the index of the first removed bit
+     * @param removed the number of bits to remove
+     * @param added the number of clear bits to insert at {@code from}
+     */
+    public void replace(int from, int removed, int added) {
+        if (from < 0 || removed < 0 || added < 0 || from + removed > length) {
+            throw new IndexOutOfBoundsException();
+        }
+        final int newLength = length - removed + added;
+        ensureCapacity(newLength);
+        final int src = from + removed;
+        final int dst = from + added;
+        final int count = length - src;
+        if (dst < src) {
+            for (int i = 0; i < count; i += 64) {
+                write(dst + i, read(src + i), Math.min(64, count - i));
+            }
+            clear(dst + count, length);
+        } else if (dst > src) {
+            for (int i = count; i > 0;) {
+                final int n = Math.min(64, i);
+                i -= n;
+                write(dst + i, read(src + i), n);
+            }
+        }
+        clear(from, dst);
+        length = newLength;
+        invalidateIndex(from >>> 6);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+    }
+
+    private void ensureCapacity(int bits) {
+        final int needed = (bits + 63) >>> 6;
+        if (words.length < needed) {
+            final long[] replacement = new long[needed * 3 / 2 + 1];
+            System.arraycopy(words, 0, replacement, 0, words.length);
+            words = replacement;
+            counts = new int[words.length + 1];
+            staleFrom = 0;
+        }
+    }
+
+    private void invalidateIndex(int fromWord) {
+        staleFrom = Math.min(staleFrom, fromWord);
+        cachedRank = -1;
+    }
+
+    /**
+     * Recomputes the Fenwick nodes from the first stale word on. Node i covers
+     * the words (i - lowbit(i), i], which are word i - 1 and the ranges of the
+     * nodes i - 1, i - 2, i - 4, ... down to i - lowbit(i) / 2.
+     */
+    private void updateIndex() {
+        if (staleFrom == Integer.MAX_VALUE) {
+            return;
+        }
+        final int n = words.length;
+        for (int i = staleFrom + 1; i <= n; ++i) {
+            int count = Long.bitCount(words[i - 1]);
+            for (int k = 1, low = i & -i; k < low; k <<= 1) {
+                count += counts[i - k];
+            }
+            counts[i] = count;
+        }
+        cardinality = 0;
+        for (int i = n; i > 0; i -= i & -i) {
+            cardinality += counts[i];
+        }
+        staleFrom = Integer.MAX_VALUE;
+    }
+
+    private long read(int pos) {
+        final int w = pos >>> 6;
+        if (w >= words.length) {
+            return 0;
+        }
+        long value = words[w] >>> pos;
+        final int offset = pos & 63;
+        if (offset != 0 && w + 1 < words.length) {
+            value |= words[w + 1] << (64 - offset);
+        }
+        return value;
+    }
+
+    private void write(int pos, long value, int n) {
+        final long mask = n == 64 ? -1L : (1L << n) - 1;
+        value &= mask;
+        final int w = pos >>> 6;
+        final int offset = pos & 63;
+        words[w] = (words[w] & ~(mask << offset)) | (value << offset);
+        if (offset != 0 && offset + n > 64) {
+            words[w + 1] = (words[w + 1] & ~(mask >>> (64 - offset))) | (value >>> (64 - offset));
+        }
+    }
+
+    private void clear(int from, int to) {
+        for (int i = from; i < to; i += 64) {
+            write(i, 0, Math.min(64, to - i));
+        }
+    }
+}
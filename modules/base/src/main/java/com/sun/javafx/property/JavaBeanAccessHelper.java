@@ -24,13 +24,14 @@
  */
 package com.sun.javafx.property;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import javafx.beans.property.ReadOnlyObjectProperty;
 
 public final class JavaBeanAccessHelper {
 
-    private static Method JAVA_BEAN_QUICK_ACCESSOR_CREATE_RO;
+    private static MethodHandle JAVA_BEAN_QUICK_ACCESSOR_CREATE_RO;
 
     private static boolean initialized;
 
@@ -44,13 +45,10 @@ public final class JavaBeanAccessHelper {
             throw new UnsupportedOperationException("Java beans are not supported.");
         }
         try {
-            return (ReadOnlyObjectProperty<T>) JAVA_BEAN_QUICK_ACCESSOR_CREATE_RO.invoke(null, bean, propertyName);
-        } catch (IllegalAccessException ex) {
-            throw new UnsupportedOperationException("Java beans are not supported.");
-        } catch (InvocationTargetException ex) {
-            if (ex.getCause() instanceof NoSuchMethodException) {
-                throw (NoSuchMethodException)ex.getCause();
-            }
+            return (ReadOnlyObjectProperty<T>) JAVA_BEAN_QUICK_ACCESSOR_CREATE_RO.invokeExact(bean, propertyName);
+        } catch (NoSuchMethodException ex) {
+            throw ex;
+        } catch (Throwable ex) {
             throw new UnsupportedOperationException("Java beans are not supported.");
         }
     }
@@ -61,13 +59,17 @@ public final class JavaBeanAccessHelper {
                 Class accessor = Class.forName(
                         "com.sun.javafx.property.adapter.JavaBeanQuickAccessor",
                         true, JavaBeanAccessHelper.class.getClassLoader());
-                JAVA_BEAN_QUICK_ACCESSOR_CREATE_RO =
+                // resolved once into a handle, which is much cheaper to call than Method.invoke()
+                JAVA_BEAN_QUICK_ACCESSOR_CREATE_RO = MethodHandles.lookup().unreflect(
                         accessor.getDeclaredMethod("createReadOnlyJavaBeanObjectProperty",
-                        Object.class, String.class);
+                        Object.class, String.class))
+                        .asType(MethodType.methodType(ReadOnlyObjectProperty.class, Object.class, String.class));
             } catch (ClassNotFoundException ex) {
                 //ignore
             } catch (NoSuchMethodException ex) {
                 //ignore
+            } catch (IllegalAccessException ex) {
+                //ignore
             }
             initialized = true;
         }
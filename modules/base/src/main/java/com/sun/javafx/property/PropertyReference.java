@@ -27,9 +27,16 @@ package com.sun.javafx.property;
 
 import static java.security.AccessController.doPrivileged;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.security.PrivilegedAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javafx.beans.property.ReadOnlyProperty;
 
@@ -47,6 +54,7 @@ public final class PropertyReference<T> {
     private Class<?> clazz;
     private Class<?> type;
     private boolean reflected = false;
+    private Accessors accessors;
 
     // uses reflection to implement the get / set methods
     /**
@@ -148,6 +156,14 @@ public final class PropertyReference<T> {
             throw new IllegalStateException(
                     "Cannot write to readonly property " + name);
         assert setter != null;
+        if (accessors.setterHandle != null) {
+            try {
+                accessors.setterHandle.invokeExact(bean, (Object) value);
+            } catch (Throwable t) {
+                throw new RuntimeException(new InvocationTargetException(t));
+            }
+            return;
+        }
         try {
             MethodUtil.invoke(setter, bean, new Object[] {value});
         } catch (Exception ex) {
@@ -171,6 +187,9 @@ public final class PropertyReference<T> {
             throw new IllegalStateException(
                     "Cannot read from unreadable property " + name);
         assert getter != null;
+        if (accessors.getterHandle != null) {
+            return (T) invoke(accessors.getterHandle, bean);
+        }
         try {
             return (T)MethodUtil.invoke(getter, bean, (Object[])null);
         } catch (Exception ex) {
@@ -194,6 +213,9 @@ public final class PropertyReference<T> {
         if (!hasProperty())
             throw new IllegalStateException("Cannot get property " + name);
         assert propertyGetter != null;
+        if (accessors.propertyGetterHandle != null) {
+            return (ReadOnlyProperty<T>) invoke(accessors.propertyGetterHandle, bean);
+        }
         try {
             return (ReadOnlyProperty<T>)MethodUtil.invoke(propertyGetter, bean, (Object[])null);
         } catch (Exception ex) {
@@ -209,11 +231,93 @@ public final class PropertyReference<T> {
         return name;
     }
 
+    private static Object invoke(MethodHandle handle, Object bean) {
+        try {
+            return handle.invokeExact(bean);
+        } catch (Throwable t) {
+            throw new RuntimeException(new InvocationTargetException(t));
+        }
+    }
+
     private void reflect() {
         // If both the getter and setter are null then we have not reflected
         // on this property before
         if (!reflected) {
             reflected = true;
+            accessors = Accessors.get(clazz, name);
+            getter = accessors.getter;
+            setter = accessors.setter;
+            propertyGetter = accessors.propertyGetter;
+            type = accessors.type;
+        }
+    }
+
+    /**
+     * The accessors of a property, which are looked up once per class and
+     * name and shared by all references to the property. If possible, the
+     * methods are converted to {@code MethodHandle}s, which are a lot cheaper
+     * to call than {@code Method.invoke()}. Methods which are not accessible
+     * through the public lookup, for example because they are declared in a
+     * class that is not public, are called reflectively.
+     */
+    private static final class Accessors {
+
+        // The accessors refer to their class through the methods, so they are
+        // only softly reachable from it. Otherwise the class, and with it its
+        // class loader, could never be unloaded.
+        private static final ClassValue<SoftReference<ConcurrentMap<String, Accessors>>> CACHE =
+                new ClassValue<SoftReference<ConcurrentMap<String, Accessors>>>() {
+            @Override
+            protected SoftReference<ConcurrentMap<String, Accessors>> computeValue(Class<?> type) {
+                return new SoftReference<ConcurrentMap<String, Accessors>>(new ConcurrentHashMap<String, Accessors>());
+            }
+        };
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private Method getter;
+        private Method setter;
+        private Method propertyGetter;
+        private Class<?> type;
+        private MethodHandle getterHandle;
+        private MethodHandle setterHandle;
+        private MethodHandle propertyGetterHandle;
+
+        private static Accessors get(Class<?> clazz, String name) {
+            ConcurrentMap<String, Accessors> accessors = CACHE.get(clazz).get();
+            if (accessors == null) {
+                CACHE.remove(clazz);
+                accessors = CACHE.get(clazz).get();
+                if (accessors == null) {
+                    // cleared again right away, do without the cache this time
+                    return new Accessors(clazz, name);
+                }
+            }
+            Accessors result = accessors.get(name);
+            if (result == null) {
+                result = new Accessors(clazz, name);
+                final Accessors previous = accessors.putIfAbsent(name, result);
+                if (previous != null) {
+                    result = previous;
+                }
+            }
+            return result;
+        }
+
+        private static MethodHandle toHandle(Method method, MethodType type) {
+            if (method == null) {
+                return null;
+            }
+            try {
+                return MethodHandles.publicLookup().unreflect(method).asType(type);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                // not accessible through the public lookup, fall back to reflection
+                return null;
+            }
+        }
+
+        private Accessors(Class<?> clazz, String name) {
             try {
                 // Since we use it in several places, construct the
                 // first-letter-capitalized version of name
@@ -299,12 +403,12 @@ public final class PropertyReference<T> {
             } catch (RuntimeException e) {
                 System.err.println("Failed to introspect property " + name);
             }
+            getterHandle = toHandle(getter, GETTER_TYPE);
+            setterHandle = toHandle(setter, SETTER_TYPE);
+            propertyGetterHandle = toHandle(propertyGetter, GETTER_TYPE);
         }
     }
 
-    /**
-     * {@inheritDoc}
-     */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
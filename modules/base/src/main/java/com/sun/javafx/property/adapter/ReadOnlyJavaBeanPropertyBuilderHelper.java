@@ -25,7 +25,10 @@
 
 package com.sun.javafx.property.adapter;
 
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import sun.reflect.misc.ReflectUtil;
 
@@ -36,6 +39,30 @@ public class ReadOnlyJavaBeanPropertyBuilderHelper {
     private static final String IS_PREFIX = "is";
     private static final String GET_PREFIX = "get";
 
+    // descriptors of properties with the default getter, shared by all beans of a class;
+    // only softly reachable, because they refer to the class through their getters
+    private static final ClassValue<SoftReference<ConcurrentMap<String, ReadOnlyPropertyDescriptor>>> DESCRIPTORS =
+            new ClassValue<SoftReference<ConcurrentMap<String, ReadOnlyPropertyDescriptor>>>() {
+        @Override
+        protected SoftReference<ConcurrentMap<String, ReadOnlyPropertyDescriptor>> computeValue(Class<?> type) {
+            return new SoftReference<ConcurrentMap<String, ReadOnlyPropertyDescriptor>>(
+                    new ConcurrentHashMap<String, ReadOnlyPropertyDescriptor>());
+        }
+    };
+
+    private static ConcurrentMap<String, ReadOnlyPropertyDescriptor> descriptorsOf(Class<?> beanClass) {
+        ConcurrentMap<String, ReadOnlyPropertyDescriptor> descriptors = DESCRIPTORS.get(beanClass).get();
+        if (descriptors == null) {
+            DESCRIPTORS.remove(beanClass);
+            descriptors = DESCRIPTORS.get(beanClass).get();
+            if (descriptors == null) {
+                // cleared again right away, do without the cache this time
+                descriptors = new ConcurrentHashMap<String, ReadOnlyPropertyDescriptor>();
+            }
+        }
+        return descriptors;
+    }
+
     private String propertyName;
     private Class<?> beanClass;
     private Object bean;
@@ -96,6 +123,13 @@ public class ReadOnlyJavaBeanPropertyBuilderHelper {
             if (propertyName.isEmpty()) {
                 throw new IllegalArgumentException("Property name cannot be empty");
             }
+            final boolean defaultGetter = (getter == null) && ((getterName == null) || getterName.isEmpty());
+            if (defaultGetter) {
+                descriptor = descriptorsOf(beanClass).get(propertyName);
+                if (descriptor != null) {
+                    return descriptor;
+                }
+            }
             final String capitalizedName = ReadOnlyPropertyDescriptor.capitalizedName(propertyName);
             if (getter == null) {
                 if ((getterName != null) && !getterName.isEmpty()) {
@@ -109,6 +143,12 @@ public class ReadOnlyJavaBeanPropertyBuilderHelper {
                 }
             }
             descriptor = new ReadOnlyPropertyDescriptor(propertyName, beanClass, getter);
+            if (defaultGetter) {
+                final ReadOnlyPropertyDescriptor previous = descriptorsOf(beanClass).putIfAbsent(propertyName, descriptor);
+                if (previous != null) {
+                    descriptor = previous;
+                }
+            }
         }
         return descriptor;
     }
@@ -30,10 +30,14 @@ import javafx.beans.property.adapter.ReadOnlyJavaBeanProperty;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import sun.reflect.misc.MethodUtil;
 import sun.reflect.misc.ReflectUtil;
 
 import static java.util.Locale.ENGLISH;
@@ -54,6 +58,7 @@ public class ReadOnlyPropertyDescriptor {
     protected final String name;
     protected final Class<?> beanClass;
     private final Method getter;
+    private final MethodHandle getterHandle;
     private final Class<?> type;
 
     private final Method addChangeListener;
@@ -70,6 +75,7 @@ public class ReadOnlyPropertyDescriptor {
         this.name = propertyName;
         this.beanClass = beanClass;
         this.getter = getter;
+        this.getterHandle = toHandle(getter);
         this.type = getter.getReturnType();
 
         Method tmpAddChangeListener = null;
@@ -113,6 +119,37 @@ public class ReadOnlyPropertyDescriptor {
         flags = tmpFlags;
     }
 
+    private static MethodHandle toHandle(Method getter) {
+        try {
+            return MethodHandles.publicLookup().unreflect(getter)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            // not accessible through the public lookup, the getter is called reflectively
+            return null;
+        }
+    }
+
+    /**
+     * Calls the getter of the property. The getter is resolved once into a
+     * {@code MethodHandle} if possible, which is a lot cheaper to call than
+     * {@code Method.invoke()}.
+     *
+     * @param bean the bean to read the property of
+     * @return the value of the property
+     * @throws IllegalAccessException if the getter is not accessible
+     * @throws InvocationTargetException if the getter throws an exception
+     */
+    public Object invokeGetter(Object bean) throws IllegalAccessException, InvocationTargetException {
+        if (getterHandle == null) {
+            return MethodUtil.invoke(getter, bean, (Object[])null);
+        }
+        try {
+            return getterHandle.invokeExact(bean);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
     public static String capitalizedName(String name) {
         return ((name == null) || (name.length() == 0))? name : name.substring(0, 1).toUpperCase(ENGLISH) + name.substring(1);
     }
@@ -25,6 +25,7 @@
 
 package javafx.beans;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
 import java.lang.ref.WeakReference;
 import javafx.beans.NamedArg;
 
@@ -62,7 +63,7 @@ public final class WeakInvalidationListener implements InvalidationListener, Wea
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<InvalidationListener>(listener);
+        this.ref = new WeakReference<InvalidationListener>(listener, ExpressionHelperBase.WEAK_LISTENER_QUEUE);
     }
 
     /**
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.beans.binding;
+
+import com.sun.javafx.binding.InvalidationScheduler;
+
+/**
+ * Groups the invalidations of bindings into transactions and evaluates the
+ * affected bindings without glitches when a transaction ends.
+ * <p>
+ * Bindings are invalidated eagerly and evaluated lazily. Without a
+ * transaction, a listener of a binding can evaluate the binding while only
+ * some of its dependencies have been invalidated. In a diamond-shaped graph,
+ * where {@code d} depends on {@code b} and {@code c}, which both depend on
+ * {@code a}, a change of {@code a} can therefore evaluate {@code d} twice,
+ * the first time with the new value of {@code b} and the old value of
+ * {@code c}.
+ * <p>
+ * While a transaction is open, bindings that are bound to a modified
+ * observable are not invalidated, but remember that they have to be. They
+ * keep returning the value they had when the transaction started. When the
+ * outermost transaction ends, all affected bindings are invalidated first,
+ * before any of their listeners is notified. The listeners are notified
+ * afterwards; every binding that they read is evaluated at most once, after
+ * the bindings it depends on. Bindings that are not read stay invalid as
+ * usual. Invalidations are processed iteratively, so long chains of
+ * bindings do not cause deep recursion.
+ * <pre><code>
+ * BindingScheduler.runInTransaction(() -&gt; {
+ *     width.set(100);
+ *     height.set(50);
+ * });
+ * </code></pre>
+ * <p>
+ * The scheduler applies to all bindings that register with their
+ * dependencies via {@code bind(Observable...)}, which includes all
+ * bindings created by {@link Bindings} and the fluent API. Listeners of the
+ * bindings of collections are not deferred. Modifications of observables
+ * which are not bindings, for example properties, are notified immediately
+ * in any case.
+ * <p>
+ * A transaction is confined to the thread that started it. Every thread has
+ * its own transactions, modifications on other threads are not deferred.
+ * <p>
+ * For diagnostics, the scheduler can count how often each binding was
+ * evaluated. Counting is disabled by default.
+ *
+ * @since JavaFX 8u112
+ */
+public final class BindingScheduler {
+
+    private BindingScheduler() {
+    }
+
+    /**
+     * Starts a transaction. Transactions can be nested; the invalidations are
+     * processed when the outermost transaction ends.
+     */
+    public static void beginTransaction() {
+        InvalidationScheduler.beginTransaction();
+    }
+
+    /**
+     * Ends a transaction. If it is the outermost transaction, the bindings
+     * that were affected by the modifications within the transaction are
+     * invalidated and their listeners notified.
+     *
+     * @throws IllegalStateException
+     *             if the current thread has no open transaction
+     */
+    public static void endTransaction() {
+        InvalidationScheduler.endTransaction();
+    }
+
+    /**
+     * Runs the given {@code Runnable} within a transaction.
+     *
+     * @param runnable
+     *            the modifications to run
+     * @throws NullPointerException
+     *             if {@code runnable} is {@code null}
+     */
+    public static void runInTransaction(Runnable runnable) {
+        if (runnable == null) {
+            throw new NullPointerException("Runnable cannot be null");
+        }
+        beginTransaction();
+        try {
+            runnable.run();
+        } finally {
+            endTransaction();
+        }
+    }
+
+    /**
+     * Checks if the current thread has an open transaction.
+     *
+     * @return {@code true} if a transaction is open on this thread
+     */
+    public static boolean isInTransaction() {
+        return InvalidationScheduler.isInTransaction();
+    }
+
+    /**
+     * Enables or disables counting the evaluations of bindings. Disabling
+     * counting keeps the counts collected so far.
+     *
+     * @param enabled
+     *            {@code true} to count evaluations
+     * @see #getEvaluationCount(Binding)
+     */
+    public static void setEvaluationCountingEnabled(boolean enabled) {
+        InvalidationScheduler.setEvaluationCountingEnabled(enabled);
+    }
+
+    /**
+     * Checks if evaluations of bindings are counted.
+     *
+     * @return {@code true} if evaluations are counted
+     */
+    public static boolean isEvaluationCountingEnabled() {
+        return InvalidationScheduler.isEvaluationCountingEnabled();
+    }
+
+    /**
+     * Returns how often the given binding computed its value while counting
+     * was enabled.
+     *
+     * @param binding
+     *            the binding
+     * @return the number of evaluations since counting was enabled or the
+     *         counts were reset
+     * @throws NullPointerException
+     *             if {@code binding} is {@code null}
+     */
+    public static int getEvaluationCount(Binding<?> binding) {
+        if (binding == null) {
+            throw new NullPointerException("Binding cannot be null");
+        }
+        return InvalidationScheduler.getEvaluationCount(binding);
+    }
+
+    /**
+     * Resets the evaluation counts of all bindings to zero.
+     */
+    public static void resetEvaluationCounts() {
+        InvalidationScheduler.resetEvaluationCounts();
+    }
+}
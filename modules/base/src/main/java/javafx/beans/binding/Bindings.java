@@ -27,11 +27,15 @@ package javafx.beans.binding;
 
 import java.lang.ref.WeakReference;
 import java.text.Format;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.Property;
@@ -55,6 +59,7 @@ import com.sun.javafx.binding.ContentBinding;
 import com.sun.javafx.binding.DoubleConstant;
 import com.sun.javafx.binding.FloatConstant;
 import com.sun.javafx.binding.IntegerConstant;
+import com.sun.javafx.binding.ListAggregate;
 import com.sun.javafx.binding.Logging;
 import com.sun.javafx.binding.LongConstant;
 import com.sun.javafx.binding.ObjectConstant;
@@ -6868,6 +6873,321 @@ public final class Bindings {
         };
     }
 
+    /**
+     * Creates a new {@link javafx.beans.binding.DoubleBinding} that contains the sum
+     * of the values that a function computes for the elements of an
+     * {@link javafx.collections.ObservableList}.
+     * <p>
+     * The sum is maintained from the changes of the {@code ObservableList}: an
+     * added, removed or updated element costs O(log n) instead of a pass over the
+     * whole list. The value computed for an element is remembered until the
+     * element is removed or reported as updated, so {@code mapper} has to depend
+     * only on properties that are reported by the list, e.g. through an extractor.
+     *
+     * @param op the {@code ObservableList}
+     * @param mapper the function that computes the value of an element
+     * @param <E> type of the {@code List} elements
+     * @return the new {@code DoubleBinding}
+     * @throws NullPointerException if the {@code ObservableList} or {@code mapper} is {@code null}
+     * @since JavaFX 8u112
+     */
+    public static <E> DoubleBinding sum(final ObservableList<E> op, final ToDoubleFunction<? super E> mapper) {
+        if ((op == null) || (mapper == null)) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+
+        return new DoubleBinding() {
+            private final ListAggregate.Sum<E> sum = new ListAggregate.Sum<>(op, mapper, this);
+
+            @Override
+            public void dispose() {
+                sum.dispose();
+            }
+
+            @Override
+            protected double computeValue() {
+                return sum.getSum();
+            }
+
+            @Override
+            @ReturnsUnmodifiableCollection
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(op);
+            }
+        };
+    }
+
+    /**
+     * Creates a new {@link javafx.beans.binding.DoubleBinding} that contains the average
+     * of the values that a function computes for the elements of an
+     * {@link javafx.collections.ObservableList}, or {@code NaN} if the list is empty.
+     * <p>
+     * The average is maintained incrementally, like the sum of {@link #sum(ObservableList, ToDoubleFunction)}.
+     *
+     * @param op the {@code ObservableList}
+     * @param mapper the function that computes the value of an element
+     * @param <E> type of the {@code List} elements
+     * @return the new {@code DoubleBinding}
+     * @throws NullPointerException if the {@code ObservableList} or {@code mapper} is {@code null}
+     * @since JavaFX 8u112
+     */
+    public static <E> DoubleBinding average(final ObservableList<E> op, final ToDoubleFunction<? super E> mapper) {
+        if ((op == null) || (mapper == null)) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+
+        return new DoubleBinding() {
+            private final ListAggregate.Sum<E> sum = new ListAggregate.Sum<>(op, mapper, this);
+
+            @Override
+            public void dispose() {
+                sum.dispose();
+            }
+
+            @Override
+            protected double computeValue() {
+                return sum.getAverage();
+            }
+
+            @Override
+            @ReturnsUnmodifiableCollection
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(op);
+            }
+        };
+    }
+
+    /**
+     * Creates a new {@link javafx.beans.binding.ObjectBinding} that contains the least
+     * of the values that a function computes for the elements of an
+     * {@link javafx.collections.ObservableList}, or {@code null} if the list is empty.
+     * <p>
+     * The values are kept sorted, so that an added, removed or updated element
+     * costs O(log n). The value computed for an element is remembered until the
+     * element is removed or reported as updated.
+     *
+     * @param op the {@code ObservableList}
+     * @param mapper the function that computes the value of an element
+     * @param comparator the order of the values
+     * @param <E> type of the {@code List} elements
+     * @param <T> type of the values
+     * @return the new {@code ObjectBinding}
+     * @throws NullPointerException if the {@code ObservableList}, {@code mapper} or {@code comparator} is {@code null}
+     * @since JavaFX 8u112
+     */
+    public static <E, T> ObjectBinding<T> min(final ObservableList<E> op, final Function<? super E, ? extends T> mapper,
+                                             final Comparator<? super T> comparator) {
+        return extremum(op, mapper, comparator, true);
+    }
+
+    /**
+     * Creates a new {@link javafx.beans.binding.ObjectBinding} that contains the least
+     * of the values that a function computes for the elements of an
+     * {@link javafx.collections.ObservableList}, in their natural order, or {@code null}
+     * if the list is empty.
+     *
+     * @param op the {@code ObservableList}
+     * @param mapper the function that computes the value of an element, which must not be {@code null}
+     * @param <E> type of the {@code List} elements
+     * @param <T> type of the values
+     * @return the new {@code ObjectBinding}
+     * @throws NullPointerException if the {@code ObservableList} or {@code mapper} is {@code null}
+     * @see #min(ObservableList, Function, Comparator)
+     * @since JavaFX 8u112
+     */
+    public static <E, T extends Comparable<? super T>> ObjectBinding<T> min(final ObservableList<E> op,
+                                                                           final Function<? super E, ? extends T> mapper) {
+        return extremum(op, mapper, Comparator.<T>naturalOrder(), true);
+    }
+
+    /**
+     * Creates a new {@link javafx.beans.binding.ObjectBinding} that contains the greatest
+     * of the values that a function computes for the elements of an
+     * {@link javafx.collections.ObservableList}, or {@code null} if the list is empty.
+     * <p>
+     * The values are kept sorted, so that an added, removed or updated element
+     * costs O(log n). The value computed for an element is remembered until the
+     * element is removed or reported as updated.
+     *
+     * @param op the {@code ObservableList}
+     * @param mapper the function that computes the value of an element
+     * @param comparator the order of the values
+     * @param <E> type of the {@code List} elements
+     * @param <T> type of the values
+     * @return the new {@code ObjectBinding}
+     * @throws NullPointerException if the {@code ObservableList}, {@code mapper} or {@code comparator} is {@code null}
+     * @since JavaFX 8u112
+     */
+    public static <E, T> ObjectBinding<T> max(final ObservableList<E> op, final Function<? super E, ? extends T> mapper,
+                                             final Comparator<? super T> comparator) {
+        return extremum(op, mapper, comparator, false);
+    }
+
+    /**
+     * Creates a new {@link javafx.beans.binding.ObjectBinding} that contains the greatest
+     * of the values that a function computes for the elements of an
+     * {@link javafx.collections.ObservableList}, in their natural order, or {@code null}
+     * if the list is empty.
+     *
+     * @param op the {@code ObservableList}
+     * @param mapper the function that computes the value of an element, which must not be {@code null}
+     * @param <E> type of the {@code List} elements
+     * @param <T> type of the values
+     * @return the new {@code ObjectBinding}
+     * @throws NullPointerException if the {@code ObservableList} or {@code mapper} is {@code null}
+     * @see #max(ObservableList, Function, Comparator)
+     * @since JavaFX 8u112
+     */
+    public static <E, T extends Comparable<? super T>> ObjectBinding<T> max(final ObservableList<E> op,
+                                                                           final Function<? super E, ? extends T> mapper) {
+        return extremum(op, mapper, Comparator.<T>naturalOrder(), false);
+    }
+
+    private static <E, T> ObjectBinding<T> extremum(final ObservableList<E> op, final Function<? super E, ? extends T> mapper,
+                                                   final Comparator<? super T> comparator, final boolean min) {
+        if ((op == null) || (mapper == null) || (comparator == null)) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+
+        return new ObjectBinding<T>() {
+            private final ListAggregate.Extremum<E, T> extremum = new ListAggregate.Extremum<>(op, mapper, comparator, this);
+
+            @Override
+            public void dispose() {
+                extremum.dispose();
+            }
+
+            @Override
+            protected T computeValue() {
+                return min ? extremum.getMin() : extremum.getMax();
+            }
+
+            @Override
+            @ReturnsUnmodifiableCollection
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(op);
+            }
+        };
+    }
+
+    /**
+     * Creates a new {@link javafx.beans.binding.IntegerBinding} that contains the number
+     * of elements of an {@link javafx.collections.ObservableList} that satisfy a predicate.
+     * <p>
+     * The number is maintained from the changes of the {@code ObservableList}: an
+     * added, removed or updated element costs O(log n) instead of a pass over the
+     * whole list.
+     *
+     * @param op the {@code ObservableList}
+     * @param predicate the predicate
+     * @param <E> type of the {@code List} elements
+     * @return the new {@code IntegerBinding}
+     * @throws NullPointerException if the {@code ObservableList} or {@code predicate} is {@code null}
+     * @since JavaFX 8u112
+     */
+    public static <E> IntegerBinding count(final ObservableList<E> op, final Predicate<? super E> predicate) {
+        if ((op == null) || (predicate == null)) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+
+        return new IntegerBinding() {
+            private final ListAggregate.Count<E> count = new ListAggregate.Count<>(op, predicate, this);
+
+            @Override
+            public void dispose() {
+                count.dispose();
+            }
+
+            @Override
+            protected int computeValue() {
+                return count.getCount();
+            }
+
+            @Override
+            @ReturnsUnmodifiableCollection
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(op);
+            }
+        };
+    }
+
+    /**
+     * Creates a new {@link javafx.beans.binding.MapBinding} that contains the number
+     * of elements of an {@link javafx.collections.ObservableList} per key. Keys
+     * without elements are not contained in the map.
+     * <p>
+     * The map is maintained from the changes of the {@code ObservableList}, and
+     * each key whose count changed is updated once per change. The map cannot
+     * be modified.
+     *
+     * @param op the {@code ObservableList}
+     * @param classifier the function that computes the key of an element
+     * @param <E> type of the {@code List} elements
+     * @param <K> type of the keys
+     * @return the new {@code MapBinding}
+     * @throws NullPointerException if the {@code ObservableList} or {@code classifier} is {@code null}
+     * @since JavaFX 8u112
+     */
+    public static <E, K> MapBinding<K, Integer> countBy(final ObservableList<E> op,
+                                                       final Function<? super E, ? extends K> classifier) {
+        if ((op == null) || (classifier == null)) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+        return grouping(op, new ListAggregate.Grouping<E, K, Integer>(op, classifier, null, null));
+    }
+
+    /**
+     * Creates a new {@link javafx.beans.binding.MapBinding} that contains the sum
+     * of the values that a function computes for the elements of an
+     * {@link javafx.collections.ObservableList} per key. Keys without elements are
+     * not contained in the map.
+     * <p>
+     * The map is maintained from the changes of the {@code ObservableList}, and
+     * each key whose sum changed is updated once per change. The map cannot
+     * be modified.
+     *
+     * @param op the {@code ObservableList}
+     * @param classifier the function that computes the key of an element
+     * @param mapper the function that computes the value of an element
+     * @param <E> type of the {@code List} elements
+     * @param <K> type of the keys
+     * @return the new {@code MapBinding}
+     * @throws NullPointerException if the {@code ObservableList}, {@code classifier} or {@code mapper} is {@code null}
+     * @since JavaFX 8u112
+     */
+    public static <E, K> MapBinding<K, Double> sumBy(final ObservableList<E> op,
+                                                    final Function<? super E, ? extends K> classifier,
+                                                    final ToDoubleFunction<? super E> mapper) {
+        if ((op == null) || (classifier == null) || (mapper == null)) {
+            throw new NullPointerException("Operands cannot be null.");
+        }
+        return grouping(op, new ListAggregate.Grouping<E, K, Double>(op, classifier, mapper, null));
+    }
+
+    private static <E, K, V> MapBinding<K, V> grouping(final ObservableList<E> op,
+                                                      final ListAggregate.Grouping<E, K, V> grouping) {
+        // The map is never replaced, its changes are passed on by the binding
+        final MapBinding<K, V> binding = new MapBinding<K, V>() {
+            @Override
+            public void dispose() {
+                grouping.dispose();
+            }
+
+            @Override
+            protected ObservableMap<K, V> computeValue() {
+                return grouping.getMap();
+            }
+
+            @Override
+            @ReturnsUnmodifiableCollection
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(op);
+            }
+        };
+        binding.get();
+        return binding;
+    }
+
     // Set
     // =================================================================================================================
 
@@ -34,6 +34,7 @@ import com.sun.javafx.collections.annotations.ReturnsUnmodifiableCollection;
 
 import com.sun.javafx.binding.BindingHelperObserver;
 import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.InvalidationScheduler;
 
 /**
  * Base class that provides most of the functionality needed to implement a
@@ -201,6 +202,7 @@ public abstract class DoubleBinding extends DoubleExpression implements
     public final double get() {
         if (!valid) {
             value = computeValue();
+            InvalidationScheduler.evaluated(this);
             valid = true;
         }
         return value;
@@ -34,6 +34,7 @@ import com.sun.javafx.collections.annotations.ReturnsUnmodifiableCollection;
 
 import com.sun.javafx.binding.BindingHelperObserver;
 import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.InvalidationScheduler;
 
 /**
  * Base class that provides most of the functionality needed to implement a
@@ -149,6 +150,7 @@ public abstract class FloatBinding extends FloatExpression implements
     public final float get() {
         if (!valid) {
             value = computeValue();
+            InvalidationScheduler.evaluated(this);
             valid = true;
         }
         return value;
@@ -34,6 +34,7 @@ import com.sun.javafx.collections.annotations.ReturnsUnmodifiableCollection;
 
 import com.sun.javafx.binding.BindingHelperObserver;
 import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.InvalidationScheduler;
 
 /**
  * Base class that provides most of the functionality needed to implement a
@@ -151,6 +152,7 @@ public abstract class IntegerBinding extends IntegerExpression implements
     public final int get() {
         if (!valid) {
             value = computeValue();
+            InvalidationScheduler.evaluated(this);
             valid = true;
         }
         return value;
@@ -26,6 +26,7 @@
 package javafx.beans.binding;
 
 import com.sun.javafx.binding.BindingHelperObserver;
+import com.sun.javafx.binding.InvalidationScheduler;
 import com.sun.javafx.binding.ListExpressionHelper;
 import com.sun.javafx.collections.annotations.ReturnsUnmodifiableCollection;
 import javafx.beans.InvalidationListener;
@@ -239,6 +240,7 @@ public abstract class ListBinding<E> extends ListExpression<E> implements Bindin
     public final ObservableList<E> get() {
         if (!valid) {
             value = computeValue();
+            InvalidationScheduler.evaluated(this);
             valid = true;
             if (value != null) {
                 value.addListener(listChangeListener);
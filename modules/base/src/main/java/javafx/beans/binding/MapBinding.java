@@ -26,6 +26,7 @@
 package javafx.beans.binding;
 
 import com.sun.javafx.binding.BindingHelperObserver;
+import com.sun.javafx.binding.InvalidationScheduler;
 import com.sun.javafx.binding.MapExpressionHelper;
 import com.sun.javafx.collections.annotations.ReturnsUnmodifiableCollection;
 import javafx.beans.InvalidationListener;
@@ -242,6 +243,7 @@ public abstract class MapBinding<K, V> extends MapExpression<K, V> implements Bi
     public final ObservableMap<K, V> get() {
         if (!valid) {
             value = computeValue();
+            InvalidationScheduler.evaluated(this);
             valid = true;
             if (value != null) {
                 value.addListener(mapChangeListener);
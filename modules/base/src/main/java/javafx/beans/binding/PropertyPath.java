@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.beans.binding;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import javafx.beans.value.ObservableValue;
+
+import com.sun.javafx.binding.PathBinding;
+
+/**
+ * A typed path through nested observable values, the type-safe counterpart
+ * of {@link Bindings#select(ObservableValue, String...)}. Each step is a
+ * function that returns the next observable value, usually a method
+ * reference to a property getter, so the path is checked by the compiler
+ * and evaluated without reflection.
+ * <pre><code>
+ * ObjectBinding&lt;String&gt; city = PropertyPath.of(selectedPerson)
+ *         .select(Person::addressProperty)
+ *         .select(Address::cityProperty)
+ *         .toBinding();
+ * </code></pre>
+ * <p>
+ * The binding created by {@link #toBinding()} observes every value on the
+ * path. If any of them changes, the remaining path is resolved again the
+ * next time the binding is evaluated. If an intermediate value is
+ * {@code null}, or a step returns {@code null}, the value of the binding is
+ * {@code null}.
+ * <p>
+ * A {@code PropertyPath} is immutable; {@link #select(Function)} returns a
+ * new path, so a common prefix can be shared by several paths.
+ *
+ * @param <T> the type of the value at the end of the path
+ * @since JavaFX 8u112
+ */
+public final class PropertyPath<T> {
+
+    @SuppressWarnings("unchecked")
+    private static final Function<Object, ObservableValue<?>>[] NO_STEPS =
+            (Function<Object, ObservableValue<?>>[]) new Function<?, ?>[0];
+
+    private final ObservableValue<?> root;
+    private final Function<Object, ObservableValue<?>>[] steps;
+
+    private PropertyPath(ObservableValue<?> root, Function<Object, ObservableValue<?>>[] steps) {
+        this.root = root;
+        this.steps = steps;
+    }
+
+    /**
+     * Creates a path that starts at the given observable value.
+     *
+     * @param <T> the type of the root value
+     * @param root the first observable value of the path
+     * @return the path, consisting of the root only
+     * @throws NullPointerException if {@code root} is {@code null}
+     */
+    public static <T> PropertyPath<T> of(ObservableValue<T> root) {
+        if (root == null) {
+            throw new NullPointerException("Root cannot be null");
+        }
+        return new PropertyPath<T>(root, NO_STEPS);
+    }
+
+    /**
+     * Appends a step to this path.
+     *
+     * @param <U> the type of the value the step leads to
+     * @param step the function that returns the next observable value for
+     *             a non-null value at the current end of the path
+     * @return a new path that ends with the value returned by {@code step}
+     * @throws NullPointerException if {@code step} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <U> PropertyPath<U> select(Function<? super T, ? extends ObservableValue<U>> step) {
+        if (step == null) {
+            throw new NullPointerException("Step cannot be null");
+        }
+        final Function<Object, ObservableValue<?>>[] newSteps = Arrays.copyOf(steps, steps.length + 1);
+        newSteps[steps.length] = (Function<Object, ObservableValue<?>>) (Function<?, ?>) step;
+        return new PropertyPath<U>(root, newSteps);
+    }
+
+    /**
+     * Creates a binding that holds the value at the end of this path.
+     *
+     * @return the new {@code ObjectBinding}
+     */
+    public ObjectBinding<T> toBinding() {
+        return new PathBinding<T>(root, steps);
+    }
+}
@@ -26,6 +26,7 @@
 package javafx.beans.binding;
 
 import com.sun.javafx.binding.BindingHelperObserver;
+import com.sun.javafx.binding.InvalidationScheduler;
 import com.sun.javafx.binding.SetExpressionHelper;
 import com.sun.javafx.collections.annotations.ReturnsUnmodifiableCollection;
 import javafx.beans.InvalidationListener;
@@ -240,6 +241,7 @@ public abstract class SetBinding<E> extends SetExpression<E> implements Binding<
     public final ObservableSet<E> get() {
         if (!valid) {
             value = computeValue();
+            InvalidationScheduler.evaluated(this);
             valid = true;
             if (value != null) {
                 value.addListener(setChangeListener);
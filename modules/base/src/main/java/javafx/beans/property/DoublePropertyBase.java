@@ -29,8 +29,10 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.value.ChangeListener;
+import javafx.beans.value.DoubleChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import com.sun.javafx.binding.DoubleChangeListenerHelper;
 import com.sun.javafx.binding.ExpressionHelper;
 import java.lang.ref.WeakReference;
 import javafx.beans.value.ObservableDoubleValue;
@@ -56,6 +58,7 @@ public abstract class DoublePropertyBase extends DoubleProperty {
     private InvalidationListener listener = null;
     private boolean valid = true;
     private ExpressionHelper<Number> helper = null;
+    private DoubleChangeListenerHelper primitiveHelper;
 
     /**
      * The constructor of the {@code DoublePropertyBase}.
@@ -93,6 +96,16 @@ public abstract class DoublePropertyBase extends DoubleProperty {
         helper = ExpressionHelper.removeListener(helper, listener);
     }
 
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        primitiveHelper = DoubleChangeListenerHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        primitiveHelper = DoubleChangeListenerHelper.removeListener(primitiveHelper, listener);
+    }
+
     /**
      * Sends notifications to all attached
      * {@link javafx.beans.InvalidationListener InvalidationListeners} and
@@ -104,6 +117,7 @@ public abstract class DoublePropertyBase extends DoubleProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        DoubleChangeListenerHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
@@ -29,8 +29,10 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.binding.IntegerBinding;
 import javafx.beans.value.ChangeListener;
+import javafx.beans.value.IntegerChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import com.sun.javafx.binding.IntegerChangeListenerHelper;
 import com.sun.javafx.binding.ExpressionHelper;
 import java.lang.ref.WeakReference;
 import javafx.beans.value.ObservableIntegerValue;
@@ -56,6 +58,7 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
     private InvalidationListener listener = null;
     private boolean valid = true;
     private ExpressionHelper<Number> helper = null;
+    private IntegerChangeListenerHelper primitiveHelper;
 
     /**
      * The constructor of the {@code IntegerPropertyBase}.
@@ -93,6 +96,16 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
         helper = ExpressionHelper.removeListener(helper, listener);
     }
 
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        primitiveHelper = IntegerChangeListenerHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        primitiveHelper = IntegerChangeListenerHelper.removeListener(primitiveHelper, listener);
+    }
+
     /**
      * Sends notifications to all attached
      * {@link javafx.beans.InvalidationListener InvalidationListeners} and
@@ -104,6 +117,7 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        IntegerChangeListenerHelper.fireValueChangedEvent(primitiveHelper);
     }
 
     private void markInvalid() {
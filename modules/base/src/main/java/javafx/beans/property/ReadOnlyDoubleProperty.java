@@ -29,6 +29,10 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.DoubleExpression;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.DoubleChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableDoubleValue;
 
 /**
  * Super class for all readonly properties wrapping a {@code double}.
@@ -48,6 +52,79 @@ public abstract class ReadOnlyDoubleProperty extends DoubleExpression implements
     public ReadOnlyDoubleProperty() {
     }
 
+    /**
+     * Adds a {@link DoubleChangeListener} which will be notified whenever the
+     * value of this property changes. The old and the new value are passed
+     * as primitive {@code double} values, so unlike a
+     * {@code ChangeListener<Number>} the listener can be notified without
+     * boxing.
+     * <p>
+     * The default implementation adapts the listener to a
+     * {@link ChangeListener}; {@link ReadOnlyDoublePropertyBase} and
+     * {@link DoublePropertyBase} keep primitive listeners separately and
+     * notify them without allocation.
+     *
+     * @param listener
+     *            The listener to register
+     * @throws NullPointerException
+     *             if the listener is null
+     * @see #removeDoubleChangeListener(DoubleChangeListener)
+     * @since JavaFX 8u112
+     */
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        addListener(new DoubleChangeListenerAdapter(this, listener));
+    }
+
+    /**
+     * Removes the given {@link DoubleChangeListener} from the list of
+     * listeners that are notified whenever the value of this property
+     * changes. If the given listener has not been previously registered,
+     * this method is a no-op.
+     *
+     * @param listener
+     *            The listener to remove
+     * @throws NullPointerException
+     *             if the listener is null
+     * @see #addDoubleChangeListener(DoubleChangeListener)
+     * @since JavaFX 8u112
+     */
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        removeListener(new DoubleChangeListenerAdapter(this, listener));
+    }
+
+    private static final class DoubleChangeListenerAdapter implements ChangeListener<Number> {
+
+        private final ObservableDoubleValue observable;
+        private final DoubleChangeListener listener;
+
+        private DoubleChangeListenerAdapter(ObservableDoubleValue observable, DoubleChangeListener listener) {
+            this.observable = observable;
+            this.listener = listener;
+        }
+
+        @Override
+        public void changed(ObservableValue<? extends Number> observableValue, Number oldValue, Number newValue) {
+            listener.changed(observable, oldValue.doubleValue(), newValue.doubleValue());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj instanceof DoubleChangeListenerAdapter)
+                    && listener.equals(((DoubleChangeListenerAdapter) obj).listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return listener.hashCode();
+        }
+    }
+
     /**
      * Returns a string representation of this {@code ReadOnlyDoubleProperty} object.
      * @return a string representation of this {@code ReadOnlyDoubleProperty} object.
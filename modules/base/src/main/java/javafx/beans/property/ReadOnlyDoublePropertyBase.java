@@ -27,7 +27,9 @@ package javafx.beans.property;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
+import javafx.beans.value.DoubleChangeListener;
 
+import com.sun.javafx.binding.DoubleChangeListenerHelper;
 import com.sun.javafx.binding.ExpressionHelper;
 
 /**
@@ -40,6 +42,7 @@ import com.sun.javafx.binding.ExpressionHelper;
 public abstract class ReadOnlyDoublePropertyBase extends ReadOnlyDoubleProperty {
 
     ExpressionHelper<Number> helper;
+    private DoubleChangeListenerHelper primitiveHelper;
 
     @Override
     public void addListener(InvalidationListener listener) {
@@ -61,6 +64,16 @@ public abstract class ReadOnlyDoublePropertyBase extends ReadOnlyDoubleProperty
         helper = ExpressionHelper.removeListener(helper, listener);
     }
 
+    @Override
+    public void addDoubleChangeListener(DoubleChangeListener listener) {
+        primitiveHelper = DoubleChangeListenerHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeDoubleChangeListener(DoubleChangeListener listener) {
+        primitiveHelper = DoubleChangeListenerHelper.removeListener(primitiveHelper, listener);
+    }
+
     /**
      * Sends notifications to all attached
      * {@link javafx.beans.InvalidationListener InvalidationListeners} and
@@ -70,6 +83,7 @@ public abstract class ReadOnlyDoublePropertyBase extends ReadOnlyDoubleProperty
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        DoubleChangeListenerHelper.fireValueChangedEvent(primitiveHelper);
     }
 
 }
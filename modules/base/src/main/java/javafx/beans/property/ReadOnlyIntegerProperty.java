@@ -29,6 +29,10 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.IntegerExpression;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.IntegerChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableIntegerValue;
 
 /**
  * Super class for all readonly properties wrapping an {@code int}.
@@ -49,6 +53,79 @@ public abstract class ReadOnlyIntegerProperty extends IntegerExpression
     }
 
 
+    /**
+     * Adds a {@link IntegerChangeListener} which will be notified whenever the
+     * value of this property changes. The old and the new value are passed
+     * as primitive {@code int} values, so unlike a
+     * {@code ChangeListener<Number>} the listener can be notified without
+     * boxing.
+     * <p>
+     * The default implementation adapts the listener to a
+     * {@link ChangeListener}; {@link ReadOnlyIntegerPropertyBase} and
+     * {@link IntegerPropertyBase} keep primitive listeners separately and
+     * notify them without allocation.
+     *
+     * @param listener
+     *            The listener to register
+     * @throws NullPointerException
+     *             if the listener is null
+     * @see #removeIntegerChangeListener(IntegerChangeListener)
+     * @since JavaFX 8u112
+     */
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        addListener(new IntegerChangeListenerAdapter(this, listener));
+    }
+
+    /**
+     * Removes the given {@link IntegerChangeListener} from the list of
+     * listeners that are notified whenever the value of this property
+     * changes. If the given listener has not been previously registered,
+     * this method is a no-op.
+     *
+     * @param listener
+     *            The listener to remove
+     * @throws NullPointerException
+     *             if the listener is null
+     * @see #addIntegerChangeListener(IntegerChangeListener)
+     * @since JavaFX 8u112
+     */
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        removeListener(new IntegerChangeListenerAdapter(this, listener));
+    }
+
+    private static final class IntegerChangeListenerAdapter implements ChangeListener<Number> {
+
+        private final ObservableIntegerValue observable;
+        private final IntegerChangeListener listener;
+
+        private IntegerChangeListenerAdapter(ObservableIntegerValue observable, IntegerChangeListener listener) {
+            this.observable = observable;
+            this.listener = listener;
+        }
+
+        @Override
+        public void changed(ObservableValue<? extends Number> observableValue, Number oldValue, Number newValue) {
+            listener.changed(observable, oldValue.intValue(), newValue.intValue());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj instanceof IntegerChangeListenerAdapter)
+                    && listener.equals(((IntegerChangeListenerAdapter) obj).listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return listener.hashCode();
+        }
+    }
+
     /**
      * Returns a string representation of this {@code ReadOnlyIntegerProperty} object.
      * @return a string representation of this {@code ReadOnlyIntegerProperty} object.
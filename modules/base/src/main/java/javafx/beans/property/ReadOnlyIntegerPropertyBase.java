@@ -27,7 +27,9 @@ package javafx.beans.property;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
+import javafx.beans.value.IntegerChangeListener;
 
+import com.sun.javafx.binding.IntegerChangeListenerHelper;
 import com.sun.javafx.binding.ExpressionHelper;
 
 /**
@@ -40,6 +42,7 @@ import com.sun.javafx.binding.ExpressionHelper;
 public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerProperty {
 
     ExpressionHelper<Number> helper;
+    private IntegerChangeListenerHelper primitiveHelper;
 
     @Override
     public void addListener(InvalidationListener listener) {
@@ -61,6 +64,16 @@ public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerPropert
         helper = ExpressionHelper.removeListener(helper, listener);
     }
 
+    @Override
+    public void addIntegerChangeListener(IntegerChangeListener listener) {
+        primitiveHelper = IntegerChangeListenerHelper.addListener(primitiveHelper, this, listener);
+    }
+
+    @Override
+    public void removeIntegerChangeListener(IntegerChangeListener listener) {
+        primitiveHelper = IntegerChangeListenerHelper.removeListener(primitiveHelper, listener);
+    }
+
     /**
      * Sends notifications to all attached
      * {@link javafx.beans.InvalidationListener InvalidationListeners} and
@@ -70,6 +83,7 @@ public abstract class ReadOnlyIntegerPropertyBase extends ReadOnlyIntegerPropert
      */
     protected void fireValueChangedEvent() {
         ExpressionHelper.fireValueChangedEvent(helper);
+        IntegerChangeListenerHelper.fireValueChangedEvent(primitiveHelper);
     }
 
 }
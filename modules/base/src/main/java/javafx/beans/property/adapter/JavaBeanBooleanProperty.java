@@ -91,7 +91,7 @@ public final class JavaBeanBooleanProperty extends BooleanProperty implements Ja
     public boolean get() {
         return AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> {
             try {
-                return (Boolean)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (Boolean)descriptor.invokeGetter(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -91,8 +91,7 @@ public final class JavaBeanDoubleProperty extends DoubleProperty implements Java
     public double get() {
         return AccessController.doPrivileged((PrivilegedAction<Double>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).doubleValue();
+                return ((Number)descriptor.invokeGetter(getBean())).doubleValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -91,8 +91,7 @@ public final class JavaBeanFloatProperty extends FloatProperty implements JavaBe
     public float get() {
         return AccessController.doPrivileged((PrivilegedAction<Float>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).floatValue();
+                return ((Number)descriptor.invokeGetter(getBean())).floatValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -91,8 +91,7 @@ public final class JavaBeanIntegerProperty extends IntegerProperty implements Ja
     public int get() {
         return AccessController.doPrivileged((PrivilegedAction<Integer>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).intValue();
+                return ((Number)descriptor.invokeGetter(getBean())).intValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -91,8 +91,7 @@ public final class JavaBeanLongProperty extends LongProperty implements JavaBean
     public long get() {
         return AccessController.doPrivileged((PrivilegedAction<Long>) () -> {
             try {
-                return ((Number)MethodUtil.invoke(
-                    descriptor.getGetter(), getBean(), (Object[])null)).longValue();
+                return ((Number)descriptor.invokeGetter(getBean())).longValue();
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
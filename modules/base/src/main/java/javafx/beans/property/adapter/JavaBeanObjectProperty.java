@@ -94,7 +94,7 @@ public final class JavaBeanObjectProperty<T> extends ObjectProperty<T> implement
     public T get() {
         return AccessController.doPrivileged((PrivilegedAction<T>) () -> {
             try {
-                return (T)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (T)descriptor.invokeGetter(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -91,7 +91,7 @@ public final class JavaBeanStringProperty extends StringProperty implements Java
     public String get() {
         return AccessController.doPrivileged((PrivilegedAction<String>) () -> {
             try {
-                return (String)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (String)descriptor.invokeGetter(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -36,7 +36,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import sun.reflect.misc.MethodUtil;
 
 /**
  * A {@code ReadOnlyJavaBeanBooleanProperty} provides an adapter between a regular
@@ -80,7 +79,7 @@ public final class ReadOnlyJavaBeanBooleanProperty extends ReadOnlyBooleanProper
     public boolean get() {
         return AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> {
             try {
-                return (Boolean)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (Boolean)descriptor.invokeGetter(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
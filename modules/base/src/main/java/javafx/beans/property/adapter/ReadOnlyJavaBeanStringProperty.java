@@ -36,7 +36,6 @@ import java.security.AccessController;
 import java.security.AccessControlContext;
 import java.security.PrivilegedAction;
 
-import sun.reflect.misc.MethodUtil;
 
 /**
  * A {@code ReadOnlyJavaBeanStringProperty} provides an adapter between a regular
@@ -80,7 +79,7 @@ public final class ReadOnlyJavaBeanStringProperty extends ReadOnlyStringProperty
     public String get() {
         return AccessController.doPrivileged((PrivilegedAction<String>) () -> {
             try {
-                return (String)MethodUtil.invoke(descriptor.getGetter(), getBean(), (Object[])null);
+                return (String)descriptor.invokeGetter(getBean());
             } catch (IllegalAccessException e) {
                 throw new UndeclaredThrowableException(e);
             } catch (InvocationTargetException e) {
@@ -25,6 +25,7 @@
 
 package javafx.beans.value;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
 import javafx.beans.NamedArg;
 import javafx.beans.WeakListener;
 
@@ -67,7 +68,7 @@ public final class WeakChangeListener<T> implements ChangeListener<T>, WeakListe
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<ChangeListener<T>>(listener);
+        this.ref = new WeakReference<ChangeListener<T>>(listener, ExpressionHelperBase.WEAK_LISTENER_QUEUE);
     }
 
     /**
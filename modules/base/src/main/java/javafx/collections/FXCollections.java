@@ -25,6 +25,10 @@
 
 package javafx.collections;
 
+import com.sun.javafx.collections.ChangeCoalescer;
+import com.sun.javafx.collections.CoalescingObservableList;
+import com.sun.javafx.collections.CoalescingObservableMap;
+import com.sun.javafx.collections.CoalescingObservableSet;
 import com.sun.javafx.collections.ListListenerHelper;
 import com.sun.javafx.collections.MapListenerHelper;
 import com.sun.javafx.collections.SetListenerHelper;
@@ -53,8 +57,12 @@ import com.sun.javafx.collections.ObservableListWrapper;
 import com.sun.javafx.collections.ObservableMapWrapper;
 import com.sun.javafx.collections.ObservableSetWrapper;
 import com.sun.javafx.collections.MapAdapterChange;
+import com.sun.javafx.collections.ObservableDoubleArrayImpl;
 import com.sun.javafx.collections.ObservableFloatArrayImpl;
 import com.sun.javafx.collections.ObservableIntegerArrayImpl;
+import com.sun.javafx.collections.ObservableIntegerMapImpl;
+import com.sun.javafx.collections.ObservableIntegerSetImpl;
+import com.sun.javafx.collections.ObservableLongArrayImpl;
 import com.sun.javafx.collections.ObservableSequentialListWrapper;
 import com.sun.javafx.collections.SetAdapterChange;
 import com.sun.javafx.collections.SortableList;
@@ -175,6 +183,82 @@ public class FXCollections {
         return new ObservableSetWrapper<E>(set);
     }
 
+    /**
+     * Constructs an ObservableList that is backed by the specified list and
+     * coalesces its change notifications. Instead of notifying the observers
+     * on every modification, the list accumulates all modifications made
+     * between two pulses and reports them as a single Change at the start of
+     * the next pulse, or when {@link #flushCoalescedChanges()} is called.
+     * <p>
+     * This is meant for lists that receive a high rate of modifications, for
+     * example from a data feed, and are shown by a control that only needs to
+     * catch up once per frame. Note that the list content is updated
+     * immediately, only the notifications are delayed.
+     * Like the other observable collections, the list must only be used from
+     * the JavaFX Application Thread.
+     *
+     * @param list a concrete List that backs this ObservableList
+     * @return a newly created ObservableList
+     * @since JavaFX 8u112
+     */
+    public static <E> ObservableList<E> coalescingObservableList(List<E> list) {
+        if (list == null) {
+            throw new NullPointerException();
+        }
+        return new CoalescingObservableList<E>(list);
+    }
+
+    /**
+     * Constructs an ObservableMap that is backed by the specified map and
+     * coalesces its change notifications. All modifications made between two
+     * pulses are reported at the start of the next pulse, or when
+     * {@link #flushCoalescedChanges()} is called, with at most one change
+     * per key. A key whose value ends up unchanged is not reported.
+     *
+     * @param map a Map that backs this ObservableMap
+     * @return a newly created ObservableMap
+     * @see #coalescingObservableList(java.util.List)
+     * @since JavaFX 8u112
+     */
+    public static <K, V> ObservableMap<K, V> coalescingObservableMap(Map<K, V> map) {
+        if (map == null) {
+            throw new NullPointerException();
+        }
+        return new CoalescingObservableMap<K, V>(map);
+    }
+
+    /**
+     * Constructs an ObservableSet that is backed by the specified set and
+     * coalesces its change notifications. All modifications made between two
+     * pulses are reported at the start of the next pulse, or when
+     * {@link #flushCoalescedChanges()} is called, with at most one change
+     * per element. An element that was added and removed again is not
+     * reported.
+     *
+     * @param set a Set that backs this ObservableSet
+     * @return a newly created ObservableSet
+     * @see #coalescingObservableList(java.util.List)
+     * @since JavaFX 8u112
+     */
+    public static <E> ObservableSet<E> coalescingObservableSet(Set<E> set) {
+        if (set == null) {
+            throw new NullPointerException();
+        }
+        return new CoalescingObservableSet<E>(set);
+    }
+
+    /**
+     * Immediately delivers the pending notifications of all coalescing
+     * collections. Changes made by the observers while the notifications
+     * are delivered are reported on the next flush.
+     *
+     * @see #coalescingObservableList(java.util.List)
+     * @since JavaFX 8u112
+     */
+    public static void flushCoalescedChanges() {
+        ChangeCoalescer.flush();
+    }
+
     /**
      * Constructs a read-only interface to the specified ObservableMap. Only
      * mutation operations made to the underlying ObservableMap will be reported
@@ -295,6 +379,96 @@ public class FXCollections {
         return new ObservableFloatArrayImpl(array);
     }
 
+    /**
+     * Creates a new empty observable double array.
+     * @return a newly created ObservableDoubleArray
+     * @since JavaFX 8u112
+     */
+    public static ObservableDoubleArray observableDoubleArray() {
+        return new ObservableDoubleArrayImpl();
+    }
+
+    /**
+     * Creates a new observable double array with {@code values} set to it.
+     * @param values the values that will be in the new observable double array
+     * @return a newly created ObservableDoubleArray
+     * @since JavaFX 8u112
+     */
+    public static ObservableDoubleArray observableDoubleArray(double... values) {
+        return new ObservableDoubleArrayImpl(values);
+    }
+
+    /**
+     * Creates a new observable double array with copy of elements in given
+     * {@code array}.
+     * @param array observable double array to copy
+     * @return a newly created ObservableDoubleArray
+     * @since JavaFX 8u112
+     */
+    public static ObservableDoubleArray observableDoubleArray(ObservableDoubleArray array) {
+        return new ObservableDoubleArrayImpl(array);
+    }
+
+    /**
+     * Creates a new empty observable long array.
+     * @return a newly created ObservableLongArray
+     * @since JavaFX 8u112
+     */
+    public static ObservableLongArray observableLongArray() {
+        return new ObservableLongArrayImpl();
+    }
+
+    /**
+     * Creates a new observable long array with {@code values} set to it.
+     * @param values the values that will be in the new observable long array
+     * @return a newly created ObservableLongArray
+     * @since JavaFX 8u112
+     */
+    public static ObservableLongArray observableLongArray(long... values) {
+        return new ObservableLongArrayImpl(values);
+    }
+
+    /**
+     * Creates a new observable long array with copy of elements in given
+     * {@code array}.
+     * @param array observable long array to copy
+     * @return a newly created ObservableLongArray
+     * @since JavaFX 8u112
+     */
+    public static ObservableLongArray observableLongArray(ObservableLongArray array) {
+        return new ObservableLongArrayImpl(array);
+    }
+
+    /**
+     * Creates a new empty observable map with {@code int} keys.
+     * @param <V> the value type
+     * @return a newly created ObservableIntegerMap
+     * @since JavaFX 8u112
+     */
+    public static <V> ObservableIntegerMap<V> observableIntegerMap() {
+        return new ObservableIntegerMapImpl<V>();
+    }
+
+    /**
+     * Creates a new empty observable set of {@code int} values.
+     * @return a newly created ObservableIntegerSet
+     * @since JavaFX 8u112
+     */
+    public static ObservableIntegerSet observableIntegerSet() {
+        return new ObservableIntegerSetImpl();
+    }
+
+    /**
+     * Creates a new observable set of {@code int} values containing the given
+     * {@code elements}.
+     * @param elements the elements that will be in the new observable set
+     * @return a newly created ObservableIntegerSet
+     * @since JavaFX 8u112
+     */
+    public static ObservableIntegerSet observableIntegerSet(int... elements) {
+        return new ObservableIntegerSetImpl(elements);
+    }
+
     /**
      * Creates a new empty observable list that is backed by an arraylist.
      * @see #observableList(java.util.List)
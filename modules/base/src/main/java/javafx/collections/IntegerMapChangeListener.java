@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+/**
+ * Interface that receives notifications of changes to an
+ * {@link ObservableIntegerMap}. Each change is delivered as a call with the
+ * affected key and values, so no change object is created per notification.
+ *
+ * @param <V> value type
+ * @since JavaFX 8u112
+ */
+@FunctionalInterface
+public interface IntegerMapChangeListener<V> {
+
+    /**
+     * Called after a mapping in an ObservableIntegerMap has been added, replaced
+     * or removed. As an ObservableIntegerMap does not allow null values,
+     * {@code removedValue} is null if the key was not mapped before the
+     * change, and {@code addedValue} is null if the key was removed.
+     *
+     * @param map the source of the change
+     * @param key the key whose mapping changed
+     * @param removedValue the value previously associated with the key, or null
+     * @param addedValue the value now associated with the key, or null
+     */
+    public void onChanged(ObservableIntegerMap<? extends V> map, int key, V removedValue, V addedValue);
+}
@@ -114,6 +114,7 @@ final class ListChangeBuilder<E> {
             change.to--; // Removed one element from the previously added list
             if (change.from == change.to && (change.removed == null || change.removed.isEmpty())) {
                     addRemoveChanges.remove(idx);
+                    --idx; // The next change moved to idx and has to be updated as well
             }
         }
         for (int i = idx + 1; i < addRemoveChanges.size(); ++i) {
@@ -202,7 +203,9 @@ final class ListChangeBuilder<E> {
 
         if (last != null && last.to == idx) {
             last.removed.add(removed);
-        } else if (last != null && last.from == idx + 1) {
+        } else if (last != null && last.from == idx + 1
+                && (addRemoveChanges.size() == 1 || addRemoveChanges.get(addRemoveChanges.size() - 2).to <= idx)) {
+            // Removing the element just before the last change, unless it was added by the change before
             last.from--;
             last.to--;
             last.removed.add(0, removed);
@@ -468,7 +471,7 @@ final class ListChangeBuilder<E> {
         }
     }
 
-    private void commit() {
+    private boolean commit() {
         final boolean addRemoveNotEmpty = addRemoveChanges != null && !addRemoveChanges.isEmpty();
         final boolean updateNotEmpty = updateChanges != null && !updateChanges.isEmpty();
         if (changeLock == 0
@@ -477,17 +480,22 @@ final class ListChangeBuilder<E> {
                 || permutationChange != null)) {
             int totalSize = (updateChanges != null ? updateChanges.size() : 0) +
                     (addRemoveChanges != null ? addRemoveChanges.size() : 0) + (permutationChange != null ? 1 : 0);
+            // The pending changes are cleared before the listeners are called, so that
+            // changes made by the listeners are collected and reported separately
             if (totalSize == 1) {
+                final SubChange<E> change;
                 if (addRemoveNotEmpty) {
-                    list.fireChange(new SingleChange<E>(finalizeSubChange(addRemoveChanges.get(0)), list));
+                    change = addRemoveChanges.get(0);
                     addRemoveChanges.clear();
                 } else if (updateNotEmpty) {
-                    list.fireChange(new SingleChange<E>(finalizeSubChange(updateChanges.get(0)), list));
+                    change = updateChanges.get(0);
                     updateChanges.clear();
                 } else {
-                    list.fireChange(new SingleChange<E>(finalizeSubChange(permutationChange), list));
+                    change = permutationChange;
                     permutationChange = null;
                 }
+                list.fireChange(new SingleChange<E>(finalizeSubChange(change), list));
+                return true;
             } else {
                 if (updateNotEmpty) {
                     int removed = compress(updateChanges);
@@ -521,24 +529,29 @@ final class ListChangeBuilder<E> {
                         }
                     }
                 }
-                list.fireChange(new IterableChange<E>(finalizeSubChangeArray(array), list));
                 if (addRemoveChanges != null) addRemoveChanges.clear();
                 if (updateChanges != null) updateChanges.clear();
                 permutationChange = null;
+                list.fireChange(new IterableChange<E>(finalizeSubChangeArray(array), list));
+                return true;
             }
         }
+        return false;
     }
 
     public void beginChange() {
         changeLock++;
     }
 
-    public void endChange() {
+    /**
+     * Returns {@code true} if a Change has been fired.
+     */
+    public boolean endChange() {
         if (changeLock <= 0) {
             throw new IllegalStateException("Called endChange before beginChange");
         }
         changeLock--;
-        commit();
+        return commit();
     }
 
     private static <E> SubChange<E>[] finalizeSubChangeArray(final SubChange<E>[] changes) {
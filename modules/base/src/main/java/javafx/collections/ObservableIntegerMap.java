@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import java.util.function.IntConsumer;
+
+import javafx.beans.Observable;
+
+/**
+ * A map from {@code int} keys to values that allows observers to track
+ * changes when they occur. Unlike an {@code ObservableMap<Integer, V>}, keys
+ * are stored without boxing, and listeners are notified without creating a
+ * change object per mapping. Null values are not permitted.
+ *
+ * @param <V> value type
+ * @see IntegerMapChangeListener
+ * @see FXCollections#observableIntegerMap()
+ * @since JavaFX 8u112
+ */
+public interface ObservableIntegerMap<V> extends Observable {
+
+    /**
+     * Add a listener to this observable map.
+     * @param listener the listener for listening to the map changes
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public void addListener(IntegerMapChangeListener<? super V> listener);
+
+    /**
+     * Tries to remove a listener from this observable map. If the listener is
+     * not attached to this map, nothing happens.
+     * @param listener a listener to remove
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public void removeListener(IntegerMapChangeListener<? super V> listener);
+
+    /**
+     * Returns the number of mappings in this map.
+     * @return the number of mappings in this map
+     */
+    public int size();
+
+    /**
+     * Returns true if this map contains no mappings.
+     * @return true if this map contains no mappings
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns true if this map contains a mapping for the given key.
+     * @param key the key to look up
+     * @return true if the key is mapped
+     */
+    public boolean containsKey(int key);
+
+    /**
+     * Returns the value to which the given key is mapped.
+     * @param key the key to look up
+     * @return the mapped value, or null if the key is not mapped
+     */
+    public V get(int key);
+
+    /**
+     * Returns the value to which the given key is mapped, or
+     * {@code defaultValue} if the key is not mapped.
+     * @param key the key to look up
+     * @param defaultValue the value to return if the key is not mapped
+     * @return the mapped value, or {@code defaultValue}
+     */
+    public V getOrDefault(int key, V defaultValue);
+
+    /**
+     * Associates the given value with the given key. Listeners are not
+     * notified if the key was already mapped to the same value instance.
+     * @param key the key
+     * @param value the value, which may not be null
+     * @return the value previously associated with the key, or null
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public V put(int key, V value);
+
+    /**
+     * Removes the mapping for the given key, if any.
+     * @param key the key
+     * @return the value previously associated with the key, or null
+     */
+    public V remove(int key);
+
+    /**
+     * Removes all mappings from this map. Listeners are notified once for
+     * every mapping that was removed.
+     */
+    public void clear();
+
+    /**
+     * Returns a newly allocated array containing all keys of this map, in no
+     * particular order.
+     * @return the keys of this map
+     */
+    public int[] keys();
+
+    /**
+     * Performs the given action for each key of this map, in no particular
+     * order. The map must not be modified by the action.
+     * @param action the action to perform
+     */
+    public void forEachKey(IntConsumer action);
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import java.util.function.IntConsumer;
+
+import javafx.beans.Observable;
+
+/**
+ * A set of {@code int} values that allows observers to track changes when
+ * they occur. Unlike an {@code ObservableSet<Integer>}, elements are stored
+ * without boxing, and listeners are notified without creating a change object
+ * per element.
+ *
+ * @see IntegerSetChangeListener
+ * @see FXCollections#observableIntegerSet()
+ * @since JavaFX 8u112
+ */
+public interface ObservableIntegerSet extends Observable {
+
+    /**
+     * Add a listener to this observable set.
+     * @param listener the listener for listening to the set changes
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public void addListener(IntegerSetChangeListener listener);
+
+    /**
+     * Tries to remove a listener from this observable set. If the listener is
+     * not attached to this set, nothing happens.
+     * @param listener a listener to remove
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public void removeListener(IntegerSetChangeListener listener);
+
+    /**
+     * Returns the number of elements in this set.
+     * @return the number of elements in this set
+     */
+    public int size();
+
+    /**
+     * Returns true if this set contains no elements.
+     * @return true if this set contains no elements
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns true if this set contains the given element.
+     * @param element the element to look up
+     * @return true if the element is in this set
+     */
+    public boolean contains(int element);
+
+    /**
+     * Adds the given element to this set, if it is not already present.
+     * @param element the element to add
+     * @return true if this set changed
+     */
+    public boolean add(int element);
+
+    /**
+     * Adds all given elements to this set.
+     * @param elements the elements to add
+     * @return true if this set changed
+     */
+    public boolean addAll(int... elements);
+
+    /**
+     * Removes the given element from this set, if it is present.
+     * @param element the element to remove
+     * @return true if this set changed
+     */
+    public boolean remove(int element);
+
+    /**
+     * Removes all elements from this set. Listeners are notified once for
+     * every element that was removed.
+     */
+    public void clear();
+
+    /**
+     * Returns a newly allocated array containing all elements of this set, in
+     * no particular order.
+     * @return the elements of this set
+     */
+    public int[] toArray();
+
+    /**
+     * Performs the given action for each element of this set, in no particular
+     * order. The set must not be modified by the action.
+     * @param action the action to perform
+     */
+    public void forEach(IntConsumer action);
+}
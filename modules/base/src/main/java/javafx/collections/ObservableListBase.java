@@ -26,6 +26,7 @@
 package javafx.collections;
 
 import com.sun.javafx.collections.ListListenerHelper;
+import com.sun.javafx.collections.ObservableListBaseAccessor;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -90,6 +91,20 @@ import javafx.beans.InvalidationListener;
  */
 public abstract class ObservableListBase<E> extends AbstractList<E>  implements ObservableList<E> {
 
+    static {
+        ObservableListBaseAccessor.DEFAULT = new ObservableListBaseAccessor() {
+            @Override
+            public void beginChange(ObservableListBase<?> list) {
+                list.beginChange();
+            }
+
+            @Override
+            public boolean endChange(ObservableListBase<?> list) {
+                return list.changeBuilder.endChange();
+            }
+        };
+    }
+
     private ListListenerHelper<E> listenerHelper;
     private final ListChangeBuilder<E> changeBuilder = new ListChangeBuilder<E>(this);
 
@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import com.sun.javafx.collections.ChangeCoalescer;
+import com.sun.javafx.collections.ObservableListBaseAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe queue of modifications for an {@link ObservableList}.
+ * Background threads submit modifications to the queue without blocking the
+ * JavaFX Application Thread, and the queued modifications are applied to the
+ * target list on the JavaFX Application Thread once per pulse. If the target
+ * list extends {@link ObservableListBase}, which is the case for the lists
+ * created by {@link FXCollections}, all modifications applied in a pulse are
+ * reported to the list's observers as a single Change.
+ * <p>
+ * Compared to calling {@code Platform.runLater} for every modification, this
+ * avoids flooding the event queue with runnables and lets the observers,
+ * for example the skin of a TableView, process a whole batch at once:
+ * <pre><code>
+ * ObservableList&lt;Trade&gt; trades = FXCollections.observableArrayList();
+ * StagingQueue&lt;Trade&gt; queue = new StagingQueue&lt;&gt;(trades, 10_000,
+ *         StagingQueue.OverflowPolicy.DROP_OLDEST);
+ * tableView.setItems(trades);
+ *
+ * // on a background thread
+ * queue.add(trade);
+ * </code></pre>
+ * <p>
+ * A queue can be bounded. When a bounded queue is full, the
+ * {@link OverflowPolicy} decides whether a producer waits, or whether the new
+ * or the oldest pending modification is dropped. The current queue depth, the
+ * number of dropped and applied modifications and the latency between
+ * submitting and applying a modification are available for monitoring.
+ * <p>
+ * Modifications are applied in the order in which they were added to the
+ * queue. Modifications made by one producer thread keep their relative
+ * order, but there is no ordering guarantee between different producer
+ * threads.
+ * <p>
+ * The target list is owned by the JavaFX Application Thread. If the JavaFX
+ * runtime is not running, the thread that created the queue is the owner
+ * instead, and is expected to call {@link #drain()} itself.
+ *
+ * @param <E> the element type of the target list
+ * @since JavaFX 8u112
+ */
+public final class StagingQueue<E> {
+
+    /**
+     * Specifies what happens when a modification is submitted to a bounded
+     * queue that is full.
+     * @since JavaFX 8u112
+     */
+    public enum OverflowPolicy {
+        /**
+         * The producer waits until the queue has been drained. The thread
+         * that owns the target list must not wait for itself, so a
+         * modification submitted by that thread to a full queue fails with
+         * an {@code IllegalStateException} instead.
+         */
+        BLOCK,
+        /**
+         * The new modification is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest pending modification is dropped to make room for the
+         * new one.
+         */
+        DROP_OLDEST
+    }
+
+    private static abstract class Operation<E> {
+        final long submitted = System.nanoTime();
+        abstract void apply(ObservableList<E> list);
+    }
+
+    private final ObservableList<E> target;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Queue<Operation<E>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Object notFull = new Object();
+    private final Thread creatorThread = Thread.currentThread();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile long appliedCount;
+    private volatile long batchCount;
+    private volatile long lastApplyLatency;
+    private volatile long maxApplyLatency;
+
+    private final ChangeCoalescer.Pending pending = () -> drain() > 0 ? 1 : 0;
+
+    /**
+     * Creates an unbounded queue for the given list.
+     * @param target the list the modifications are applied to
+     * @throws NullPointerException if {@code target} is null
+     */
+    public StagingQueue(ObservableList<E> target) {
+        this(target, Integer.MAX_VALUE, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates a bounded queue for the given list.
+     * @param target the list the modifications are applied to
+     * @param capacity the maximum number of pending modifications
+     * @param overflowPolicy what to do when the queue is full
+     * @throws NullPointerException if {@code target} or
+     *      {@code overflowPolicy} is null
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public StagingQueue(ObservableList<E> target, int capacity, OverflowPolicy overflowPolicy) {
+        if (target == null || overflowPolicy == null) {
+            throw new NullPointerException();
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.target = target;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the list the modifications are applied to.
+     * @return the target list
+     */
+    public ObservableList<E> getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the maximum number of pending modifications.
+     * @return the capacity, {@code Integer.MAX_VALUE} for an unbounded queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the policy used when the queue is full.
+     * @return the overflow policy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Queues the addition of an element to the end of the target list.
+     * May be called from any thread.
+     * @param element the element to add
+     * @return false if the modification was dropped
+     * @throws IllegalStateException if the queue is full, the overflow
+     *      policy is {@code BLOCK} and the caller owns the target list
+     */
+    public boolean add(E element) {
+        return submit(new Operation<E>() {
+            @Override void apply(ObservableList<E> list) {
+                list.add(element);
+            }
+        });
+    }
+
+    /**
+     * Queues the addition of elements to the end of the target list. The
+     * collection is copied. May be called from any thread.
+     * @param elements the elements to add
+     * @return false if the modification was dropped
+     * @throws IllegalStateException if the queue is full, the overflow
+     *      policy is {@code BLOCK} and the caller owns the target list
+     */
+    public boolean addAll(Collection<? extends E> elements) {
+        final List<E> copy = new ArrayList<>(elements);
+        return submit(new Operation<E>() {
+            @Override void apply(ObservableList<E> list) {
+                list.addAll(copy);
+            }
+        });
+    }
+
+    /**
+     * Queues the removal of the first occurrence of an element from the
+     * target list. May be called from any thread.
+     * @param element the element to remove
+     * @return false if the modification was dropped
+     * @throws IllegalStateException if the queue is full, the overflow
+     *      policy is {@code BLOCK} and the caller owns the target list
+     */
+    public boolean remove(Object element) {
+        return submit(new Operation<E>() {
+            @Override void apply(ObservableList<E> list) {
+                list.remove(element);
+            }
+        });
+    }
+
+    /**
+     * Queues the replacement of the content of the target list. The
+     * collection is copied. May be called from any thread.
+     * @param elements the new content of the list
+     * @return false if the modification was dropped
+     * @throws IllegalStateException if the queue is full, the overflow
+     *      policy is {@code BLOCK} and the caller owns the target list
+     */
+    public boolean setAll(Collection<? extends E> elements) {
+        final List<E> copy = new ArrayList<>(elements);
+        return submit(new Operation<E>() {
+            @Override void apply(ObservableList<E> list) {
+                list.setAll(copy);
+            }
+        });
+    }
+
+    /**
+     * Queues the removal of all elements from the target list. May be called
+     * from any thread.
+     * @return false if the modification was dropped
+     * @throws IllegalStateException if the queue is full, the overflow
+     *      policy is {@code BLOCK} and the caller owns the target list
+     */
+    public boolean clear() {
+        return submit(new Operation<E>() {
+            @Override void apply(ObservableList<E> list) {
+                list.clear();
+            }
+        });
+    }
+
+    /**
+     * Queues an arbitrary modification of the target list. The operation is
+     * called on the JavaFX Application Thread together with the other
+     * modifications of the batch. May be called from any thread.
+     * @param operation the modification to apply
+     * @return false if the modification was dropped
+     * @throws IllegalStateException if the queue is full, the overflow
+     *      policy is {@code BLOCK} and the caller owns the target list
+     * @throws NullPointerException if {@code operation} is null
+     */
+    public boolean update(Consumer<? super ObservableList<E>> operation) {
+        if (operation == null) {
+            throw new NullPointerException();
+        }
+        return submit(new Operation<E>() {
+            @Override void apply(ObservableList<E> list) {
+                operation.accept(list);
+            }
+        });
+    }
+
+    private boolean submit(Operation<E> operation) {
+        if (!reserve()) {
+            return false;
+        }
+        queue.add(operation);
+        if (scheduled.compareAndSet(false, true)) {
+            ChangeCoalescer.scheduleFromAnyThread(pending);
+        }
+        return true;
+    }
+
+    private boolean tryReserve() {
+        int d;
+        do {
+            d = depth.get();
+            if (d >= capacity) {
+                return false;
+            }
+        } while (!depth.compareAndSet(d, d + 1));
+        return true;
+    }
+
+    private boolean reserve() {
+        while (!tryReserve()) {
+            switch (overflowPolicy) {
+                case DROP_NEWEST:
+                    droppedCount.incrementAndGet();
+                    return false;
+                case DROP_OLDEST:
+                    if (queue.poll() != null) {
+                        // the slot of the dropped operation is taken over
+                        droppedCount.incrementAndGet();
+                        return true;
+                    }
+                    break;
+                case BLOCK:
+                    if (isOwnerThread()) {
+                        throw new IllegalStateException(
+                                "Queue is full and the thread that drains it cannot wait for itself");
+                    }
+                    synchronized (notFull) {
+                        try {
+                            while (depth.get() >= capacity) {
+                                notFull.wait();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            droppedCount.incrementAndGet();
+                            return false;
+                        }
+                    }
+                    break;
+            }
+        }
+        return true;
+    }
+
+    private boolean isOwnerThread() {
+        final Thread fxThread = ChangeCoalescer.getFlushThread();
+        return Thread.currentThread() == (fxThread != null ? fxThread : creatorThread);
+    }
+
+    /**
+     * Applies all pending modifications to the target list right away. This
+     * is done automatically once per pulse, so there is normally no need to
+     * call this method. Must be called on the thread that owns the target
+     * list.
+     * @return the number of modifications applied
+     */
+    public int drain() {
+        scheduled.set(false);
+        final int n = depth.get();
+        if (n == 0) {
+            return 0;
+        }
+        final List<Operation<E>> batch = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Operation<E> op = queue.poll();
+            if (op == null) {
+                break;
+            }
+            batch.add(op);
+        }
+        depth.addAndGet(-batch.size());
+        if (overflowPolicy == OverflowPolicy.BLOCK && capacity != Integer.MAX_VALUE) {
+            synchronized (notFull) {
+                notFull.notifyAll();
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        if (target instanceof ObservableListBase) {
+            final ObservableListBase<E> list = (ObservableListBase<E>) target;
+            final ObservableListBaseAccessor accessor = ObservableListBaseAccessor.getDefault();
+            accessor.beginChange(list);
+            try {
+                applyAll(batch);
+            } finally {
+                accessor.endChange(list);
+            }
+        } else {
+            applyAll(batch);
+        }
+
+        final long latency = System.nanoTime() - batch.get(0).submitted;
+        lastApplyLatency = latency;
+        if (latency > maxApplyLatency) {
+            maxApplyLatency = latency;
+        }
+        appliedCount += batch.size();
+        batchCount++;
+        return batch.size();
+    }
+
+    private void applyAll(List<Operation<E>> batch) {
+        for (Operation<E> op : batch) {
+            try {
+                op.apply(target);
+            } catch (RuntimeException e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of modifications waiting to be applied.
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Returns the number of modifications dropped because the queue was full.
+     * @return the number of dropped modifications
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the number of modifications applied to the target list.
+     * @return the number of applied modifications
+     */
+    public long getAppliedCount() {
+        return appliedCount;
+    }
+
+    /**
+     * Returns the number of batches applied to the target list.
+     * @return the number of batches
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Returns the time between the submission of the oldest modification of
+     * the last batch and the application of the batch.
+     * @return the latency of the last batch in nanoseconds
+     */
+    public long getLastApplyLatency() {
+        return lastApplyLatency;
+    }
+
+    /**
+     * Returns the highest latency of all batches applied so far.
+     * @return the maximum latency in nanoseconds
+     * @see #getLastApplyLatency()
+     */
+    public long getMaxApplyLatency() {
+        return maxApplyLatency;
+    }
+}
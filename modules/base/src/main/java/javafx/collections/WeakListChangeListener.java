@@ -25,6 +25,7 @@
 
 package javafx.collections;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
 import javafx.beans.NamedArg;
 import javafx.beans.WeakListener;
 
@@ -67,7 +68,7 @@ public final class WeakListChangeListener<E> implements ListChangeListener<E>, W
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<ListChangeListener<E>>(listener);
+        this.ref = new WeakReference<ListChangeListener<E>>(listener, ExpressionHelperBase.WEAK_LISTENER_QUEUE);
     }
 
     /**
@@ -25,6 +25,7 @@
 
 package javafx.collections;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
 import javafx.beans.NamedArg;
 import javafx.beans.WeakListener;
 
@@ -67,7 +68,7 @@ public final class WeakMapChangeListener<K, V> implements MapChangeListener<K, V
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<MapChangeListener<K, V>>(listener);
+        this.ref = new WeakReference<MapChangeListener<K, V>>(listener, ExpressionHelperBase.WEAK_LISTENER_QUEUE);
     }
 
     /**
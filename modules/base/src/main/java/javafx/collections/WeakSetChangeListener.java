@@ -25,6 +25,7 @@
 
 package javafx.collections;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
 import javafx.beans.NamedArg;
 import javafx.beans.WeakListener;
 
@@ -67,7 +68,7 @@ public final class WeakSetChangeListener<E> implements SetChangeListener<E>, Wea
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<SetChangeListener<E>>(listener);
+        this.ref = new WeakReference<SetChangeListener<E>>(listener, ExpressionHelperBase.WEAK_LISTENER_QUEUE);
     }
 
     /**
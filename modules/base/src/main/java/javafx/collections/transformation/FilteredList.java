@@ -26,9 +26,8 @@
 package javafx.collections.transformation;
 
 import com.sun.javafx.collections.NonIterableChange.GenericAddRemoveChange;
-import com.sun.javafx.collections.SortHelper;
+import com.sun.javafx.collections.RankedBitSet;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -49,10 +48,13 @@ import javafx.collections.ObservableList;
  */
 public final class FilteredList<E> extends TransformationList<E, E>{
 
-    private int[] filtered;
-    private int size;
+    /**
+     * The source indexes of the matched elements, as a bit set over the
+     * source list. Finding the n-th matched element and the position of a
+     * source element in this list are both O(log n) queries.
+     */
+    private final RankedBitSet filtered;
 
-    private SortHelper helper;
     private static final Predicate ALWAYS_TRUE = t -> true;
 
     /**
@@ -64,13 +66,11 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      */
     public FilteredList(@NamedArg("source") ObservableList<E> source, @NamedArg("predicate") Predicate<? super E> predicate) {
         super(source);
-        filtered = new int[source.size() * 3 / 2  + 1];
+        filtered = new RankedBitSet(source.size() * 3 / 2 + 1);
         if (predicate != null) {
             setPredicate(predicate);
         } else {
-            for (size = 0; size < source.size(); size++) {
-                filtered[size] = size;
-            }
+            filtered.reset(source.size(), true);
         }
     }
 
@@ -154,7 +154,7 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      */
     @Override
     public int size() {
-        return size;
+        return filtered.cardinality();
     }
 
     /**
@@ -166,134 +166,80 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      */
     @Override
     public E get(int index) {
-        if (index >= size) {
+        if (index < 0 || index >= size()) {
             throw new IndexOutOfBoundsException();
         }
-        return getSource().get(filtered[index]);
+        return getSource().get(filtered.select(index));
     }
 
     @Override
     public int getSourceIndex(int index) {
-        if (index >= size) {
+        if (index < 0 || index >= size()) {
             throw new IndexOutOfBoundsException();
         }
-        return filtered[index];
-    }
-
-    private SortHelper getSortHelper() {
-        if (helper == null) {
-            helper = new SortHelper();
-        }
-        return helper;
-    }
-
-    private int findPosition(int p) {
-        if (filtered.length == 0) {
-            return 0;
-        }
-        if (p == 0) {
-            return 0;
-        }
-        int pos = Arrays.binarySearch(filtered, 0, size, p);
-        if (pos < 0 ) {
-            pos = ~pos;
-        }
-        return pos;
-    }
-
-
-    @SuppressWarnings("unchecked")
-    private void ensureSize(int size) {
-        if (filtered.length < size) {
-            int[] replacement = new int[size * 3/2 + 1];
-            System.arraycopy(filtered, 0, replacement, 0, this.size);
-            filtered = replacement;
-        }
-    }
-
-    private void updateIndexes(int from, int delta) {
-        for (int i = from; i < size; ++i) {
-            filtered[i] += delta;
-        }
+        return filtered.select(index);
     }
 
     private void permutate(Change<? extends E> c) {
-        int from = findPosition(c.getFrom());
-        int to = findPosition(c.getTo());
+        final int from = filtered.rank(c.getFrom());
+        final int to = filtered.rank(c.getTo());
 
         if (to > from) {
-            for (int i = from; i < to; ++i) {
-                filtered[i] = c.getPermutation(filtered[i]);
+            final int[] sourceIndexes = new int[to - from];
+            for (int i = 0, s = filtered.select(from); i < sourceIndexes.length; ++i, s = filtered.nextSetBit(s + 1)) {
+                sourceIndexes[i] = s;
+            }
+            for (int s : sourceIndexes) {
+                filtered.set(s, false);
+            }
+            for (int s : sourceIndexes) {
+                filtered.set(c.getPermutation(s), true);
             }
 
-            int[] perm = getSortHelper().sort(filtered, from, to);
+            final int[] perm = new int[to - from];
+            for (int i = 0; i < perm.length; ++i) {
+                perm[i] = filtered.rank(c.getPermutation(sourceIndexes[i]));
+            }
             nextPermutation(from, to, perm);
         }
     }
 
     private void addRemove(Change<? extends E> c) {
         Predicate<? super E> pred = getPredicateImpl();
-        ensureSize(getSource().size());
-        final int from = findPosition(c.getFrom());
-        final int to = findPosition(c.getFrom() + c.getRemovedSize());
+        final int from = filtered.rank(c.getFrom());
+        final int removedTo = c.getFrom() + c.getRemovedSize();
 
-        // Mark the nodes that are going to be removed
-        for (int i = from; i < to; ++i) {
-            nextRemove(from, c.getRemoved().get(filtered[i] - c.getFrom()));
+        // Report the removed elements that were matched
+        for (int s = filtered.nextSetBit(c.getFrom()); s >= 0 && s < removedTo; s = filtered.nextSetBit(s + 1)) {
+            nextRemove(from, c.getRemoved().get(s - c.getFrom()));
         }
 
-        // Update indexes of the sublist following the last element that was removed
-        updateIndexes(to, c.getAddedSize() - c.getRemovedSize());
+        // Shift the bits following the removed elements in a single pass
+        filtered.replace(c.getFrom(), c.getRemovedSize(), c.getAddedSize());
 
-        // Replace as many removed elements as possible
         int fpos = from;
-        int pos = c.getFrom();
-
-        ListIterator<? extends E> it = getSource().listIterator(pos);
-        for (; fpos < to && it.nextIndex() < c.getTo();) {
+        ListIterator<? extends E> it = getSource().listIterator(c.getFrom());
+        while (it.nextIndex() < c.getTo()) {
             if (pred.test(it.next())) {
-                filtered[fpos] = it.previousIndex();
+                filtered.set(it.previousIndex(), true);
                 nextAdd(fpos, fpos + 1);
                 ++fpos;
             }
         }
-
-        if (fpos < to) {
-            // If there were more removed elements than added
-            System.arraycopy(filtered, to, filtered, fpos, size - to);
-            size -= to - fpos;
-        } else {
-            // Add the remaining elements
-            while (it.nextIndex() < c.getTo()) {
-                if (pred.test(it.next())) {
-                    System.arraycopy(filtered, fpos, filtered, fpos + 1, size - fpos);
-                    filtered[fpos] = it.previousIndex();
-                    nextAdd(fpos, fpos + 1);
-                    ++fpos;
-                    ++size;
-                }
-                ++pos;
-            }
-        }
     }
 
     private void update(Change<? extends E> c) {
         Predicate<? super E> pred = getPredicateImpl();
-        ensureSize(getSource().size());
         int sourceFrom = c.getFrom();
         int sourceTo = c.getTo();
-        int filterFrom = findPosition(sourceFrom);
-        int filterTo = findPosition(sourceTo);
+        int pos = filtered.rank(sourceFrom);
         ListIterator<? extends E> it = getSource().listIterator(sourceFrom);
-        int pos = filterFrom;
-        while (pos < filterTo || sourceFrom < sourceTo) {
+        for (; sourceFrom < sourceTo; ++sourceFrom) {
             E el = it.next();
-            if (pos < size && filtered[pos] == sourceFrom) {
+            if (filtered.get(sourceFrom)) {
                 if (!pred.test(el)) {
                     nextRemove(pos, el);
-                    System.arraycopy(filtered, pos + 1, filtered, pos, size - pos - 1);
-                    --size;
-                    --filterTo;
+                    filtered.set(sourceFrom, false);
                 } else {
                     nextUpdate(pos);
                     ++pos;
@@ -301,36 +247,31 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             } else {
                 if (pred.test(el)) {
                     nextAdd(pos, pos + 1);
-                    System.arraycopy(filtered, pos, filtered, pos + 1, size - pos);
-                    filtered[pos] = sourceFrom;
-                    ++size;
+                    filtered.set(sourceFrom, true);
                     ++pos;
-                    ++filterTo;
                 }
             }
-            sourceFrom++;
         }
     }
 
     @SuppressWarnings("unchecked")
     private void refilter() {
-        ensureSize(getSource().size());
         List<E> removed = null;
         if (hasListeners()) {
             removed = new ArrayList<>(this);
         }
-        size = 0;
+        filtered.reset(getSource().size(), false);
         int i = 0;
         Predicate<? super E> pred = getPredicateImpl();
         for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
             final E next = it.next();
             if (pred.test(next)) {
-                filtered[size++] = i;
+                filtered.set(i, true);
             }
             ++i;
         }
         if (hasListeners()) {
-            fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
+            fireChange(new GenericAddRemoveChange<>(0, size(), removed, this));
         }
     }
 
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections.transformation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javafx.collections.ObservableList;
+
+/**
+ * Describes a chain of transformations of an ObservableList which is
+ * compiled into a single list view. Unlike stacking a {@link FilteredList}
+ * on a {@link SortedList} and so on, the view created by {@link #toList()}
+ * keeps one mapping between the source list and the view, however many
+ * stages the pipeline has, and translates every source change only once.
+ * <p>
+ * A pipeline is immutable; every method returns a new pipeline with one more
+ * stage:
+ * <pre>
+ * ObservableList&lt;String&gt; cities = ListPipeline.from(people)
+ *         .filter(p -&gt; p.getAge() &gt;= 18)
+ *         .map(Person::getCity)
+ *         .distinct()
+ *         .sorted(Comparator.naturalOrder())
+ *         .toList();
+ * </pre>
+ * <p>
+ * The stages behave like their counterparts in {@link java.util.stream.Stream}
+ * with the following rules:
+ * <ul>
+ * <li>{@code sorted} orders the view by the element at that stage; a later
+ * {@code sorted} takes precedence and earlier ones break its ties. Elements
+ * that are equal for all comparators keep the order of the source list.</li>
+ * <li>{@code distinct} keeps the first of all equal elements in source list
+ * order. Elements are compared with {@code equals} and {@code hashCode}.</li>
+ * <li>{@code groupBy} replaces the elements by one {@link Group} per
+ * distinct key, in the order in which the keys first appear in the source
+ * list. Filters, mappings and sorts after {@code groupBy} apply to the
+ * groups.</li>
+ * <li>A pipeline can contain either one {@code distinct} or one
+ * {@code groupBy} stage, and {@code groupBy} cannot follow {@code sorted}.</li>
+ * </ul>
+ * <p>
+ * The functions of the stages are evaluated once when an element is added
+ * and again when the source list reports it as updated, for example through
+ * an extractor, so they should not depend on any other state.
+ *
+ * @param <S> the type of the elements of the source list
+ * @param <E> the type of the elements at the end of this pipeline
+ * @since JavaFX 8u112
+ */
+public final class ListPipeline<S, E> {
+
+    /**
+     * A group of elements with the same key, as created by
+     * {@link ListPipeline#groupBy(Function)}.
+     *
+     * @param <K> the type of the key
+     * @param <E> the type of the elements
+     * @since JavaFX 8u112
+     */
+    public static final class Group<K, E> {
+        private final K key;
+        private final List<E> elements;
+
+        Group(K key, List<E> elements) {
+            this.key = key;
+            this.elements = Collections.unmodifiableList(elements);
+        }
+
+        /**
+         * Returns the key shared by the elements of this group.
+         * @return the key
+         */
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the elements of this group in the order of the source list.
+         * The returned list is unmodifiable and always reflects the current
+         * content of the group.
+         * @return the elements of this group
+         */
+        public List<E> getElements() {
+            return elements;
+        }
+
+        @Override
+        public String toString() {
+            return "Group[key=" + key + ", elements=" + elements + "]";
+        }
+    }
+
+    static final class Stage {
+        static final int FILTER = 0;
+        static final int MAP = 1;
+        static final int SORT = 2;
+        static final int DISTINCT = 3;
+        static final int GROUP = 4;
+
+        final int kind;
+        final Object function;
+        final Stage previous;
+
+        Stage(int kind, Object function, Stage previous) {
+            this.kind = kind;
+            this.function = function;
+            this.previous = previous;
+        }
+    }
+
+    private final ObservableList<? extends S> source;
+    private final Stage last;
+
+    private ListPipeline(ObservableList<? extends S> source, Stage last) {
+        this.source = source;
+        this.last = last;
+    }
+
+    /**
+     * Creates an empty pipeline over the given list.
+     * @param <S> the type of the elements of the source list
+     * @param source the source list
+     * @return a pipeline without any stages
+     */
+    public static <S> ListPipeline<S, S> from(ObservableList<? extends S> source) {
+        return new ListPipeline<>(Objects.requireNonNull(source, "source"), null);
+    }
+
+    /**
+     * Returns a pipeline which keeps only the elements matching the predicate.
+     * @param predicate the predicate
+     * @return the new pipeline
+     */
+    public ListPipeline<S, E> filter(Predicate<? super E> predicate) {
+        return then(Stage.FILTER, Objects.requireNonNull(predicate, "predicate"));
+    }
+
+    /**
+     * Returns a pipeline which replaces every element by the result of the
+     * mapping function.
+     * @param <R> the type of the mapped elements
+     * @param mapper the mapping function
+     * @return the new pipeline
+     */
+    public <R> ListPipeline<S, R> map(Function<? super E, ? extends R> mapper) {
+        return then(Stage.MAP, Objects.requireNonNull(mapper, "mapper"));
+    }
+
+    /**
+     * Returns a pipeline which orders the elements by the comparator.
+     * @param comparator the comparator
+     * @return the new pipeline
+     */
+    public ListPipeline<S, E> sorted(Comparator<? super E> comparator) {
+        return then(Stage.SORT, Objects.requireNonNull(comparator, "comparator"));
+    }
+
+    /**
+     * Returns a pipeline which keeps only the first of equal elements.
+     * @return the new pipeline
+     * @throws IllegalStateException if this pipeline already contains a
+     *         {@code distinct} or {@code groupBy} stage
+     */
+    public ListPipeline<S, E> distinct() {
+        checkNoBarrier("distinct");
+        return then(Stage.DISTINCT, null);
+    }
+
+    /**
+     * Returns a pipeline which groups the elements by the key computed by the
+     * classifier.
+     * @param <K> the type of the key
+     * @param classifier the function computing the key of an element
+     * @return the new pipeline
+     * @throws IllegalStateException if this pipeline already contains a
+     *         {@code distinct}, {@code groupBy} or {@code sorted} stage
+     */
+    public <K> ListPipeline<S, Group<K, E>> groupBy(Function<? super E, ? extends K> classifier) {
+        Objects.requireNonNull(classifier, "classifier");
+        checkNoBarrier("groupBy");
+        for (Stage s = last; s != null; s = s.previous) {
+            if (s.kind == Stage.SORT) {
+                throw new IllegalStateException("groupBy cannot follow sorted");
+            }
+        }
+        return then(Stage.GROUP, classifier);
+    }
+
+    /**
+     * Creates a list view of the source list transformed by this pipeline.
+     * The view is updated whenever the source list changes.
+     * @return the view
+     */
+    public TransformationList<E, S> toList() {
+        List<Stage> stages = new ArrayList<>();
+        for (Stage s = last; s != null; s = s.previous) {
+            stages.add(0, s);
+        }
+        return new PipelineList<>(source, stages.toArray(new Stage[stages.size()]));
+    }
+
+    private <R> ListPipeline<S, R> then(int kind, Object function) {
+        return new ListPipeline<>(source, new Stage(kind, function, last));
+    }
+
+    private void checkNoBarrier(String stage) {
+        for (Stage s = last; s != null; s = s.previous) {
+            if (s.kind == Stage.DISTINCT || s.kind == Stage.GROUP) {
+                throw new IllegalStateException(stage + " cannot follow distinct or groupBy");
+            }
+        }
+    }
+}
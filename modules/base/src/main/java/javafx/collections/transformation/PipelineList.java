@@ -0,0 +1,692 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections.transformation;
+
+import com.sun.javafx.collections.OrderStatisticTree;
+import com.sun.javafx.collections.SortHelper;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.ListPipeline.Group;
+import javafx.collections.transformation.ListPipeline.Stage;
+
+/**
+ * The list view created by {@link ListPipeline#toList()}.
+ * <p>
+ * Every source element has an {@code Entry}, kept in a tree in source order.
+ * The stages up to a {@code distinct} or {@code groupBy} stage (the barrier)
+ * are evaluated per entry, the remaining stages per unit, where a unit is an
+ * entry or, after {@code groupBy}, a group. The visible units are kept in a
+ * second tree in the order of the view, so a single source change costs
+ * O(log n) tree operations whatever the length of the pipeline.
+ */
+final class PipelineList<E, S> extends TransformationList<E, S> {
+
+    private static final int NONE = -1;
+    private static final Object[] NO_KEYS = new Object[0];
+
+    private final Stage[] pre;
+    private final Stage[] post;
+    private final int barrier;
+    private final Function<Object, Object> classifier;
+
+    // comparators of the sort stages, in pipeline order
+    private final List<Comparator<Object>> comparators;
+    private final int preSortCount;
+
+    private final OrderStatisticTree<SourceNode> sources = new OrderStatisticTree<>();
+    private final OrderStatisticTree<Unit> view = new OrderStatisticTree<>();
+    private final Map<Object, Bucket> buckets = new HashMap<>();
+    private final Map<Object, GroupUnit> groups = new HashMap<>();
+
+    private final Comparator<Unit> unitComparator = (a, b) -> {
+        final int c = compareKeys(a, b);
+        return c != 0 ? c : Integer.compare(orderRank(a), orderRank(b));
+    };
+    private final Comparator<Unit> rankComparator = (a, b) -> {
+        final int c = compareKeys(a, b);
+        return c != 0 ? c : Integer.compare(a.rank, b.rank);
+    };
+    private final Comparator<Member> memberComparator =
+            (a, b) -> Integer.compare(rank(a.entry), rank(b.entry));
+
+    private final SortHelper helper = new SortHelper();
+
+    @SuppressWarnings("unchecked")
+    PipelineList(ObservableList<? extends S> source, Stage[] stages) {
+        super(source);
+        int b = 0;
+        while (b < stages.length && stages[b].kind != Stage.DISTINCT && stages[b].kind != Stage.GROUP) {
+            ++b;
+        }
+        pre = Arrays.copyOfRange(stages, 0, b);
+        post = b < stages.length ? Arrays.copyOfRange(stages, b + 1, stages.length) : new Stage[0];
+        barrier = b < stages.length ? stages[b].kind : NONE;
+        classifier = barrier == Stage.GROUP ? (Function<Object, Object>) stages[b].function : null;
+
+        final List<Comparator<Object>> sorts = new ArrayList<>();
+        int preSorts = 0;
+        for (int i = 0; i < stages.length; ++i) {
+            if (stages[i].kind == Stage.SORT) {
+                sorts.add((Comparator<Object>) stages[i].function);
+                if (i < b) {
+                    ++preSorts;
+                }
+            }
+        }
+        preSortCount = preSorts;
+        comparators = sorts;
+
+        build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (E) view.get(index).value;
+    }
+
+    @Override
+    public int size() {
+        return view.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return orderRank(view.get(index));
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends S> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                SourceNode node = sources.get(c.getFrom());
+                for (int i = c.getFrom(); i < c.getTo(); ++i, node = sources.next(node)) {
+                    updateEntry(node.entry);
+                }
+            } else {
+                for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
+                    removeEntry(sources.get(c.getFrom()).entry);
+                }
+                for (int i = c.getFrom(); i < c.getTo(); ++i) {
+                    addEntry(i, c.getList().get(i));
+                }
+            }
+        }
+        endChange();
+    }
+
+    /* *************************************************************************
+     *                                                                         *
+     * Evaluation                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Runs the stages before the barrier for an entry.
+     * @return false if the entry was filtered out
+     */
+    @SuppressWarnings("unchecked")
+    private boolean evaluatePre(Entry e) {
+        Object value = e.element;
+        int slot = 0;
+        for (Stage s : pre) {
+            switch (s.kind) {
+                case Stage.FILTER:
+                    if (!((Predicate<Object>) s.function).test(value)) {
+                        return false;
+                    }
+                    break;
+                case Stage.MAP:
+                    value = ((Function<Object, Object>) s.function).apply(value);
+                    break;
+                case Stage.SORT:
+                    e.keys[slot++] = value;
+                    break;
+            }
+        }
+        e.staged = value;
+        if (barrier == Stage.GROUP) {
+            e.groupKey = classifier.apply(value);
+        }
+        return true;
+    }
+
+    /**
+     * Runs the stages after the barrier for a unit, setting its value.
+     * @return false if the unit was filtered out
+     */
+    @SuppressWarnings("unchecked")
+    private boolean evaluatePost(Unit u) {
+        Object value;
+        int slot;
+        if (u instanceof Entry) {
+            value = ((Entry) u).staged;
+            slot = preSortCount;
+        } else {
+            value = ((GroupUnit) u).group;
+            slot = 0;
+        }
+        for (Stage s : post) {
+            switch (s.kind) {
+                case Stage.FILTER:
+                    if (!((Predicate<Object>) s.function).test(value)) {
+                        return false;
+                    }
+                    break;
+                case Stage.MAP:
+                    value = ((Function<Object, Object>) s.function).apply(value);
+                    break;
+                case Stage.SORT:
+                    u.keys[slot++] = value;
+                    break;
+            }
+        }
+        u.value = value;
+        return true;
+    }
+
+    private boolean isEligible(Unit u) {
+        if (u instanceof GroupUnit) {
+            return ((GroupUnit) u).members.size() > 0;
+        }
+        final Entry e = (Entry) u;
+        if (barrier == Stage.DISTINCT) {
+            return e.bucket != null && e.bucket.rep == e;
+        }
+        return e.passed;
+    }
+
+    /**
+     * Re-evaluates a unit and moves it to its new place in the view, reporting
+     * the difference as an add, a remove, a replacement, or a permutation
+     * followed by an update.
+     */
+    @SuppressWarnings("unchecked")
+    private void refresh(Unit u, boolean updated) {
+        final boolean wasVisible = u.visible;
+        final int oldPos = wasVisible ? view.indexOf(u) : -1;
+        final Object oldValue = u.value;
+        if (wasVisible) {
+            view.remove(u);
+        }
+        u.visible = isEligible(u) && evaluatePost(u);
+        if (!u.visible) {
+            if (wasVisible) {
+                nextRemove(oldPos, (E) oldValue);
+            }
+            return;
+        }
+        final int newPos = view.lowerBound(u, unitComparator);
+        view.add(newPos, u);
+        if (!wasVisible) {
+            nextAdd(newPos, newPos + 1);
+        } else if (!Objects.equals(oldValue, u.value)) {
+            if (oldPos == newPos) {
+                nextSet(newPos, (E) oldValue);
+            } else {
+                nextRemove(oldPos, (E) oldValue);
+                nextAdd(newPos, newPos + 1);
+            }
+        } else {
+            if (oldPos != newPos) {
+                nextPermutation(oldPos, newPos);
+            }
+            if (updated) {
+                nextUpdate(newPos);
+            }
+        }
+    }
+
+    private void nextPermutation(int oldPos, int newPos) {
+        final int from = Math.min(oldPos, newPos);
+        final int to = Math.max(oldPos, newPos) + 1;
+        final int[] perm = new int[to - from];
+        for (int i = from; i < to; ++i) {
+            if (i == oldPos) {
+                perm[i - from] = newPos;
+            } else {
+                perm[i - from] = oldPos < newPos ? i - 1 : i + 1;
+            }
+        }
+        nextPermutation(from, to, perm);
+    }
+
+    /* *************************************************************************
+     *                                                                         *
+     * Source changes                                                          *
+     *                                                                         *
+     **************************************************************************/
+
+    private void addEntry(int index, S element) {
+        final Entry e = new Entry(element, barrier == Stage.GROUP ? 0 : comparators.size(), barrier == Stage.GROUP);
+        sources.add(index, e.source);
+        e.passed = evaluatePre(e);
+        if (barrier == Stage.DISTINCT) {
+            if (e.passed) {
+                joinBucket(e);
+            }
+        } else if (barrier == Stage.GROUP) {
+            if (e.passed) {
+                joinGroup(e);
+            }
+        } else {
+            refresh(e, false);
+        }
+    }
+
+    private void removeEntry(Entry e) {
+        sources.remove(e.source);
+        e.passed = false;
+        if (barrier == Stage.DISTINCT) {
+            if (e.bucket != null) {
+                final Entry successor = leaveBucket(e);
+                refresh(e, false);
+                if (successor != null) {
+                    refresh(successor, false);
+                }
+            }
+        } else if (barrier == Stage.GROUP) {
+            if (e.group != null) {
+                leaveGroup(e);
+            }
+        } else {
+            refresh(e, false);
+        }
+    }
+
+    private void updateEntry(Entry e) {
+        if (barrier == Stage.DISTINCT) {
+            final Bucket bucket = e.bucket;
+            e.passed = evaluatePre(e);
+            if (bucket != null && e.passed && Objects.equals(bucket.key, e.staged)) {
+                if (bucket.rep == e) {
+                    refresh(e, true);
+                }
+            } else if (bucket != null || e.passed) {
+                final Entry successor = bucket != null ? leaveBucket(e) : null;
+                refresh(e, false);
+                if (successor != null) {
+                    refresh(successor, false);
+                }
+                if (e.passed) {
+                    joinBucket(e);
+                }
+            }
+        } else if (barrier == Stage.GROUP) {
+            final GroupUnit group = e.group;
+            e.passed = evaluatePre(e);
+            if (group != null && e.passed && Objects.equals(group.group.getKey(), e.groupKey)) {
+                refresh(group, true);
+            } else {
+                if (group != null) {
+                    leaveGroup(e);
+                }
+                if (e.passed) {
+                    joinGroup(e);
+                }
+            }
+        } else {
+            e.passed = evaluatePre(e);
+            refresh(e, true);
+        }
+    }
+
+    /**
+     * Re-establishes the order of the view, the representatives of the
+     * distinct buckets and the order of the group members after the source
+     * list was permuted.
+     */
+    @SuppressWarnings("unchecked")
+    private void permute(Change<? extends S> c) {
+        final int from = c.getFrom();
+        final int count = c.getTo() - from;
+        final SourceNode[] nodes = new SourceNode[count];
+        final SourceNode[] permuted = new SourceNode[count];
+        sources.toArray(from, nodes, count);
+        for (int i = 0; i < count; ++i) {
+            permuted[c.getPermutation(from + i) - from] = nodes[i];
+        }
+        sources.setRange(from, permuted, count);
+
+        if (barrier == Stage.DISTINCT) {
+            for (Bucket bucket : buckets.values()) {
+                final Entry first = earliest(bucket.entries);
+                if (first != bucket.rep) {
+                    final Entry old = bucket.rep;
+                    bucket.rep = first;
+                    refresh(old, false);
+                    refresh(first, false);
+                }
+            }
+        }
+        final List<GroupUnit> reordered = new ArrayList<>();
+        if (barrier == Stage.GROUP) {
+            for (GroupUnit group : groups.values()) {
+                final int size = group.members.size();
+                final Member[] members = new Member[size];
+                group.members.toArray(0, members, size);
+                for (Member m : members) {
+                    m.rank = rank(m.entry);
+                }
+                final int[] perm = helper.sort(members, 0, size, (a, b) -> Integer.compare(a.rank, b.rank));
+                if (!isIdentity(perm)) {
+                    group.members.setAll(members, size);
+                    reordered.add(group);
+                }
+            }
+        }
+
+        final int size = view.size();
+        final Unit[] units = new Unit[size];
+        view.toArray(0, units, size);
+        for (Unit u : units) {
+            u.rank = orderRank(u);
+        }
+        final int[] perm = helper.sort(units, 0, size, rankComparator);
+        if (!isIdentity(perm)) {
+            view.setAll(units, size);
+            nextPermutation(0, size, perm);
+        }
+        for (GroupUnit group : reordered) {
+            refresh(group, true);
+        }
+    }
+
+    private static boolean isIdentity(int[] perm) {
+        for (int i = 0; i < perm.length; ++i) {
+            if (perm[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* *************************************************************************
+     *                                                                         *
+     * Distinct and groupBy                                                    *
+     *                                                                         *
+     **************************************************************************/
+
+    private void joinBucket(Entry e) {
+        Bucket bucket = buckets.get(e.staged);
+        if (bucket == null) {
+            bucket = new Bucket(e.staged);
+            buckets.put(e.staged, bucket);
+        }
+        bucket.entries.add(e);
+        e.bucket = bucket;
+        if (bucket.rep == null) {
+            bucket.rep = e;
+            refresh(e, false);
+        } else if (rank(e) < rank(bucket.rep)) {
+            final Entry old = bucket.rep;
+            bucket.rep = e;
+            refresh(old, false);
+            refresh(e, false);
+        }
+    }
+
+    /**
+     * Removes an entry from its bucket.
+     * @return the new representative of the bucket if the entry was the
+     *         representative, null otherwise
+     */
+    private Entry leaveBucket(Entry e) {
+        final Bucket bucket = e.bucket;
+        bucket.entries.remove(e);
+        e.bucket = null;
+        if (bucket.entries.isEmpty()) {
+            buckets.remove(bucket.key);
+        }
+        if (bucket.rep != e) {
+            return null;
+        }
+        bucket.rep = earliest(bucket.entries);
+        return bucket.rep;
+    }
+
+    private Entry earliest(List<Entry> entries) {
+        Entry first = null;
+        int firstRank = Integer.MAX_VALUE;
+        for (Entry e : entries) {
+            final int r = rank(e);
+            if (r < firstRank) {
+                first = e;
+                firstRank = r;
+            }
+        }
+        return first;
+    }
+
+    private void joinGroup(Entry e) {
+        GroupUnit group = groups.get(e.groupKey);
+        final boolean created = group == null;
+        if (created) {
+            group = new GroupUnit(e.groupKey, comparators.size());
+            groups.put(e.groupKey, group);
+        }
+        group.members.add(group.members.lowerBound(e.member, memberComparator), e.member);
+        e.group = group;
+        refresh(group, !created);
+    }
+
+    private void leaveGroup(Entry e) {
+        final GroupUnit group = e.group;
+        group.members.remove(e.member);
+        e.group = null;
+        if (group.members.size() == 0) {
+            groups.remove(group.group.getKey());
+        }
+        refresh(group, true);
+    }
+
+    /* *************************************************************************
+     *                                                                         *
+     * Order                                                                   *
+     *                                                                         *
+     **************************************************************************/
+
+    private int compareKeys(Unit a, Unit b) {
+        for (int k = comparators.size() - 1; k >= 0; --k) {
+            final int c = comparators.get(k).compare(a.keys[k], b.keys[k]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private int rank(Entry e) {
+        return sources.indexOf(e.source);
+    }
+
+    /**
+     * The source index which orders units that are equal for all comparators:
+     * the index of the entry, or of the first member of a group.
+     */
+    private int orderRank(Unit u) {
+        if (u instanceof Entry) {
+            return rank((Entry) u);
+        }
+        return rank(((GroupUnit) u).members.first().entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void build() {
+        final ObservableList<? extends S> source = getSource();
+        final int size = source.size();
+        final int keyCount = barrier == Stage.GROUP ? 0 : comparators.size();
+        final SourceNode[] nodes = new SourceNode[size];
+        final List<Unit> candidates = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            final Entry e = new Entry(source.get(i), keyCount, barrier == Stage.GROUP);
+            nodes[i] = e.source;
+            e.rank = i;
+            e.passed = evaluatePre(e);
+            if (!e.passed) {
+                continue;
+            }
+            if (barrier == Stage.DISTINCT) {
+                Bucket bucket = buckets.get(e.staged);
+                if (bucket == null) {
+                    bucket = new Bucket(e.staged);
+                    bucket.rep = e;
+                    buckets.put(e.staged, bucket);
+                    candidates.add(e);
+                }
+                bucket.entries.add(e);
+                e.bucket = bucket;
+            } else if (barrier == Stage.GROUP) {
+                GroupUnit group = groups.get(e.groupKey);
+                if (group == null) {
+                    group = new GroupUnit(e.groupKey, comparators.size());
+                    group.rank = i;
+                    groups.put(e.groupKey, group);
+                    candidates.add(group);
+                }
+                group.members.add(group.members.size(), e.member);
+                e.group = group;
+            } else {
+                candidates.add(e);
+            }
+        }
+        sources.setAll(nodes, size);
+
+        final Unit[] units = new Unit[candidates.size()];
+        int count = 0;
+        for (Unit u : candidates) {
+            if (evaluatePost(u)) {
+                u.visible = true;
+                units[count++] = u;
+            }
+        }
+        helper.sort(units, 0, count, rankComparator);
+        view.setAll(units, count);
+    }
+
+    /* *************************************************************************
+     *                                                                         *
+     * Nodes                                                                   *
+     *                                                                         *
+     **************************************************************************/
+
+    private static abstract class Unit extends OrderStatisticTree.Node<Unit> {
+        final Object[] keys;
+        Object value;
+        boolean visible;
+        // the order rank while the view is sorted in bulk
+        int rank;
+
+        Unit(int keyCount) {
+            keys = keyCount == 0 ? NO_KEYS : new Object[keyCount];
+        }
+    }
+
+    private static final class Entry extends Unit {
+        final Object element;
+        final SourceNode source = new SourceNode(this);
+        // only allocated when the pipeline groups its elements
+        final Member member;
+        boolean passed;
+        // the value at the barrier
+        Object staged;
+        Object groupKey;
+        Bucket bucket;
+        GroupUnit group;
+
+        Entry(Object element, int keyCount, boolean grouped) {
+            super(keyCount);
+            this.element = element;
+            this.member = grouped ? new Member(this) : null;
+        }
+    }
+
+    private static final class SourceNode extends OrderStatisticTree.Node<SourceNode> {
+        final Entry entry;
+
+        SourceNode(Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    private static final class Member extends OrderStatisticTree.Node<Member> {
+        final Entry entry;
+        int rank;
+
+        Member(Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    private static final class Bucket {
+        final Object key;
+        final List<Entry> entries = new ArrayList<>(2);
+        Entry rep;
+
+        Bucket(Object key) {
+            this.key = key;
+        }
+    }
+
+    private static final class GroupUnit extends Unit {
+        final OrderStatisticTree<Member> members = new OrderStatisticTree<>();
+        final Group<Object, Object> group;
+
+        GroupUnit(Object key, int keyCount) {
+            super(keyCount);
+            group = new Group<>(key, new AbstractList<Object>() {
+                @Override
+                public Object get(int index) {
+                    return members.get(index).entry.staged;
+                }
+
+                @Override
+                public int size() {
+                    return members.size();
+                }
+            });
+        }
+    }
+}
@@ -26,6 +26,7 @@
 package javafx.collections.transformation;
 
 import com.sun.javafx.collections.NonIterableChange.SimplePermutationChange;
+import com.sun.javafx.collections.OrderStatisticTree;
 import com.sun.javafx.collections.SortHelper;
 import com.sun.javafx.collections.SourceAdapterChange;
 
@@ -54,13 +55,17 @@ import javafx.collections.ObservableList;
 public final class SortedList<E> extends TransformationList<E, E>{
 
     private Comparator<Element<E>> elementComparator;
-    private Element<E>[] sorted;
-    private int[] perm;
-    private int size;
 
-    private final SortHelper helper = new SortHelper();
+    /*
+     * Every element is a node of two trees: one in the order of this list and
+     * one in the order of the source list. Adding, removing or updating a
+     * single source element therefore costs O(log n) instead of shifting and
+     * renumbering arrays.
+     */
+    private final OrderStatisticTree<Element<E>> sorted = new OrderStatisticTree<>();
+    private final OrderStatisticTree<SourceEntry<E>> sources = new OrderStatisticTree<>();
 
-    private final Element<E> tempElement = new Element<>(null, -1);
+    private final SortHelper helper = new SortHelper();
 
 
     /**
@@ -73,13 +78,15 @@ public final class SortedList<E> extends TransformationList<E, E>{
     @SuppressWarnings("unchecked")
     public SortedList(@NamedArg("source") ObservableList<? extends E> source, @NamedArg("comparator") Comparator<? super E> comparator) {
         super(source);
-        sorted = (Element<E>[]) new Element[source.size() *3/2 + 1];
-        perm = new int[sorted.length];
-        size = source.size();
+        final int size = source.size();
+        final Element<E>[] elements = (Element<E>[]) new Element<?>[size];
+        final SourceEntry<E>[] entries = (SourceEntry<E>[]) new SourceEntry<?>[size];
         for (int i = 0; i < size; ++i) {
-            sorted[i] = new Element<E>(source.get(i), i);
-            perm[i] = i;
+            elements[i] = new Element<E>(source.get(i));
+            entries[i] = elements[i].source;
         }
+        sorted.setAll(elements, size);
+        sources.setAll(entries, size);
         if (comparator != null) {
             setComparator(comparator);
         }
@@ -164,10 +171,10 @@ public final class SortedList<E> extends TransformationList<E, E>{
      */
     @Override
     public E get(int index) {
-        if (index >= size) {
+        if (index >= size()) {
             throw new IndexOutOfBoundsException();
         }
-        return sorted[index].e;
+        return sorted.get(index).e;
     }
 
     /**
@@ -177,43 +184,31 @@ public final class SortedList<E> extends TransformationList<E, E>{
      */
     @Override
     public int size() {
-        return size;
+        return sorted.size();
     }
 
+    @SuppressWarnings("unchecked")
     private void doSortWithPermutationChange() {
+        final int size = size();
+        final Element<E>[] elements = (Element<E>[]) new Element<?>[size];
+        sorted.toArray(0, elements, size);
         if (elementComparator != null) {
-            int[] perm = helper.sort(sorted, 0, size, elementComparator);
-            for (int i = 0; i < size; i++) {
-                this.perm[sorted[i].index] = i;
-            }
+            int[] perm = helper.sort(elements, 0, size, elementComparator);
+            sorted.setAll(elements, size);
             fireChange(new SimplePermutationChange<>(0, size, perm, this));
         } else {
+            // Restore the order of the source list
             int[] perm = new int[size];
-            int[] rperm = new int[size];
-            for (int i = 0; i < size; ++i) {
-                perm[i] = rperm[i] = i;
-            }
             boolean changed = false;
-            int idx = 0;
-            while (idx < size) {
-                final int otherIdx = sorted[idx].index;
-                if (otherIdx == idx) {
-                    ++idx;
-                    continue;
-                }
-                Element<E> other = sorted[otherIdx];
-                sorted[otherIdx] = sorted[idx];
-                sorted[idx] = other;
-                this.perm[idx] = idx;
-                this.perm[otherIdx] = otherIdx;
-                perm[rperm[idx]] = otherIdx;
-                perm[rperm[otherIdx]] = idx;
-                int tp = rperm[idx];
-                rperm[idx] = rperm[otherIdx];
-                rperm[otherIdx] = tp;
-                changed = true;
+            for (int i = 0; i < size; ++i) {
+                perm[i] = sources.indexOf(elements[i].source);
+                changed |= perm[i] != i;
             }
             if (changed) {
+                for (int i = 0; i < size; ++i) {
+                    elements[perm[i]] = sorted.get(i);
+                }
+                sorted.setAll(elements, size);
                 fireChange(new SimplePermutationChange<>(0, size, perm, this));
             }
         }
@@ -221,63 +216,68 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     @Override
     public int getSourceIndex(int index) {
-        return sorted[index].index;
+        return sources.indexOf(sorted.get(index).source);
     }
 
+    @SuppressWarnings("unchecked")
     private void updatePermutationIndexes(Change<? extends E> change) {
-        for (int i = 0; i < size; ++i) {
-            int p = change.getPermutation(sorted[i].index);
-            sorted[i].index = p;
-            perm[p] = i;
+        final int from = change.getFrom();
+        final int count = change.getTo() - from;
+        final SourceEntry<E>[] entries = (SourceEntry<E>[]) new SourceEntry<?>[count];
+        final SourceEntry<E>[] permuted = (SourceEntry<E>[]) new SourceEntry<?>[count];
+        sources.toArray(from, entries, count);
+        for (int i = 0; i < count; ++i) {
+            permuted[change.getPermutation(from + i) - from] = entries[i];
         }
+        sources.setRange(from, permuted, count);
     }
 
+    @SuppressWarnings("unchecked")
     private void updateUnsorted(Change<? extends E> c) {
         while (c.next()) {
             if (c.wasPermutated()) {
-                Element[] sortedTmp = new Element[sorted.length];
-                for (int i = 0; i < size; ++i) {
-                    if (i >= c.getFrom() && i < c.getTo()) {
-                        int p = c.getPermutation(i);
-                        sortedTmp[p] = sorted[i];
-                        sortedTmp[p].index = p;
-                        perm[i] = i;
-                    } else {
-                        sortedTmp[i] = sorted[i];
-                    }
+                updatePermutationIndexes(c);
+                final int from = c.getFrom();
+                final int count = c.getTo() - from;
+                final Element<E>[] elements = (Element<E>[]) new Element<?>[count];
+                SourceEntry<E> entry = sources.get(from);
+                for (int i = 0; i < count; ++i, entry = sources.next(entry)) {
+                    elements[i] = entry.element;
                 }
-                sorted = sortedTmp;
+                sorted.setRange(from, elements, count);
             }
             if (c.wasRemoved()) {
-                final int removedTo = c.getFrom() + c.getRemovedSize();
-                System.arraycopy(sorted, removedTo, sorted, c.getFrom(), size - removedTo);
-                System.arraycopy(perm, removedTo, perm, c.getFrom(), size - removedTo);
-                size -= c.getRemovedSize();
-                updateIndices(removedTo, removedTo, -c.getRemovedSize());
+                for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
+                    sources.remove(sorted.remove(c.getFrom()).source);
+                }
             }
             if (c.wasAdded()) {
-                ensureSize(size + c.getAddedSize());
-                updateIndices(c.getFrom(), c.getFrom(), c.getAddedSize());
-                System.arraycopy(sorted, c.getFrom(), sorted, c.getTo(), size - c.getFrom());
-                System.arraycopy(perm, c.getFrom(), perm, c.getTo(), size - c.getFrom());
-                size += c.getAddedSize();
                 for (int i = c.getFrom(); i < c.getTo(); ++i) {
-                    sorted[i] = new Element<E>(c.getList().get(i), i);
-                    perm[i] = i;
+                    final Element<E> element = new Element<E>(c.getList().get(i));
+                    sorted.add(i, element);
+                    sources.add(i, element.source);
                 }
             }
         }
     }
 
-    private static class Element<E> {
+    private static class Element<E> extends OrderStatisticTree.Node<Element<E>> {
 
-        public Element(E e, int index) {
+        public Element(E e) {
             this.e = e;
-            this.index = index;
         }
 
-        private E e;
-        private int index;
+        private final E e;
+        private final SourceEntry<E> source = new SourceEntry<>(this);
+    }
+
+    private static class SourceEntry<E> extends OrderStatisticTree.Node<SourceEntry<E>> {
+
+        public SourceEntry(Element<E> element) {
+            this.element = element;
+        }
+
+        private final Element<E> element;
     }
 
     private static class ElementComparator<E> implements Comparator<Element<E>> {
@@ -296,104 +296,148 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     }
 
-    private void ensureSize(int size) {
-        if (sorted.length < size) {
-            Element<E>[] replacement = new Element[size * 3/2 + 1];
-            System.arraycopy(sorted, 0, replacement, 0, this.size);
-            sorted = replacement;
-            int[] replacementPerm = new int[size * 3/2 + 1];
-            System.arraycopy(perm, 0, replacementPerm, 0, this.size);
-            perm = replacementPerm;
-        }
-    }
-
-    private void updateIndices(int from, int viewFrom, int difference) {
-        for (int i = 0 ; i < size; ++i) {
-            if (sorted[i].index >= from) {
-                sorted[i].index += difference;
-            }
-            if (perm[i] >= viewFrom) {
-                perm[i] += difference;
-            }
-        }
-    }
-
-    private int findPosition(E e) {
-        if (sorted.length == 0) {
-            return 0;
-        }
-        tempElement.e = e;
-        int pos = Arrays.binarySearch(sorted, 0, size, tempElement, elementComparator);
-        return pos;
-    }
-
     private void insertToMapping(E e, int idx) {
-        int pos = findPosition(e);
-        if (pos < 0) {
-            pos = ~pos;
-        }
-        ensureSize(size + 1);
-        updateIndices(idx, pos, 1);
-        System.arraycopy(sorted, pos, sorted, pos + 1, size - pos);
-        sorted[pos] = new Element<>(e, idx);
-        System.arraycopy(perm, idx, perm, idx + 1, size - idx);
-        perm[idx] = pos;
-        ++size;
+        final Element<E> element = new Element<>(e);
+        final int pos = sorted.upperBound(element, elementComparator);
+        sorted.add(pos, element);
+        sources.add(idx, element.source);
         nextAdd(pos, pos + 1);
 
     }
 
+    @SuppressWarnings("unchecked")
     private void setAllToMapping(List<? extends E> list, int to) {
-        ensureSize(to);
-        size = to;
+        final Element<E>[] elements = (Element<E>[]) new Element<?>[to];
+        final SourceEntry<E>[] entries = (SourceEntry<E>[]) new SourceEntry<?>[to];
         for (int i = 0; i < to; ++i) {
-            sorted[i] = new Element<E>(list.get(i), i);
+            elements[i] = new Element<E>(list.get(i));
+            entries[i] = elements[i].source;
         }
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);
-        System.arraycopy(perm, 0, this.perm, 0, size);
-        nextAdd(0, size);
+        sources.setAll(entries, to);
+        helper.sort(elements, 0, to, elementComparator);
+        sorted.setAll(elements, to);
+        nextAdd(0, to);
     }
 
     private void removeFromMapping(int idx, E e) {
-        int pos = perm[idx];
-        System.arraycopy(sorted, pos + 1, sorted, pos, size - pos - 1);
-        System.arraycopy(perm, idx + 1, perm, idx, size - idx - 1);
-        --size;
-        sorted[size] = null;
-        updateIndices(idx + 1, pos, - 1);
+        final Element<E> element = sources.remove(idx).element;
+        final int pos = sorted.indexOf(element);
+        sorted.remove(element);
 
         nextRemove(pos, e);
     }
 
     private void removeAllFromMapping() {
         List<E> removed = new ArrayList(this);
-        for (int i = 0; i < size; ++i) {
-            sorted[i] = null;
-        }
-        size = 0;
+        sorted.clear();
+        sources.clear();
         nextRemove(0, removed);
     }
 
+    /**
+     * Moves the updated elements to their new place. They are taken out of the
+     * tree and put back in the order of their old positions; each one goes to
+     * its old position if that is still within the range of equal elements,
+     * so an element whose sort key did not change does not move. Only the
+     * range between the old and new positions is reported as permuted.
+     */
+    @SuppressWarnings("unchecked")
     private void update(Change<? extends E> c) {
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);
-        for (int i = 0; i < size; i++) {
-            this.perm[sorted[i].index] = i;
+        final int count = c.getTo() - c.getFrom();
+        final Element<E>[] updated = (Element<E>[]) new Element<?>[count];
+        final int[] oldPos = new int[count];
+        final long[] order = new long[count];
+        SourceEntry<E> entry = sources.get(c.getFrom());
+        for (int i = 0; i < count; ++i, entry = sources.next(entry)) {
+            updated[i] = entry.element;
+            oldPos[i] = sorted.indexOf(updated[i]);
+            order[i] = ((long) oldPos[i] << 32) | i;
+        }
+        Arrays.sort(order);
+        for (int i = 0; i < count; ++i) {
+            sorted.remove(updated[i]);
+        }
+
+        int reinserted = 0;
+        try {
+            for (; reinserted < count; ++reinserted) {
+                final int i = (int) order[reinserted];
+                final int lower = sorted.lowerBound(updated[i], elementComparator);
+                final int upper = sorted.upperBound(updated[i], elementComparator);
+                sorted.add(Math.max(lower, Math.min(oldPos[i], upper)), updated[i]);
+            }
+        } finally {
+            // The comparator failed, keep the remaining elements where they were
+            for (; reinserted < count; ++reinserted) {
+                final int i = (int) order[reinserted];
+                sorted.add(Math.min(oldPos[i], sorted.size()), updated[i]);
+            }
+        }
+
+        final int[] newPos = new int[count];
+        int from = Integer.MAX_VALUE;
+        int to = 0;
+        boolean moved = false;
+        for (int i = 0; i < count; ++i) {
+            newPos[i] = sorted.indexOf(updated[i]);
+            if (newPos[i] != oldPos[i]) {
+                moved = true;
+                from = Math.min(from, Math.min(oldPos[i], newPos[i]));
+                to = Math.max(to, Math.max(oldPos[i], newPos[i]) + 1);
+            }
+        }
+        if (moved) {
+            nextPermutation(from, to, permutation(from, to, oldPos, newPos));
+        }
+        for (int i = 0; i < count; ++i) {
+            nextUpdate(newPos[i]);
+        }
+    }
+
+    /**
+     * Computes the permutation of the range {@code [from, to)} which moves the
+     * elements at {@code oldPos} to {@code newPos} and keeps the relative order
+     * of all other elements.
+     */
+    private static int[] permutation(int from, int to, int[] oldPos, int[] newPos) {
+        final int[] perm = new int[to - from];
+        final int[] oldSorted = oldPos.clone();
+        final int[] newSorted = newPos.clone();
+        Arrays.sort(oldSorted);
+        Arrays.sort(newSorted);
+        for (int i = 0; i < oldPos.length; ++i) {
+            if (oldPos[i] >= from && oldPos[i] < to) {
+                perm[oldPos[i] - from] = newPos[i];
+            }
         }
-        nextPermutation(0, size, perm);
-        for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
-            nextUpdate(this.perm[i]);
+        int o = Arrays.binarySearch(oldSorted, from);
+        int n = Arrays.binarySearch(newSorted, from);
+        o = o < 0 ? ~o : o;
+        n = n < 0 ? ~n : n;
+        int next = from;
+        for (int i = from; i < to; ++i) {
+            if (o < oldSorted.length && oldSorted[o] == i) {
+                ++o;
+                continue;
+            }
+            while (n < newSorted.length && newSorted[n] == next) {
+                ++n;
+                ++next;
+            }
+            perm[i - from] = next++;
         }
+        return perm;
     }
 
     private void addRemove(Change<? extends E> c) {
-        if (c.getFrom() == 0 && c.getRemovedSize() == size) {
+        if (c.getFrom() == 0 && c.getRemovedSize() == size()) {
             removeAllFromMapping();
         } else {
             for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
                 removeFromMapping(c.getFrom(), c.getRemoved().get(i));
             }
         }
-        if (size == 0) {
+        if (size() == 0) {
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
                                                      // as size is 0, only valid "from" is also 0
         } else {
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.util.converter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A format that a converter created, kept so that the converter does not
+ * create a new format for every conversion. Formats are not thread safe, so
+ * a cached format is only used by the thread that created it, and only while
+ * the default it was created for (such as the default locale) is unchanged;
+ * other conversions replace it with a new format.
+ *
+ * @param <F> the format type
+ */
+final class CachedFormat<F> {
+
+    private final Thread owner;
+    private final Object key;
+    private final F format;
+
+    CachedFormat(Object key, F format) {
+        this.owner = Thread.currentThread();
+        this.key = key;
+        this.format = format;
+    }
+
+    F getFormat() {
+        return format;
+    }
+
+    /**
+     * Tells whether the format can be used on the current thread when the
+     * format depends on the given key.
+     */
+    boolean isUsable(Object key) {
+        return owner == Thread.currentThread() && Objects.equals(this.key, key);
+    }
+
+    /**
+     * Returns a {@code ClassValue} that tells whether a subclass of
+     * {@code base} overrides the method that creates the format, other than
+     * in the given subclasses of this package. Such a method may return a
+     * different format on every call, so its formats are not cached.
+     */
+    static ClassValue<Boolean> overrides(Class<?> base, String methodName, Class<?>... known) {
+        final List<Class<?>> knownClasses = Arrays.asList(known);
+        return new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                for (Class<?> c = type; c != null && c != base; c = c.getSuperclass()) {
+                    if (knownClasses.contains(c)) {
+                        continue;
+                    }
+                    try {
+                        c.getDeclaredMethod(methodName);
+                        return true;
+                    } catch (NoSuchMethodException e) {
+                        // not overridden in this class
+                    } catch (SecurityException e) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+    }
+}
@@ -30,6 +30,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
 import javafx.util.StringConverter;
 
 /**
@@ -57,6 +58,11 @@ public class DateTimeStringConverter extends StringConverter<Date> {
      */
     protected final int timeStyle;
 
+    private static final ClassValue<Boolean> CUSTOM_FORMAT =
+            CachedFormat.overrides(DateTimeStringConverter.class, "getDateFormat",
+                    DateStringConverter.class, TimeStringConverter.class);
+    private CachedFormat<DateFormat> cachedFormat;
+
 
     // ------------------------------------------------------------ Constructors
 
@@ -168,7 +174,7 @@ public class DateTimeStringConverter extends StringConverter<Date> {
             }
 
             // Create and configure the parser to be used
-            DateFormat parser = getDateFormat();
+            DateFormat parser = conversionFormat();
 
             // Perform the requested parsing
             return parser.parse(value);
@@ -185,7 +191,7 @@ public class DateTimeStringConverter extends StringConverter<Date> {
         }
 
         // Create and configure the formatter to be used
-        DateFormat formatter = getDateFormat();
+        DateFormat formatter = conversionFormat();
 
         // Perform the requested formatting
         return formatter.format(value);
@@ -212,4 +218,23 @@ public class DateTimeStringConverter extends StringConverter<Date> {
 
         return df;
     }
+
+    /**
+     * Returns the format used by a conversion. Formats created by
+     * {@link #getDateFormat()} are reused by the same thread as long as the
+     * default time zone does not change, unless a subclass supplies its own
+     * formats.
+     */
+    private DateFormat conversionFormat() {
+        if (dateFormat != null || CUSTOM_FORMAT.get(getClass())) {
+            return getDateFormat();
+        }
+        final TimeZone timeZone = TimeZone.getDefault();
+        CachedFormat<DateFormat> cached = cachedFormat;
+        if (cached == null || !cached.isUsable(timeZone)) {
+            cached = new CachedFormat<>(timeZone, getDateFormat());
+            cachedFormat = cached;
+        }
+        return cached.getFormat();
+    }
 }
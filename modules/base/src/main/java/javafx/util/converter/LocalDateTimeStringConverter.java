@@ -39,7 +39,11 @@ import java.time.format.DecimalStyle;
 import java.time.format.FormatStyle;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.util.StringConverter;
 
@@ -167,6 +171,13 @@ public class LocalDateTimeStringConverter extends StringConverter<LocalDateTime>
 
 
     static class LdtConverter<T extends Temporal> extends StringConverter<T> {
+        // The default formatters and parsers only depend on the styles, the
+        // locale and the chronology, and are immutable, so converters share them.
+        private static final Map<List<Object>, DateTimeFormatter> DEFAULT_FORMATTERS =
+                new ConcurrentHashMap<>();
+        private static final Map<List<Object>, DateTimeFormatter> DEFAULT_PARSERS =
+                new ConcurrentHashMap<>();
+
         private Class<T> type;
         Locale locale;
         Chronology chronology;
@@ -202,7 +213,8 @@ public class LocalDateTimeStringConverter extends StringConverter<LocalDateTime>
             text = text.trim();
 
             if (parser == null) {
-                parser = getDefaultParser();
+                parser = DEFAULT_PARSERS.computeIfAbsent(defaultsKey(),
+                                                         key -> getDefaultParser());
             }
 
             TemporalAccessor temporal = parser.parse(text);
@@ -225,7 +237,8 @@ public class LocalDateTimeStringConverter extends StringConverter<LocalDateTime>
             }
 
             if (formatter == null) {
-                formatter = getDefaultFormatter();
+                formatter = DEFAULT_FORMATTERS.computeIfAbsent(defaultsKey(),
+                                                               key -> getDefaultFormatter());
             }
 
             if (value instanceof LocalDate) {
@@ -254,6 +267,10 @@ public class LocalDateTimeStringConverter extends StringConverter<LocalDateTime>
         }
 
 
+        private List<Object> defaultsKey() {
+            return Arrays.asList(dateStyle, timeStyle, locale, chronology);
+        }
+
         private DateTimeFormatter getDefaultParser() {
             String pattern =
                 DateTimeFormatterBuilder.getLocalizedDateTimePattern(dateStyle, timeStyle,
@@ -44,6 +44,11 @@ public class NumberStringConverter extends StringConverter<Number> {
     final String pattern;
     final NumberFormat numberFormat;
 
+    private static final ClassValue<Boolean> CUSTOM_FORMAT =
+            CachedFormat.overrides(NumberStringConverter.class, "getNumberFormat",
+                    CurrencyStringConverter.class, PercentageStringConverter.class);
+    private CachedFormat<NumberFormat> cachedFormat;
+
     // ------------------------------------------------------------ Constructors
     public NumberStringConverter() {
         this(Locale.getDefault());
@@ -88,7 +93,7 @@ public class NumberStringConverter extends StringConverter<Number> {
             }
 
             // Create and configure the parser to be used
-            NumberFormat parser = getNumberFormat();
+            NumberFormat parser = conversionFormat();
 
             // Perform the requested parsing
             return parser.parse(value);
@@ -105,7 +110,7 @@ public class NumberStringConverter extends StringConverter<Number> {
         }
 
         // Create and configure the formatter to be used
-        NumberFormat formatter = getNumberFormat();
+        NumberFormat formatter = conversionFormat();
 
         // Perform the requested formatting
         return formatter.format(value);
@@ -127,4 +132,23 @@ public class NumberStringConverter extends StringConverter<Number> {
             return NumberFormat.getNumberInstance(_locale);
         }
     }
+
+    /**
+     * Returns the format used by a conversion. Formats created by
+     * {@link #getNumberFormat()} are reused by the same thread as long as the
+     * default locale does not change, unless a subclass supplies its own
+     * formats.
+     */
+    private NumberFormat conversionFormat() {
+        if (numberFormat != null || CUSTOM_FORMAT.get(getClass())) {
+            return getNumberFormat();
+        }
+        final Locale _locale = locale == null ? Locale.getDefault() : locale;
+        CachedFormat<NumberFormat> cached = cachedFormat;
+        if (cached == null || !cached.isUsable(_locale)) {
+            cached = new CachedFormat<>(_locale, getNumberFormat());
+            cachedFormat = cached;
+        }
+        return cached.getFormat();
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.time.LocalDate;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatConversionException;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.Random;
+import java.util.UnknownFormatConversionException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CompiledFormatTest {
+
+    private static final Locale[] LOCALES = {
+        Locale.US, Locale.GERMANY, Locale.FRANCE, null, Locale.forLanguageTag("ar-EG-u-nu-arab")
+    };
+
+    private static void check(Locale locale, String format, Object... args) {
+        assertEquals(format + " " + locale, String.format(locale, format, args),
+                CompiledFormat.of(format).format(locale, args));
+    }
+
+    @Test
+    public void testSameFormatIsShared() {
+        assertSame(CompiledFormat.of("%s and %d"), CompiledFormat.of(new String("%s and %d")));
+    }
+
+    @Test
+    public void testText() {
+        for (Locale locale : LOCALES) {
+            check(locale, "");
+            check(locale, "plain text");
+            check(locale, "100%% done%n");
+        }
+    }
+
+    @Test
+    public void testStrings() {
+        for (Locale locale : LOCALES) {
+            check(locale, "%s", "a");
+            check(locale, "[%s|%s]", null, 42);
+            check(locale, "%s%s%s", "x", 1.5, true);
+        }
+    }
+
+    @Test
+    public void testIntegers() {
+        for (Locale locale : LOCALES) {
+            check(locale, "%d", 0);
+            check(locale, "%d items", Integer.MIN_VALUE);
+            check(locale, "%d/%d", Long.MAX_VALUE, (short) -7);
+            check(locale, "%d", (byte) 12);
+        }
+    }
+
+    @Test
+    public void testFixedDecimals() {
+        final double[] values = {
+            0, -0.0, 1, -1, 0.5, 1.005, 2.675, 0.125, 0.375, 9.995, 99.5, 999.9999, 1e-7, -1e-7,
+            0.0006, 123456789.125, 1e15, 1.5e20, 1e-300, Double.MIN_VALUE, Double.MAX_VALUE,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+        for (Locale locale : LOCALES) {
+            for (double value : values) {
+                for (int precision = 0; precision <= 20; ++precision) {
+                    check(locale, "%." + precision + "f", value);
+                }
+                check(locale, "%f", value);
+                check(locale, "%.2f", (float) value);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomFixedDecimals() {
+        final Random random = new Random(11);
+        for (int i = 0; i < 20000; ++i) {
+            final double value;
+            switch (i % 4) {
+                case 0:
+                    value = random.nextDouble() * 100;
+                    break;
+                case 1:
+                    // values on a tie of the shortest representation
+                    value = (random.nextInt(200000) - 100000) / 1000.0 + 0.0005;
+                    break;
+                case 2:
+                    value = Double.longBitsToDouble(random.nextLong());
+                    break;
+                default:
+                    value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+            }
+            final int precision = random.nextInt(12);
+            check(Locale.US, "%." + precision + "f", value);
+            check(Locale.US, "%." + precision + "f", (float) value);
+        }
+    }
+
+    @Test
+    public void testIsoDates() {
+        for (Locale locale : LOCALES) {
+            check(locale, "%tF", LocalDate.of(2016, 3, 7));
+            check(locale, "on %tF.", LocalDate.of(7, 12, 31));
+            check(locale, "%tF", LocalDate.of(12345, 1, 1));
+            check(locale, "%tF", LocalDate.of(-1, 1, 1));
+        }
+    }
+
+    @Test
+    public void testOtherSpecifiersGoThroughFormatter() {
+        for (Locale locale : LOCALES) {
+            check(locale, "%5d|%-8s|%,.2f|%x", 42, "ab", 1234567.891, 255);
+            check(locale, "%2$s %1$s", "a", "b");
+            check(locale, "%S %e %tY", "up", 12.5, LocalDate.of(2016, 1, 1));
+        }
+    }
+
+    @Test
+    public void testUnexpectedTypesGoThroughFormatter() {
+        for (Locale locale : LOCALES) {
+            check(locale, "%d", new java.math.BigInteger("123456789012345678901234567890"));
+            check(locale, "%.3f", new java.math.BigDecimal("1.0005"));
+            check(locale, "%d %.1f %tF", null, null, null);
+        }
+    }
+
+    @Test
+    public void testFormattable() {
+        final Formattable formattable = (Formatter formatter, int flags, int width, int precision) ->
+                formatter.format("formatted");
+        check(Locale.US, "<%s>", formattable);
+    }
+
+    @Test(expected = IllegalFormatConversionException.class)
+    public void testIllegalConversion() {
+        CompiledFormat.of("%d").format(Locale.US, "abc");
+    }
+
+    @Test(expected = MissingFormatArgumentException.class)
+    public void testMissingArgument() {
+        CompiledFormat.of("%s %s").format(Locale.US, "a");
+    }
+
+    @Test(expected = UnknownFormatConversionException.class)
+    public void testIllegalFormat() {
+        CompiledFormat.of("%q").format(Locale.US);
+    }
+
+    @Test
+    public void testArgumentFormattingItself() {
+        final Object nested = new Object() {
+            @Override
+            public String toString() {
+                return CompiledFormat.of("<%d>").format(Locale.US, 7);
+            }
+        };
+        check(Locale.US, "%s and %d", nested, 8);
+    }
+}
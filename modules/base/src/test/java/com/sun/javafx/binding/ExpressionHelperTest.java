@@ -643,4 +643,76 @@ public class ExpressionHelperTest {
         assertEquals(4, called.get());
     }
 
+    @Test
+    public void testRemoveChangeListenerDuringNotification() {
+        final ChangeListener<Object> remover = (value, o1, o2) ->
+                helper = ExpressionHelper.removeListener(helper, changeListener[1]);
+        helper = ExpressionHelper.addListener(helper, observable, remover);
+        helper = ExpressionHelper.addListener(helper, observable, changeListener[0]);
+        helper = ExpressionHelper.addListener(helper, observable, changeListener[1]);
+
+        // a listener removed during a notification still receives the current one
+        observable.set(DATA_2);
+        helper.fireValueChangedEvent();
+        changeListener[0].check(observable, DATA_1, DATA_2, 1);
+        changeListener[1].check(observable, DATA_1, DATA_2, 1);
+
+        observable.set(DATA_1);
+        helper.fireValueChangedEvent();
+        changeListener[0].check(observable, DATA_2, DATA_1, 1);
+        changeListener[1].check(null, UNDEFINED, UNDEFINED, 0);
+    }
+
+    @Test
+    public void testAddChangeListenerDuringNotification() {
+        final ChangeListener<Object> adder = new ChangeListener<Object>() {
+            @Override
+            public void changed(ObservableValue<? extends Object> value, Object o1, Object o2) {
+                helper = ExpressionHelper.addListener(helper, observable, changeListener[1]);
+                helper = ExpressionHelper.removeListener(helper, this);
+            }
+        };
+        helper = ExpressionHelper.addListener(helper, observable, adder);
+        helper = ExpressionHelper.addListener(helper, observable, changeListener[0]);
+
+        // a listener added during a notification is not notified until the next one
+        observable.set(DATA_2);
+        helper.fireValueChangedEvent();
+        changeListener[0].check(observable, DATA_1, DATA_2, 1);
+        changeListener[1].check(null, UNDEFINED, UNDEFINED, 0);
+
+        observable.set(DATA_1);
+        helper.fireValueChangedEvent();
+        changeListener[0].check(observable, DATA_2, DATA_1, 1);
+        changeListener[1].check(observable, DATA_2, DATA_1, 1);
+    }
+
+    @Test
+    public void testModificationDuringNestedNotification() {
+        final InvalidationListener nested = new InvalidationListener() {
+            @Override
+            public void invalidated(Observable o) {
+                if (observable.getValue() == DATA_2) {
+                    observable.set(DATA_1);
+                    helper.fireValueChangedEvent();
+                    // the outer notification is still running, the array must not be modified in place
+                    helper = ExpressionHelper.removeListener(helper, invalidationListener[1]);
+                }
+            }
+        };
+        helper = ExpressionHelper.addListener(helper, observable, nested);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[1]);
+
+        observable.set(DATA_2);
+        helper.fireValueChangedEvent();
+        invalidationListener[0].check(observable, 2);
+        invalidationListener[1].check(observable, 2);
+
+        observable.set(DATA_2);
+        helper.fireValueChangedEvent();
+        invalidationListener[0].check(observable, 2);
+        invalidationListener[1].check(null, 0);
+    }
+
 }
@@ -181,6 +181,34 @@ public class SelectBindingTest {
         log.checkFine(NullPointerException.class);
     }
 
+    @Test
+    public void testPOJOAdapterIsReusedForSameBean() {
+        final POJONext pojoC = new POJONext();
+        final Person person1 = new Person();
+        b.setNext(pojoC);
+        pojoC.setNext(person1);
+        final ObjectBinding<Object> objectBinding = Bindings.select(a.nextProperty(), "next", "next", "name");
+        final ObservableList<?> deps = objectBinding.getDependencies();
+        assertEquals(null, objectBinding.get());
+        final Object adapter = deps.get(2);
+
+        person1.setName("P1");
+        assertEquals("P1", objectBinding.get());
+        assertSame(adapter, deps.get(2));
+
+        final Person person2 = new Person();
+        person2.setName("P2");
+        pojoC.setNext(person2);
+        assertEquals("P2", objectBinding.get());
+        assertSame(adapter, deps.get(2));
+
+        final POJONext pojoD = new POJONext();
+        pojoD.setNext(person1);
+        b.setNext(pojoD);
+        assertEquals("P1", objectBinding.get());
+        assertNotSame(adapter, deps.get(2));
+    }
+
     @Test
     public void testPOJOBoolean() {
 
@@ -738,4 +738,46 @@ public class ListListenerHelperTest {
         assertEquals(4, called.get());
     }
 
+    @Test
+    public void testRemoveChangeListenerDuringNotification() {
+        final ListChangeListener<Object> remover = c ->
+                helper = ListListenerHelper.removeListener(helper, changeListenerMock[1]);
+        helper = ListListenerHelper.addListener(helper, remover);
+        helper = ListListenerHelper.addListener(helper, changeListenerMock[0]);
+        helper = ListListenerHelper.addListener(helper, changeListenerMock[1]);
+
+        // a listener removed during a notification still receives the current one
+        helper.fireValueChangedEvent(change);
+        changeListenerMock[0].check1();
+        changeListenerMock[1].check1();
+        resetAllListeners();
+
+        helper.fireValueChangedEvent(change);
+        changeListenerMock[0].check1();
+        changeListenerMock[1].check0();
+    }
+
+    @Test
+    public void testAddChangeListenerDuringNotification() {
+        final ListChangeListener<Object> adder = new ListChangeListener<Object>() {
+            @Override
+            public void onChanged(Change<? extends Object> c) {
+                helper = ListListenerHelper.addListener(helper, changeListenerMock[1]);
+                helper = ListListenerHelper.removeListener(helper, this);
+            }
+        };
+        helper = ListListenerHelper.addListener(helper, adder);
+        helper = ListListenerHelper.addListener(helper, changeListenerMock[0]);
+
+        // a listener added during a notification is not notified until the next one
+        helper.fireValueChangedEvent(change);
+        changeListenerMock[0].check1();
+        changeListenerMock[1].check0();
+        resetAllListeners();
+
+        helper.fireValueChangedEvent(change);
+        changeListenerMock[0].check1();
+        changeListenerMock[1].check1();
+    }
+
 }
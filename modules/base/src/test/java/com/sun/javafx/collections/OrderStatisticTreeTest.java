@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class OrderStatisticTreeTest {
+
+    private static class IntNode extends OrderStatisticTree.Node<IntNode> {
+        final int value;
+
+        IntNode(int value) {
+            this.value = value;
+        }
+    }
+
+    private static final Comparator<IntNode> BY_VALUE = (a, b) -> Integer.compare(a.value, b.value);
+
+    private OrderStatisticTree<IntNode> tree;
+    private List<IntNode> expected;
+
+    @Before
+    public void setUp() {
+        tree = new OrderStatisticTree<>();
+        expected = new ArrayList<>();
+    }
+
+    private void check() {
+        assertEquals(expected.size(), tree.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            assertSame(expected.get(i), tree.get(i));
+            assertEquals(i, tree.indexOf(expected.get(i)));
+        }
+        int i = 0;
+        for (IntNode n = tree.first(); n != null; n = tree.next(n)) {
+            assertSame(expected.get(i++), n);
+        }
+        assertEquals(expected.size(), i);
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, tree.size());
+        assertNull(tree.first());
+        assertEquals(0, tree.lowerBound(new IntNode(1), BY_VALUE));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        tree.add(0, new IntNode(1));
+        tree.get(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddOutOfBounds() {
+        tree.add(1, new IntNode(1));
+    }
+
+    @Test
+    public void testRandomAddRemove() {
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; ++i) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                int index = random.nextInt(expected.size() + 1);
+                IntNode n = new IntNode(i);
+                tree.add(index, n);
+                expected.add(index, n);
+            } else if (random.nextBoolean()) {
+                int index = random.nextInt(expected.size());
+                assertSame(expected.remove(index), tree.remove(index));
+            } else {
+                IntNode n = expected.remove(random.nextInt(expected.size()));
+                tree.remove(n);
+            }
+            if (i % 100 == 0) {
+                check();
+            }
+        }
+        check();
+    }
+
+    @Test
+    public void testWalkBackwards() {
+        for (int i = 0; i < 100; ++i) {
+            IntNode n = new IntNode(i);
+            tree.add(i, n);
+            expected.add(n);
+        }
+        for (int i = 99; i >= 0; --i) {
+            assertSame(expected.get(i), tree.get(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSetAllAndSetRange() {
+        IntNode[] nodes = new IntNode[50];
+        for (int i = 0; i < nodes.length; ++i) {
+            nodes[i] = new IntNode(i);
+            expected.add(nodes[i]);
+        }
+        tree.setAll(nodes, nodes.length);
+        check();
+
+        IntNode[] range = new IntNode[10];
+        tree.toArray(20, range, 10);
+        for (int i = 0; i < 10; ++i) {
+            assertSame(expected.get(20 + i), range[i]);
+        }
+        IntNode[] reversed = new IntNode[10];
+        for (int i = 0; i < 10; ++i) {
+            reversed[i] = range[9 - i];
+            expected.set(20 + i, range[9 - i]);
+        }
+        tree.setRange(20, reversed, 10);
+        check();
+    }
+
+    @Test
+    public void testBounds() {
+        int[] values = {1, 3, 3, 3, 5, 8};
+        for (int i = 0; i < values.length; ++i) {
+            IntNode n = new IntNode(values[i]);
+            tree.add(i, n);
+            expected.add(n);
+        }
+        assertEquals(0, tree.lowerBound(new IntNode(0), BY_VALUE));
+        assertEquals(1, tree.lowerBound(new IntNode(3), BY_VALUE));
+        assertEquals(4, tree.upperBound(new IntNode(3), BY_VALUE));
+        assertEquals(4, tree.lowerBound(new IntNode(4), BY_VALUE));
+        assertEquals(4, tree.upperBound(new IntNode(4), BY_VALUE));
+        assertEquals(6, tree.upperBound(new IntNode(9), BY_VALUE));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RankedBitSetTest {
+
+    private static void check(List<Boolean> expected, RankedBitSet bits) {
+        assertEquals(expected.size(), bits.length());
+        int rank = 0;
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i), bits.get(i));
+            assertEquals(rank, bits.rank(i));
+            if (expected.get(i)) {
+                assertEquals(i, bits.select(rank));
+                ++rank;
+            }
+        }
+        assertEquals(rank, bits.rank(expected.size()));
+        assertEquals(rank, bits.cardinality());
+    }
+
+    @Test
+    public void testReset() {
+        RankedBitSet bits = new RankedBitSet(0);
+        bits.reset(130, true);
+        assertEquals(130, bits.cardinality());
+        assertEquals(129, bits.select(129));
+        assertEquals(-1, bits.nextSetBit(130));
+        bits.reset(70, false);
+        assertEquals(0, bits.cardinality());
+        assertEquals(-1, bits.nextSetBit(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfBounds() {
+        RankedBitSet bits = new RankedBitSet(10);
+        bits.reset(10, false);
+        bits.set(3, true);
+        bits.select(1);
+    }
+
+    @Test
+    public void testSequentialSelect() {
+        RankedBitSet bits = new RankedBitSet(10);
+        bits.reset(1000, false);
+        for (int i = 0; i < 1000; i += 3) {
+            bits.set(i, true);
+        }
+        for (int r = 0; r < bits.cardinality(); ++r) {
+            assertEquals(r * 3, bits.select(r));
+        }
+        assertEquals(0, bits.select(0));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(11);
+        RankedBitSet bits = new RankedBitSet(4);
+        List<Boolean> expected = new ArrayList<>();
+        for (int step = 0; step < 400; ++step) {
+            switch (random.nextInt(3)) {
+                case 0: {
+                    int from = random.nextInt(expected.size() + 1);
+                    int removed = random.nextInt(Math.min(expected.size() - from, 100) + 1);
+                    int added = random.nextInt(150);
+                    bits.replace(from, removed, added);
+                    expected.subList(from, from + removed).clear();
+                    for (int i = 0; i < added; ++i) {
+                        expected.add(from, false);
+                    }
+                    break;
+                }
+                default:
+                    for (int i = 0; i < 20 && !expected.isEmpty(); ++i) {
+                        int index = random.nextInt(expected.size());
+                        boolean value = random.nextBoolean();
+                        assertEquals(expected.get(index) != value, bits.set(index, value));
+                        expected.set(index, value);
+                    }
+            }
+            check(expected, bits);
+        }
+    }
+}
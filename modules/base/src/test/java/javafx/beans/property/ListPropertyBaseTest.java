@@ -711,7 +711,7 @@ public class ListPropertyBaseTest {
         ObservableList<Person> expected = FXCollections.observableArrayList(
                 new Person("five"), new Person("one"), new Person("three"),
                 new Person("two"), new Person("zero"));
-        mlo.checkPermutation(0, expected, 0, expected.size(), new int[]{0, 4, 1, 2, 3});
+        mlo.checkPermutation(0, expected, 1, expected.size(), new int[]{4, 1, 2, 3});
         mlo.checkUpdate(1, expected, 4, 5);
     }
 
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.beans.property;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.DoubleChangeListener;
+import javafx.beans.value.IntegerChangeListener;
+
+import com.sun.javafx.binding.ExpressionHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveChangeListenerTest {
+
+    private static final double EPSILON = 1e-12;
+
+    private List<Object> events;
+
+    @Before
+    public void setUp() {
+        events = new ArrayList<Object>();
+    }
+
+    private DoubleChangeListener recordDouble() {
+        return (observable, oldValue, newValue) -> {
+            events.add(observable);
+            events.add(oldValue);
+            events.add(newValue);
+        };
+    }
+
+    private IntegerChangeListener recordInteger() {
+        return (observable, oldValue, newValue) -> {
+            events.add(observable);
+            events.add(oldValue);
+            events.add(newValue);
+        };
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNullDoubleListener() {
+        new SimpleDoubleProperty().addDoubleChangeListener(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testRemoveNullIntegerListener() {
+        new SimpleIntegerProperty().removeIntegerChangeListener(null);
+    }
+
+    @Test
+    public void testDoubleProperty() {
+        final DoubleProperty property = new SimpleDoubleProperty(1.0);
+        final DoubleChangeListener listener = recordDouble();
+        property.addDoubleChangeListener(listener);
+
+        property.set(2.5);
+        assertEquals(3, events.size());
+        assertSame(property, events.get(0));
+        assertEquals(1.0, (Double) events.get(1), EPSILON);
+        assertEquals(2.5, (Double) events.get(2), EPSILON);
+
+        events.clear();
+        property.set(2.5);
+        assertTrue(events.isEmpty());
+
+        property.removeDoubleChangeListener(listener);
+        property.set(3.0);
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testDoubleNaN() {
+        final DoubleProperty property = new SimpleDoubleProperty(Double.NaN);
+        property.addDoubleChangeListener(recordDouble());
+
+        property.set(Double.NaN);
+        assertTrue(events.isEmpty());
+
+        property.set(0.0);
+        assertEquals(3, events.size());
+        assertTrue(Double.isNaN((Double) events.get(1)));
+    }
+
+    @Test
+    public void testIntegerProperty() {
+        final IntegerProperty property = new SimpleIntegerProperty(7);
+        final IntegerChangeListener listener = recordInteger();
+        property.addIntegerChangeListener(listener);
+
+        property.set(42);
+        assertEquals(3, events.size());
+        assertSame(property, events.get(0));
+        assertEquals(7, events.get(1));
+        assertEquals(42, events.get(2));
+
+        events.clear();
+        property.set(42);
+        assertTrue(events.isEmpty());
+
+        property.removeIntegerChangeListener(listener);
+        property.set(43);
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testBoundPropertyIsRevalidated() {
+        final IntegerProperty source = new SimpleIntegerProperty(1);
+        final IntegerProperty property = new SimpleIntegerProperty();
+        property.bind(source.add(1));
+        property.addIntegerChangeListener(recordInteger());
+
+        source.set(2);
+        source.set(3);
+        assertEquals(6, events.size());
+        assertEquals(2, events.get(1));
+        assertEquals(3, events.get(2));
+        assertEquals(3, events.get(4));
+        assertEquals(4, events.get(5));
+    }
+
+    @Test
+    public void testReadOnlyWrapper() {
+        final ReadOnlyDoubleWrapper wrapper = new ReadOnlyDoubleWrapper(1.0);
+        final ReadOnlyDoubleProperty property = wrapper.getReadOnlyProperty();
+        property.addDoubleChangeListener(recordDouble());
+
+        wrapper.set(2.0);
+        assertEquals(3, events.size());
+        assertSame(property, events.get(0));
+        assertEquals(2.0, (Double) events.get(2), EPSILON);
+    }
+
+    @Test
+    public void testModificationDuringNotification() {
+        final IntegerProperty property = new SimpleIntegerProperty();
+        final IntegerChangeListener second = recordInteger();
+        final IntegerChangeListener third = recordInteger();
+        property.addIntegerChangeListener((observable, oldValue, newValue) -> {
+            property.removeIntegerChangeListener(second);
+            property.addIntegerChangeListener(third);
+        });
+        property.addIntegerChangeListener(second);
+
+        // second is removed and third is added during the notification,
+        // the running notification is not affected
+        property.set(1);
+        assertEquals(3, events.size());
+
+        events.clear();
+        property.set(2);
+        assertEquals(3, events.size());
+    }
+
+    @Test
+    public void testDefaultImplementationAdaptsListener() {
+        final DoubleProperty source = new SimpleDoubleProperty(1.0);
+        final ReadOnlyDoubleProperty property = new ReadOnlyDoubleProperty() {
+            private ExpressionHelper<Number> helper;
+            {
+                source.addListener(o -> ExpressionHelper.fireValueChangedEvent(helper));
+            }
+            @Override public double get() { return source.get(); }
+            @Override public Object getBean() { return null; }
+            @Override public String getName() { return ""; }
+            @Override public void addListener(InvalidationListener listener) { helper = ExpressionHelper.addListener(helper, this, listener); }
+            @Override public void removeListener(InvalidationListener listener) { helper = ExpressionHelper.removeListener(helper, listener); }
+            @Override public void addListener(ChangeListener<? super Number> listener) { helper = ExpressionHelper.addListener(helper, this, listener); }
+            @Override public void removeListener(ChangeListener<? super Number> listener) { helper = ExpressionHelper.removeListener(helper, listener); }
+        };
+        final DoubleChangeListener listener = recordDouble();
+        property.addDoubleChangeListener(listener);
+
+        source.set(2.0);
+        assertEquals(3, events.size());
+        assertSame(property, events.get(0));
+        assertEquals(1.0, (Double) events.get(1), EPSILON);
+        assertEquals(2.0, (Double) events.get(2), EPSILON);
+
+        events.clear();
+        property.removeDoubleChangeListener(listener);
+        source.set(3.0);
+        assertTrue(events.isEmpty());
+    }
+}
@@ -118,4 +118,34 @@ public class PropertyReferenceTest {
         Person.NO_READ_WRITE.set(person, 1);
     }
 
+    @Test
+    public void testReferencesShareAccessors() {
+        final PropertyReference<String> first = new PropertyReference<String>(Person.class, "name");
+        final PropertyReference<String> second = new PropertyReference<String>(Person.class, "name");
+        assertTrue(first.isReadable());
+        assertTrue(second.isReadable());
+        assertSame(first.getType(), second.getType());
+        person.setName("a");
+        assertEquals("a", second.get(person));
+        second.set(person, "b");
+        assertEquals("b", first.get(person));
+        assertSame(person.nameProperty(), first.getProperty(person));
+    }
+
+    @Test
+    public void testExceptionInGetterIsWrapped() {
+        final PropertyReference<String> property = new PropertyReference<String>(FailingBean.class, "value");
+        try {
+            property.get(new FailingBean());
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof java.lang.reflect.InvocationTargetException);
+            assertTrue(e.getCause().getCause() instanceof UnsupportedOperationException);
+        }
+    }
+
+    public static class FailingBean {
+        public String getValue() {throw new UnsupportedOperationException();}
+    }
+
 }
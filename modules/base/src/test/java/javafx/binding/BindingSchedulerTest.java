@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.BindingScheduler;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ChangeListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BindingSchedulerTest {
+
+    private static final double EPSILON = 1e-12;
+
+    private DoubleProperty a;
+    private DoubleBinding b;
+    private DoubleBinding c;
+    private DoubleBinding d;
+    private List<Double> changes;
+
+    @Before
+    public void setUp() {
+        a = new SimpleDoubleProperty(1.0);
+        b = Bindings.createDoubleBinding(() -> a.get() * 2, a);
+        c = Bindings.createDoubleBinding(() -> a.get() + 1, a);
+        d = Bindings.createDoubleBinding(() -> b.get() + c.get(), b, c);
+        changes = new ArrayList<Double>();
+        d.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> changes.add(newValue.doubleValue()));
+        BindingScheduler.resetEvaluationCounts();
+        BindingScheduler.setEvaluationCountingEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        BindingScheduler.setEvaluationCountingEnabled(false);
+        BindingScheduler.resetEvaluationCounts();
+        assertFalse(BindingScheduler.isInTransaction());
+    }
+
+    @Test
+    public void testDiamondWithoutTransaction() {
+        // documents the glitch the transactions avoid
+        a.set(2.0);
+        assertEquals(2, BindingScheduler.getEvaluationCount(d));
+        assertEquals(2, changes.size());
+        assertEquals(7.0, changes.get(1), EPSILON);
+    }
+
+    @Test
+    public void testDiamondInTransaction() {
+        BindingScheduler.runInTransaction(() -> a.set(2.0));
+        assertEquals(1, BindingScheduler.getEvaluationCount(b));
+        assertEquals(1, BindingScheduler.getEvaluationCount(c));
+        assertEquals(1, BindingScheduler.getEvaluationCount(d));
+        assertEquals(1, changes.size());
+        assertEquals(7.0, changes.get(0), EPSILON);
+    }
+
+    @Test
+    public void testInvalidationsAreDeferredUntilTransactionEnds() {
+        BindingScheduler.beginTransaction();
+        try {
+            assertTrue(BindingScheduler.isInTransaction());
+            a.set(2.0);
+            a.set(3.0);
+            assertTrue(d.isValid());
+            assertEquals(4.0, d.get(), EPSILON);
+            assertTrue(changes.isEmpty());
+        } finally {
+            BindingScheduler.endTransaction();
+        }
+        assertEquals(1, changes.size());
+        assertEquals(10.0, changes.get(0), EPSILON);
+        assertEquals(10.0, d.get(), EPSILON);
+        assertEquals(1, BindingScheduler.getEvaluationCount(d));
+    }
+
+    @Test
+    public void testNestedTransactions() {
+        BindingScheduler.beginTransaction();
+        BindingScheduler.runInTransaction(() -> a.set(2.0));
+        assertTrue(BindingScheduler.isInTransaction());
+        assertTrue(changes.isEmpty());
+        BindingScheduler.endTransaction();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testUnevenPaths() {
+        // e is two steps away from a on one path and one step on the other
+        final DoubleBinding b2 = Bindings.createDoubleBinding(() -> b.get() + 1, b);
+        final DoubleBinding e = Bindings.createDoubleBinding(() -> b2.get() + c.get(), c, b2);
+        final List<Double> values = new ArrayList<Double>();
+        e.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> values.add(newValue.doubleValue()));
+        BindingScheduler.resetEvaluationCounts();
+
+        BindingScheduler.runInTransaction(() -> a.set(5.0));
+        assertEquals(1, values.size());
+        assertEquals(17.0, values.get(0), EPSILON);
+        assertEquals(1, BindingScheduler.getEvaluationCount(e));
+        assertEquals(1, BindingScheduler.getEvaluationCount(b2));
+    }
+
+    @Test
+    public void testModificationByListenerIsProcessed() {
+        final IntegerProperty source = new SimpleIntegerProperty(0);
+        final IntegerProperty target = new SimpleIntegerProperty(0);
+        final IntegerBinding doubled = source.multiply(2);
+        final IntegerBinding result = target.add(1);
+        doubled.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> target.set(newValue.intValue()));
+        final AtomicReference<Number> last = new AtomicReference<Number>();
+        result.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> last.set(newValue));
+
+        BindingScheduler.runInTransaction(() -> source.set(4));
+        assertEquals(8, target.get());
+        assertEquals(9, last.get());
+    }
+
+    @Test
+    public void testDeepChainDoesNotRecurse() {
+        final IntegerProperty source = new SimpleIntegerProperty(0);
+        IntegerBinding last = source.add(0);
+        for (int i = 0; i < 100000; i++) {
+            final IntegerBinding previous = last;
+            last = Bindings.createIntegerBinding(() -> previous.get() + 1, previous);
+            last.get();
+        }
+        final int[] invalidations = new int[1];
+        last.addListener(o -> invalidations[0]++);
+
+        BindingScheduler.runInTransaction(() -> source.set(1));
+        assertEquals(1, invalidations[0]);
+        assertFalse(last.isValid());
+    }
+
+    @Test
+    public void testCountingDisabled() {
+        BindingScheduler.setEvaluationCountingEnabled(false);
+        assertFalse(BindingScheduler.isEvaluationCountingEnabled());
+        a.set(2.0);
+        assertEquals(0, BindingScheduler.getEvaluationCount(d));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEndWithoutBegin() {
+        BindingScheduler.endTransaction();
+    }
+
+    @Test
+    public void testTransactionOnOtherThread() throws Exception {
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        final List<Double> otherChanges = new ArrayList<Double>();
+        BindingScheduler.beginTransaction();
+        try {
+            // every thread has its own transactions
+            final Thread thread = new Thread(() -> {
+                try {
+                    final DoubleProperty other = new SimpleDoubleProperty();
+                    final DoubleBinding negated = other.negate();
+                    negated.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> otherChanges.add(newValue.doubleValue()));
+                    BindingScheduler.beginTransaction();
+                    try {
+                        assertTrue(BindingScheduler.isInTransaction());
+                        other.set(1.0);
+                        assertTrue(otherChanges.isEmpty());
+                    } finally {
+                        BindingScheduler.endTransaction();
+                    }
+                    assertFalse(BindingScheduler.isInTransaction());
+                } catch (Throwable t) {
+                    error.set(t);
+                }
+            });
+            thread.start();
+            thread.join();
+            assertTrue(BindingScheduler.isInTransaction());
+            // invalidations on other threads are not deferred
+            final DoubleProperty other = new SimpleDoubleProperty();
+            final DoubleBinding negated = other.negate();
+            negated.get();
+            final Thread modifier = new Thread(() -> other.set(1.0));
+            modifier.start();
+            modifier.join();
+            assertFalse(negated.isValid());
+        } finally {
+            BindingScheduler.endTransaction();
+        }
+        assertNull(error.get());
+        assertEquals(1, otherChanges.size());
+        assertEquals(-1.0, otherChanges.get(0), EPSILON);
+    }
+
+    @Test
+    public void testListenerRemovedDuringTransaction() {
+        final List<Double> removedChanges = new ArrayList<Double>();
+        final ChangeListener<Number> removed = (o, oldValue, newValue) -> removedChanges.add(newValue.doubleValue());
+        final List<Double> keptChanges = new ArrayList<Double>();
+        c.addListener(removed);
+        c.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> keptChanges.add(newValue.doubleValue()));
+        // notified before c, removes one of its listeners
+        b.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> c.removeListener(removed));
+        BindingScheduler.runInTransaction(() -> a.set(2.0));
+        assertTrue(removedChanges.isEmpty());
+        assertEquals(1, keptChanges.size());
+        assertEquals(3.0, keptChanges.get(0), EPSILON);
+        assertEquals(1, changes.size());
+        assertEquals(7.0, changes.get(0), EPSILON);
+    }
+
+    @Test
+    public void testFailingInvalidationDoesNotStopOthers() {
+        final DoubleBinding failing = new DoubleBinding() {
+            {
+                bind(a);
+            }
+
+            @Override
+            protected double computeValue() {
+                return a.get();
+            }
+
+            @Override
+            protected void onInvalidating() {
+                throw new IllegalStateException();
+            }
+        };
+        failing.get();
+        d.get();
+        final List<Throwable> errors = new ArrayList<Throwable>();
+        final Thread.UncaughtExceptionHandler old = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((t, e) -> errors.add(e));
+        try {
+            BindingScheduler.runInTransaction(() -> a.set(2.0));
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(old);
+        }
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof IllegalStateException);
+        assertEquals(1, changes.size());
+        assertEquals(7.0, changes.get(0), EPSILON);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testRunNull() {
+        BindingScheduler.runInTransaction(null);
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.binding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import javafx.beans.Observable;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.MapBinding;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BindingsAggregateTest {
+
+    private static final double EPSILON_DOUBLE = 1e-9;
+
+    private static final class Item {
+        final StringProperty group = new SimpleStringProperty();
+        final DoubleProperty value = new SimpleDoubleProperty();
+
+        Item(String group, double value) {
+            this.group.set(group);
+            this.value.set(value);
+        }
+    }
+
+    private ObservableList<Item> items;
+
+    @Before
+    public void setUp() {
+        items = FXCollections.observableArrayList(item -> new Observable[] {item.group, item.value});
+        items.addAll(new Item("a", 1), new Item("b", 2), new Item("a", 3));
+    }
+
+    @Test
+    public void testSum() {
+        final DoubleBinding sum = Bindings.sum(items, item -> item.value.get());
+        DependencyUtils.checkDependencies(sum.getDependencies(), items);
+
+        assertEquals(6, sum.get(), EPSILON_DOUBLE);
+        items.add(new Item("c", 4));
+        assertEquals(10, sum.get(), EPSILON_DOUBLE);
+        items.remove(0);
+        assertEquals(9, sum.get(), EPSILON_DOUBLE);
+        items.get(0).value.set(-2);
+        assertEquals(5, sum.get(), EPSILON_DOUBLE);
+        items.set(1, new Item("d", 0.5));
+        assertEquals(2.5, sum.get(), EPSILON_DOUBLE);
+        FXCollections.reverse(items);
+        assertEquals(2.5, sum.get(), EPSILON_DOUBLE);
+        items.clear();
+        assertEquals(0, sum.get(), 0);
+    }
+
+    @Test
+    public void testSum_NonFinite() {
+        final DoubleBinding sum = Bindings.sum(items, item -> item.value.get());
+        items.get(0).value.set(Double.POSITIVE_INFINITY);
+        assertEquals(Double.POSITIVE_INFINITY, sum.get(), 0);
+        items.get(1).value.set(Double.NEGATIVE_INFINITY);
+        assertTrue(Double.isNaN(sum.get()));
+        items.get(0).value.set(Double.NaN);
+        assertTrue(Double.isNaN(sum.get()));
+        items.get(1).value.set(1);
+        assertTrue(Double.isNaN(sum.get()));
+        items.get(0).value.set(1);
+        assertEquals(5, sum.get(), EPSILON_DOUBLE);
+    }
+
+    @Test
+    public void testSum_InvalidatedOncePerChange() {
+        final DoubleBinding sum = Bindings.sum(items, item -> item.value.get());
+        final int[] invalidations = new int[1];
+        sum.addListener(observable -> invalidations[0]++);
+        sum.get();
+        items.addAll(new Item("x", 1), new Item("y", 1));
+        assertEquals(1, invalidations[0]);
+    }
+
+    @Test
+    public void testSum_ListProperty() {
+        final ListProperty<Item> property = new SimpleListProperty<>();
+        final DoubleBinding sum = Bindings.sum(property, item -> item.value.get());
+        assertEquals(0, sum.get(), 0);
+        property.set(items);
+        assertEquals(6, sum.get(), EPSILON_DOUBLE);
+        items.add(new Item("c", 4));
+        assertEquals(10, sum.get(), EPSILON_DOUBLE);
+        property.set(FXCollections.observableArrayList(new Item("z", 7)));
+        assertEquals(7, sum.get(), EPSILON_DOUBLE);
+    }
+
+    @Test
+    public void testSum_Dispose() {
+        final DoubleBinding sum = Bindings.sum(items, item -> item.value.get());
+        assertEquals(6, sum.get(), EPSILON_DOUBLE);
+        sum.dispose();
+        items.add(new Item("c", 4));
+        assertEquals(6, sum.get(), EPSILON_DOUBLE);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSum_Null() {
+        Bindings.sum((ObservableList<Item>) null, item -> item.value.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSum_NullMapper() {
+        Bindings.sum(items, null);
+    }
+
+    @Test
+    public void testAverage() {
+        final DoubleBinding average = Bindings.average(items, item -> item.value.get());
+        DependencyUtils.checkDependencies(average.getDependencies(), items);
+
+        assertEquals(2, average.get(), EPSILON_DOUBLE);
+        items.add(new Item("c", 6));
+        assertEquals(3, average.get(), EPSILON_DOUBLE);
+        items.clear();
+        assertTrue(Double.isNaN(average.get()));
+    }
+
+    @Test
+    public void testMinMax() {
+        final ObjectBinding<Double> min = Bindings.min(items, item -> item.value.get());
+        final ObjectBinding<Double> max = Bindings.max(items, item -> item.value.get());
+        DependencyUtils.checkDependencies(min.getDependencies(), items);
+        DependencyUtils.checkDependencies(max.getDependencies(), items);
+
+        assertEquals(1, min.get(), 0);
+        assertEquals(3, max.get(), 0);
+        items.get(2).value.set(0);
+        assertEquals(0, min.get(), 0);
+        assertEquals(2, max.get(), 0);
+        items.remove(1);
+        assertEquals(1, max.get(), 0);
+        items.clear();
+        assertNull(min.get());
+        assertNull(max.get());
+    }
+
+    @Test
+    public void testMinMax_Comparator() {
+        final ObjectBinding<String> min = Bindings.min(items, item -> item.group.get(), Comparator.reverseOrder());
+        final ObjectBinding<String> max = Bindings.max(items, item -> item.group.get(), Comparator.reverseOrder());
+        assertEquals("b", min.get());
+        assertEquals("a", max.get());
+        items.get(1).group.set("0");
+        assertEquals("a", min.get());
+        assertEquals("0", max.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testMin_NullComparator() {
+        Bindings.min(items, item -> item.group.get(), null);
+    }
+
+    @Test
+    public void testCount() {
+        final IntegerBinding count = Bindings.count(items, item -> "a".equals(item.group.get()));
+        DependencyUtils.checkDependencies(count.getDependencies(), items);
+
+        assertEquals(2, count.get());
+        items.get(1).group.set("a");
+        assertEquals(3, count.get());
+        items.remove(0, 2);
+        assertEquals(1, count.get());
+        items.add(0, new Item("b", 0));
+        assertEquals(1, count.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testCount_Null() {
+        Bindings.count(items, null);
+    }
+
+    @Test
+    public void testCountBy() {
+        final MapBinding<String, Integer> counts = Bindings.countBy(items, item -> item.group.get());
+        DependencyUtils.checkDependencies(counts.getDependencies(), items);
+        final List<String> changes = new ArrayList<>();
+        counts.addListener((MapChangeListener<String, Integer>) c -> changes.add(c.getKey()
+                + (c.wasRemoved() ? " -" + c.getValueRemoved() : "")
+                + (c.wasAdded() ? " +" + c.getValueAdded() : "")));
+
+        assertEquals(map("a", 2, "b", 1), counts);
+        items.addAll(new Item("a", 0), new Item("a", 0), new Item("c", 0));
+        assertEquals(map("a", 4, "b", 1, "c", 1), counts);
+        assertEquals(2, changes.size());
+        assertTrue(changes.contains("a -2 +4"));
+        assertTrue(changes.contains("c +1"));
+
+        changes.clear();
+        items.get(1).group.set("c");
+        assertEquals(map("a", 4, "c", 2), counts);
+        assertTrue(changes.contains("b -1"));
+        assertTrue(changes.contains("c -1 +2"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCountBy_Unmodifiable() {
+        Bindings.countBy(items, item -> item.group.get()).put("x", 1);
+    }
+
+    @Test
+    public void testSumBy() {
+        final MapBinding<String, Double> sums = Bindings.sumBy(items, item -> item.group.get(), item -> item.value.get());
+        DependencyUtils.checkDependencies(sums.getDependencies(), items);
+
+        assertEquals(4, sums.get("a"), EPSILON_DOUBLE);
+        assertEquals(2, sums.get("b"), EPSILON_DOUBLE);
+        items.get(0).value.set(10);
+        assertEquals(13, sums.get("a"), EPSILON_DOUBLE);
+        items.remove(1);
+        assertFalse(sums.containsKey("b"));
+        items.setAll(new Item("x", 1), new Item("x", 2));
+        assertEquals(1, sums.size());
+        assertEquals(3, sums.get("x"), EPSILON_DOUBLE);
+    }
+
+    @Test
+    public void testRandomChanges() {
+        final Random random = new Random(3);
+        final DoubleBinding sum = Bindings.sum(items, item -> item.value.get());
+        final ObjectBinding<Double> min = Bindings.min(items, item -> item.value.get());
+        final IntegerBinding count = Bindings.count(items, item -> item.value.get() > 50);
+        final MapBinding<String, Integer> counts = Bindings.countBy(items, item -> item.group.get());
+
+        for (int step = 0; step < 2000; ++step) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    items.add(random.nextInt(items.size() + 1), randomItem(random));
+                    break;
+                case 1:
+                    if (!items.isEmpty()) {
+                        final int from = random.nextInt(items.size());
+                        items.remove(from, Math.min(items.size(), from + random.nextInt(3)));
+                    }
+                    break;
+                case 2:
+                    if (!items.isEmpty()) {
+                        items.set(random.nextInt(items.size()), randomItem(random));
+                    }
+                    break;
+                case 3:
+                    if (random.nextInt(20) == 0) {
+                        FXCollections.shuffle(items, random);
+                    }
+                    break;
+                default:
+                    if (!items.isEmpty()) {
+                        final Item item = items.get(random.nextInt(items.size()));
+                        item.value.set(random.nextInt(100));
+                        item.group.set("g" + random.nextInt(5));
+                    }
+            }
+            double expectedSum = 0;
+            Double expectedMin = null;
+            int expectedCount = 0;
+            final Map<String, Integer> expectedCounts = new HashMap<>();
+            for (Item item : items) {
+                expectedSum += item.value.get();
+                expectedMin = expectedMin == null ? item.value.get() : Math.min(expectedMin, item.value.get());
+                expectedCount += item.value.get() > 50 ? 1 : 0;
+                expectedCounts.merge(item.group.get(), 1, Integer::sum);
+            }
+            assertEquals(expectedSum, sum.get(), EPSILON_DOUBLE);
+            assertEquals(expectedMin, min.get());
+            assertEquals(expectedCount, count.get());
+            assertEquals(expectedCounts, counts);
+        }
+    }
+
+    @Test
+    public void testLargeList() {
+        final int size = 1_000_000;
+        final Random random = new Random(5);
+        final List<Item> initial = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            initial.add(randomItem(random));
+        }
+        items.setAll(initial);
+        final DoubleBinding sum = Bindings.sum(items, item -> item.value.get());
+        final ObjectBinding<Double> max = Bindings.max(items, item -> item.value.get());
+        final MapBinding<String, Double> sums = Bindings.sumBy(items, item -> item.group.get(), item -> item.value.get());
+
+        // The list finds the index of an element that reports a change by
+        // a linear search, so the elements are replaced instead
+        for (int i = 0; i < 100_000; ++i) {
+            items.set(random.nextInt(size), new Item("g" + random.nextInt(5), random.nextDouble() * 1000));
+            sum.get();
+            max.get();
+        }
+        items.remove(size / 2, size / 2 + 1000);
+        items.addAll(size / 3, initial.subList(0, 1000));
+
+        double expectedSum = 0;
+        double expectedMax = Double.NEGATIVE_INFINITY;
+        final Map<String, Double> expectedSums = new HashMap<>();
+        for (Item item : items) {
+            expectedSum += item.value.get();
+            expectedMax = Math.max(expectedMax, item.value.get());
+            expectedSums.merge(item.group.get(), item.value.get(), Double::sum);
+        }
+        assertEquals(expectedSum, sum.get(), 1e-6);
+        assertEquals(expectedMax, max.get(), 0);
+        assertEquals(expectedSums.keySet(), sums.keySet());
+        for (Map.Entry<String, Double> entry : expectedSums.entrySet()) {
+            assertEquals(entry.getValue(), sums.get(entry.getKey()), 1e-6);
+        }
+    }
+
+    private static Item randomItem(Random random) {
+        return new Item("g" + random.nextInt(5), random.nextInt(100));
+    }
+
+    private static <V> Map<String, V> map(Object... keysAndValues) {
+        final Map<String, V> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            @SuppressWarnings("unchecked")
+            final V value = (V) keysAndValues[i + 1];
+            map.put((String) keysAndValues[i], value);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.binding;
+
+import com.sun.javafx.binding.ErrorLoggingUtiltity;
+import java.util.logging.Level;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.binding.PropertyPath;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PropertyPathTest {
+
+    private ObjectProperty<Variable> root;
+    private Variable a;
+    private Variable b;
+    private ObjectBinding<String> name;
+
+    @Before
+    public void setUp() {
+        a = new Variable("a");
+        b = new Variable("b");
+        a.setNext(b);
+        root = new SimpleObjectProperty<Variable>(a);
+        name = PropertyPath.of(root)
+                .select(Variable::nextProperty)
+                .select(v -> ((Variable) v).nameProperty())
+                .toBinding();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullRoot() {
+        PropertyPath.of(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullStep() {
+        PropertyPath.of(root).select(null);
+    }
+
+    @Test
+    public void testRootOnly() {
+        final ObjectBinding<Variable> binding = PropertyPath.of(root).toBinding();
+        assertSame(a, binding.get());
+        root.set(b);
+        assertSame(b, binding.get());
+    }
+
+    @Test
+    public void testValue() {
+        assertEquals("b", name.get());
+        b.setName("c");
+        assertEquals("c", name.get());
+    }
+
+    @Test
+    public void testChangeOfIntermediateValues() {
+        final Variable c = new Variable("c");
+        a.setNext(c);
+        assertEquals("c", name.get());
+
+        final Variable d = new Variable("d");
+        d.setNext(b);
+        root.set(d);
+        assertEquals("b", name.get());
+    }
+
+    @Test
+    public void testInvalidation() {
+        final int[] counter = new int[1];
+        final InvalidationListener listener = o -> counter[0]++;
+        name.addListener(listener);
+        name.get();
+        b.setName("x");
+        assertEquals(1, counter[0]);
+        name.get();
+        a.setNext(new Variable("y"));
+        assertEquals(2, counter[0]);
+        // b is no longer on the path
+        name.get();
+        b.setName("z");
+        assertEquals(2, counter[0]);
+    }
+
+    @Test
+    public void testNullOnPath() {
+        a.setNext(null);
+        assertNull(name.get());
+        root.set(null);
+        assertNull(name.get());
+        root.set(a);
+        a.setNext(b);
+        assertEquals("b", name.get());
+    }
+
+    @Test
+    public void testNullStepResult() {
+        final ObjectBinding<Object> binding = PropertyPath.of(root).select(v -> null).toBinding();
+        assertNull(binding.get());
+    }
+
+    @Test
+    public void testFailingStepIsLogged() {
+        final ErrorLoggingUtiltity log = new ErrorLoggingUtiltity();
+        final ObjectBinding<Object> binding = PropertyPath.of(root).select(v -> {
+            throw new IllegalStateException();
+        }).toBinding();
+        log.start();
+        try {
+            assertNull(binding.get());
+            log.check(Level.WARNING, IllegalStateException.class);
+        } finally {
+            log.stop();
+        }
+    }
+
+    @Test
+    public void testDependencies() {
+        final ObservableList<?> dependencies = name.getDependencies();
+        name.get();
+        assertEquals(3, dependencies.size());
+        assertSame(root, dependencies.get(0));
+        assertSame(a.nextProperty(), dependencies.get(1));
+        assertSame(b.nameProperty(), dependencies.get(2));
+
+        a.setNext(null);
+        name.get();
+        assertEquals(2, dependencies.size());
+    }
+
+    @Test
+    public void testSharedPrefix() {
+        final PropertyPath<Object> next = PropertyPath.of(root).select(Variable::nextProperty);
+        final ObjectBinding<Object> nextBinding = next.toBinding();
+        final ObjectBinding<String> nextName = next.select(v -> ((Variable) v).nameProperty()).toBinding();
+        assertSame(b, nextBinding.get());
+        assertEquals("b", nextName.get());
+        assertEquals("b", name.get());
+    }
+
+    @Test
+    public void testDispose() {
+        name.get();
+        name.dispose();
+        final int[] counter = new int[1];
+        name.addListener((InvalidationListener) o -> counter[0]++);
+        root.set(null);
+        b.setName("x");
+        assertEquals(0, counter[0]);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import com.sun.javafx.collections.ChangeCoalescer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CoalescingObservableCollectionsTest {
+
+    private int pulseRequests;
+
+    @Before
+    public void setUp() {
+        FXCollections.flushCoalescedChanges();
+        ChangeCoalescer.resetCounters();
+        ChangeCoalescer.setPulseRequester(() -> pulseRequests++);
+    }
+
+    @After
+    public void tearDown() {
+        ChangeCoalescer.setPulseRequester(null);
+    }
+
+    @Test
+    public void testListChangesAreDeliveredOnFlush() {
+        ObservableList<String> list = FXCollections.coalescingObservableList(new ArrayList<>());
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        assertEquals(3, list.size());
+        observer.check0();
+        assertEquals(1, pulseRequests);
+
+        FXCollections.flushCoalescedChanges();
+        observer.check1AddRemove(list, null, 0, 3);
+        assertFalse(ChangeCoalescer.hasPendingChanges());
+    }
+
+    @Test
+    public void testListChangesAreCompacted() {
+        ObservableList<String> list = FXCollections.coalescingObservableList(new ArrayList<>(Arrays.asList("a", "b", "c")));
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        list.add("d");
+        list.remove("d");
+        list.set(1, "x");
+        list.set(1, "y");
+        FXCollections.flushCoalescedChanges();
+
+        observer.check1AddRemove(list, Arrays.asList("b"), 1, 2);
+        assertEquals(Arrays.asList("a", "y", "c"), list);
+    }
+
+    @Test
+    public void testListReadsAreNotMutations() {
+        ObservableList<String> list = FXCollections.coalescingObservableList(new ArrayList<>(Arrays.asList("a", "b", "c")));
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        assertEquals(Arrays.asList("b", "c"), list.subList(1, 3));
+        assertEquals(0, ChangeCoalescer.getMutationCount());
+        assertFalse(ChangeCoalescer.hasPendingChanges());
+
+        list.subList(1, 3).clear();
+        FXCollections.flushCoalescedChanges();
+        observer.check1AddRemove(list, Arrays.asList("b", "c"), 1, 1);
+        assertEquals(1, ChangeCoalescer.getNotificationCount());
+    }
+
+    @Test
+    public void testCancelledListChangesAreNotCounted() {
+        ObservableList<String> list = FXCollections.coalescingObservableList(new ArrayList<>(Arrays.asList("a")));
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        list.add("b");
+        list.remove("b");
+        FXCollections.flushCoalescedChanges();
+        observer.check0();
+        assertEquals(0, ChangeCoalescer.getNotificationCount());
+
+        list.add("c");
+        FXCollections.flushCoalescedChanges();
+        observer.check1AddRemove(list, null, 1, 2);
+        assertEquals(1, ChangeCoalescer.getNotificationCount());
+    }
+
+    @Test
+    public void testListSort() {
+        ObservableList<String> list = FXCollections.coalescingObservableList(new ArrayList<>(Arrays.asList("c", "a", "b")));
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        FXCollections.sort(list);
+        observer.check0();
+        FXCollections.flushCoalescedChanges();
+        observer.check1Permutation(list, new int[] {2, 0, 1});
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void testListSubListModification() {
+        ObservableList<String> list = FXCollections.coalescingObservableList(new ArrayList<>(Arrays.asList("a", "b", "c")));
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+
+        list.subList(0, 2).clear();
+        observer.check0();
+        FXCollections.flushCoalescedChanges();
+        observer.check1AddRemove(list, Arrays.asList("a", "b"), 0, 0);
+    }
+
+    @Test
+    public void testChangesMadeDuringFlushAreDeliveredOnNextFlush() {
+        ObservableList<String> list = FXCollections.coalescingObservableList(new ArrayList<>());
+        List<Integer> sizes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) c -> {
+            sizes.add(list.size());
+            if (list.size() == 1) {
+                list.add("second");
+            }
+        });
+
+        list.add("first");
+        FXCollections.flushCoalescedChanges();
+        assertEquals(Arrays.asList(1), sizes);
+        assertTrue(ChangeCoalescer.hasPendingChanges());
+        FXCollections.flushCoalescedChanges();
+        assertEquals(Arrays.asList(1, 2), sizes);
+    }
+
+    @Test
+    public void testMapChangesAreMergedPerKey() {
+        ObservableMap<String, Integer> map = FXCollections.coalescingObservableMap(new HashMap<>());
+        map.put("unchanged", 0);
+        map.put("removed", 0);
+        FXCollections.flushCoalescedChanges();
+
+        MockMapObserver<String, Integer> observer = new MockMapObserver<>();
+        map.addListener(observer);
+        for (int i = 1; i <= 100; i++) {
+            map.put("counter", i);
+        }
+        map.put("unchanged", 5);
+        map.put("unchanged", 0);
+        map.remove("removed");
+        map.put("transient", 1);
+        map.remove("transient");
+        observer.check0();
+
+        FXCollections.flushCoalescedChanges();
+        observer.assertMultipleCalls(MockMapObserver.Call.call("counter", null, 100),
+                MockMapObserver.Call.call("removed", 0, null));
+    }
+
+    @Test
+    public void testSetChangesAreMergedPerElement() {
+        ObservableSet<String> set = FXCollections.coalescingObservableSet(new HashSet<>(Arrays.asList("a")));
+        MockSetObserver<String> observer = new MockSetObserver<>();
+        set.addListener(observer);
+
+        set.add("b");
+        set.remove("b");
+        set.remove("a");
+        set.add("c");
+        observer.check0();
+
+        FXCollections.flushCoalescedChanges();
+        observer.assertMultipleCalls(MockSetObserver.Call.call("a", null),
+                MockSetObserver.Call.call(null, "c"));
+    }
+
+    @Test
+    public void testCoalescingRatio() {
+        ObservableList<Integer> list = FXCollections.coalescingObservableList(new ArrayList<>());
+        list.addListener((ListChangeListener<Integer>) c -> { });
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        FXCollections.flushCoalescedChanges();
+
+        assertEquals(1000, ChangeCoalescer.getMutationCount());
+        assertEquals(1, ChangeCoalescer.getNotificationCount());
+        assertEquals(1, ChangeCoalescer.getFlushCount());
+        assertEquals(1000.0, ChangeCoalescer.getCoalescingRatio(), 0);
+    }
+}
@@ -26,10 +26,14 @@
 package javafx.collections;
 
 import com.sun.javafx.collections.ObservableListWrapper;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javafx.beans.Observable;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.transformation.FilteredList;
@@ -243,4 +247,65 @@ public class FilteredListTest {
         assertEquals(list.size(), filteredList.size());
         assertEquals(list, filteredList);
     }
+
+    @Test
+    public void testRandomChangesAreMirrored() {
+        Random random = new Random(5);
+        ObservableList<Person> items = FXCollections.observableArrayList(
+                (Person p) -> new Observable[]{p.name});
+        for (int i = 0; i < 300; ++i) {
+            items.add(new Person("n" + random.nextInt(10)));
+        }
+        Predicate<Person> predicate = p -> p.name.get().compareTo("n5") < 0;
+        FilteredList<Person> filtered = items.filtered(predicate);
+        List<Person> mirror = new ArrayList<>(filtered);
+        filtered.addListener(mirrorTo(mirror));
+
+        for (int step = 0; step < 300; ++step) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    items.add(random.nextInt(items.size() + 1), new Person("n" + random.nextInt(10)));
+                    break;
+                case 1:
+                    items.remove(random.nextInt(items.size()));
+                    break;
+                case 2: {
+                    int from = random.nextInt(items.size());
+                    items.remove(from, Math.min(items.size(), from + random.nextInt(8)));
+                    items.addAll(from, Person.createPersonsList("n1", "n7", "n3"));
+                    break;
+                }
+                case 3:
+                    FXCollections.sort(items, (a, b) -> b.name.get().compareTo(a.name.get()));
+                    break;
+                default:
+                    items.get(random.nextInt(items.size())).name.set("n" + random.nextInt(10));
+            }
+            List<Person> expected = items.stream().filter(predicate).collect(Collectors.toList());
+            assertEquals(expected, filtered);
+            assertEquals(expected, mirror);
+            for (int i = 0; i < filtered.size(); ++i) {
+                assertSame(filtered.get(i), items.get(filtered.getSourceIndex(i)));
+            }
+        }
+    }
+
+    /**
+     * Returns a listener which applies every change to the given list.
+     */
+    private static <E> ListChangeListener<E> mirrorTo(List<E> target) {
+        return c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<E> copy = new ArrayList<>(target.subList(c.getFrom(), c.getTo()));
+                    for (int i = c.getFrom(); i < c.getTo(); ++i) {
+                        target.set(c.getPermutation(i), copy.get(i - c.getFrom()));
+                    }
+                } else if (!c.wasUpdated()) {
+                    target.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    target.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        };
+    }
 }
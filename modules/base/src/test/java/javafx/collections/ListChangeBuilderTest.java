@@ -152,6 +152,50 @@ public class ListChangeBuilderTest {
 
     }
 
+    @Test
+    public void testAddRemove_6() {
+        builder.beginChange();
+
+        list.add(1, "x");
+        builder.nextAdd(1, 2);
+
+        list.remove(3);
+        builder.nextRemove(3, "c");
+
+        list.remove(1);
+        builder.nextRemove(1, "x");
+
+        builder.endChange();
+
+        assertEquals(Arrays.asList("a", "b", "d"), list);
+        observer.check1AddRemove(observableList, Arrays.asList("c"), 2, 2);
+    }
+
+    @Test
+    public void testAddRemove_7() {
+        builder.beginChange();
+
+        list.remove(0);
+        builder.nextRemove(0, "a");
+        list.add(0, "x");
+        builder.nextAdd(0, 1);
+
+        list.remove(2);
+        builder.nextRemove(2, "c");
+        list.add(2, "y");
+        builder.nextAdd(2, 3);
+
+        list.remove(1);
+        builder.nextRemove(1, "b");
+        list.remove(0);
+        builder.nextRemove(0, "x");
+
+        builder.endChange();
+
+        assertEquals(Arrays.asList("y", "d"), list);
+        observer.check1AddRemove(observableList, Arrays.asList("a", "b", "c"), 0, 1);
+    }
+
     @Test
     public void testAdd() {
         builder.beginChange();
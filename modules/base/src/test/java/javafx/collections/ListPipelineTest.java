@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javafx.beans.Observable;
+import javafx.collections.transformation.ListPipeline;
+import javafx.collections.transformation.ListPipeline.Group;
+import javafx.collections.transformation.TransformationList;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ListPipelineTest {
+
+    private ObservableList<Person> items;
+
+    @Before
+    public void setUp() {
+        items = FXCollections.observableArrayList((Person p) -> new Observable[]{p.name});
+        items.addAll(Person.createPersonsList("dd", "a", "ccc", "bb", "a", "eee"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSource() {
+        ListPipeline.from(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullPredicate() {
+        ListPipeline.from(items).filter(null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDistinctAfterDistinct() {
+        ListPipeline.from(items).distinct().distinct();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGroupByAfterSorted() {
+        ListPipeline.from(items).sorted(Comparator.naturalOrder()).groupBy(p -> p.name.get());
+    }
+
+    @Test
+    public void testEmptyPipeline() {
+        TransformationList<Person, Person> list = ListPipeline.from(items).toList();
+        assertEquals(items, list);
+        assertSame(items, list.getSource());
+        assertEquals(3, list.getSourceIndex(3));
+    }
+
+    @Test
+    public void testFilterMapSort() {
+        TransformationList<String, Person> list = ListPipeline.from(items)
+                .filter(p -> p.name.get().length() > 1)
+                .map(p -> p.name.get())
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        assertEquals(Arrays.asList("eee", "dd", "ccc", "bb"), list);
+        assertEquals(5, list.getSourceIndex(0));
+        assertEquals(0, list.getSourceIndex(1));
+        assertEquals(2, list.getSourceIndex(2));
+        assertEquals(3, list.getSourceIndex(3));
+    }
+
+    @Test
+    public void testLaterSortTakesPrecedence() {
+        TransformationList<Person, Person> list = ListPipeline.from(items)
+                .sorted(Comparator.naturalOrder())
+                .sorted(Comparator.comparing(p -> p.name.get().length()))
+                .toList();
+        assertEquals(Person.createPersonsList("a", "a", "bb", "dd", "ccc", "eee"), list);
+        assertEquals(1, list.getSourceIndex(0));
+        assertEquals(4, list.getSourceIndex(1));
+    }
+
+    @Test
+    public void testDistinctKeepsFirst() {
+        TransformationList<Integer, Person> list = ListPipeline.from(items)
+                .map(p -> p.name.get().length())
+                .distinct()
+                .toList();
+        assertEquals(Arrays.asList(2, 1, 3), list);
+        assertEquals(Arrays.asList(0, 1, 2),
+                Arrays.asList(list.getSourceIndex(0), list.getSourceIndex(1), list.getSourceIndex(2)));
+
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        list.addListener(observer);
+        items.remove(0); // "dd" goes, "bb" becomes the first of length 2
+        assertEquals(Arrays.asList(1, 3, 2), list);
+        assertEquals(3 - 1, list.getSourceIndex(2));
+    }
+
+    @Test
+    public void testUpdateWithoutMove() {
+        TransformationList<Person, Person> list = ListPipeline.from(items)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+        MockListObserver<Person> observer = new MockListObserver<>();
+        list.addListener(observer);
+        items.get(0).name.set("de"); // "dd" -> "de", stays at 4
+        observer.check1Update(list, 4, 5);
+    }
+
+    @Test
+    public void testUpdateMoves() {
+        TransformationList<Person, Person> list = ListPipeline.from(items)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+        MockListObserver<Person> observer = new MockListObserver<>();
+        list.addListener(observer);
+        items.get(5).name.set("b"); // "eee" -> "b", moves from 5 to 2
+        ObservableList<Person> expected = Person.createPersonsList("a", "a", "b", "bb", "ccc", "dd");
+        assertEquals(expected, list);
+        observer.checkPermutation(0, expected, 2, 6, new int[] {3, 4, 5, 2});
+        observer.checkUpdate(1, expected, 2, 3);
+    }
+
+    @Test
+    public void testMappedUpdateIsReplacement() {
+        TransformationList<String, Person> list = ListPipeline.from(items)
+                .map(p -> p.name.get().toUpperCase())
+                .toList();
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+        items.get(1).name.set("x");
+        assertEquals(Arrays.asList("DD", "X", "CCC", "BB", "A", "EEE"), list);
+        observer.check1AddRemove(list, Arrays.asList("A"), 1, 2);
+    }
+
+    @Test
+    public void testMappedUpdateToEqualValueIsUpdate() {
+        TransformationList<String, Person> list = ListPipeline.from(items)
+                .map(p -> p.name.get().toUpperCase())
+                .toList();
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+        items.get(1).name.set("A"); // maps to an equal, but new "A"
+        assertEquals(Arrays.asList("DD", "A", "CCC", "BB", "A", "EEE"), list);
+        observer.check1Update(list, 1, 2);
+    }
+
+    @Test
+    public void testGroupBy() {
+        TransformationList<Group<Integer, String>, Person> list = ListPipeline.from(items)
+                .map(p -> p.name.get())
+                .groupBy(String::length)
+                .toList();
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(2), list.get(0).getKey());
+        assertEquals(Arrays.asList("dd", "bb"), list.get(0).getElements());
+        assertEquals(Arrays.asList("a", "a"), list.get(1).getElements());
+        assertEquals(Arrays.asList("ccc", "eee"), list.get(2).getElements());
+        assertEquals(1, list.getSourceIndex(1));
+
+        Group<Integer, String> twos = list.get(0);
+        MockListObserver<Group<Integer, String>> observer = new MockListObserver<>();
+        list.addListener(observer);
+        items.add(1, new Person("ff"));
+        assertEquals(Arrays.asList("dd", "ff", "bb"), twos.getElements());
+        observer.check1Update(list, 0, 1);
+
+        observer.clear();
+        items.removeAll(Person.createPersonsList("dd", "ff", "bb"));
+        assertEquals(2, list.size());
+        assertEquals(Integer.valueOf(1), list.get(0).getKey());
+        assertEquals(Collections.emptyList(), twos.getElements());
+    }
+
+    @Test
+    public void testRandomFilterMapSort() {
+        checkRandom(ListPipeline.from(items)
+                        .filter(p -> !p.name.get().startsWith("n1"))
+                        .map(p -> p.name.get())
+                        .sorted(Comparator.comparing(String::length))
+                        .toList(),
+                () -> items.stream()
+                        .filter(p -> !p.name.get().startsWith("n1"))
+                        .map(p -> p.name.get())
+                        .sorted(Comparator.comparing(String::length))
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testRandomSortedIdentity() {
+        checkRandom(ListPipeline.from(items)
+                        .sorted(Comparator.naturalOrder())
+                        .toList(),
+                () -> {
+                    List<Person> expected = new ArrayList<>(items);
+                    Collections.sort(expected);
+                    return expected;
+                });
+    }
+
+    @Test
+    public void testRandomDistinct() {
+        checkRandom(ListPipeline.from(items)
+                        .map(p -> p.name.get())
+                        .distinct()
+                        .filter(s -> !s.endsWith("3"))
+                        .sorted(Comparator.reverseOrder())
+                        .toList(),
+                () -> items.stream()
+                        .map(p -> p.name.get())
+                        .distinct()
+                        .filter(s -> !s.endsWith("3"))
+                        .sorted(Comparator.reverseOrder())
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testRandomGroupBy() {
+        Function<Person, String> classifier = p -> p.name.get().substring(0, Math.min(2, p.name.get().length()));
+        checkRandom(ListPipeline.from(items)
+                        .filter(p -> !p.name.get().endsWith("7"))
+                        .groupBy(classifier)
+                        .map(g -> g.getKey() + "=" + g.getElements())
+                        .toList(),
+                () -> {
+                    Map<String, List<Person>> groups = items.stream()
+                            .filter(p -> !p.name.get().endsWith("7"))
+                            .collect(Collectors.groupingBy(classifier, LinkedHashMap::new, Collectors.toList()));
+                    return groups.entrySet().stream()
+                            .map(e -> e.getKey() + "=" + e.getValue())
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private <T> void checkRandom(TransformationList<T, Person> list, java.util.function.Supplier<List<T>> expected) {
+        Random random = new Random(17);
+        items.clear();
+        for (int i = 0; i < 60; ++i) {
+            items.add(new Person("n" + random.nextInt(30)));
+        }
+        List<T> mirror = new ArrayList<>(list);
+        list.addListener(mirrorTo(mirror));
+        assertEquals(expected.get(), list);
+
+        for (int step = 0; step < 300; ++step) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    items.add(random.nextInt(items.size() + 1), new Person("n" + random.nextInt(30)));
+                    break;
+                case 1:
+                    items.remove(random.nextInt(items.size()));
+                    break;
+                case 2:
+                    items.set(random.nextInt(items.size()), new Person("n" + random.nextInt(30)));
+                    break;
+                case 3:
+                    if (random.nextInt(4) == 0) {
+                        FXCollections.shuffle(items, random);
+                    }
+                    break;
+                default:
+                    items.get(random.nextInt(items.size())).name.set("n" + random.nextInt(30));
+            }
+            assertEquals(expected.get(), list);
+            assertEquals(expected.get(), mirror);
+        }
+    }
+
+    private static <E> ListChangeListener<E> mirrorTo(List<E> target) {
+        return c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<E> copy = new ArrayList<>(target.subList(c.getFrom(), c.getTo()));
+                    for (int i = c.getFrom(); i < c.getTo(); ++i) {
+                        target.set(c.getPermutation(i), copy.get(i - c.getFrom()));
+                    }
+                } else if (!c.wasUpdated()) {
+                    target.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    target.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ObservableIntegerMapTest {
+
+    private ObservableIntegerMap<String> map;
+    private List<String> changes;
+    private int invalidations;
+
+    @Before
+    public void setUp() {
+        map = FXCollections.observableIntegerMap();
+        changes = new ArrayList<>();
+        map.addListener((ObservableIntegerMap<? extends String> m, int key, String removed, String added) ->
+                changes.add(key + ":" + removed + "->" + added));
+        map.addListener(o -> invalidations++);
+    }
+
+    @Test
+    public void testPutAndGet() {
+        assertNull(map.put(1, "one"));
+        assertNull(map.put(-5, "minus five"));
+        assertNull(map.put(0, "zero"));
+        assertEquals(3, map.size());
+        assertEquals("one", map.get(1));
+        assertEquals("minus five", map.get(-5));
+        assertEquals("zero", map.get(0));
+        assertNull(map.get(2));
+        assertEquals("dflt", map.getOrDefault(2, "dflt"));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(7));
+        assertEquals(Arrays.asList("1:null->one", "-5:null->minus five", "0:null->zero"), changes);
+        assertEquals(3, invalidations);
+    }
+
+    @Test
+    public void testReplace() {
+        map.put(1, "one");
+        changes.clear();
+        assertEquals("one", map.put(1, "uno"));
+        assertEquals("uno", map.get(1));
+        assertEquals(1, map.size());
+        assertEquals(Arrays.asList("1:one->uno"), changes);
+    }
+
+    @Test
+    public void testPutSameValueDoesNotNotify() {
+        String value = "one";
+        map.put(1, value);
+        changes.clear();
+        invalidations = 0;
+        assertSame(value, map.put(1, value));
+        assertTrue(changes.isEmpty());
+        assertEquals(0, invalidations);
+    }
+
+    @Test
+    public void testPutEqualValueDoesNotNotify() {
+        map.put(1, new String("one"));
+        changes.clear();
+        invalidations = 0;
+        String equal = new String("one");
+        assertEquals("one", map.put(1, equal));
+        assertSame(equal, map.get(1));
+        assertTrue(changes.isEmpty());
+        assertEquals(0, invalidations);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValue() {
+        map.put(1, null);
+    }
+
+    @Test
+    public void testRemove() {
+        map.put(1, "one");
+        map.put(2, "two");
+        changes.clear();
+        assertEquals("one", map.remove(1));
+        assertNull(map.remove(1));
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey(1));
+        assertEquals("two", map.get(2));
+        assertEquals(Arrays.asList("1:one->null"), changes);
+    }
+
+    @Test
+    public void testClear() {
+        map.put(1, "one");
+        map.put(2, "two");
+        changes.clear();
+        invalidations = 0;
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(2, changes.size());
+        assertTrue(changes.contains("1:one->null"));
+        assertTrue(changes.contains("2:two->null"));
+        assertEquals(1, invalidations);
+        changes.clear();
+        map.clear();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void testKeys() {
+        map.put(3, "c");
+        map.put(1, "a");
+        map.put(2, "b");
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[] {1, 2, 3}, keys);
+        int[] sum = new int[1];
+        map.forEachKey(k -> sum[0] += k);
+        assertEquals(6, sum[0]);
+    }
+
+    @Test
+    public void testRemoveListener() {
+        IntegerMapChangeListener<String> listener = (m, key, removed, added) -> fail();
+        map.addListener(listener);
+        map.removeListener(listener);
+        map.put(1, "one");
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        Random random = new Random(42);
+        Map<Integer, String> reference = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // a small key range causes lots of collisions and removals in probe chains
+            int key = random.nextInt(512) - 256;
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                String value = "v" + i;
+                assertEquals(reference.put(key, value), map.put(key, value));
+            }
+            assertEquals(reference.size(), map.size());
+        }
+        for (int key = -256; key < 256; key++) {
+            assertEquals(reference.get(key), map.get(key));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ObservableIntegerSetTest {
+
+    private ObservableIntegerSet set;
+    private List<String> changes;
+    private int invalidations;
+
+    @Before
+    public void setUp() {
+        set = FXCollections.observableIntegerSet();
+        changes = new ArrayList<>();
+        set.addListener((ObservableIntegerSet s, int element, boolean wasAdded) ->
+                changes.add((wasAdded ? "+" : "-") + element));
+        set.addListener(o -> invalidations++);
+    }
+
+    @Test
+    public void testAddAndContains() {
+        assertTrue(set.add(0));
+        assertTrue(set.add(-1));
+        assertFalse(set.add(0));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-1));
+        assertFalse(set.contains(1));
+        assertEquals(Arrays.asList("+0", "+-1"), changes);
+        assertEquals(2, invalidations);
+    }
+
+    @Test
+    public void testAddAll() {
+        assertTrue(set.addAll(1, 2, 2, 3));
+        assertFalse(set.addAll(1, 3));
+        assertEquals(3, set.size());
+        assertEquals(Arrays.asList("+1", "+2", "+3"), changes);
+        assertEquals(1, invalidations);
+    }
+
+    @Test
+    public void testRemove() {
+        set.addAll(1, 2);
+        changes.clear();
+        assertTrue(set.remove(1));
+        assertFalse(set.remove(1));
+        assertFalse(set.contains(1));
+        assertTrue(set.contains(2));
+        assertEquals(Arrays.asList("-1"), changes);
+    }
+
+    @Test
+    public void testClear() {
+        set.addAll(4, 5, 6);
+        changes.clear();
+        invalidations = 0;
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertEquals(3, changes.size());
+        assertEquals(1, invalidations);
+    }
+
+    @Test
+    public void testToArrayAndForEach() {
+        ObservableIntegerSet s = FXCollections.observableIntegerSet(7, 3, 5);
+        int[] elements = s.toArray();
+        Arrays.sort(elements);
+        assertArrayEquals(new int[] {3, 5, 7}, elements);
+        int[] sum = new int[1];
+        s.forEach(e -> sum[0] += e);
+        assertEquals(15, sum[0]);
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashSet() {
+        Random random = new Random(7);
+        Set<Integer> reference = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            int element = random.nextInt(300);
+            if (random.nextBoolean()) {
+                assertEquals(reference.remove(element), set.remove(element));
+            } else {
+                assertEquals(reference.add(element), set.add(element));
+            }
+            assertEquals(reference.size(), set.size());
+        }
+        for (int e = 0; e < 300; e++) {
+            assertEquals(reference.contains(e), set.contains(e));
+        }
+    }
+}
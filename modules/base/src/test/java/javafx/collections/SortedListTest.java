@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
 
 import javafx.beans.Observable;
 import javafx.beans.property.SimpleObjectProperty;
@@ -255,7 +256,7 @@ public class SortedListTest {
         ObservableList<Person> expected = FXCollections.observableArrayList(
                 new Person("five"), new Person("one"), new Person("three"),
                 new Person("two"), new Person("zero"));
-        listener.checkPermutation(0, expected, 0, list.size(), new int[]{0, 4, 1, 2, 3});
+        listener.checkPermutation(0, expected, 1, list.size(), new int[]{4, 1, 2, 3});
         listener.checkUpdate(1, expected, 4, 5);
         assertEquals(expected, sorted);
 
@@ -292,7 +293,7 @@ public class SortedListTest {
         ObservableList<Person> expected = FXCollections.observableArrayList(
                 new Person("five"), new Person("one"), new Person("three"),
                 new Person("two"), new Person("zero"));
-        listener.checkPermutation(0, expected, 0, expected.size(), new int[] {0, 4, 1, 2, 3});
+        listener.checkPermutation(0, expected, 1, expected.size(), new int[] {4, 1, 2, 3});
         listener.checkUpdate(1, expected, 4, 5);
         assertEquals(expected, sorted);
         assertEquals(expected, unsorted);
@@ -600,4 +601,106 @@ public class SortedListTest {
         mockListObserver.check1Permutation(sortedList, new int[] {0, 3, 2, 1});
         compareIndices();
     }
+
+    @Test
+    public void testUpdateMovesOnlyChangedRange() {
+        ObservableList<Person> items = FXCollections.observableArrayList(
+                (Person p) -> new Observable[]{p.name});
+        for (int i = 0; i < 10; ++i) {
+            items.add(new Person("p" + i));
+        }
+        SortedList<Person> sorted = items.sorted();
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+
+        items.get(7).name.set("p35"); // moves from 7 to 4
+        listener.checkPermutation(0, sorted, 4, 8, new int[] {5, 6, 7, 4});
+        listener.checkUpdate(1, sorted, 4, 5);
+        compareIndices(sorted);
+
+        listener.clear();
+        items.get(2).name.set("p25"); // stays at 2
+        listener.check1Update(sorted, 2, 3);
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testEqualElementsKeepOrderOnUpdate() {
+        ObservableList<Person> items = FXCollections.observableArrayList(
+                (Person p) -> new Observable[]{p.name});
+        Person first = new Person("b");
+        Person second = new Person("b");
+        Person third = new Person("b");
+        items.addAll(first, second, third);
+        SortedList<Person> sorted = items.sorted();
+
+        second.name.set("b");
+        assertSame(first, sorted.get(0));
+        assertSame(second, sorted.get(1));
+        assertSame(third, sorted.get(2));
+
+        ObservableList<Person> expected = FXCollections.observableArrayList(
+                new Person("a"), new Person("b"), new Person("b"));
+        third.name.set("a");
+        assertEquals(expected, sorted);
+        assertSame(first, sorted.get(1));
+        assertSame(second, sorted.get(2));
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testRandomChangesAreMirrored() {
+        Random random = new Random(3);
+        ObservableList<Person> items = FXCollections.observableArrayList(
+                (Person p) -> new Observable[]{p.name});
+        for (int i = 0; i < 100; ++i) {
+            items.add(new Person("n" + random.nextInt(50)));
+        }
+        SortedList<Person> sorted = items.sorted();
+        List<Person> mirror = new ArrayList<>(sorted);
+        sorted.addListener(mirrorTo(mirror));
+
+        for (int step = 0; step < 300; ++step) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    items.add(random.nextInt(items.size() + 1), new Person("n" + random.nextInt(50)));
+                    break;
+                case 1:
+                    items.remove(random.nextInt(items.size()));
+                    break;
+                case 2:
+                    FXCollections.reverse(items);
+                    break;
+                default:
+                    items.get(random.nextInt(items.size())).name.set("n" + random.nextInt(50));
+            }
+            List<Person> expected = new ArrayList<>(items);
+            Collections.sort(expected);
+            assertEquals(expected, sorted);
+            assertEquals(expected, mirror);
+            if (step % 50 == 0) {
+                compareIndices(sorted);
+            }
+        }
+        compareIndices(sorted);
+    }
+
+    /**
+     * Returns a listener which applies every change to the given list.
+     */
+    private static <E> ListChangeListener<E> mirrorTo(List<E> target) {
+        return c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<E> copy = new ArrayList<>(target.subList(c.getFrom(), c.getTo()));
+                    for (int i = c.getFrom(); i < c.getTo(); ++i) {
+                        target.set(c.getPermutation(i), copy.get(i - c.getFrom()));
+                    }
+                } else if (!c.wasUpdated()) {
+                    target.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    target.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        };
+    }
 }
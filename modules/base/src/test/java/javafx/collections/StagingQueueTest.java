@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import com.sun.javafx.collections.ChangeCoalescer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StagingQueueTest {
+
+    private ObservableList<String> list;
+    private MockListObserver<String> observer;
+    private int pulseRequests;
+
+    @Before
+    public void setUp() {
+        FXCollections.flushCoalescedChanges();
+        ChangeCoalescer.setPulseRequester(() -> pulseRequests++);
+        list = FXCollections.observableArrayList();
+        observer = new MockListObserver<>();
+        list.addListener(observer);
+    }
+
+    @After
+    public void tearDown() {
+        ChangeCoalescer.setPulseRequester(null);
+        ChangeCoalescer.setFlushThread(null);
+    }
+
+    @Test
+    public void testBatchIsAppliedOnFlushAsSingleChange() {
+        StagingQueue<String> queue = new StagingQueue<>(list);
+        queue.add("a");
+        queue.addAll(Arrays.asList("b", "c"));
+        queue.remove("a");
+        assertEquals(3, queue.getQueueDepth());
+        assertTrue(list.isEmpty());
+        assertEquals(1, pulseRequests);
+
+        FXCollections.flushCoalescedChanges();
+        assertEquals(Arrays.asList("b", "c"), list);
+        observer.check1AddRemove(list, null, 0, 2);
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(3, queue.getAppliedCount());
+        assertEquals(1, queue.getBatchCount());
+        assertTrue(queue.getLastApplyLatency() >= 0);
+        assertTrue(queue.getMaxApplyLatency() >= queue.getLastApplyLatency());
+    }
+
+    @Test
+    public void testSetAllClearAndUpdate() {
+        list.addAll("x", "y");
+        observer.clear();
+        StagingQueue<String> queue = new StagingQueue<>(list);
+        queue.clear();
+        queue.setAll(Arrays.asList("1", "2", "3"));
+        queue.update(l -> l.remove(0));
+        assertEquals(3, queue.drain());
+        assertEquals(Arrays.asList("2", "3"), list);
+        observer.check1AddRemove(list, Arrays.asList("x", "y"), 0, 2);
+    }
+
+    @Test
+    public void testFailingOperationDoesNotStopBatch() {
+        StagingQueue<String> queue = new StagingQueue<>(list);
+        List<Throwable> errors = new ArrayList<>();
+        Thread.UncaughtExceptionHandler old = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((t, e) -> errors.add(e));
+        try {
+            queue.add("a");
+            queue.update(l -> { throw new IllegalStateException(); });
+            queue.add("b");
+            queue.drain();
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(old);
+        }
+        assertEquals(Arrays.asList("a", "b"), list);
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        StagingQueue<String> queue = new StagingQueue<>(list);
+        final int threads = 4;
+        final int perThread = 10000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    queue.add(id + ":" + i);
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        FXCollections.flushCoalescedChanges();
+        assertEquals(threads * perThread, list.size());
+        observer.check1();
+
+        // every producer's elements keep their order
+        int[] next = new int[threads];
+        for (String s : list) {
+            String[] parts = s.split(":");
+            int id = Integer.parseInt(parts[0]);
+            assertEquals(next[id]++, Integer.parseInt(parts[1]));
+        }
+    }
+
+    @Test
+    public void testDropNewest() {
+        StagingQueue<String> queue = new StagingQueue<>(list, 3, StagingQueue.OverflowPolicy.DROP_NEWEST);
+        assertTrue(queue.add("a"));
+        assertTrue(queue.add("b"));
+        assertTrue(queue.add("c"));
+        assertFalse(queue.add("d"));
+        assertFalse(queue.add("e"));
+        assertEquals(3, queue.getQueueDepth());
+        assertEquals(2, queue.getDroppedCount());
+        queue.drain();
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void testDropOldest() {
+        StagingQueue<String> queue = new StagingQueue<>(list, 3, StagingQueue.OverflowPolicy.DROP_OLDEST);
+        for (String s : Arrays.asList("a", "b", "c", "d", "e")) {
+            assertTrue(queue.add(s));
+        }
+        assertEquals(3, queue.getQueueDepth());
+        assertEquals(2, queue.getDroppedCount());
+        queue.drain();
+        assertEquals(Arrays.asList("c", "d", "e"), list);
+    }
+
+    @Test
+    public void testBlockWaitsForDrain() throws Exception {
+        StagingQueue<String> queue = new StagingQueue<>(list, 2, StagingQueue.OverflowPolicy.BLOCK);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                queue.add(Integer.toString(i));
+            }
+        });
+        producer.start();
+        while (producer.isAlive() || queue.getQueueDepth() > 0) {
+            assertTrue(queue.getQueueDepth() <= 2);
+            queue.drain();
+            Thread.sleep(1);
+        }
+        assertEquals(Arrays.asList("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"), list);
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    public void testBlockOnOwnerThreadFailsFast() {
+        StagingQueue<String> queue = new StagingQueue<>(list, 2, StagingQueue.OverflowPolicy.BLOCK);
+        queue.add("a");
+        queue.add("b");
+        try {
+            queue.add("c");
+            fail("the owner thread must not wait for itself");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(2, queue.getQueueDepth());
+        queue.drain();
+        assertEquals(Arrays.asList("a", "b"), list);
+    }
+
+    @Test
+    public void testFlushThreadOwnsQueueCreatedElsewhere() throws Exception {
+        ChangeCoalescer.setFlushThread(Thread.currentThread());
+        List<StagingQueue<String>> created = new ArrayList<>();
+        Thread creator = new Thread(() -> created.add(
+                new StagingQueue<>(list, 1, StagingQueue.OverflowPolicy.BLOCK)));
+        creator.start();
+        creator.join();
+        StagingQueue<String> queue = created.get(0);
+        queue.add("a");
+        try {
+            queue.add("b");
+            fail("the flush thread must not wait for itself");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new StagingQueue<>(list, 0, StagingQueue.OverflowPolicy.BLOCK);
+    }
+}
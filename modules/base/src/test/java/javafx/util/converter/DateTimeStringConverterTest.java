@@ -168,4 +168,18 @@ public class DateTimeStringConverterTest {
     @Test public void toString_validOutput() {
         assertEquals(validFormatter.format(validDate), converter.toString(validDate));
     }
+
+    @Test public void toString_followsDefaultTimeZone() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            DateTimeStringConverter c = new DateTimeStringConverter(Locale.US, "yyyy-MM-dd HH:mm");
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            assertEquals("1970-01-01 00:00", c.toString(new Date(0)));
+            TimeZone.setDefault(TimeZone.getTimeZone("GMT+02:00"));
+            assertEquals("1970-01-01 02:00", c.toString(new Date(0)));
+            assertEquals(new Date(0), c.fromString("1970-01-01 02:00"));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
 }
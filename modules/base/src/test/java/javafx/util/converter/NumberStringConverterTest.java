@@ -28,6 +28,8 @@ package javafx.util.converter;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.Assert.*;
 
 import org.junit.Before;
@@ -123,4 +125,44 @@ public class NumberStringConverterTest {
     @Test public void toString_validInput() {
         assertEquals("10", converter.toString(10L));
     }
+
+    @Test public void toString_repeatedAndOnOtherThread() throws Exception {
+        converter = new NumberStringConverter(Locale.US, "#,##0.00");
+        assertEquals("1,234.50", converter.toString(1234.5));
+        assertEquals("0.25", converter.toString(0.25));
+        assertEquals(1234.5, converter.fromString("1,234.50").doubleValue(), 0);
+
+        AtomicReference<String> result = new AtomicReference<>();
+        Thread thread = new Thread(() -> result.set(converter.toString(42)));
+        thread.start();
+        thread.join();
+        assertEquals("42.00", result.get());
+        assertEquals("7.00", converter.toString(7));
+    }
+
+    @Test public void toString_followsDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.US);
+            converter = new NumberStringConverter((Locale) null, null);
+            assertEquals("1,234.5", converter.toString(1234.5));
+            Locale.setDefault(Locale.GERMANY);
+            assertEquals("1.234,5", converter.toString(1234.5));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test public void toString_callsOverriddenGetNumberFormat() {
+        AtomicInteger calls = new AtomicInteger();
+        converter = new NumberStringConverter(Locale.US) {
+            @Override protected NumberFormat getNumberFormat() {
+                calls.incrementAndGet();
+                return new DecimalFormat(calls.get() == 1 ? "0.0" : "0.00");
+            }
+        };
+        assertEquals("1.5", converter.toString(1.5));
+        assertEquals("1.50", converter.toString(1.5));
+        assertEquals(2, calls.get());
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+import java.util.stream.IntStream;
+
+/**
+ * Reduces a large series of primitive x/y values to the pixel grid of a plot
+ * area. The values are mapped to display coordinates with an affine transform
+ * per axis ({@code display = value * scale + offset}), which is what every
+ * linear {@link javafx.scene.chart.ValueAxis} does.
+ * <p>
+ * A decimator keeps the reduced state of the last update. When the transform,
+ * the plot size and the buffer modification count are unchanged and values
+ * were only appended, only the new values are visited, so streaming data costs
+ * O(appended) per layout instead of O(total). Large updates are split into
+ * chunks that are reduced in parallel and then merged in index order.
+ */
+public abstract class Decimator {
+
+    /** Number of values below which an update is always reduced on the calling thread */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    protected double xScale, xOffset, yScale, yOffset;
+    protected int width, height;
+    private long modCount = -1;
+    private int processed;
+
+    private double[] points = new double[64];
+    private int pointCount;
+
+    /**
+     * Updates the reduced state for the values {@code xs[offset..offset+size)} and
+     * {@code ys[offset..offset+size)} and rebuilds the display points.
+     *
+     * @param modCount the modification count of the buffer, which has to change
+     *                 whenever values are removed, replaced or moved
+     * @return the number of display points, see {@link #getPoints()}
+     */
+    public final int update(double[] xs, double[] ys, int offset, int size, long modCount,
+                            double xScale, double xOffset, double yScale, double yOffset,
+                            int width, int height) {
+        final boolean incremental = modCount == this.modCount && size >= processed
+                && width == this.width && height == this.height
+                && xScale == this.xScale && xOffset == this.xOffset
+                && yScale == this.yScale && yOffset == this.yOffset;
+        if (!incremental) {
+            this.modCount = modCount;
+            this.xScale = xScale;
+            this.xOffset = xOffset;
+            this.yScale = yScale;
+            this.yOffset = yOffset;
+            this.width = Math.max(width, 0);
+            this.height = Math.max(height, 0);
+            processed = 0;
+            reset();
+        }
+        if (processed < size) {
+            accumulateAll(xs, ys, offset + processed, offset + size, offset);
+            processed = size;
+        }
+        pointCount = 0;
+        build();
+        return pointCount;
+    }
+
+    /**
+     * Display points produced by the last update, stored as interleaved
+     * x and y coordinates.
+     */
+    public final double[] getPoints() {
+        return points;
+    }
+
+    /** Forgets all reduced state, forcing the next update to visit every value. */
+    public final void invalidate() {
+        modCount = -1;
+    }
+
+    private void accumulateAll(double[] xs, double[] ys, int from, int to, int offset) {
+        final int count = to - from;
+        final int chunks = Math.min(Runtime.getRuntime().availableProcessors(), count / (PARALLEL_THRESHOLD / 2));
+        if (count < PARALLEL_THRESHOLD || chunks < 2) {
+            accumulate(xs, ys, from, to, offset);
+            return;
+        }
+        final Decimator[] parts = new Decimator[chunks];
+        final int chunkSize = (count + chunks - 1) / chunks;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            final Decimator part = createPart();
+            part.xScale = xScale;
+            part.xOffset = xOffset;
+            part.yScale = yScale;
+            part.yOffset = yOffset;
+            part.width = width;
+            part.height = height;
+            part.reset();
+            final int start = from + c * chunkSize;
+            part.accumulate(xs, ys, start, Math.min(to, start + chunkSize), offset);
+            parts[c] = part;
+        });
+        for (Decimator part : parts) {
+            merge(part);
+        }
+    }
+
+    protected final void addPoint(double x, double y) {
+        if (pointCount * 2 + 2 > points.length) {
+            double[] newPoints = new double[points.length * 2];
+            System.arraycopy(points, 0, newPoints, 0, pointCount * 2);
+            points = newPoints;
+        }
+        points[pointCount * 2] = x;
+        points[pointCount * 2 + 1] = y;
+        pointCount++;
+    }
+
+    /** Creates an empty decimator of the same kind, used to reduce one chunk of a parallel update. */
+    protected abstract Decimator createPart();
+
+    /** Clears the reduced state for the current transform and plot size. */
+    protected abstract void reset();
+
+    /**
+     * Reduces the values in {@code [from, to)} into the current state. Indices
+     * stored in the state are relative to {@code offset}.
+     */
+    protected abstract void accumulate(double[] xs, double[] ys, int from, int to, int offset);
+
+    /** Merges the state of a part that covers values following the ones already reduced. */
+    protected abstract void merge(Decimator part);
+
+    /** Emits the display points of the current state through {@link #addPoint}. */
+    protected abstract void build();
+}
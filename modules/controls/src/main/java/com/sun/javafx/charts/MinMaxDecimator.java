@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+import java.util.Arrays;
+
+/**
+ * Decimates a polyline to at most four points per pixel column: the first,
+ * last, minimum and maximum value that falls into the column, emitted in index
+ * order. Drawing the reduced polyline produces the same pixels as drawing
+ * every value. Values left and right of the plot area are collapsed to the
+ * single value nearest to it, so that the line still enters and leaves the
+ * plot at the right place. Columns are emitted from left to right.
+ */
+public final class MinMaxDecimator extends Decimator {
+
+    private static final int FIRST = 0, LAST = 1, MIN = 2, MAX = 3;
+
+    // per column (plus one column on each side of the plot): first, last, min and max index
+    private int[] indices = new int[0];
+    // per column: min and max display y
+    private double[] extremes = new double[0];
+    private final int[] sorted = new int[4];
+    private double[] xs, ys;
+    private int offset;
+
+    @Override protected Decimator createPart() {
+        return new MinMaxDecimator();
+    }
+
+    @Override protected void reset() {
+        final int columns = width + 2;
+        if (indices.length < columns * 4) {
+            indices = new int[columns * 4];
+            extremes = new double[columns * 2];
+        }
+        Arrays.fill(indices, 0, columns * 4, -1);
+    }
+
+    @Override protected void accumulate(double[] xs, double[] ys, int from, int to, int offset) {
+        this.xs = xs;
+        this.ys = ys;
+        this.offset = offset;
+        for (int i = from; i < to; i++) {
+            final double x = xs[i] * xScale + xOffset;
+            final double y = ys[i] * yScale + yOffset;
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            add(column(x), i - offset, y);
+        }
+    }
+
+    private int column(double x) {
+        if (x < 0) return 0;
+        if (x >= width) return width + 1;
+        return (int) x + 1;
+    }
+
+    private void add(int column, int index, double y) {
+        final int base = column * 4;
+        if (indices[base + FIRST] < 0) {
+            indices[base + FIRST] = index;
+            indices[base + LAST] = index;
+            indices[base + MIN] = index;
+            indices[base + MAX] = index;
+            extremes[column * 2] = y;
+            extremes[column * 2 + 1] = y;
+            return;
+        }
+        indices[base + LAST] = index;
+        if (y < extremes[column * 2]) {
+            extremes[column * 2] = y;
+            indices[base + MIN] = index;
+        }
+        if (y > extremes[column * 2 + 1]) {
+            extremes[column * 2 + 1] = y;
+            indices[base + MAX] = index;
+        }
+    }
+
+    @Override protected void merge(Decimator part) {
+        final MinMaxDecimator other = (MinMaxDecimator) part;
+        xs = other.xs;
+        ys = other.ys;
+        offset = other.offset;
+        final int columns = width + 2;
+        for (int column = 0; column < columns; column++) {
+            final int base = column * 4;
+            if (other.indices[base + FIRST] < 0) {
+                continue;
+            }
+            if (indices[base + FIRST] < 0) {
+                System.arraycopy(other.indices, base, indices, base, 4);
+                extremes[column * 2] = other.extremes[column * 2];
+                extremes[column * 2 + 1] = other.extremes[column * 2 + 1];
+                continue;
+            }
+            indices[base + LAST] = other.indices[base + LAST];
+            if (other.extremes[column * 2] < extremes[column * 2]) {
+                extremes[column * 2] = other.extremes[column * 2];
+                indices[base + MIN] = other.indices[base + MIN];
+            }
+            if (other.extremes[column * 2 + 1] > extremes[column * 2 + 1]) {
+                extremes[column * 2 + 1] = other.extremes[column * 2 + 1];
+                indices[base + MAX] = other.indices[base + MAX];
+            }
+        }
+    }
+
+    @Override protected void build() {
+        final int columns = width + 2;
+        // before the plot area only the value closest to it matters
+        if (indices[LAST] >= 0) {
+            addIndex(indices[LAST]);
+        }
+        for (int column = 1; column < columns - 1; column++) {
+            final int base = column * 4;
+            if (indices[base + FIRST] < 0) {
+                continue;
+            }
+            System.arraycopy(indices, base, sorted, 0, 4);
+            Arrays.sort(sorted);
+            int previous = -1;
+            for (int index : sorted) {
+                if (index != previous) {
+                    addIndex(index);
+                    previous = index;
+                }
+            }
+        }
+        final int after = (columns - 1) * 4;
+        if (indices[after + FIRST] >= 0) {
+            addIndex(indices[after + FIRST]);
+        }
+    }
+
+    private void addIndex(int index) {
+        final int i = index + offset;
+        addPoint(xs[i] * xScale + xOffset, ys[i] * yScale + yOffset);
+    }
+}
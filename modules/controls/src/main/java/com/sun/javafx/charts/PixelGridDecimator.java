@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+import java.util.Arrays;
+
+/**
+ * Decimates a point cloud to the cells of a grid laid over the plot area. Every
+ * occupied cell is emitted once, at its center, no matter how many values fall
+ * into it, so the number of display points is bounded by the plot size rather
+ * than by the number of values. Values outside of the plot area are dropped.
+ */
+public final class PixelGridDecimator extends Decimator {
+
+    private final int cellSize;
+    private int columns, rows;
+    private long[] cells = new long[0];
+
+    /**
+     * @param cellSize the width and height of a grid cell in pixels
+     */
+    public PixelGridDecimator(int cellSize) {
+        if (cellSize < 1) throw new IllegalArgumentException("cellSize must be positive");
+        this.cellSize = cellSize;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    @Override protected Decimator createPart() {
+        return new PixelGridDecimator(cellSize);
+    }
+
+    @Override protected void reset() {
+        columns = (width + cellSize - 1) / cellSize;
+        rows = (height + cellSize - 1) / cellSize;
+        final int words = (columns * rows + 63) >>> 6;
+        if (cells.length < words) {
+            cells = new long[words];
+        } else {
+            Arrays.fill(cells, 0L);
+        }
+    }
+
+    @Override protected void accumulate(double[] xs, double[] ys, int from, int to, int offset) {
+        for (int i = from; i < to; i++) {
+            final double x = xs[i] * xScale + xOffset;
+            final double y = ys[i] * yScale + yOffset;
+            // also rejects NaN
+            if (!(x >= 0 && x < width && y >= 0 && y < height)) {
+                continue;
+            }
+            final int cell = ((int) y / cellSize) * columns + (int) x / cellSize;
+            cells[cell >>> 6] |= 1L << cell;
+        }
+    }
+
+    @Override protected void merge(Decimator part) {
+        final long[] other = ((PixelGridDecimator) part).cells;
+        for (int i = 0; i < other.length; i++) {
+            cells[i] |= other[i];
+        }
+    }
+
+    @Override protected void build() {
+        final double half = cellSize / 2.0;
+        for (int word = 0; word < cells.length; word++) {
+            long bits = cells[word];
+            while (bits != 0) {
+                final int cell = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                addPoint((cell % columns) * cellSize + half, (cell / columns) * cellSize + half);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+/**
+ * Tracks the minimum and maximum of a sequence of values to which values are
+ * appended at the end and removed from the start, as in a sliding window over
+ * streaming data. Both operations take amortized constant time: the extremes
+ * are kept in two monotonic deques, which only hold the values that can still
+ * become the minimum or maximum once the values before them are removed.
+ * NaN values are counted but never become an extreme.
+ */
+public final class SlidingRange {
+
+    private final Deque minima = new Deque();
+    private final Deque maxima = new Deque();
+    /** Sequence number of the next value to be added */
+    private long added;
+    /** Sequence number of the first value that has not been removed */
+    private long removed;
+
+    /** Appends a value at the end of the sequence. */
+    public void add(double value) {
+        final long sequence = added++;
+        if (Double.isNaN(value)) {
+            return;
+        }
+        while (minima.size > 0 && minima.lastValue() >= value) minima.removeLast();
+        minima.addLast(sequence, value);
+        while (maxima.size > 0 && maxima.lastValue() <= value) maxima.removeLast();
+        maxima.addLast(sequence, value);
+    }
+
+    /** Removes the given number of values from the start of the sequence. */
+    public void removeFirst(int count) {
+        if (count < 0 || count > size()) {
+            throw new IndexOutOfBoundsException("count: " + count + ", size: " + size());
+        }
+        removed += count;
+        while (minima.size > 0 && minima.firstSequence() < removed) minima.removeFirst();
+        while (maxima.size > 0 && maxima.firstSequence() < removed) maxima.removeFirst();
+    }
+
+    /** Removes all values. */
+    public void clear() {
+        removed = added;
+        minima.size = 0;
+        maxima.size = 0;
+    }
+
+    /** Returns the number of values in the sequence, including NaN values. */
+    public int size() {
+        return (int) (added - removed);
+    }
+
+    /** Returns the smallest value in the sequence, or NaN if there are no values other than NaN. */
+    public double getMin() {
+        return minima.size == 0 ? Double.NaN : minima.firstValue();
+    }
+
+    /** Returns the largest value in the sequence, or NaN if there are no values other than NaN. */
+    public double getMax() {
+        return maxima.size == 0 ? Double.NaN : maxima.firstValue();
+    }
+
+    /** Double ended queue of sequence numbers and values, stored in ring buffers. */
+    private static final class Deque {
+        private long[] sequences = new long[16];
+        private double[] values = new double[16];
+        private int head;
+        int size;
+
+        long firstSequence() { return sequences[head]; }
+        double firstValue() { return values[head]; }
+        double lastValue() { return values[(head + size - 1) & (values.length - 1)]; }
+
+        void removeFirst() {
+            head = (head + 1) & (values.length - 1);
+            size--;
+        }
+
+        void removeLast() {
+            size--;
+        }
+
+        void addLast(long sequence, double value) {
+            if (size == values.length) {
+                final long[] newSequences = new long[size * 2];
+                final double[] newValues = new double[size * 2];
+                for (int i = 0; i < size; i++) {
+                    newSequences[i] = sequences[(head + i) & (size - 1)];
+                    newValues[i] = values[(head + i) & (size - 1)];
+                }
+                sequences = newSequences;
+                values = newValues;
+                head = 0;
+            }
+            final int tail = (head + size) & (values.length - 1);
+            sequences[tail] = sequence;
+            values[tail] = value;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control.skin;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.control.IndexedCell;
+
+/**
+ * A bounded pool of cells which outlives the controls that created them. When
+ * a {@link VirtualFlow} that has been given a pool is removed from its scene
+ * (or its skin is disposed), its cells are handed to the pool, and when a flow
+ * later needs a new cell it will first try to adopt one from the pool before
+ * calling its cell factory. This saves the cost of creating the cell in
+ * applications that repeatedly build and tear down lists and tables. Cell
+ * skins are disposed when their cell is pooled, since they are bound to the
+ * control that created them.
+ * <p>
+ * Cells are pooled by key, see {@link #createKey(Object, List)}. The key is
+ * made up of the cell factory and the style classes of the owning control, so
+ * that a cell is only ever adopted by a control that would have created an
+ * identical cell itself. When the pool is full, cells belonging to the least
+ * recently used key are evicted first.
+ * <p>
+ * The pool is not thread safe - it must only be used from the FX application
+ * thread. The shared pool is disabled by default, and can be enabled by
+ * setting the {@code com.sun.javafx.scene.control.skin.CellPool.capacity}
+ * system property to the maximum number of cells to retain.
+ */
+public final class CellPool {
+
+    /**
+     * Implemented by the owner of a {@link VirtualFlow} which uses a pool, to
+     * describe which cells it can adopt and how to attach cells to, and
+     * detach them from, the owning control.
+     */
+    public interface Owner<C> {
+        /**
+         * Returns the key under which cells of the owner are pooled, as
+         * created by {@link CellPool#createKey(Object, List)}.
+         */
+        Object getPoolKey();
+
+        /**
+         * Called when a cell has been taken from the pool, before it is
+         * added to the flow.
+         */
+        void adoptCell(C cell);
+
+        /**
+         * Called when a cell is about to be given to the pool, after it has
+         * been removed from the flow. Implementations must drop all references
+         * from the cell to the owning control.
+         */
+        void releaseCell(C cell);
+    }
+
+
+
+    /***************************************************************************
+     *                                                                         *
+     * Static fields                                                           *
+     *                                                                         *
+     **************************************************************************/
+
+    private static final int SHARED_CAPACITY =
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+                    Integer.getInteger("com.sun.javafx.scene.control.skin.CellPool.capacity", 0));
+
+    private static CellPool shared = SHARED_CAPACITY > 0 ? new CellPool(SHARED_CAPACITY) : null;
+
+    /**
+     * Returns the pool that is shared by all ListView and TableView skins, or
+     * null if cell pooling is disabled.
+     */
+    public static CellPool getShared() {
+        return shared;
+    }
+
+    // package private ONLY FOR TESTING
+    static void setShared(CellPool pool) {
+        shared = pool;
+    }
+
+    /**
+     * Creates a key under which cells can be released and acquired. Two keys
+     * are equal when they were created from the same factory (as determined
+     * by {@code equals}) and equal lists of style classes.
+     *
+     * @param factory the cell factory, or some other object identifying the
+     *      default cell type when no factory is set. May not be null.
+     * @param styleClass the style classes of the control that owns the cells
+     */
+    public static Object createKey(Object factory, List<String> styleClass) {
+        if (factory == null) {
+            throw new NullPointerException("factory can not be null");
+        }
+        return new Key(factory, styleClass);
+    }
+
+
+
+    /***************************************************************************
+     *                                                                         *
+     * Constructors                                                            *
+     *                                                                         *
+     **************************************************************************/
+
+    private final int capacity;
+    private final LinkedHashMap<Object, ArrayDeque<IndexedCell<?>>> cells =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private int size;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a pool that will retain at most {@code capacity} cells.
+     */
+    public CellPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+
+
+    /***************************************************************************
+     *                                                                         *
+     * Public API                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Removes and returns the most recently released cell for the given key,
+     * or null if there is none.
+     */
+    public IndexedCell<?> acquire(Object key) {
+        ArrayDeque<IndexedCell<?>> deque = key == null ? null : cells.get(key);
+        if (deque == null || deque.isEmpty()) {
+            missCount++;
+            return null;
+        }
+
+        IndexedCell<?> cell = deque.pollLast();
+        if (deque.isEmpty()) {
+            cells.remove(key);
+        }
+        size--;
+        hitCount++;
+        return cell;
+    }
+
+    /**
+     * Adds the given cell to the pool under the given key. The cell must have
+     * been detached from its previous control and scene graph by the caller.
+     * If the pool is full, the least recently used cell is evicted to make
+     * room for it.
+     */
+    public void release(Object key, IndexedCell<?> cell) {
+        if (key == null || cell == null) return;
+
+        if (size >= capacity) {
+            evictOne(key);
+        }
+
+        ArrayDeque<IndexedCell<?>> deque = cells.get(key);
+        if (deque == null) {
+            deque = new ArrayDeque<>();
+            cells.put(key, deque);
+        }
+        deque.addLast(cell);
+        size++;
+    }
+
+    /**
+     * Returns the number of cells currently held by the pool.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of cells currently held by the pool for the given key.
+     */
+    public int size(Object key) {
+        // avoid get(), as it would update the access order
+        for (Map.Entry<Object, ArrayDeque<IndexedCell<?>>> entry : cells.entrySet()) {
+            if (entry.getKey().equals(key)) {
+                return entry.getValue().size();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the maximum number of cells the pool will hold.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of calls to {@link #acquire(Object)} which returned
+     * a cell.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of calls to {@link #acquire(Object)} which returned
+     * null, forcing the caller to create a new cell.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of cells dropped from the pool because it was full.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Removes all cells from the pool. The statistics are not reset.
+     */
+    public void clear() {
+        cells.clear();
+        size = 0;
+    }
+
+
+
+    /***************************************************************************
+     *                                                                         *
+     * Private implementation                                                  *
+     *                                                                         *
+     **************************************************************************/
+
+    private void evictOne(Object incomingKey) {
+        // prefer to evict from the least recently used key that is not the one
+        // being released into, falling back to the oldest cell of that key
+        Map.Entry<Object, ArrayDeque<IndexedCell<?>>> victim = null;
+        for (Map.Entry<Object, ArrayDeque<IndexedCell<?>>> entry : cells.entrySet()) {
+            victim = entry;
+            if (! entry.getKey().equals(incomingKey)) break;
+        }
+        if (victim == null) return;
+
+        ArrayDeque<IndexedCell<?>> deque = victim.getValue();
+        deque.pollFirst();
+        if (deque.isEmpty()) {
+            cells.remove(victim.getKey());
+        }
+        size--;
+        evictionCount++;
+    }
+
+    private static final class Key {
+        private final Object factory;
+        private final List<String> styleClass;
+        private final int hash;
+
+        Key(Object factory, List<String> styleClass) {
+            this.factory = factory;
+            this.styleClass = styleClass == null ? new ArrayList<>() : new ArrayList<>(styleClass);
+            this.hash = 31 * factory.hashCode() + this.styleClass.hashCode();
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+
+        @Override public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (! (obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return hash == other.hash
+                    && factory.equals(other.factory)
+                    && styleClass.equals(other.styleClass);
+        }
+    }
+}
@@ -463,13 +463,13 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
             String ellipsisString = labeled.getEllipsisString();
 
             if (labeled.isWrapText()) {
-                result = Utils.computeClippedWrappedText(font, s, wrapWidth, wrapHeight, truncationStyle, ellipsisString, text.getBoundsType());
+                result = TextMeasureCache.computeClippedWrappedText(font, s, wrapWidth, wrapHeight, truncationStyle, ellipsisString, text.getBoundsType());
             } else if (multiline) {
                 StringBuilder sb = new StringBuilder();
 
                 String[] splits = s.split("\n");
                 for (int i = 0; i < splits.length; i++) {
-                    sb.append(Utils.computeClippedText(font, splits[i], wrapWidth, truncationStyle, ellipsisString));
+                    sb.append(TextMeasureCache.computeClippedText(font, splits[i], wrapWidth, truncationStyle, ellipsisString));
                     if (i < splits.length - 1) {
                         sb.append('\n');
                     }
@@ -495,7 +495,7 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
 
                 result = sb.toString();
             } else {
-                result = Utils.computeClippedText(font, s, wrapWidth, truncationStyle, ellipsisString);
+                result = TextMeasureCache.computeClippedText(font, s, wrapWidth, truncationStyle, ellipsisString);
             }
 
             if (result != null && result.endsWith("\n")) {
@@ -653,16 +653,16 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
             if (truncationStyle == CLIP) {
                 if (textWidth == Double.NEGATIVE_INFINITY) {
                     // Show at minimum the first character
-                    textWidth = Utils.computeTextWidth(font, string.substring(0, 1), 0);
+                    textWidth = TextMeasureCache.computeTextWidth(font, string.substring(0, 1), 0);
                 }
                 minTextWidth = textWidth;
             } else {
                 if (textWidth == Double.NEGATIVE_INFINITY) {
-                    textWidth = Utils.computeTextWidth(font, string, 0);
+                    textWidth = TextMeasureCache.computeTextWidth(font, string, 0);
                 }
                 // We only want to recompute the ellipsis width if the font has changed
                 if (ellipsisWidth == Double.NEGATIVE_INFINITY) {
-                    ellipsisWidth = Utils.computeTextWidth(font, ellipsisString, 0);
+                    ellipsisWidth = TextMeasureCache.computeTextWidth(font, ellipsisString, 0);
                 }
                 minTextWidth = Math.min(textWidth, ellipsisWidth);
             }
@@ -701,10 +701,9 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
             }
         }
 
-        // TODO figure out how to cache this effectively.
         // Base minimum height on one line (ignoring wrapping here).
         double s = labeled.getLineSpacing();
-        final double textHeight = Utils.computeTextHeight(font, str, 0, s, text.getBoundsType());
+        final double textHeight = TextMeasureCache.computeTextHeight(font, str, 0, s, text.getBoundsType());
 
         double h = textHeight;
 
@@ -731,7 +730,7 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
         double widthPadding = leftInset + leftLabelPadding() +
                               rightInset + rightLabelPadding();
 
-        double textWidth = emptyText ? 0 : Utils.computeTextWidth(font, string, 0);
+        double textWidth = emptyText ? 0 : TextMeasureCache.computeTextWidth(font, string, 0);
 
         // Fix for RT-39889
         double graphicWidth = graphic == null ? 0.0 :
@@ -771,8 +770,7 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
             textWidth -= (graphic.prefWidth(-1) + gap);
         }
 
-        // TODO figure out how to cache this effectively.
-        final double textHeight = Utils.computeTextHeight(font, str,
+        final double textHeight = TextMeasureCache.computeTextHeight(font, str,
                                                           labeled.isWrapText() ? textWidth : 0,
                                                           labeled.getLineSpacing(), text.getBoundsType());
 
@@ -52,6 +52,7 @@ import javafx.scene.control.MultipleSelectionModel;
 import javafx.scene.control.SelectionModel;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.StackPane;
+import javafx.util.Callback;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -97,6 +98,7 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListViewB
         flow.setPannable(IS_PANNABLE);
         flow.setVertical(getSkinnable().getOrientation() == Orientation.VERTICAL);
         flow.setCreateCell(flow1 -> ListViewSkin.this.createCell());
+        installCellPool();
         flow.setFixedCellSize(listView.getFixedCellSize());
         getChildren().add(flow);
 
@@ -294,6 +296,23 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListViewB
         return cell;
     }
 
+    @Override protected Object getCellPoolFactory() {
+        Callback<ListView<T>, ListCell<T>> cellFactory = getSkinnable().getCellFactory();
+        return cellFactory != null ? cellFactory : ListViewSkin.class;
+    }
+
+    @Override protected void adoptPooledCell(ListCell<T> cell) {
+        cell.updateListView(getSkinnable());
+    }
+
+    @Override protected void releasePooledCell(ListCell<T> cell) {
+        // The cell skin listens to this list view (eg its fixedCellSize), so
+        // only the cell itself is pooled. A new skin is created when the cell
+        // is next processed by CSS.
+        cell.setSkin(null);
+        cell.updateListView(null);
+    }
+
     private static <T> ListCell<T> createDefaultCellImpl() {
         return new ListCell<T>() {
             @Override public void updateItem(T item, boolean empty) {
@@ -32,6 +32,7 @@ import java.util.*;
 
 import com.sun.javafx.PlatformUtil;
 import javafx.animation.FadeTransition;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ListChangeListener;
@@ -156,7 +157,7 @@ public abstract class TableRowSkinBase<T,
 
         // use invalidation listener here to update even when item equality is true
         // (e.g. see RT-22463)
-        control.itemProperty().addListener(o -> requestCellUpdate());
+        control.itemProperty().addListener(itemListener);
         registerChangeListener(control.indexProperty(), "INDEX");
 
         if (fixedCellSizeProperty() != null) {
@@ -182,6 +183,8 @@ public abstract class TableRowSkinBase<T,
     private WeakListChangeListener<TableColumnBase> weakVisibleLeafColumnsListener =
             new WeakListChangeListener<TableColumnBase>(visibleLeafColumnsListener);
 
+    private final InvalidationListener itemListener = o -> requestCellUpdate();
+
 
 
     /***************************************************************************
@@ -239,6 +242,15 @@ public abstract class TableRowSkinBase<T,
         }
     }
 
+    @Override public void dispose() {
+        // rows are disposed of when they are released to a CellPool, after
+        // which they must no longer react to their (previous) table
+        getVisibleLeafColumns().removeListener(weakVisibleLeafColumnsListener);
+        getSkinnable().itemProperty().removeListener(itemListener);
+
+        super.dispose();
+    }
+
     @Override protected void layoutChildren(double x, final double y, final double w, final double h) {
         checkState();
         if (cellsMap.isEmpty()) return;
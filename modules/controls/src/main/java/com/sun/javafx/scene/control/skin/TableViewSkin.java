@@ -62,6 +62,7 @@ public class TableViewSkin<T> extends TableViewSkinBase<T, T, TableView<T>, Tabl
         flow.setFixedCellSize(tableView.getFixedCellSize());
 
         super.init(tableView);
+        installCellPool();
 
         EventHandler<MouseEvent> ml = event -> {
             // RT-15127: cancel editing on scroll. This is a bit extreme
@@ -288,6 +289,23 @@ public class TableViewSkin<T> extends TableViewSkinBase<T, T, TableView<T>, Tabl
         return cell;
     }
 
+    @Override protected Object getCellPoolFactory() {
+        Callback<TableView<T>, TableRow<T>> rowFactory = tableView.getRowFactory();
+        return rowFactory != null ? rowFactory : TableViewSkin.class;
+    }
+
+    @Override protected void adoptPooledCell(TableRow<T> row) {
+        row.updateTableView(tableView);
+    }
+
+    @Override protected void releasePooledCell(TableRow<T> row) {
+        // The row skin (and the cells it holds) is bound to the columns of
+        // this table, so only the row itself is pooled. A new skin is created
+        // when the row is next processed by CSS.
+        row.setSkin(null);
+        row.updateTableView(null);
+    }
+
     @Override protected void horizontalScroll() {
         super.horizontalScroll();
         if (getSkinnable().getFixedCellSize() > 0) {
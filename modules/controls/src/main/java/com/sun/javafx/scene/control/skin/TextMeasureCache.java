@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control.skin;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextBoundsType;
+
+/**
+ * A bounded, least recently used cache in front of the text measuring and
+ * clipping methods of {@link Utils}. Laying out a Labeled (and in particular
+ * the cells of a ListView or TableView, which are laid out again every time
+ * they are reused for another item) measures and elides the same strings with
+ * the same font and width over and over, which is expensive as it requires a
+ * full text layout each time. As the results only depend on the arguments,
+ * they can be safely cached.
+ * <p>
+ * The size of the cache can be set with the
+ * {@code com.sun.javafx.scene.control.skin.TextMeasureCache.size} system
+ * property, where 0 disables caching. Strings longer than
+ * {@link #MAX_TEXT_LENGTH} characters are never cached. Like Utils, this class
+ * must only be used from the FX application thread.
+ */
+public final class TextMeasureCache {
+
+    private static final int MAX_ENTRIES =
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+                    Integer.getInteger("com.sun.javafx.scene.control.skin.TextMeasureCache.size", 4096));
+
+    /**
+     * The length above which strings are measured without being cached.
+     */
+    static final int MAX_TEXT_LENGTH = 1024;
+
+    private static final int CLIPPED = 0;
+    private static final int CLIPPED_WRAPPED = 1;
+    private static final int WIDTH = 2;
+    private static final int HEIGHT = 3;
+
+    private static final Map<Key, Object> cache = new LinkedHashMap<Key, Object>(256, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static long hitCount;
+    private static long missCount;
+
+    private TextMeasureCache() { }
+
+    /**
+     * Returns the number of lookups that were answered from the cache.
+     */
+    public static long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that required the text to be measured.
+     */
+    public static long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that were answered from the cache, or 0
+     * if there have been no lookups.
+     */
+    public static double getHitRate() {
+        final long total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the number of entries currently in the cache.
+     */
+    public static int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all entries from the cache, and resets the counters.
+     */
+    public static void clear() {
+        cache.clear();
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    static String computeClippedText(Font font, String text, double width,
+                                     OverrunStyle type, String ellipsisString) {
+        if (! isCacheable(font, text)) {
+            return Utils.computeClippedText(font, text, width, type, ellipsisString);
+        }
+
+        final Key key = new Key(CLIPPED, font, text, width, 0, type, ellipsisString);
+        String result = (String) get(key);
+        if (result == null) {
+            result = Utils.computeClippedText(font, text, width, type, ellipsisString);
+            put(key, result);
+        }
+        return result;
+    }
+
+    static String computeClippedWrappedText(Font font, String text, double width,
+                                            double height, OverrunStyle truncationStyle,
+                                            String ellipsisString, TextBoundsType boundsType) {
+        if (! isCacheable(font, text)) {
+            return Utils.computeClippedWrappedText(font, text, width, height,
+                    truncationStyle, ellipsisString, boundsType);
+        }
+
+        final Key key = new Key(CLIPPED_WRAPPED, font, text, width, height,
+                truncationStyle, ellipsisString, boundsType);
+        String result = (String) get(key);
+        if (result == null) {
+            result = Utils.computeClippedWrappedText(font, text, width, height,
+                    truncationStyle, ellipsisString, boundsType);
+            put(key, result);
+        }
+        return result;
+    }
+
+    static double computeTextWidth(Font font, String text, double wrappingWidth) {
+        if (! isCacheable(font, text)) {
+            return Utils.computeTextWidth(font, text, wrappingWidth);
+        }
+
+        final Key key = new Key(WIDTH, font, text, wrappingWidth, 0, null, null);
+        Double result = (Double) get(key);
+        if (result == null) {
+            result = Utils.computeTextWidth(font, text, wrappingWidth);
+            put(key, result);
+        }
+        return result;
+    }
+
+    static double computeTextHeight(Font font, String text, double wrappingWidth,
+                                    double lineSpacing, TextBoundsType boundsType) {
+        if (! isCacheable(font, text)) {
+            return Utils.computeTextHeight(font, text, wrappingWidth, lineSpacing, boundsType);
+        }
+
+        final Key key = new Key(HEIGHT, font, text, wrappingWidth, lineSpacing, boundsType, null);
+        Double result = (Double) get(key);
+        if (result == null) {
+            result = Utils.computeTextHeight(font, text, wrappingWidth, lineSpacing, boundsType);
+            put(key, result);
+        }
+        return result;
+    }
+
+    private static boolean isCacheable(Font font, String text) {
+        // null text is measured as the empty string, and is cheap to measure
+        return MAX_ENTRIES > 0 && font != null && text != null
+                && text.length() <= MAX_TEXT_LENGTH;
+    }
+
+    private static Object get(Key key) {
+        final Object result = cache.get(key);
+        if (result == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return result;
+    }
+
+    private static void put(Key key, Object value) {
+        if (value != null) {
+            cache.put(key, value);
+        }
+    }
+
+    private static final class Key {
+        private final int kind;
+        private final Font font;
+        private final String text;
+        private final double d1;
+        private final double d2;
+        private final Object o1;
+        private final String ellipsis;
+        private final Object o2;
+        private final int hash;
+
+        Key(int kind, Font font, String text, double d1, double d2, Object o1, String ellipsis) {
+            this(kind, font, text, d1, d2, o1, ellipsis, null);
+        }
+
+        Key(int kind, Font font, String text, double d1, double d2, Object o1, String ellipsis, Object o2) {
+            this.kind = kind;
+            this.font = font;
+            this.text = text;
+            this.d1 = d1;
+            this.d2 = d2;
+            this.o1 = o1;
+            this.ellipsis = ellipsis;
+            this.o2 = o2;
+
+            int h = kind;
+            h = 31 * h + font.hashCode();
+            h = 31 * h + text.hashCode();
+            h = 31 * h + Double.hashCode(d1);
+            h = 31 * h + Double.hashCode(d2);
+            h = 31 * h + Objects.hashCode(o1);
+            h = 31 * h + Objects.hashCode(ellipsis);
+            h = 31 * h + Objects.hashCode(o2);
+            this.hash = h;
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+
+        @Override public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (! (obj instanceof Key)) return false;
+            final Key other = (Key) obj;
+            return hash == other.hash
+                    && kind == other.kind
+                    && Double.compare(d1, other.d1) == 0
+                    && Double.compare(d2, other.d2) == 0
+                    && o1 == other.o1
+                    && o2 == other.o2
+                    && text.equals(other.text)
+                    && font.equals(other.font)
+                    && Objects.equals(ellipsis, other.ellipsis);
+        }
+    }
+}
@@ -82,6 +82,62 @@ public abstract class VirtualContainerBase<C extends Control, B extends Behavior
         return new VirtualFlow<I>();
     }
 
+    /**
+     * Connects the flow to the shared {@link CellPool}, if cell pooling has
+     * been enabled, so that cells can be adopted from (and released to) other
+     * instances of this skin. Subclasses that support pooling should call this
+     * once the flow's createCell callback has been set.
+     */
+    protected final void installCellPool() {
+        final CellPool pool = CellPool.getShared();
+        if (pool == null) return;
+
+        flow.setCellPool(pool, new CellPool.Owner<I>() {
+            @Override public Object getPoolKey() {
+                return CellPool.createKey(getCellPoolFactory(), getSkinnable().getStyleClass());
+            }
+
+            @Override public void adoptCell(I cell) {
+                adoptPooledCell(cell);
+            }
+
+            @Override public void releaseCell(I cell) {
+                releasePooledCell(cell);
+            }
+        });
+    }
+
+    /**
+     * Returns the object identifying the kind of cell created by
+     * {@link #createCell()}, typically the cell factory of the control. This
+     * forms part of the key under which cells are pooled.
+     */
+    protected Object getCellPoolFactory() {
+        return getClass();
+    }
+
+    /**
+     * Attaches a cell taken from the cell pool to this container's control.
+     */
+    protected void adoptPooledCell(I cell) {
+        // no-op
+    }
+
+    /**
+     * Detaches a cell from this container's control before it is released to
+     * the cell pool.
+     */
+    protected void releasePooledCell(I cell) {
+        // no-op
+    }
+
+    @Override public void dispose() {
+        flow.releaseCellsToPool();
+        flow.setCellPool(null, null);
+
+        super.dispose();
+    }
+
     /**
      * Returns the total number of items in this container, including those
      * that are currently hidden because they are out of view.
@@ -296,6 +296,74 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         }
     }
 
+    /**
+     * The pool, if any, from which cells are adopted before the createCell
+     * callback is invoked, and to which cells are released when this flow is
+     * removed from the scene.
+     */
+    private CellPool cellPool;
+    private CellPool.Owner<T> cellPoolOwner;
+    private InvalidationListener cellPoolSceneListener;
+
+    public CellPool getCellPool() { return cellPool; }
+    public void setCellPool(CellPool pool, CellPool.Owner<T> owner) {
+        if (pool != null && owner == null) {
+            throw new NullPointerException("owner can not be null when a pool is set");
+        }
+        this.cellPool = pool;
+        this.cellPoolOwner = pool == null ? null : owner;
+
+        if (pool != null && cellPoolSceneListener == null) {
+            cellPoolSceneListener = o -> {
+                if (getScene() == null) {
+                    releaseCellsToPool();
+                }
+            };
+            sceneProperty().addListener(cellPoolSceneListener);
+        } else if (pool == null && cellPoolSceneListener != null) {
+            sceneProperty().removeListener(cellPoolSceneListener);
+            cellPoolSceneListener = null;
+        }
+    }
+
+    /**
+     * Moves all cells (both those in use and those on the pile) into the cell
+     * pool, if one has been set. The cells will be recreated (or adopted back
+     * from the pool) the next time the flow is laid out.
+     */
+    public void releaseCellsToPool() {
+        if (cellPool == null) return;
+
+        final Object key = cellPoolOwner.getPoolKey();
+        for (int i = 0, max = cells.size(); i < max; i++) {
+            releaseCellToPool(key, cells.get(i));
+        }
+        for (int i = 0, max = pile.size(); i < max; i++) {
+            releaseCellToPool(key, pile.get(i));
+        }
+        cells.clear();
+        pile.clear();
+        recreateCells();
+    }
+
+    private void releaseCellToPool(Object key, T cell) {
+        cell.updateIndex(-1);
+        sheetChildren.remove(cell);
+        cellPoolOwner.releaseCell(cell);
+        cellPool.release(key, cell);
+    }
+
+    private T acquireCellFromPool() {
+        if (cellPool == null) return null;
+
+        @SuppressWarnings("unchecked")
+        T cell = (T) cellPool.acquire(cellPoolOwner.getPoolKey());
+        if (cell != null) {
+            cellPoolOwner.adoptCell(cell);
+        }
+        return cell;
+    }
+
     /**
      * The maximum preferred size in the non-virtual direction. For example,
      * if vertical, then this is the max pref width of all cells encountered.
@@ -1982,8 +2050,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     /**
      * Get a cell which can be used in the layout. This function will reuse
-     * cells from the pile where possible, and will create new cells when
-     * necessary.
+     * cells from the pile where possible, then adopt cells from the cell pool
+     * (if one is set), and will create new cells when necessary.
      */
     protected T getAvailableCell(int prefIndex) {
         T cell = null;
@@ -2028,7 +2096,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                     cell = pile.removeFirst();
                 }
             } else {
-                cell = getCreateCell().call(this);
+                // an adopted cell has moved to a new scene, so like a newly
+                // created cell it needs its CSS processed before use
+                cell = acquireCellFromPool();
+                if (cell == null) {
+                    cell = getCreateCell().call(this);
+                }
                 cell.getProperties().put(NEW_CELL, null);
             }
         }
@@ -59,6 +59,7 @@ import javafx.util.Duration;
 
 import com.sun.javafx.charts.Legend;
 import com.sun.javafx.charts.Legend.LegendItem;
+import com.sun.javafx.charts.MinMaxDecimator;
 
 import javafx.css.StyleableBooleanProperty;
 import javafx.css.CssMetaData;
@@ -90,6 +91,8 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     private Map<Data<X,Y>, Double> XYValueMap =
                                 new HashMap<Data<X,Y>, Double>();
     private Timeline seriesRemoveTimeline = null;
+    /** Reduced state of the series that plot buffered data */
+    private final Map<Series<X,Y>, MinMaxDecimator> decimatorMap = new HashMap<>();
     // -------------- PUBLIC PROPERTIES ----------------------------------------
 
     /** When true, CSS styleable symbols are created for any data items that don't have a symbol node specified. */
@@ -196,10 +199,33 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         final Axis<Y> ya = getYAxis();
         List<X> xData = null;
         List<Y> yData = null;
-        if(xa.isAutoRanging()) xData = new ArrayList<X>();
-        if(ya.isAutoRanging()) yData = new ArrayList<Y>();
+        if(xa.isAutoRanging()) {
+            if (xa instanceof ValueAxis && ((ValueAxis<?>) xa).canInvalidateRangeFromBounds()) {
+                final double[] range = getDataRange(true);
+                // RT-32838 No need to invalidate range if there is one data item - whose value is zero.
+                if (!(range[2] == 1 && range[0] == 0)) {
+                    ((ValueAxis<?>) xa).invalidateRange(range[0], range[1]);
+                }
+            } else {
+                xData = new ArrayList<X>();
+            }
+        }
+        if(ya.isAutoRanging()) {
+            if (ya instanceof ValueAxis && ((ValueAxis<?>) ya).canInvalidateRangeFromBounds()) {
+                final double[] range = getDataRange(false);
+                if (!(range[2] == 1 && range[0] == 0)) {
+                    ((ValueAxis<?>) ya).invalidateRange(range[0], range[1]);
+                }
+            } else {
+                yData = new ArrayList<Y>();
+            }
+        }
         if(xData != null || yData != null) {
             for(Series<X,Y> series : getData()) {
+                if (series.hasBufferedData()) {
+                    addBufferedRange(series, xData, yData);
+                    continue;
+                }
                 for(Data<X,Y> data: series.getData()) {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
@@ -444,6 +470,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         updateDefaultColorIndex(series);
         // remove all symbol nodes
         seriesYMultiplierMap.remove(series);
+        decimatorMap.remove(series);
         if (shouldAnimate()) {
             seriesRemoveTimeline = new Timeline(createSeriesRemoveTimeLine(series, 900));
             seriesRemoveTimeline.play();
@@ -462,6 +489,11 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             final DoubleProperty seriesYAnimMultiplier = seriesYMultiplierMap.get(series);
             if(series.getNode() instanceof  Path) {
                 final ObservableList<PathElement> seriesLine = ((Path)series.getNode()).getElements();
+                if (series.hasBufferedData()) {
+                    layoutBufferedSeries(series, seriesLine, seriesYAnimMultiplier.getValue());
+                    continue;
+                }
+                decimatorMap.remove(series);
                 seriesLine.clear();
                 constructedPath.clear();
                 for (Iterator<Data<X, Y>> it = getDisplayedDataIterator(series); it.hasNext(); ) {
@@ -498,6 +530,26 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             }
         }
     }
+    /**
+     * Plots the data buffer of a series as a single path, reduced to at most four points per pixel column.
+     */
+    private void layoutBufferedSeries(Series<X,Y> series, ObservableList<PathElement> seriesLine, double yMultiplier) {
+        MinMaxDecimator decimator = decimatorMap.get(series);
+        if (decimator == null) {
+            decimator = new MinMaxDecimator();
+            decimatorMap.put(series, decimator);
+        }
+        final int count = decimate(series, decimator, yMultiplier);
+        final double[] points = decimator.getPoints();
+        final List<PathElement> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final double x = points[i * 2];
+            final double y = points[i * 2 + 1];
+            elements.add(i == 0 ? new MoveTo(x, y) : new LineTo(x, y));
+        }
+        seriesLine.setAll(elements);
+    }
+
     /** @inheritDoc */
     @Override void dataBeingRemovedIsAdded(Data item, Series series) {
         if (fadeSymbolTransition != null) {
@@ -34,12 +34,23 @@ import javafx.collections.ObservableList;
 import javafx.scene.AccessibleRole;
 import javafx.scene.Node;
 import javafx.scene.layout.StackPane;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.HLineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.shape.VLineTo;
 import javafx.util.Duration;
 
 import com.sun.javafx.charts.Legend;
 import com.sun.javafx.charts.Legend.LegendItem;
+import com.sun.javafx.charts.PixelGridDecimator;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Chart type that plots symbols for the data points in a series.
@@ -50,6 +61,10 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
     // -------------- PRIVATE FIELDS ------------------------------------------
 
     private Legend legend = new Legend();
+    /** Size in pixels of the grid cells that buffered data is reduced to */
+    private static final int BUFFERED_SYMBOL_SIZE = 3;
+    /** Reduced state of the series that plot buffered data */
+    private final Map<Series<X,Y>, PixelGridDecimator> decimatorMap = new HashMap<>();
 
     // -------------- CONSTRUCTORS ----------------------------------------------
 
@@ -92,6 +107,10 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         // set symbol styles
         symbol.getStyleClass().setAll("chart-symbol", "series" + getData().indexOf(series), "data" + itemIndex,
                 series.defaultColorStyleClass);
+        // the symbols of a series plotted from its data buffer are not shown
+        if (decimatorMap.containsKey(series)) {
+            return;
+        }
         // add and fade in new symbol if animated
         if (shouldAnimate()) {
             symbol.setOpacity(0);
@@ -142,6 +161,11 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
     /** @inheritDoc */
     @Override protected  void seriesRemoved(final Series<X,Y> series) {
+        // remove the path plotting buffered data
+        if (decimatorMap.remove(series) != null) {
+            getPlotChildren().remove(series.getNode());
+            series.setNode(null);
+        }
         // remove all symbol nodes
         if (shouldAnimate()) {
             ParallelTransition pt = new ParallelTransition();
@@ -174,6 +198,14 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         // update symbol positions
         for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
             Series<X,Y> series = getData().get(seriesIndex);
+            if (series.hasBufferedData()) {
+                layoutBufferedSeries(series, seriesIndex);
+                continue;
+            } else if (decimatorMap.remove(series) != null) {
+                getPlotChildren().remove(series.getNode());
+                series.setNode(null);
+                getPlotChildren().addAll(getSymbols(series));
+            }
             for (Iterator<Data<X, Y>> it = getDisplayedDataIterator(series); it.hasNext(); ) {
                 Data<X, Y> item = it.next();
                 double x = getXAxis().getDisplayPosition(item.getCurrentX());
@@ -191,6 +223,46 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    /**
+     * Plots the data buffer of a series as a single path with one small square per occupied cell of the plot area.
+     */
+    private void layoutBufferedSeries(Series<X,Y> series, int seriesIndex) {
+        PixelGridDecimator decimator = decimatorMap.get(series);
+        if (decimator == null) {
+            decimator = new PixelGridDecimator(BUFFERED_SYMBOL_SIZE);
+            decimatorMap.put(series, decimator);
+            Path path = new Path();
+            path.getStyleClass().setAll("chart-symbol-path", "series" + seriesIndex, series.defaultColorStyleClass);
+            series.setNode(path);
+            getPlotChildren().removeAll(getSymbols(series));
+            getPlotChildren().add(path);
+        }
+        final int count = decimate(series, decimator, 1);
+        final double[] points = decimator.getPoints();
+        final double half = decimator.getCellSize() / 2.0;
+        final List<PathElement> elements = new ArrayList<>(count * 5);
+        for (int i = 0; i < count; i++) {
+            final double x = points[i * 2];
+            final double y = points[i * 2 + 1];
+            elements.add(new MoveTo(x - half, y - half));
+            elements.add(new HLineTo(x + half));
+            elements.add(new VLineTo(y + half));
+            elements.add(new HLineTo(x - half));
+            elements.add(new ClosePath());
+        }
+        ((Path) series.getNode()).getElements().setAll(elements);
+    }
+
+    private List<Node> getSymbols(Series<X,Y> series) {
+        final List<Node> symbols = new ArrayList<>(series.getData().size());
+        for (Data<X,Y> item : series.getData()) {
+            if (item.getNode() != null) {
+                symbols.add(item.getNode());
+            }
+        }
+        return symbols;
+    }
+
     /**
      * This is called whenever a series is added or removed and the legend needs to be updated
      */
@@ -200,7 +272,10 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
             for (int seriesIndex=0; seriesIndex< getData().size(); seriesIndex++) {
                 Series<X,Y> series = getData().get(seriesIndex);
                 LegendItem legenditem = new LegendItem(series.getName());
-                if (!series.getData().isEmpty() && series.getData().get(0).getNode() != null) {
+                if (series.hasBufferedData()) {
+                    legenditem.getSymbol().getStyleClass().addAll("chart-symbol", "series" + seriesIndex,
+                            series.defaultColorStyleClass);
+                } else if (!series.getData().isEmpty() && series.getData().get(0).getNode() != null) {
                     legenditem.getSymbol().getStyleClass().addAll(series.getData().get(0).getNode().getStyleClass());
                 }
                 legend.getItems().add(legenditem);
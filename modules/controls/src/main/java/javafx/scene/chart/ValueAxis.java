@@ -449,6 +449,47 @@ public abstract class ValueAxis<T extends Number> extends Axis<T> {
         super.invalidateRange(data);
     }
 
+    /** 1 if invalidateRange(List) is not overridden by a subclass, -1 if it is, 0 if not known yet */
+    private int rangeFromBounds;
+
+    /**
+     * Returns true if charts may call {@link #invalidateRange(double, double)} instead of
+     * {@link #invalidateRange(List)}, that is unless a subclass overrides invalidateRange(List) and needs to see the
+     * data values.
+     */
+    boolean canInvalidateRangeFromBounds() {
+        if (rangeFromBounds == 0) {
+            boolean overridden;
+            try {
+                overridden = getClass().getMethod("invalidateRange", List.class).getDeclaringClass() != ValueAxis.class;
+            } catch (NoSuchMethodException | SecurityException e) {
+                overridden = true;
+            }
+            rangeFromBounds = overridden ? -1 : 1;
+        }
+        return rangeFromBounds > 0;
+    }
+
+    /**
+     * Called when data has changed and the range may not be valid any more, with the extremes of the data rather
+     * than all of it. Charts that track the range of their series incrementally use this so that auto ranging
+     * doesn't need to visit every data value.
+     *
+     * @param minValue The smallest data value that needs to be plotted on this axis, or NaN if there is no data
+     * @param maxValue The largest data value that needs to be plotted on this axis, or NaN if there is no data
+     */
+    void invalidateRange(double minValue, double maxValue) {
+        if (Double.isNaN(minValue) || Double.isNaN(maxValue)) {
+            dataMaxValue = getUpperBound();
+            dataMinValue = getLowerBound();
+        } else {
+            dataMinValue = minValue;
+            dataMaxValue = maxValue;
+        }
+        invalidateRange();
+        requestAxisLayout();
+    }
+
     /**
      * Get the display position along this axis for a given value.
      * If the value is not in the current range, the returned value will be an extrapolation of the display
@@ -70,6 +70,8 @@ import javafx.scene.shape.Path;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 
+import com.sun.javafx.charts.Decimator;
+import com.sun.javafx.charts.SlidingRange;
 import com.sun.javafx.collections.NonIterableChange;
 import com.sun.javafx.css.converters.BooleanConverter;
 
@@ -505,7 +507,10 @@ public abstract class XYChart<X,Y> extends Chart {
     }
 
     private void dataXValueChanged(Data<X,Y> item) {
-        if(item.getCurrentX() != item.getXValue()) invalidateRange();
+        if(item.getCurrentX() != item.getXValue()) {
+            invalidateRange();
+            if (item.series != null) item.series.xDataRangeValid = false;
+        }
         dataItemChanged(item);
         if (shouldAnimate()) {
             animate(
@@ -519,7 +524,10 @@ public abstract class XYChart<X,Y> extends Chart {
     }
 
     private void dataYValueChanged(Data<X,Y> item) {
-        if(item.getCurrentY() != item.getYValue()) invalidateRange();
+        if(item.getCurrentY() != item.getYValue()) {
+            invalidateRange();
+            if (item.series != null) item.series.yDataRangeValid = false;
+        }
         dataItemChanged(item);
         if (shouldAnimate()) {
             animate(
@@ -631,10 +639,28 @@ public abstract class XYChart<X,Y> extends Chart {
         final Axis<Y> ya = getYAxis();
         List<X> xData = null;
         List<Y> yData = null;
-        if(xa.isAutoRanging()) xData = new ArrayList<X>();
-        if(ya.isAutoRanging()) yData = new ArrayList<Y>();
+        if(xa.isAutoRanging()) {
+            if (xa instanceof ValueAxis && ((ValueAxis<?>) xa).canInvalidateRangeFromBounds()) {
+                final double[] range = getDataRange(true);
+                ((ValueAxis<?>) xa).invalidateRange(range[0], range[1]);
+            } else {
+                xData = new ArrayList<X>();
+            }
+        }
+        if(ya.isAutoRanging()) {
+            if (ya instanceof ValueAxis && ((ValueAxis<?>) ya).canInvalidateRangeFromBounds()) {
+                final double[] range = getDataRange(false);
+                ((ValueAxis<?>) ya).invalidateRange(range[0], range[1]);
+            } else {
+                yData = new ArrayList<Y>();
+            }
+        }
         if(xData != null || yData != null) {
             for(Series<X,Y> series : getData()) {
+                if (series.hasBufferedData()) {
+                    addBufferedRange(series, xData, yData);
+                    continue;
+                }
                 for(Data<X,Y> data: series.getData()) {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
@@ -645,6 +671,82 @@ public abstract class XYChart<X,Y> extends Chart {
         }
     }
 
+    /**
+     * Computes the range of the numeric values of all series along one axis. Each series maintains the range of its
+     * values incrementally, so this takes time proportional to the number of series rather than to the number of
+     * values, as long as values are only appended to and removed from the start of the series.
+     *
+     * @param xAxis True to compute the range along the x axis, false for the y axis
+     * @return The smallest and largest value, or NaN if there are none, followed by the number of values
+     */
+    final double[] getDataRange(boolean xAxis) {
+        double min = Double.NaN;
+        double max = Double.NaN;
+        int count = 0;
+        for (Series<X,Y> series : getData()) {
+            final double seriesMin, seriesMax;
+            if (series.hasBufferedData()) {
+                final DataBuffer buffer = series.getDataBuffer();
+                seriesMin = xAxis ? buffer.getMinXValue() : buffer.getMinYValue();
+                seriesMax = xAxis ? buffer.getMaxXValue() : buffer.getMaxYValue();
+                count += buffer.size();
+            } else {
+                final SlidingRange range = xAxis ? series.getXDataRange() : series.getYDataRange();
+                seriesMin = range.getMin();
+                seriesMax = range.getMax();
+                count += range.size();
+            }
+            if (!(seriesMin >= min)) min = seriesMin;
+            if (!(seriesMax <= max)) max = seriesMax;
+        }
+        return new double[] { min, max, count };
+    }
+
+    /**
+     * Adds the bounds of the values in the data buffer of the given series to the data lists used for auto ranging.
+     * Only the extremes are added, so this is O(1) regardless of how many values the buffer holds.
+     *
+     * @param series The series, which must have buffered data
+     * @param xData The list of x values to add to, or null if the x axis is not auto ranging
+     * @param yData The list of y values to add to, or null if the y axis is not auto ranging
+     */
+    final void addBufferedRange(Series<X,Y> series, List<X> xData, List<Y> yData) {
+        final DataBuffer buffer = series.getDataBuffer();
+        if (xData != null && !Double.isNaN(buffer.getMinXValue())) {
+            xData.add(getXAxis().toRealValue(buffer.getMinXValue()));
+            xData.add(getXAxis().toRealValue(buffer.getMaxXValue()));
+        }
+        if (yData != null && !Double.isNaN(buffer.getMinYValue())) {
+            yData.add(getYAxis().toRealValue(buffer.getMinYValue()));
+            yData.add(getYAxis().toRealValue(buffer.getMaxYValue()));
+        }
+    }
+
+    /**
+     * Reduces the values in the data buffer of the given series to the current plot area. Both axes are treated as
+     * linear, their transforms are derived from the display positions of 0 and 1.
+     *
+     * @param series The series, which must have buffered data
+     * @param decimator The decimator that holds the reduced state of the series
+     * @param yMultiplier Multiplier applied to all y values, used to animate a series in
+     * @return The number of display points, or 0 if the axes can't map the values
+     */
+    final int decimate(Series<X,Y> series, Decimator decimator, double yMultiplier) {
+        final Axis<X> xa = getXAxis();
+        final Axis<Y> ya = getYAxis();
+        final double xOffset = xa.getDisplayPosition(xa.toRealValue(0));
+        final double xScale = xa.getDisplayPosition(xa.toRealValue(1)) - xOffset;
+        final double yOffset = ya.getDisplayPosition(ya.toRealValue(0));
+        final double yScale = (ya.getDisplayPosition(ya.toRealValue(1)) - yOffset) * yMultiplier;
+        if (Double.isNaN(xScale) || Double.isNaN(yScale) || Double.isNaN(xOffset) || Double.isNaN(yOffset)) {
+            return 0;
+        }
+        final DataBuffer buffer = series.getDataBuffer();
+        return decimator.update(buffer.xValues, buffer.yValues, buffer.start, buffer.size(), buffer.modCount,
+                xScale, xOffset, yScale, yOffset,
+                (int) Math.ceil(xa.getWidth()), (int) Math.ceil(ya.getHeight()));
+    }
+
     /**
      * Called to update and layout the plot children. This should include all work to updates nodes representing
      * the plot on top of the axis and grid lines etc. The origin is the top left of the plot area, the plot area with
@@ -1428,6 +1530,231 @@ public abstract class XYChart<X,Y> extends Chart {
 
     }
 
+    /**
+     * A growable buffer of primitive x and y values for series with a large number of data points, such as long
+     * or streaming time series. Unlike {@link Data} no objects are created per value, and charts that support
+     * buffered data ({@link LineChart} and {@link ScatterChart}) reduce the values to the pixel grid of the plot
+     * area on each layout, so the number of nodes and path elements used to plot a series is bounded by the size
+     * of the chart rather than by the number of values. Individual values are not represented by nodes, so there
+     * are no symbols, and a line through buffered values is always drawn in x order.
+     * <p>
+     * While the buffer of a series holds values, the series is plotted from the buffer and its
+     * {@link Series#getData() data} list is ignored. Both axes must be linear, such as {@link NumberAxis}.
+     * <p>
+     * Values that are only appended are reduced incrementally, so appending to a buffer of a chart whose axes
+     * don't change costs time proportional to the number of appended values.
+     *
+     * @see Series#getDataBuffer()
+     * @since JavaFX 8u112
+     */
+    public static final class DataBuffer {
+
+        private final Series<?,?> series;
+        double[] xValues = new double[16];
+        double[] yValues = new double[16];
+        int start;
+        private int end;
+        /** Incremented whenever values are removed, replaced or moved, but not when they are appended */
+        long modCount;
+
+        private final SlidingRange xRange = new SlidingRange();
+        private final SlidingRange yRange = new SlidingRange();
+        private boolean rangeValid = true;
+
+        DataBuffer(Series<?,?> series) {
+            this.series = series;
+        }
+
+        /**
+         * Returns the number of values in this buffer.
+         * @return the number of values in this buffer
+         */
+        public int size() {
+            return end - start;
+        }
+
+        /**
+         * Returns the x value at the given index.
+         * @param index the index of the value
+         * @return the x value at the given index
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public double getXValue(int index) {
+            checkIndex(index);
+            return xValues[start + index];
+        }
+
+        /**
+         * Returns the y value at the given index.
+         * @param index the index of the value
+         * @return the y value at the given index
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public double getYValue(int index) {
+            checkIndex(index);
+            return yValues[start + index];
+        }
+
+        /**
+         * Appends a value to the end of this buffer.
+         * @param xValue the x value
+         * @param yValue the y value
+         */
+        public void add(double xValue, double yValue) {
+            ensureCapacity(1);
+            xValues[end] = xValue;
+            yValues[end] = yValue;
+            end++;
+            if (rangeValid) {
+                xRange.add(xValue);
+                yRange.add(yValue);
+            }
+            series.dataBufferChanged();
+        }
+
+        /**
+         * Appends all the given values to the end of this buffer.
+         * @param xValues the x values
+         * @param yValues the y values, which must have the same length as the x values
+         * @throws IllegalArgumentException if the arrays differ in length
+         */
+        public void addAll(double[] xValues, double[] yValues) {
+            if (xValues.length != yValues.length) {
+                throw new IllegalArgumentException("x and y values differ in length");
+            }
+            addAll(xValues, yValues, 0, xValues.length);
+        }
+
+        /**
+         * Appends {@code length} values of the given arrays, starting at {@code offset}, to the end of this buffer.
+         * @param xValues the x values
+         * @param yValues the y values
+         * @param offset the index of the first value in the arrays
+         * @param length the number of values to append
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array
+         */
+        public void addAll(double[] xValues, double[] yValues, int offset, int length) {
+            if (offset < 0 || length < 0 || offset + length > xValues.length || offset + length > yValues.length) {
+                throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length);
+            }
+            if (length == 0) {
+                return;
+            }
+            ensureCapacity(length);
+            System.arraycopy(xValues, offset, this.xValues, end, length);
+            System.arraycopy(yValues, offset, this.yValues, end, length);
+            if (rangeValid) {
+                for (int i = offset; i < offset + length; i++) {
+                    xRange.add(xValues[i]);
+                    yRange.add(yValues[i]);
+                }
+            }
+            end += length;
+            series.dataBufferChanged();
+        }
+
+        /**
+         * Replaces the value at the given index.
+         * @param index the index of the value
+         * @param xValue the new x value
+         * @param yValue the new y value
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public void set(int index, double xValue, double yValue) {
+            checkIndex(index);
+            xValues[start + index] = xValue;
+            yValues[start + index] = yValue;
+            modCount++;
+            rangeValid = false;
+            series.dataBufferChanged();
+        }
+
+        /**
+         * Removes the given number of values from the start of this buffer. This is intended for streaming data
+         * that is shown in a sliding window and takes amortized constant time.
+         * @param count the number of values to remove
+         * @throws IndexOutOfBoundsException if count is negative or greater than the size of this buffer
+         */
+        public void removeFirst(int count) {
+            if (count < 0 || count > size()) {
+                throw new IndexOutOfBoundsException("count: " + count + ", size: " + size());
+            }
+            if (count == 0) {
+                return;
+            }
+            start += count;
+            if (start == end) {
+                start = end = 0;
+            }
+            modCount++;
+            if (rangeValid) {
+                xRange.removeFirst(count);
+                yRange.removeFirst(count);
+            }
+            series.dataBufferChanged();
+        }
+
+        /**
+         * Removes all values from this buffer.
+         */
+        public void clear() {
+            start = end = 0;
+            modCount++;
+            xRange.clear();
+            yRange.clear();
+            rangeValid = true;
+            series.dataBufferChanged();
+        }
+
+        double getMinXValue() { validateRange(); return xRange.getMin(); }
+        double getMaxXValue() { validateRange(); return xRange.getMax(); }
+        double getMinYValue() { validateRange(); return yRange.getMin(); }
+        double getMaxYValue() { validateRange(); return yRange.getMax(); }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+        }
+
+        private void ensureCapacity(int count) {
+            if (end + count <= xValues.length) {
+                return;
+            }
+            final int size = size();
+            if (start > 0 && size + count <= xValues.length && start >= size) {
+                // enough room when values removed from the start are reclaimed
+                System.arraycopy(xValues, start, xValues, 0, size);
+                System.arraycopy(yValues, start, yValues, 0, size);
+            } else {
+                final int capacity = Math.max(size + count, xValues.length + (xValues.length >> 1));
+                final double[] newXValues = new double[capacity];
+                final double[] newYValues = new double[capacity];
+                System.arraycopy(xValues, start, newXValues, 0, size);
+                System.arraycopy(yValues, start, newYValues, 0, size);
+                xValues = newXValues;
+                yValues = newYValues;
+            }
+            if (start > 0) {
+                start = 0;
+                modCount++;
+            }
+            end = size;
+        }
+
+        /** Rebuilds the tracked ranges after values were replaced */
+        private void validateRange() {
+            if (rangeValid) return;
+            rangeValid = true;
+            xRange.clear();
+            yRange.clear();
+            for (int i = start; i < end; i++) {
+                xRange.add(xValues[i]);
+                yRange.add(yValues[i]);
+            }
+        }
+    }
+
     /**
      * A named series of data items
      * @since JavaFX 2.0
@@ -1442,6 +1769,14 @@ public abstract class XYChart<X,Y> extends Chart {
 
         private List<Data<X, Y>> displayedData = new ArrayList<>();
 
+        private DataBuffer dataBuffer;
+
+        /** Ranges of the numeric data values, maintained incrementally while valid */
+        private final SlidingRange xDataRange = new SlidingRange();
+        private final SlidingRange yDataRange = new SlidingRange();
+        private boolean xDataRangeValid = false;
+        private boolean yDataRangeValid = false;
+
         private final ListChangeListener<Data<X,Y>> dataChangeListener = new ListChangeListener<Data<X, Y>>() {
             @Override public void onChanged(Change<? extends Data<X, Y>> c) {
                 ObservableList<? extends Data<X, Y>> data = c.getList();
@@ -1451,6 +1786,7 @@ public abstract class XYChart<X,Y> extends Chart {
                         // RT-25187 Probably a sort happened, just reorder the pointers and return.
                         if (c.wasPermutated()) {
                             displayedData.sort((o1, o2) -> data.indexOf(o2) - data.indexOf(o1));
+                            xDataRangeValid = yDataRangeValid = false;
                             return;
                         }
 
@@ -1484,6 +1820,7 @@ public abstract class XYChart<X,Y> extends Chart {
                                 displayedData.addAll(displayedData.indexOf(data.get(c.getFrom() - 1)) + 1, c.getAddedSubList());
                             }
                         }
+                        updateDataRanges(c, chart);
                         // inform chart
                         chart.dataItemsChanged(Series.this,
                                 (List<Data<X, Y>>) c.getRemoved(), c.getFrom(), c.getTo(), c.wasPermutated());
@@ -1510,6 +1847,7 @@ public abstract class XYChart<X,Y> extends Chart {
         private final ReadOnlyObjectWrapper<XYChart<X,Y>> chart = new ReadOnlyObjectWrapper<XYChart<X,Y>>(this, "chart") {
             @Override
             protected void invalidated() {
+                xDataRangeValid = yDataRangeValid = false;
                 if (get() == null) {
                     displayedData.clear();
                 } else {
@@ -1600,6 +1938,21 @@ public abstract class XYChart<X,Y> extends Chart {
         public final void setData(ObservableList<Data<X,Y>> value) { data.setValue(value); }
         public final ObjectProperty<ObservableList<Data<X,Y>>> dataProperty() { return data; }
 
+        /**
+         * Returns the buffer of primitive values of this series, creating it if needed. While the buffer holds
+         * values, charts that support buffered data plot the buffer instead of the {@link #getData() data} list.
+         *
+         * @return the data buffer of this series
+         * @see DataBuffer
+         * @since JavaFX 8u112
+         */
+        public final DataBuffer getDataBuffer() {
+            if (dataBuffer == null) {
+                dataBuffer = new DataBuffer(this);
+            }
+            return dataBuffer;
+        }
+
         // -------------- CONSTRUCTORS ----------------------------------------------
 
         /**
@@ -1651,6 +2004,61 @@ public abstract class XYChart<X,Y> extends Chart {
             displayedData.remove(item);
         }
 
+        /**
+         * Keeps the data ranges valid for values removed from the start or appended to the end of the data, which
+         * covers sliding windows over streaming data. Any other change invalidates them.
+         */
+        private void updateDataRanges(Change<? extends Data<X,Y>> c, XYChart<X,Y> chart) {
+            if (!xDataRangeValid && !yDataRangeValid) return;
+            if (c.wasUpdated()) {
+                xDataRangeValid = yDataRangeValid = false;
+            } else if (c.getAddedSize() == 0 && c.getFrom() == 0) {
+                if (xDataRangeValid) xDataRange.removeFirst(c.getRemovedSize());
+                if (yDataRangeValid) yDataRange.removeFirst(c.getRemovedSize());
+            } else if (c.getRemovedSize() == 0 && c.getTo() == c.getList().size()) {
+                for (Data<X,Y> item : c.getAddedSubList()) {
+                    if (xDataRangeValid) xDataRange.add(chart.getXAxis().toNumericValue(item.getXValue()));
+                    if (yDataRangeValid) yDataRange.add(chart.getYAxis().toNumericValue(item.getYValue()));
+                }
+            } else {
+                xDataRangeValid = yDataRangeValid = false;
+            }
+        }
+
+        SlidingRange getXDataRange() {
+            if (!xDataRangeValid) {
+                xDataRangeValid = true;
+                xDataRange.clear();
+                for (Data<X,Y> item : getData()) {
+                    xDataRange.add(getChart().getXAxis().toNumericValue(item.getXValue()));
+                }
+            }
+            return xDataRange;
+        }
+
+        SlidingRange getYDataRange() {
+            if (!yDataRangeValid) {
+                yDataRangeValid = true;
+                yDataRange.clear();
+                for (Data<X,Y> item : getData()) {
+                    yDataRange.add(getChart().getYAxis().toNumericValue(item.getYValue()));
+                }
+            }
+            return yDataRange;
+        }
+
+        boolean hasBufferedData() {
+            return dataBuffer != null && dataBuffer.size() > 0;
+        }
+
+        private void dataBufferChanged() {
+            final XYChart<X,Y> chart = getChart();
+            if (chart != null) {
+                chart.invalidateRange();
+                chart.requestChartLayout();
+            }
+        }
+
         int getItemIndex(Data<X,Y> item) {
             return displayedData.indexOf(item);
         }
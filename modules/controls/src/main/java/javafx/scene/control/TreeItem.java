@@ -28,7 +28,12 @@ package javafx.scene.control;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.ObjectProperty;
@@ -44,6 +49,7 @@ import javafx.event.EventType;
 import javafx.scene.Node;
 
 import com.sun.javafx.event.EventHandlerManager;
+import com.sun.javafx.scene.control.Logging;
 import java.util.Comparator;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
@@ -151,6 +157,15 @@ import static javafx.scene.control.TreeSortMode.*;
  *      };
  *  }</code></pre>
  *
+ * <p>For very large or slow data sources, such as remote file systems, the
+ * children may instead be loaded in pages on a background thread by setting a
+ * {@link #childrenLoaderProperty() children loader}:
+ *
+ * <pre><code>
+ *  TreeItem&lt;File&gt; item = new TreeItem&lt;File&gt;(dir);
+ *  item.setChildrenLoader((parent, from, count) -&gt; listFiles(parent.getValue(), from, count));
+ * </code></pre>
+ *
  * <strong>TreeItem Events</strong>
  * <p>TreeItem supports the same event bubbling concept as elsewhere in the
  * scenegraph. This means that it is not necessary to listen for events on all
@@ -391,6 +406,40 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // when all children are collapsed.
     int previousExpandedDescendentCount = 1;
 
+    // The cumulative expanded descendent counts of the children, see
+    // getChildRowOffsets(). Only the first children.size() + 1 entries are used.
+    private int[] childRowOffsets;
+
+    // State used when the children are loaded via a ChildrenLoader. The
+    // loadGeneration is incremented whenever the loader changes, so that
+    // results for an outdated loader are ignored.
+    private static final int DEFAULT_CHILDREN_PAGE_SIZE = 1000;
+    private int loadGeneration;
+    private int loadedChildrenCount;
+    private boolean childrenFullyLoaded;
+    private boolean loadingPlaceholder;
+    private TreeItem<T> placeholder;
+
+    // Package accessible ONLY FOR TESTING, so that tests control when pages
+    // are loaded, and can deliver them without a running FX application thread
+    static Executor childrenLoadExecutor = createChildrenLoadExecutor();
+    static Executor childrenDeliveryExecutor = Platform::runLater;
+
+    // A bounded number of loader threads is shared by all tree items, so
+    // expanding many lazily loaded items queues their pages rather than
+    // starting a thread for each. Idle threads exit after a while.
+    private static Executor createChildrenLoadExecutor() {
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "TreeItem Children Loader");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     Comparator<TreeItem<T>> lastComparator = null;
     TreeSortMode lastSortMode = null;
 
@@ -536,6 +585,12 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         if (expanded == null) {
             expanded = new BooleanPropertyBase() {
                 @Override protected void invalidated() {
+                    // the first page of lazily loaded children is requested
+                    // when the TreeItem is first expanded
+                    if (isExpanded() && hasPendingChildren() && loadedChildrenCount == 0) {
+                        loadMoreChildren();
+                    }
+
                     // We don't fire expanded events for leaf nodes (RT-32620)
                     if (isLeaf()) return;
 
@@ -610,6 +665,132 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
 
 
 
+    // --- Children Loader
+    private ObjectProperty<ChildrenLoader<T>> childrenLoader;
+
+    /**
+     * Sets the {@link ChildrenLoader} used to load the children of this
+     * TreeItem lazily. See {@link #childrenLoaderProperty()}.
+     *
+     * @param value The loader to use, or null to manage the children directly.
+     * @since JavaFX 8u112
+     */
+    public final void setChildrenLoader(ChildrenLoader<T> value) {
+        childrenLoaderProperty().set(value);
+    }
+
+    /**
+     * Returns the {@link ChildrenLoader} used to load the children of this
+     * TreeItem, or null if none has been set.
+     * @since JavaFX 8u112
+     */
+    public final ChildrenLoader<T> getChildrenLoader() {
+        return childrenLoader == null ? null : childrenLoader.get();
+    }
+
+    /**
+     * The loader used to populate the children of this TreeItem in pages, on
+     * a background thread. While a loader is set and not all children have been
+     * loaded, this TreeItem is not a leaf. The first page is requested when the
+     * TreeItem is first expanded; until it arrives (and while further pages
+     * remain) a {@link #isLoadingPlaceholder() placeholder} TreeItem is shown
+     * as the last child. The next page is requested when the placeholder is
+     * retrieved by a TreeView or TreeTableView, which normally means it has
+     * scrolled into view, or when {@link #loadMoreChildren()} is called.
+     * <p>
+     * Setting a new loader discards any load that is still in progress, but
+     * does not remove children that have already been loaded.
+     * @since JavaFX 8u112
+     */
+    public final ObjectProperty<ChildrenLoader<T>> childrenLoaderProperty() {
+        if (childrenLoader == null) {
+            childrenLoader = new ObjectPropertyBase<ChildrenLoader<T>>() {
+                @Override protected void invalidated() {
+                    loadGeneration++;
+                    loadedChildrenCount = 0;
+                    childrenFullyLoaded = false;
+                    setChildrenLoading(false);
+                    removeLoadingPlaceholder();
+                    setLeaf(children == null || children.isEmpty() ? ! hasPendingChildren() : false);
+
+                    if (get() != null && isExpanded()) {
+                        loadMoreChildren();
+                    }
+                }
+
+                @Override public Object getBean() {
+                    return TreeItem.this;
+                }
+
+                @Override public String getName() {
+                    return "childrenLoader";
+                }
+            };
+        }
+        return childrenLoader;
+    }
+
+
+    // --- Children Page Size
+    private int childrenPageSize = DEFAULT_CHILDREN_PAGE_SIZE;
+
+    /**
+     * Sets the maximum number of children requested from the
+     * {@link #childrenLoaderProperty() children loader} at a time. The default
+     * is 1000.
+     * @since JavaFX 8u112
+     */
+    public final void setChildrenPageSize(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + value);
+        }
+        childrenPageSize = value;
+    }
+
+    /**
+     * Returns the maximum number of children requested from the
+     * {@link #childrenLoaderProperty() children loader} at a time.
+     * @since JavaFX 8u112
+     */
+    public final int getChildrenPageSize() {
+        return childrenPageSize;
+    }
+
+
+    // --- Children Loading
+    private ReadOnlyBooleanWrapper childrenLoading;
+    private void setChildrenLoading(boolean value) {
+        if (! value && childrenLoading == null) return;
+        childrenLoadingPropertyImpl().set(value);
+    }
+
+    /**
+     * Returns true while a page of children is being loaded by the
+     * {@link #childrenLoaderProperty() children loader}.
+     * @since JavaFX 8u112
+     */
+    public final boolean isChildrenLoading() {
+        return childrenLoading == null ? false : childrenLoading.get();
+    }
+
+    /**
+     * Indicates whether a page of children is currently being loaded by the
+     * {@link #childrenLoaderProperty() children loader}.
+     * @since JavaFX 8u112
+     */
+    public final ReadOnlyBooleanProperty childrenLoadingProperty() {
+        return childrenLoadingPropertyImpl().getReadOnlyProperty();
+    }
+
+    private ReadOnlyBooleanWrapper childrenLoadingPropertyImpl() {
+        if (childrenLoading == null) {
+            childrenLoading = new ReadOnlyBooleanWrapper(this, "childrenLoading", false);
+        }
+        return childrenLoading;
+    }
+
+
+
     /***********************************************************************
      *                                                                     *
      * TreeItem API                                                        *
@@ -731,6 +912,60 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         return null;
     }
 
+    /**
+     * Returns true if this TreeItem is the placeholder shown as the last child
+     * of a TreeItem whose {@link #childrenLoaderProperty() children loader}
+     * has more children to deliver. Cell factories may use this to render a
+     * 'loading' row. The placeholder has no value; when the children are
+     * sorted, it is not passed to the comparator and stays the last child.
+     * @since JavaFX 8u112
+     */
+    public final boolean isLoadingPlaceholder() {
+        return loadingPlaceholder;
+    }
+
+    /**
+     * Returns true if this TreeItem has no {@link #childrenLoaderProperty()
+     * children loader}, or if the loader has delivered all children.
+     * @since JavaFX 8u112
+     */
+    public final boolean isChildrenFullyLoaded() {
+        return getChildrenLoader() == null || childrenFullyLoaded;
+    }
+
+    /**
+     * Requests the next page of children from the
+     * {@link #childrenLoaderProperty() children loader}. This does nothing if
+     * there is no loader, if a page is already being loaded, or if all
+     * children have been loaded. The page is loaded on a background thread,
+     * and is added to the children on the FX application thread.
+     * @since JavaFX 8u112
+     */
+    public final void loadMoreChildren() {
+        final ChildrenLoader<T> loader = getChildrenLoader();
+        if (loader == null || childrenFullyLoaded || isChildrenLoading()) return;
+
+        setChildrenLoading(true);
+        addLoadingPlaceholder();
+
+        final int generation = loadGeneration;
+        final int from = loadedChildrenCount;
+        final int count = childrenPageSize;
+        childrenLoadExecutor.execute(() -> {
+            List<? extends TreeItem<T>> page = null;
+            Throwable error = null;
+            try {
+                page = loader.loadChildren(this, from, count);
+            } catch (Throwable t) {
+                error = t;
+            }
+
+            final List<? extends TreeItem<T>> result = page;
+            final Throwable failure = error;
+            childrenDeliveryExecutor.execute(() -> childrenLoaded(generation, count, result, failure));
+        });
+    }
+
     /**
      * Returns a string representation of this {@code TreeItem} object.
      * @return a string representation of this {@code TreeItem} object.
@@ -870,10 +1105,85 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
 
     private void doSort(ObservableList<TreeItem<T>> children, final Comparator<TreeItem<T>> comparator) {
         if (!isLeaf() && isExpanded()) {
-            FXCollections.sort(children, comparator);
+            if (placeholder != null && children.contains(placeholder)) {
+                // the placeholder has no value, keep it out of the comparator
+                // and at the end of the children
+                FXCollections.sort(children, (item1, item2) -> {
+                    if (item1.loadingPlaceholder || item2.loadingPlaceholder) {
+                        return Boolean.compare(item1.loadingPlaceholder, item2.loadingPlaceholder);
+                    }
+                    return comparator.compare(item1, item2);
+                });
+            } else {
+                FXCollections.sort(children, comparator);
+            }
         }
     }
 
+    private boolean hasPendingChildren() {
+        return getChildrenLoader() != null && ! childrenFullyLoaded;
+    }
+
+    private void addLoadingPlaceholder() {
+        if (placeholder == null) {
+            placeholder = new TreeItem<T>();
+            placeholder.loadingPlaceholder = true;
+        }
+        ObservableList<TreeItem<T>> c = getChildren();
+        if (! c.contains(placeholder)) {
+            c.add(placeholder);
+        }
+    }
+
+    private void removeLoadingPlaceholder() {
+        if (placeholder == null || children == null) return;
+        final int last = children.size() - 1;
+        if (last >= 0 && children.get(last) == placeholder) {
+            children.remove(last);
+        } else {
+            children.remove(placeholder);
+        }
+    }
+
+    private void childrenLoaded(int generation, int requested,
+                                List<? extends TreeItem<T>> page, Throwable error) {
+        // discard the result if the loader was replaced in the meantime
+        if (generation != loadGeneration) return;
+
+        setChildrenLoading(false);
+        if (error != null) {
+            // leave the children not fully loaded, so that loadMoreChildren()
+            // can be called again to retry
+            removeLoadingPlaceholder();
+            Logging.getControlsLogger().warning("Failed to load children of " + this, error);
+            return;
+        }
+
+        final int size = page == null ? 0 : page.size();
+        loadedChildrenCount += size;
+        childrenFullyLoaded = size < requested;
+
+        final List<TreeItem<T>> added = new ArrayList<>(size + 1);
+        if (page != null) added.addAll(page);
+        if (! childrenFullyLoaded) added.add(placeholder);
+
+        removeLoadingPlaceholder();
+        if (added.isEmpty()) {
+            // we have just learnt that this item has no children at all
+            setLeaf(getChildren().isEmpty());
+        } else {
+            getChildren().addAll(added);
+        }
+    }
+
+    // Package accessible so that TreeView and TreeTableView can efficiently
+    // find the child that contains a given row. This is only valid directly
+    // after a call to getExpandedDescendentCount() on this TreeItem, and may be
+    // null if this TreeItem is collapsed.
+    int[] getChildRowOffsets() {
+        return childRowOffsets;
+    }
+
     // This value is package accessible so that it may be retrieved from TreeView.
     int getExpandedDescendentCount(boolean reset) {
         if (reset || expandedDescendentCountDirty) {
@@ -889,16 +1199,33 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
 
         ignoreSortUpdate = true;
         if (!isLeaf() && isExpanded()) {
-            for (TreeItem<T> child : getChildren()) {
+            final List<TreeItem<T>> c = getChildren();
+            final int size = c.size();
+            int[] offsets = childRowOffsets;
+            if (offsets == null || offsets.length < size + 1 || offsets.length > 2 * (size + 1)) {
+                offsets = new int[size + 1];
+            }
+
+            // offsets[i] is the number of rows taken up by the children before
+            // child i, so that rows can be found via a binary search
+            int rows = 0;
+            for (int i = 0; i < size; i++) {
+                offsets[i] = rows;
+                TreeItem<T> child = c.get(i);
                 if (child == null) continue;
-                expandedDescendentCount += child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+                rows += child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
             }
+            offsets[size] = rows;
+            childRowOffsets = offsets;
+            expandedDescendentCount += rows;
+        } else {
+            childRowOffsets = null;
         }
         ignoreSortUpdate = false;
     }
 
     private void updateChildren(ListChangeListener.Change<? extends TreeItem<T>> c) {
-        setLeaf(children.isEmpty());
+        setLeaf(children.isEmpty() && ! hasPendingChildren());
 
         final List<TreeItem<T>> added = new ArrayList<>();
         final List<TreeItem<T>> removed = new ArrayList<>();
@@ -956,6 +1283,33 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
          }
     }
 
+    /**
+     * Loads the children of a TreeItem in pages. See
+     * {@link TreeItem#childrenLoaderProperty()}.
+     *
+     * @param <T> The type of the value contained within the TreeItem.
+     * @since JavaFX 8u112
+     */
+    @FunctionalInterface
+    public interface ChildrenLoader<T> {
+        /**
+         * Returns up to {@code count} children of the given parent, starting
+         * at the child with index {@code from}. Returning fewer than
+         * {@code count} children indicates that there are no more children.
+         * This method is called on a background thread, and must therefore not
+         * modify the parent or access the scene graph. A small number of such
+         * threads is shared by all tree items, so pages of other items wait
+         * while this method runs.
+         *
+         * @param parent The TreeItem whose children are being loaded.
+         * @param from The index of the first child to load.
+         * @param count The maximum number of children to load.
+         * @return The loaded children, or null if there are none.
+         * @throws Exception If the children could not be loaded.
+         */
+        List<? extends TreeItem<T>> loadChildren(TreeItem<T> parent, int from, int count) throws Exception;
+    }
+
     /**
      * An {@link Event} that contains relevant information for all forms of
      * TreeItem modifications.
@@ -59,38 +59,46 @@ class TreeUtil {
         // if itemIndex is 0 then our parent is what we were looking for
         if (itemIndex == 0) return parent;
 
-        // if itemIndex is > the total item count, then it is out of range
-        if (itemIndex >= getExpandedDescendantCount(parent, treeItemCountDirty)) return null;
-
-        // if we got here, then one of our descendants is the item we're after
+        // get the children first, as this may cause them to be sorted, which
+        // in turn invalidates the expanded descendant counts
         List<TreeItem<T>> children = parent.getChildren();
         if (children == null) return null;
 
-        int idx = itemIndex - 1;
-
-        TreeItem<T> child;
-        for (int i = 0, max = children.size(); i < max; i++) {
-            child = children.get(i);
-            if (idx == 0) return child;
+        // if itemIndex is > the total item count, then it is out of range
+        if (itemIndex >= getExpandedDescendantCount(parent, treeItemCountDirty)) return null;
 
-            if (child.isLeaf() || ! child.isExpanded()) {
-                idx--;
-                continue;
+        // if we got here, then one of our descendants is the item we're after.
+        // We binary search the cumulative row counts of the children (which
+        // were just brought up to date above) to find the child that contains
+        // the row, rather than walking all children.
+        int[] offsets = parent.getChildRowOffsets();
+        if (offsets == null) return null;
+
+        final int idx = itemIndex - 1;
+        int low = 0;
+        int high = children.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= idx) {
+                low = mid;
+            } else {
+                high = mid - 1;
             }
+        }
 
-            int expandedChildCount = getExpandedDescendantCount(child, treeItemCountDirty);
-            if (idx >= expandedChildCount) {
-                idx -= expandedChildCount;
-                continue;
-            }
+        TreeItem<T> child = children.get(low);
+        if (child == null) return null;
 
-            TreeItem<T> result = getItem(child, idx, treeItemCountDirty);
-            if (result != null) return result;
-            idx--;
+        if (idx == offsets[low]) {
+            // a lazily loaded TreeItem has more children to load once its
+            // placeholder has been requested (i.e. it is about to be shown)
+            if (child.isLoadingPlaceholder()) {
+                parent.loadMoreChildren();
+            }
+            return child;
         }
 
-        // We might get here if getItem(0) is called on an empty tree
-        return null;
+        return getItem(child, idx - offsets[low], treeItemCountDirty);
     }
 
     static <T> int getRow(TreeItem<T> item, TreeItem<T> root, boolean treeItemCountDirty, boolean isShowRoot) {
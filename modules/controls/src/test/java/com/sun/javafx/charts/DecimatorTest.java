@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DecimatorTest {
+
+    private static double[] range(int count) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) values[i] = i;
+        return values;
+    }
+
+    private static double[] points(Decimator decimator, int count) {
+        double[] points = new double[count * 2];
+        System.arraycopy(decimator.getPoints(), 0, points, 0, count * 2);
+        return points;
+    }
+
+    @Test public void testMinMaxKeepsExtremesOfEachColumn() {
+        double[] xs = {0, 0.2, 0.4, 0.6, 0.8, 1.5};
+        double[] ys = {5, 9, 1, 7, 6, 3};
+        MinMaxDecimator decimator = new MinMaxDecimator();
+        int count = decimator.update(xs, ys, 0, xs.length, 0, 1, 0, 1, 0, 10, 10);
+        // column 0: first (0,5), max (0.2,9), min (0.4,1), last (0.8,6); column 1: (1.5,3)
+        assertEquals(5, count);
+        assertArrayEquals(new double[] {0, 5, 0.2, 9, 0.4, 1, 0.8, 6, 1.5, 3}, points(decimator, count), 0);
+    }
+
+    @Test public void testMinMaxCollapsesValuesOutsideOfPlot() {
+        double[] xs = {-3, -2, -1, 5, 11, 12};
+        double[] ys = {1, 2, 3, 4, 5, 6};
+        MinMaxDecimator decimator = new MinMaxDecimator();
+        int count = decimator.update(xs, ys, 0, xs.length, 0, 1, 0, 1, 0, 10, 10);
+        assertEquals(3, count);
+        assertArrayEquals(new double[] {-1, 3, 5, 4, 11, 5}, points(decimator, count), 0);
+    }
+
+    @Test public void testMinMaxSkipsNaN() {
+        double[] xs = {0, Double.NaN, 2};
+        double[] ys = {0, 1, Double.NaN};
+        MinMaxDecimator decimator = new MinMaxDecimator();
+        assertEquals(1, decimator.update(xs, ys, 0, xs.length, 0, 1, 0, 1, 0, 10, 10));
+    }
+
+    @Test public void testMinMaxIsBoundedByWidth() {
+        int size = 100000;
+        double[] xs = range(size);
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) ys[i] = (i % 7) - 3;
+        MinMaxDecimator decimator = new MinMaxDecimator();
+        int count = decimator.update(xs, ys, 0, size, 0, 100.0 / size, 0, 1, 0, 100, 100);
+        assertTrue(count >= 200 && count <= 400);
+    }
+
+    @Test public void testIncrementalAndParallelUpdatesMatchSingleUpdate() {
+        int size = Decimator.PARALLEL_THRESHOLD * 4;
+        double[] xs = range(size);
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) ys[i] = Math.sin(i / 50.0) * 100;
+
+        MinMaxDecimator expected = new MinMaxDecimator();
+        int expectedCount = expected.update(xs, ys, 0, size, 0, 500.0 / size, 0, 1, 100, 500, 200);
+
+        MinMaxDecimator incremental = new MinMaxDecimator();
+        int count = 0;
+        for (int end = 1000; end <= size; end += 1000) {
+            count = incremental.update(xs, ys, 0, end, 0, 500.0 / size, 0, 1, 100, 500, 200);
+        }
+        count = incremental.update(xs, ys, 0, size, 0, 500.0 / size, 0, 1, 100, 500, 200);
+        assertEquals(expectedCount, count);
+        assertArrayEquals(points(expected, expectedCount), points(incremental, count), 0);
+    }
+
+    @Test public void testModCountChangeForcesFullUpdate() {
+        double[] xs = {0, 1, 2};
+        double[] ys = {0, 1, 2};
+        MinMaxDecimator decimator = new MinMaxDecimator();
+        decimator.update(xs, ys, 0, 3, 0, 1, 0, 1, 0, 10, 10);
+        ys[1] = 5;
+        decimator.update(xs, ys, 0, 3, 1, 1, 0, 1, 0, 10, 10);
+        assertEquals(5, decimator.getPoints()[3], 0);
+    }
+
+    @Test public void testOffsetIsHonored() {
+        double[] xs = {100, 100, 0, 1};
+        double[] ys = {100, 100, 3, 4};
+        MinMaxDecimator decimator = new MinMaxDecimator();
+        int count = decimator.update(xs, ys, 2, 2, 0, 1, 0, 1, 0, 10, 10);
+        assertArrayEquals(new double[] {0, 3, 1, 4}, points(decimator, count), 0);
+    }
+
+    @Test public void testPixelGridEmitsEachOccupiedCellOnce() {
+        double[] xs = {0, 1, 2, 5, 5, 50};
+        double[] ys = {0, 1, 2, 5, 5, 50};
+        PixelGridDecimator decimator = new PixelGridDecimator(3);
+        int count = decimator.update(xs, ys, 0, xs.length, 0, 1, 0, 1, 0, 30, 30);
+        // (0,0), (1,1) and (2,2) share the first cell, the value at 50 is outside of the plot
+        assertEquals(2, count);
+        assertArrayEquals(new double[] {1.5, 1.5, 4.5, 4.5}, points(decimator, count), 0);
+    }
+
+    @Test public void testPixelGridParallelUpdateMatchesSequential() {
+        int size = Decimator.PARALLEL_THRESHOLD * 4;
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = (i * 31) % 997;
+            ys[i] = (i * 17) % 499;
+        }
+        PixelGridDecimator expected = new PixelGridDecimator(2);
+        int expectedCount = 0;
+        for (int end = 0; end < size; end += Decimator.PARALLEL_THRESHOLD / 2) {
+            expectedCount = expected.update(xs, ys, 0, end, 0, 0.5, 0, 0.5, 0, 500, 250);
+        }
+        expectedCount = expected.update(xs, ys, 0, size, 0, 0.5, 0, 0.5, 0, 500, 250);
+        PixelGridDecimator parallel = new PixelGridDecimator(2);
+        int count = parallel.update(xs, ys, 0, size, 0, 0.5, 0, 0.5, 0, 500, 250);
+        assertEquals(expectedCount, count);
+        assertArrayEquals(points(expected, expectedCount), points(parallel, count), 0);
+    }
+}
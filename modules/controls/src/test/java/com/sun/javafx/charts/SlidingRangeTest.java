@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SlidingRangeTest {
+
+    @Test public void testEmptyRangeIsNaN() {
+        SlidingRange range = new SlidingRange();
+        assertTrue(Double.isNaN(range.getMin()));
+        assertTrue(Double.isNaN(range.getMax()));
+        assertEquals(0, range.size());
+    }
+
+    @Test public void testAdd() {
+        SlidingRange range = new SlidingRange();
+        range.add(3);
+        range.add(-2);
+        range.add(7);
+        assertEquals(-2, range.getMin(), 0);
+        assertEquals(7, range.getMax(), 0);
+        assertEquals(3, range.size());
+    }
+
+    @Test public void testNaNIsCountedButIgnored() {
+        SlidingRange range = new SlidingRange();
+        range.add(Double.NaN);
+        range.add(1);
+        range.add(Double.NaN);
+        assertEquals(3, range.size());
+        assertEquals(1, range.getMin(), 0);
+        assertEquals(1, range.getMax(), 0);
+        range.removeFirst(2);
+        assertTrue(Double.isNaN(range.getMin()));
+    }
+
+    @Test public void testRemoveFirst() {
+        SlidingRange range = new SlidingRange();
+        range.add(1);
+        range.add(9);
+        range.add(5);
+        range.add(3);
+        range.removeFirst(1);
+        assertEquals(3, range.getMin(), 0);
+        assertEquals(9, range.getMax(), 0);
+        range.removeFirst(1);
+        assertEquals(3, range.getMin(), 0);
+        assertEquals(5, range.getMax(), 0);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void testRemoveMoreThanSize() {
+        SlidingRange range = new SlidingRange();
+        range.add(1);
+        range.removeFirst(2);
+    }
+
+    @Test public void testClear() {
+        SlidingRange range = new SlidingRange();
+        range.add(1);
+        range.clear();
+        assertEquals(0, range.size());
+        assertTrue(Double.isNaN(range.getMax()));
+        range.add(4);
+        assertEquals(4, range.getMin(), 0);
+    }
+
+    @Test public void testSlidingWindowMatchesScan() {
+        final int window = 100;
+        Random random = new Random(42);
+        double[] values = new double[10000];
+        SlidingRange range = new SlidingRange();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian();
+            range.add(values[i]);
+            if (range.size() > window) {
+                range.removeFirst(1);
+            }
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (int j = Math.max(0, i - window + 1); j <= i; j++) {
+                min = Math.min(min, values[j]);
+                max = Math.max(max, values[j]);
+            }
+            assertEquals(min, range.getMin(), 0);
+            assertEquals(max, range.getMax(), 0);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control.skin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.collections.FXCollections;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.util.Callback;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.javafx.scene.control.infrastructure.StageLoader;
+import com.sun.javafx.scene.control.infrastructure.VirtualFlowTestUtils;
+import com.sun.javafx.tk.Toolkit;
+
+public class CellPoolTest {
+
+    private CellPool pool;
+
+    @Before public void setup() {
+        pool = new CellPool(4);
+    }
+
+    @After public void cleanup() {
+        CellPool.setShared(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroCapacityIsRejected() {
+        new CellPool(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullFactoryIsRejected() {
+        CellPool.createKey(null, Collections.emptyList());
+    }
+
+    @Test public void testKeysWithSameFactoryAndStyleClassAreEqual() {
+        Object factory = new Object();
+        Object k1 = CellPool.createKey(factory, Arrays.asList("list-view", "a"));
+        Object k2 = CellPool.createKey(factory, Arrays.asList("list-view", "a"));
+        assertEquals(k1, k2);
+        assertEquals(k1.hashCode(), k2.hashCode());
+        assertNotEquals(k1, CellPool.createKey(factory, Arrays.asList("list-view", "b")));
+        assertNotEquals(k1, CellPool.createKey(new Object(), Arrays.asList("list-view", "a")));
+    }
+
+    @Test public void testAcquireFromEmptyPoolReturnsNull() {
+        assertNull(pool.acquire(CellPool.createKey("a", null)));
+        assertEquals(0, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test public void testReleaseThenAcquire() {
+        Object key = CellPool.createKey("a", null);
+        ListCell<String> cell = new ListCell<>();
+        pool.release(key, cell);
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.size(key));
+
+        assertNull(pool.acquire(CellPool.createKey("b", null)));
+        assertSame(cell, pool.acquire(key));
+        assertEquals(0, pool.size());
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test public void testAcquireReturnsMostRecentlyReleased() {
+        Object key = CellPool.createKey("a", null);
+        ListCell<String> c1 = new ListCell<>();
+        ListCell<String> c2 = new ListCell<>();
+        pool.release(key, c1);
+        pool.release(key, c2);
+        assertSame(c2, pool.acquire(key));
+        assertSame(c1, pool.acquire(key));
+    }
+
+    @Test public void testCapacityIsNeverExceeded() {
+        Object key = CellPool.createKey("a", null);
+        for (int i = 0; i < 10; i++) {
+            pool.release(key, new ListCell<String>());
+        }
+        assertEquals(4, pool.size());
+        assertEquals(6, pool.getEvictionCount());
+    }
+
+    @Test public void testLeastRecentlyUsedKeyIsEvictedFirst() {
+        Object a = CellPool.createKey("a", null);
+        Object b = CellPool.createKey("b", null);
+        pool.release(a, new ListCell<String>());
+        pool.release(a, new ListCell<String>());
+        pool.release(b, new ListCell<String>());
+        pool.release(b, new ListCell<String>());
+
+        pool.release(b, new ListCell<String>());
+        assertEquals(1, pool.size(a));
+        assertEquals(3, pool.size(b));
+    }
+
+    @Test public void testClear() {
+        pool.release(CellPool.createKey("a", null), new ListCell<String>());
+        pool.clear();
+        assertEquals(0, pool.size());
+    }
+
+    @Test public void testListViewCellsAreAdoptedAcrossInstances() {
+        CellPool.setShared(new CellPool(100));
+        final AtomicInteger created = new AtomicInteger();
+        Callback<ListView<String>, ListCell<String>> factory = lv -> {
+            created.incrementAndGet();
+            return new ListCell<String>() {
+                @Override protected void updateItem(String item, boolean empty) {
+                    super.updateItem(item, empty);
+                    setText(empty ? null : item);
+                }
+            };
+        };
+
+        ListView<String> first = new ListView<>(FXCollections.observableArrayList("a", "b", "c"));
+        first.setCellFactory(factory);
+        StageLoader sl = new StageLoader(first);
+        Toolkit.getToolkit().firePulse();
+        final int initiallyCreated = created.get();
+        assertTrue(initiallyCreated > 0);
+        sl.dispose();
+
+        // removing the list from the scene releases its cells to the pool
+        assertTrue(CellPool.getShared().size() > 0);
+
+        ListView<String> second = new ListView<>(FXCollections.observableArrayList("x", "y", "z"));
+        second.setCellFactory(factory);
+        sl = new StageLoader(second);
+        Toolkit.getToolkit().firePulse();
+        // only the flow's private accumCell is created, all visible cells
+        // are adopted from the pool
+        assertEquals(initiallyCreated + 1, created.get());
+        assertTrue(CellPool.getShared().getHitCount() > 0);
+
+        IndexedCell cell = VirtualFlowTestUtils.getCell(second, 0);
+        assertSame(second, ((ListCell) cell).getListView());
+        assertEquals("x", cell.getText());
+        sl.dispose();
+    }
+
+    @Test public void testReleasedListCellsDoNotReferenceTheirListView() {
+        CellPool.setShared(new CellPool(100));
+        ListView<String> listView = new ListView<>(FXCollections.observableArrayList("a", "b", "c"));
+        StageLoader sl = new StageLoader(listView);
+        Toolkit.getToolkit().firePulse();
+        sl.dispose();
+
+        Object key = CellPool.createKey(ListViewSkin.class, listView.getStyleClass());
+        ListCell<?> cell = (ListCell<?>) CellPool.getShared().acquire(key);
+        assertNotNull(cell);
+        assertNull(cell.getListView());
+        assertNull(cell.getParent());
+        assertEquals(-1, cell.getIndex());
+    }
+
+    @Test public void testPooledCellsDoNotKeepTheirListViewAlive() throws Exception {
+        CellPool.setShared(new CellPool(100));
+        WeakReference<ListView<String>> ref = showAndDisposeListView();
+        assertTrue(CellPool.getShared().size() > 0);
+
+        for (int i = 0; i < 10 && ref.get() != null; i++) {
+            System.gc();
+            System.runFinalization();
+            Thread.sleep(50);
+        }
+        assertNull(ref.get());
+
+        Object key = CellPool.createKey(ListViewSkin.class, Arrays.asList("list-view"));
+        ListCell<?> cell = (ListCell<?>) CellPool.getShared().acquire(key);
+        assertNotNull(cell);
+        assertNull(cell.getSkin());
+    }
+
+    private static WeakReference<ListView<String>> showAndDisposeListView() {
+        ListView<String> listView = new ListView<>(FXCollections.observableArrayList("a", "b", "c"));
+        StageLoader sl = new StageLoader(listView);
+        Toolkit.getToolkit().firePulse();
+        sl.dispose();
+        return new WeakReference<>(listView);
+    }
+
+    @Test public void testListViewsWithDifferentStyleClassDoNotShareCells() {
+        CellPool.setShared(new CellPool(100));
+        ListView<String> first = new ListView<>(FXCollections.observableArrayList("a", "b"));
+        StageLoader sl = new StageLoader(first);
+        Toolkit.getToolkit().firePulse();
+        sl.dispose();
+        final int pooled = CellPool.getShared().size();
+
+        ListView<String> second = new ListView<>(FXCollections.observableArrayList("a", "b"));
+        second.getStyleClass().add("other");
+        sl = new StageLoader(second);
+        Toolkit.getToolkit().firePulse();
+        assertEquals(pooled, CellPool.getShared().size());
+        assertEquals(0, CellPool.getShared().getHitCount());
+        sl.dispose();
+    }
+
+    public static class Person {
+        private final String name;
+        public Person(String name) { this.name = name; }
+        public String getName() { return name; }
+    }
+
+    @Test public void testTableRowsAreAdoptedAcrossInstances() {
+        CellPool.setShared(new CellPool(100));
+        final AtomicInteger created = new AtomicInteger();
+        Callback<TableView<Person>, TableRow<Person>> rowFactory = tv -> {
+            created.incrementAndGet();
+            return new TableRow<>();
+        };
+
+        TableView<Person> first = createTable(rowFactory, "first");
+        StageLoader sl = new StageLoader(first);
+        Toolkit.getToolkit().firePulse();
+        final int initiallyCreated = created.get();
+        sl.dispose();
+
+        TableView<Person> second = createTable(rowFactory, "second");
+        sl = new StageLoader(second);
+        Toolkit.getToolkit().firePulse();
+        // only the flow's private accumCell is created, all visible cells
+        // are adopted from the pool
+        assertEquals(initiallyCreated + 1, created.get());
+        assertTrue(CellPool.getShared().getHitCount() > 0);
+
+        TableRow<?> row = (TableRow<?>) VirtualFlowTestUtils.getCell(second, 0);
+        assertSame(second, row.getTableView());
+        assertEquals("second", VirtualFlowTestUtils.getCell(second, 0, 0).getText());
+        sl.dispose();
+    }
+
+    private TableView<Person> createTable(Callback<TableView<Person>, TableRow<Person>> rowFactory, String name) {
+        TableView<Person> table = new TableView<>(FXCollections.observableArrayList(new Person(name)));
+        TableColumn<Person, String> column = new TableColumn<>("Name");
+        column.setCellValueFactory(new PropertyValueFactory<>("name"));
+        table.getColumns().add(column);
+        table.setRowFactory(rowFactory);
+        return table;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control.skin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import javafx.scene.control.ListView;
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextBoundsType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.javafx.scene.control.infrastructure.StageLoader;
+import com.sun.javafx.tk.Toolkit;
+
+public class TextMeasureCacheTest {
+
+    private final Font font = Font.font("System", 12);
+
+    @Before public void setup() {
+        TextMeasureCache.clear();
+    }
+
+    @Test public void testClippedTextMatchesUtils() {
+        final String text = "The quick brown fox jumps over the lazy dog";
+        for (OverrunStyle style : OverrunStyle.values()) {
+            for (double width : new double[] { 0, 20, 55.5, 100, 1000 }) {
+                assertEquals(Utils.computeClippedText(font, text, width, style, "..."),
+                        TextMeasureCache.computeClippedText(font, text, width, style, "..."));
+            }
+        }
+    }
+
+    @Test public void testClippedWrappedTextMatchesUtils() {
+        final String text = "The quick brown fox jumps over the lazy dog";
+        assertEquals(
+                Utils.computeClippedWrappedText(font, text, 60, 30, OverrunStyle.ELLIPSIS, "...", TextBoundsType.LOGICAL),
+                TextMeasureCache.computeClippedWrappedText(font, text, 60, 30, OverrunStyle.ELLIPSIS, "...", TextBoundsType.LOGICAL));
+    }
+
+    @Test public void testSizesMatchUtils() {
+        assertEquals(Utils.computeTextWidth(font, "Hello", 0),
+                TextMeasureCache.computeTextWidth(font, "Hello", 0), 0);
+        assertEquals(Utils.computeTextHeight(font, "Hello", 0, 2, TextBoundsType.LOGICAL),
+                TextMeasureCache.computeTextHeight(font, "Hello", 0, 2, TextBoundsType.LOGICAL), 0);
+    }
+
+    @Test public void testRepeatedLookupIsAHit() {
+        TextMeasureCache.computeClippedText(font, "OK", 50, OverrunStyle.ELLIPSIS, "...");
+        assertEquals(0, TextMeasureCache.getHitCount());
+        assertEquals(1, TextMeasureCache.getMissCount());
+
+        TextMeasureCache.computeClippedText(font, "OK", 50, OverrunStyle.ELLIPSIS, "...");
+        assertEquals(1, TextMeasureCache.getHitCount());
+        assertEquals(0.5, TextMeasureCache.getHitRate(), 0);
+        assertEquals(1, TextMeasureCache.size());
+    }
+
+    @Test public void testDifferentArgumentsAreDifferentEntries() {
+        TextMeasureCache.computeClippedText(font, "OK", 50, OverrunStyle.ELLIPSIS, "...");
+        TextMeasureCache.computeClippedText(font, "OK", 51, OverrunStyle.ELLIPSIS, "...");
+        TextMeasureCache.computeClippedText(font, "OK", 50, OverrunStyle.CLIP, "...");
+        TextMeasureCache.computeClippedText(font, "OK", 50, OverrunStyle.ELLIPSIS, "~");
+        TextMeasureCache.computeClippedText(Font.font("System", 20), "OK", 50, OverrunStyle.ELLIPSIS, "...");
+        TextMeasureCache.computeTextWidth(font, "OK", 0);
+        assertEquals(0, TextMeasureCache.getHitCount());
+        assertEquals(6, TextMeasureCache.size());
+    }
+
+    @Test public void testLongTextIsNotCached() {
+        char[] chars = new char[TextMeasureCache.MAX_TEXT_LENGTH + 1];
+        Arrays.fill(chars, 'x');
+        final String text = new String(chars);
+        TextMeasureCache.computeTextWidth(font, text, 0);
+        TextMeasureCache.computeTextWidth(font, text, 0);
+        assertEquals(0, TextMeasureCache.size());
+        assertEquals(0, TextMeasureCache.getHitCount());
+    }
+
+    @Test public void testNullTextIsNotCached() {
+        assertEquals(null, TextMeasureCache.computeClippedText(font, null, 50, OverrunStyle.ELLIPSIS, "..."));
+        assertEquals(0, TextMeasureCache.size());
+    }
+
+    @Test public void testScrollingRepeatedValuesIsMostlyCached() {
+        ListView<String> listView = new ListView<>();
+        for (int i = 0; i < 1000; i++) {
+            listView.getItems().add(i % 2 == 0 ? "OK" : "FAILED");
+        }
+        StageLoader sl = new StageLoader(listView);
+        Toolkit.getToolkit().firePulse();
+
+        TextMeasureCache.clear();
+        for (int i = 0; i < 50; i++) {
+            listView.scrollTo(i * 10);
+            Toolkit.getToolkit().firePulse();
+        }
+        assertTrue("hit rate " + TextMeasureCache.getHitRate(), TextMeasureCache.getHitRate() > 0.9);
+        sl.dispose();
+    }
+}
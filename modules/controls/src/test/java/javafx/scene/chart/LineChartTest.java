@@ -29,7 +29,12 @@ import com.sun.javafx.scene.control.infrastructure.ControlTestUtils;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.shape.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -124,6 +129,91 @@ public class LineChartTest extends XYChartTestBase {
         }
     }
 
+    @Test
+    public void testBufferedSeriesIsDecimatedToPlotWidth() {
+        startApp();
+        final XYChart.Series<Number, Number> series = new XYChart.Series<Number, Number>();
+        final int count = 100000;
+        for (int i = 0; i < count; i++) {
+            series.getDataBuffer().add(i, Math.sin(i / 100.0));
+        }
+        lineChart.getData().add(series);
+        pulse();
+        // no symbols, just the path
+        assertEquals(1, lineChart.getPlotChildren().size());
+        final Path line = (Path) series.getNode();
+        final int width = (int) Math.ceil(lineChart.getXAxis().getWidth());
+        assertTrue(line.getElements().size() > 0);
+        assertTrue(line.getElements().size() <= 4 * width + 2);
+    }
+
+    @Test
+    public void testBufferedSeriesAppend() {
+        startApp();
+        final XYChart.Series<Number, Number> series = new XYChart.Series<Number, Number>();
+        lineChart.getData().add(series);
+        series.getDataBuffer().add(0, 0);
+        series.getDataBuffer().add(1, 1);
+        pulse();
+        assertEquals(2, ((Path) series.getNode()).getElements().size());
+        series.getDataBuffer().addAll(new double[] {2, 3}, new double[] {0, 1});
+        pulse();
+        assertEquals(4, ((Path) series.getNode()).getElements().size());
+        series.getDataBuffer().clear();
+        pulse();
+        assertEquals(0, ((Path) series.getNode()).getElements().size());
+    }
+
+    @Test
+    public void testAutoRangeFollowsSlidingWindow() {
+        startApp();
+        lineChart.getData().add(series1);
+        pulse();
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        xAxis.setForceZeroInRange(false);
+        yAxis.setForceZeroInRange(false);
+        for (int i = 0; i < 500; i++) {
+            series1.getData().add(new XYChart.Data<Number, Number>(1000d + i, 1000d + i));
+            series1.getData().remove(0);
+        }
+        pulse();
+        assertEquals(1495, xAxis.dataMinValue, 0);
+        assertEquals(1499, xAxis.dataMaxValue, 0);
+        assertEquals(1495, yAxis.dataMinValue, 0);
+        assertEquals(1499, yAxis.dataMaxValue, 0);
+
+        series1.getData().get(0).setYValue(5000d);
+        pulse();
+        assertEquals(1496, yAxis.dataMinValue, 0);
+        assertEquals(5000, yAxis.dataMaxValue, 0);
+    }
+
+    @Test
+    public void testOverriddenInvalidateRangeSeesData() {
+        final List<Number> seen = new ArrayList<>();
+        final ValueAxis<Number> xAxis = new ValueAxis<Number>() {
+            @Override public void invalidateRange(List<Number> data) {
+                seen.addAll(data);
+                super.invalidateRange(data);
+            }
+            @Override protected List<Number> calculateMinorTickMarks() { return new ArrayList<>(); }
+            @Override protected void setRange(Object range, boolean animate) {}
+            @Override protected Object getRange() { return null; }
+            @Override protected List<Number> calculateTickValues(double length, Object range) { return new ArrayList<>(); }
+            @Override protected String getTickMarkLabel(Number value) { return ""; }
+        };
+        assertTrue(new NumberAxis().canInvalidateRangeFromBounds());
+        assertFalse(xAxis.canInvalidateRangeFromBounds());
+
+        LineChart<Number,Number> chart = new LineChart<>(xAxis, new NumberAxis());
+        chart.getData().add(series1);
+        chart.updateAxisRange();
+        assertEquals(Arrays.<Number>asList(10d, 25d, 30d, 50d, 80d), seen);
+        assertEquals(10, xAxis.dataMinValue, 0);
+        assertEquals(80, xAxis.dataMaxValue, 0);
+    }
+
      @Test
     public void testSeriesAddWithAnimation() {
         startApp();
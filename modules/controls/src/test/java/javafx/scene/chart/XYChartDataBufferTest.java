@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import javafx.scene.shape.Path;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class XYChartDataBufferTest extends XYChartTestBase {
+
+    private NumberAxis xAxis;
+    private NumberAxis yAxis;
+    private ScatterChart<Number,Number> scatterChart;
+    private final XYChart.Series<Number,Number> series = new XYChart.Series<>();
+
+    @Override protected Chart createChart() {
+        xAxis = new NumberAxis();
+        yAxis = new NumberAxis();
+        scatterChart = new ScatterChart<>(xAxis, yAxis);
+        return scatterChart;
+    }
+
+    @Test public void testAddAndGet() {
+        XYChart.DataBuffer buffer = series.getDataBuffer();
+        buffer.add(1, 2);
+        buffer.addAll(new double[] {3, 5}, new double[] {4, 6});
+        assertEquals(3, buffer.size());
+        assertEquals(5, buffer.getXValue(2), 0);
+        assertEquals(6, buffer.getYValue(2), 0);
+    }
+
+    @Test public void testRemoveFirstSlidesWindow() {
+        XYChart.DataBuffer buffer = series.getDataBuffer();
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i, i);
+            if (buffer.size() > 10) {
+                buffer.removeFirst(1);
+            }
+        }
+        assertEquals(10, buffer.size());
+        assertEquals(90, buffer.getXValue(0), 0);
+        assertEquals(99, buffer.getXValue(9), 0);
+        assertEquals(90, buffer.getMinXValue(), 0);
+        assertEquals(99, buffer.getMaxYValue(), 0);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        series.getDataBuffer().add(1, 1);
+        series.getDataBuffer().getXValue(1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testAddAllWithDifferentLengths() {
+        series.getDataBuffer().addAll(new double[2], new double[3]);
+    }
+
+    @Test public void testBoundsIgnoreNaN() {
+        XYChart.DataBuffer buffer = series.getDataBuffer();
+        buffer.add(Double.NaN, 5);
+        buffer.add(3, Double.NaN);
+        buffer.add(-1, 2);
+        assertEquals(-1, buffer.getMinXValue(), 0);
+        assertEquals(3, buffer.getMaxXValue(), 0);
+        assertEquals(2, buffer.getMinYValue(), 0);
+        assertEquals(5, buffer.getMaxYValue(), 0);
+    }
+
+    @Test public void testAutoRangingUsesBufferedData() {
+        startApp();
+        scatterChart.getData().add(series);
+        series.getDataBuffer().addAll(new double[] {0, 1000}, new double[] {0, 500});
+        pulse();
+        assertTrue(xAxis.getUpperBound() >= 1000);
+        assertTrue(yAxis.getUpperBound() >= 500);
+    }
+
+    @Test public void testBufferedScatterSeriesIsPlottedAsSinglePath() {
+        startApp();
+        scatterChart.getData().add(series);
+        final int count = 100000;
+        for (int i = 0; i < count; i++) {
+            series.getDataBuffer().add(i % 1000, (i * 7) % 500);
+        }
+        pulse();
+        assertEquals(1, scatterChart.getPlotChildren().size());
+        assertEquals(0, countSymbols(scatterChart, "chart-symbol"));
+        final Path path = (Path) series.getNode();
+        assertTrue(path.getStyleClass().contains("chart-symbol-path"));
+        // five path elements per occupied grid cell, bounded by the plot size
+        final double cells = Math.ceil(xAxis.getWidth() / 3) * Math.ceil(yAxis.getHeight() / 3);
+        assertTrue(path.getElements().size() > 0);
+        assertTrue(path.getElements().size() <= 5 * cells);
+
+        series.getDataBuffer().clear();
+        pulse();
+        assertNull(series.getNode());
+        assertEquals(0, scatterChart.getPlotChildren().size());
+    }
+
+    @Test public void testSymbolsAreHiddenWhileSeriesIsBuffered() {
+        startApp();
+        scatterChart.setAnimated(false);
+        series.getData().add(new XYChart.Data<>(1, 1));
+        series.getData().add(new XYChart.Data<>(2, 2));
+        scatterChart.getData().add(series);
+        pulse();
+        assertEquals(2, countSymbols(scatterChart, "chart-symbol"));
+
+        series.getDataBuffer().add(3, 3);
+        pulse();
+        series.getData().add(new XYChart.Data<>(4, 4));
+        pulse();
+        assertEquals(1, scatterChart.getPlotChildren().size());
+        assertEquals(0, countSymbols(scatterChart, "chart-symbol"));
+
+        series.getDataBuffer().clear();
+        pulse();
+        assertNull(series.getNode());
+        assertEquals(3, scatterChart.getPlotChildren().size());
+        assertEquals(3, countSymbols(scatterChart, "chart-symbol"));
+    }
+}
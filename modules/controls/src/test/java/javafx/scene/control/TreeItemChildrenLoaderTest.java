@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.control;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TreeItemChildrenLoaderTest {
+
+    private Executor oldLoadExecutor;
+    private Executor oldDeliveryExecutor;
+    private ArrayDeque<Runnable> pendingLoads;
+
+    private TreeItem<String> root;
+    private int loadCount;
+
+    @Before public void setup() {
+        oldLoadExecutor = TreeItem.childrenLoadExecutor;
+        oldDeliveryExecutor = TreeItem.childrenDeliveryExecutor;
+        pendingLoads = new ArrayDeque<>();
+        TreeItem.childrenLoadExecutor = pendingLoads::add;
+        TreeItem.childrenDeliveryExecutor = Runnable::run;
+
+        root = new TreeItem<>("root");
+        root.setChildrenPageSize(10);
+    }
+
+    @After public void cleanup() {
+        TreeItem.childrenLoadExecutor = oldLoadExecutor;
+        TreeItem.childrenDeliveryExecutor = oldDeliveryExecutor;
+    }
+
+    private TreeItem.ChildrenLoader<String> loader(final int total) {
+        return (parent, from, count) -> {
+            loadCount++;
+            List<TreeItem<String>> page = new ArrayList<>();
+            for (int i = from; i < Math.min(total, from + count); i++) {
+                page.add(new TreeItem<>(parent.getValue() + "-" + i));
+            }
+            return page;
+        };
+    }
+
+    private void runPendingLoads() {
+        while (! pendingLoads.isEmpty()) {
+            pendingLoads.poll().run();
+        }
+    }
+
+    @Test public void testItemWithLoaderIsNotLeaf() {
+        assertTrue(root.isLeaf());
+        root.setChildrenLoader(loader(25));
+        assertFalse(root.isLeaf());
+        assertFalse(root.isChildrenFullyLoaded());
+        assertEquals(0, loadCount);
+    }
+
+    @Test public void testExpandingRequestsFirstPage() {
+        root.setChildrenLoader(loader(25));
+        root.setExpanded(true);
+
+        assertTrue(root.isChildrenLoading());
+        assertEquals(1, root.getChildren().size());
+        assertTrue(root.getChildren().get(0).isLoadingPlaceholder());
+
+        runPendingLoads();
+        assertFalse(root.isChildrenLoading());
+        assertEquals(1, loadCount);
+
+        // ten children, followed by the placeholder for the remaining pages
+        assertEquals(11, root.getChildren().size());
+        assertEquals("root-0", root.getChildren().get(0).getValue());
+        assertEquals("root-9", root.getChildren().get(9).getValue());
+        assertTrue(root.getChildren().get(10).isLoadingPlaceholder());
+        assertSame(root, root.getChildren().get(0).getParent());
+    }
+
+    @Test public void testLoadingAllPages() {
+        root.setChildrenLoader(loader(25));
+        root.setExpanded(true);
+        runPendingLoads();
+        root.loadMoreChildren();
+        runPendingLoads();
+        root.loadMoreChildren();
+        runPendingLoads();
+
+        assertEquals(3, loadCount);
+        assertTrue(root.isChildrenFullyLoaded());
+        assertEquals(25, root.getChildren().size());
+        assertEquals("root-24", root.getChildren().get(24).getValue());
+
+        root.loadMoreChildren();
+        assertTrue(pendingLoads.isEmpty());
+    }
+
+    @Test public void testLoadMoreChildrenWhileLoadingIsIgnored() {
+        root.setChildrenLoader(loader(25));
+        root.setExpanded(true);
+        root.loadMoreChildren();
+        root.loadMoreChildren();
+        assertEquals(1, pendingLoads.size());
+    }
+
+    @Test public void testSortingKeepsPlaceholderLast() {
+        root.setChildrenLoader(loader(25));
+        root.setExpanded(true);
+        runPendingLoads();
+
+        // the comparator fails on the placeholder's null value
+        root.lastSortMode = TreeSortMode.ALL_DESCENDANTS;
+        root.lastComparator = (item1, item2) -> item2.getValue().compareTo(item1.getValue());
+        root.sort();
+
+        assertEquals(11, root.getChildren().size());
+        assertEquals("root-9", root.getChildren().get(0).getValue());
+        assertEquals("root-0", root.getChildren().get(9).getValue());
+        assertTrue(root.getChildren().get(10).isLoadingPlaceholder());
+
+        // the next page does not add a second placeholder
+        root.loadMoreChildren();
+        assertEquals(11, root.getChildren().size());
+        runPendingLoads();
+        assertEquals(21, root.getChildren().size());
+        assertTrue(root.getChildren().get(20).isLoadingPlaceholder());
+    }
+
+    @Test public void testEmptyFirstPageMakesItemLeaf() {
+        root.setChildrenLoader(loader(0));
+        root.setExpanded(true);
+        runPendingLoads();
+        assertTrue(root.isChildrenFullyLoaded());
+        assertTrue(root.getChildren().isEmpty());
+        assertTrue(root.isLeaf());
+    }
+
+    @Test public void testFailedLoadCanBeRetried() {
+        final boolean[] fail = { true };
+        root.setChildrenLoader((parent, from, count) -> {
+            if (fail[0]) throw new IOException("expected");
+            return loader(5).loadChildren(parent, from, count);
+        });
+        root.setExpanded(true);
+        runPendingLoads();
+
+        assertFalse(root.isChildrenLoading());
+        assertFalse(root.isChildrenFullyLoaded());
+        assertTrue(root.getChildren().isEmpty());
+
+        fail[0] = false;
+        root.loadMoreChildren();
+        runPendingLoads();
+        assertTrue(root.isChildrenFullyLoaded());
+        assertEquals(5, root.getChildren().size());
+    }
+
+    @Test public void testReplacingLoaderDiscardsPendingPage() {
+        root.setChildrenLoader(loader(25));
+        root.setExpanded(true);
+        final Runnable stale = pendingLoads.poll();
+
+        root.setChildrenLoader(loader(3));
+        runPendingLoads();
+        stale.run();
+
+        assertEquals(3, root.getChildren().size());
+        assertTrue(root.isChildrenFullyLoaded());
+    }
+
+    @Test public void testTreeViewRequestsNextPageWhenPlaceholderIsRetrieved() {
+        root.setChildrenLoader(loader(25));
+        root.setExpanded(true);
+        runPendingLoads();
+
+        TreeView<String> treeView = new TreeView<>(root);
+        assertEquals(12, treeView.getExpandedItemCount());
+        assertEquals("root-9", treeView.getTreeItem(10).getValue());
+        assertTrue(pendingLoads.isEmpty());
+
+        assertTrue(treeView.getTreeItem(11).isLoadingPlaceholder());
+        assertEquals(1, pendingLoads.size());
+        runPendingLoads();
+
+        assertEquals(22, treeView.getExpandedItemCount());
+        assertEquals("root-19", treeView.getTreeItem(20).getValue());
+    }
+
+    @Test public void testTreeTableViewRequestsNextPageWhenPlaceholderIsRetrieved() {
+        root.setChildrenLoader(loader(15));
+        root.setExpanded(true);
+        runPendingLoads();
+
+        TreeTableView<String> treeTableView = new TreeTableView<>(root);
+        assertTrue(treeTableView.getTreeItem(11).isLoadingPlaceholder());
+        runPendingLoads();
+
+        assertEquals(16, treeTableView.getExpandedItemCount());
+        assertEquals("root-14", treeTableView.getTreeItem(15).getValue());
+    }
+
+    @Test public void testGetTreeItemMatchesDepthFirstOrder() {
+        final Random random = new Random(29);
+        TreeItem<String> bigRoot = new TreeItem<>("r");
+        bigRoot.setExpanded(true);
+        List<TreeItem<String>> expected = new ArrayList<>();
+        expected.add(bigRoot);
+        populate(bigRoot, 0, random, expected);
+
+        TreeView<String> treeView = new TreeView<>(bigRoot);
+        assertEquals(expected.size(), treeView.getExpandedItemCount());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), treeView.getTreeItem(i));
+        }
+        assertNull(treeView.getTreeItem(expected.size()));
+
+        // collapse a branch and check that the rows after it move up
+        TreeItem<String> branch = bigRoot.getChildren().get(3);
+        int branchRow = treeView.getRow(branch);
+        int hidden = branch.getExpandedDescendentCount(false) - 1;
+        branch.setExpanded(false);
+        assertEquals(expected.size() - hidden, treeView.getExpandedItemCount());
+        assertSame(expected.get(branchRow + hidden + 1), treeView.getTreeItem(branchRow + 1));
+    }
+
+    private void populate(TreeItem<String> parent, int depth, Random random, List<TreeItem<String>> expected) {
+        int count = depth == 0 ? 20 : random.nextInt(8);
+        for (int i = 0; i < count; i++) {
+            TreeItem<String> child = new TreeItem<>(parent.getValue() + "-" + i);
+            parent.getChildren().add(child);
+            expected.add(child);
+            if (depth < 3 && random.nextBoolean()) {
+                child.setExpanded(true);
+                populate(child, depth + 1, random, expected);
+            } else if (depth < 3) {
+                // collapsed children must not be counted
+                child.getChildren().add(new TreeItem<>("hidden"));
+            }
+        }
+    }
+}
@@ -159,11 +159,17 @@ abstract class CMap {
         int segCount;
         int entrySelector;
         int rangeShift;
+        /* The segment end codes are searched for every lookup so they are
+         * copied, the rest of the subtable is read directly rather than
+         * being copied into arrays as it is usually part of the mapped font
+         * file. These are the offsets of the other arrays within it. */
         char[] endCount;
-        char[] startCount;
-        short[] idDelta;
-        char[] idRangeOffset;
-        char[] glyphIds;
+        Buffer buffer;
+        int startCount;
+        int idDelta;
+        int idRangeOffset;
+        int glyphIds;
+        int numGlyphIds;
 
         CMapFormat4(Buffer buffer, int offset) {
 
@@ -186,37 +192,24 @@ abstract class CMap {
             buffer.getChar(); // skip searchRange
             entrySelector = buffer.getChar();
             rangeShift    = buffer.getChar()/2;
-            startCount = new char[segCount];
-            endCount = new char[segCount];
-            idDelta = new short[segCount];
-            idRangeOffset = new char[segCount];
 
+            endCount = new char[segCount];
             for (int i=0; i<segCount; i++) {
                 endCount[i] = buffer.getChar();
             }
-            buffer.getChar(); // 2 bytes for reserved pad
-            for (int i=0; i<segCount; i++) {
-                startCount[i] = buffer.getChar();
-            }
-
-            for (int i=0; i<segCount; i++) {
-                idDelta[i] = (short)buffer.getChar();
-            }
-
-            for (int i=0; i<segCount; i++) {
-                char ctmp = buffer.getChar();
-                idRangeOffset[i] = (char)((ctmp>>1)&0xffff);
-            }
+            // 14 bytes of header, 2 bytes for reserved pad
+            startCount = 14 + segCount*2 + 2;
+            idDelta = startCount + segCount*2;
+            idRangeOffset = idDelta + segCount*2;
+            glyphIds = idRangeOffset + segCount*2;
             /* Can calculate the number of glyph IDs by subtracting
-             * "pos" from the length of the cmap
+             * the offset of the glyph IDs from the length of the cmap
              */
-            int pos = (segCount*8+16)/2;
-            buffer.position(pos*2+offset); // * 2 for chars
-            int numGlyphIds = (subtableLength/2 - pos);
-            glyphIds = new char[numGlyphIds];
-            for (int i=0;i<numGlyphIds;i++) {
-                glyphIds[i] = buffer.getChar();
+            numGlyphIds = (subtableLength - glyphIds)/2;
+            if (numGlyphIds < 0) {
+                throw new RuntimeException("Invalid cmap subtable");
             }
+            this.buffer = buffer.slice(offset, subtableLength);
         }
 
         char getGlyph(int charCode) {
@@ -247,8 +240,8 @@ abstract class CMap {
              * However, benefits are neglible and some fonts have incorrect
              * data - so we use straightforward binary search (see bug 6247425)
              */
-            int left = 0, right = startCount.length;
-            index = startCount.length >> 1;
+            int left = 0, right = segCount;
+            index = segCount >> 1;
             while (left < right) {
                 if (endCount[index] < charCode) {
                     left = index + 1;
@@ -257,19 +250,28 @@ abstract class CMap {
                 }
                 index = (left + right) >> 1;
             }
+            if (index >= segCount) {
+                return glyphCode;
+            }
 
-            if (charCode >= startCount[index] && charCode <= endCount[index]) {
-                int rangeOffset = idRangeOffset[index];
+            int start = buffer.getChar(startCount + index*2);
+            if (charCode >= start &&
+                charCode <= endCount[index]) {
+                int delta = buffer.getShort(idDelta + index*2);
+                int rangeOffset = buffer.getChar(idRangeOffset + index*2) >> 1;
 
                 if (rangeOffset == 0) {
-                    glyphCode = (char)(charCode + idDelta[index]);
+                    glyphCode = (char)(charCode + delta);
                 } else {
                     /* Calculate an index into the glyphIds array */
                     int glyphIDIndex = rangeOffset - segCount + index
-                                         + (charCode - startCount[index]);
-                    glyphCode = glyphIds[glyphIDIndex];
+                                         + (charCode - start);
+                    if (glyphIDIndex < 0 || glyphIDIndex >= numGlyphIds) {
+                        return glyphCode;
+                    }
+                    glyphCode = buffer.getChar(glyphIds + glyphIDIndex*2);
                     if (glyphCode != 0) {
-                        glyphCode = (char)(glyphCode + idDelta[index]);
+                        glyphCode = (char)(glyphCode + delta);
                     }
                 }
             }
@@ -504,9 +506,10 @@ abstract class CMap {
         int highBit =0;
         int power;
         int extra;
-        long[] startCharCode;
-        long[] endCharCode;
-        int[] startGlyphID;
+        /* The groups of (startCharCode, endCharCode, startGlyphID), read
+         * directly from the subtable which is usually part of the mapped
+         * font file. */
+        Buffer groups;
 
         CMapFormat12(Buffer buffer, int offset) {
 
@@ -516,17 +519,7 @@ abstract class CMap {
             {
                 throw new RuntimeException("Invalid cmap subtable");
             }
-            startCharCode = new long[numGroups];
-            endCharCode = new long[numGroups];
-            startGlyphID = new int[numGroups];
-            buffer.position(offset+16);
-            // REMIND: why slice ?
-            //buffer = buffer.slice();
-            for (int i=0; i<numGroups; i++) {
-                startCharCode[i] = buffer.getInt() & INTMASK;
-                endCharCode[i] = buffer.getInt() & INTMASK;
-                startGlyphID[i] = buffer.getInt() & INTMASK;
-            }
+            groups = buffer.slice(offset+16, numGroups*12);
 
             /* Finds the high bit by binary searching through the bits */
             int value = numGroups;
@@ -560,6 +553,10 @@ abstract class CMap {
             extra = numGroups - power;
         }
 
+        private int startCharCode(int group) {
+            return groups.getInt(group*12);
+        }
+
         char getGlyph(int charCode) {
             int controlGlyph = getControlCodeGlyph(charCode, false);
             if (controlGlyph >= 0) {
@@ -568,22 +565,22 @@ abstract class CMap {
             int probe = power;
             int range = 0;
 
-            if (startCharCode[extra] <= charCode) {
+            if (startCharCode(extra) <= charCode) {
                 range = extra;
             }
 
             while (probe > 1) {
                 probe >>= 1;
 
-                if (startCharCode[range+probe] <= charCode) {
+                if (startCharCode(range+probe) <= charCode) {
                     range += probe;
                 }
             }
 
-            if (startCharCode[range] <= charCode &&
-                  endCharCode[range] >= charCode) {
+            int start = startCharCode(range);
+            if (start <= charCode && groups.getInt(range*12+4) >= charCode) {
                 return (char)
-                    (startGlyphID[range] + (charCode - startCharCode[range]));
+                    (groups.getInt(range*12+8) + (charCode - start));
             }
 
             return 0;
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import static com.sun.javafx.font.PrismFontFactory.debugFonts;
+
+/**
+ * The names of the fonts in font files, so that the fonts found on the
+ * system can be listed without opening every font file.
+ *
+ * <p>The names of a file are read again when its modification time or size
+ * changes. The files that have to be read are read by several threads.
+ * When {@code prism.fontIndex} is set to the path of a file, the index is
+ * kept in that file for the next runs.</p>
+ */
+final class FontFileIndex {
+
+    private static final String HEADER = "JFXFONTINDEX 1";
+
+    /* Below this number of files they are read by the calling thread */
+    private static final int MIN_PARALLEL_FILES = 8;
+
+    static final class Face {
+        final String fullName, familyName;
+        final String localeFullName, localeFamilyName;
+
+        Face(String fullName, String familyName,
+             String localeFullName, String localeFamilyName) {
+            this.fullName = fullName;
+            this.familyName = familyName;
+            this.localeFullName = localeFullName;
+            this.localeFamilyName = localeFamilyName;
+        }
+    }
+
+    private static final Face[] NO_FACES = new Face[0];
+
+    private static final class Entry {
+        final long lastModified, length;
+        final Face[] faces;
+
+        Entry(long lastModified, long length, Face[] faces) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.faces = faces;
+        }
+    }
+
+    private static FontFileIndex instance;
+
+    static synchronized FontFileIndex getInstance() {
+        if (instance == null) {
+            String path = AccessController.doPrivileged(
+                    (PrivilegedAction<String>) () -> System.getProperty("prism.fontIndex"));
+            instance = new FontFileIndex(path == null || path.isEmpty() ? null : Paths.get(path));
+            instance.load();
+        }
+        return instance;
+    }
+
+    private final Path file;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private boolean modified;
+
+    FontFileIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the fonts of a file listed by the last call to update(), or
+     * null if the file was not listed. A file that cannot be used has no
+     * fonts.
+     */
+    synchronized Face[] getFaces(String path) {
+        Entry entry = entries.get(path);
+        return entry != null ? entry.faces : null;
+    }
+
+    /**
+     * Reads the names of the fonts of the files that changed since they
+     * were last read, and saves the index if it changed.
+     *
+     * @param dir the directory the files were listed from, the files of the
+     * index in that directory that are not listed are removed from the
+     * index, or null if the files are not the listing of a directory
+     * @param supported tells whether a file that has to be read can be
+     * used by the font rasterizer, it may be called by several threads
+     */
+    void update(String dir, Collection<String> paths, Predicate<String> supported) {
+        List<String> changed = new ArrayList<>();
+        synchronized (this) {
+            if (dir != null) {
+                prune(dir, paths);
+            }
+            for (String path : paths) {
+                Entry entry = entries.get(path);
+                long[] stat = stat(path);
+                if (entry == null || entry.lastModified != stat[0]
+                        || entry.length != stat[1]) {
+                    changed.add(path);
+                }
+            }
+        }
+        if (changed.isEmpty()) {
+            save();
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(changed.size());
+        for (String path : changed) {
+            tasks.add(() -> {
+                long[] stat = stat(path);
+                Face[] faces = supported.test(path) ? readFaces(path) : NO_FACES;
+                synchronized (FontFileIndex.this) {
+                    entries.put(path, new Entry(stat[0], stat[1], faces));
+                    modified = true;
+                }
+                return null;
+            });
+        }
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(),
+                               changed.size() / MIN_PARALLEL_FILES);
+        if (threads <= 1) {
+            for (Callable<Void> task : tasks) {
+                call(task);
+            }
+        } else {
+            ExecutorService executor = AccessController.doPrivileged(
+                    (PrivilegedAction<ExecutorService>) () ->
+                        Executors.newFixedThreadPool(threads, r -> {
+                            Thread thread = new Thread(r, "Font file reader");
+                            thread.setDaemon(true);
+                            return thread;
+                        }));
+            try {
+                for (Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (Exception e) {
+                if (debugFonts) {
+                    e.printStackTrace();
+                }
+                /* Read the files that are left by this thread */
+                for (int i = 0; i < changed.size(); i++) {
+                    if (getFaces(changed.get(i)) == null) {
+                        call(tasks.get(i));
+                    }
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+        save();
+    }
+
+    /* Removes the files of a directory that are no longer in it */
+    private void prune(String dir, Collection<String> paths) {
+        String prefix = dir + File.separator;
+        Set<String> listed = new HashSet<>(paths);
+        if (entries.keySet().removeIf(path -> path.startsWith(prefix)
+                && path.indexOf(File.separatorChar, prefix.length()) < 0
+                && !listed.contains(path))) {
+            modified = true;
+        }
+    }
+
+    private static void call(Callable<Void> task) {
+        try {
+            task.call();
+        } catch (Exception e) {
+            if (debugFonts) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static long[] stat(String path) {
+        return AccessController.doPrivileged((PrivilegedAction<long[]>) () -> {
+            File f = new File(path);
+            return new long[] {f.lastModified(), f.length()};
+        });
+    }
+
+    /**
+     * Reads the names of the fonts of a file, without the rasterizer of the
+     * platform.
+     */
+    static Face[] readFaces(String path) {
+        return readFaces(path, PrismFontFile.nameLocaleID);
+    }
+
+    static Face[] readFaces(String path, short nameLocaleID) {
+        List<FontNames> fonts = new ArrayList<>();
+        try {
+            FontNames.readFonts(path, nameLocaleID, fonts);
+        } catch (Exception e) {
+            /* Keep the fonts read so far, as font resources are created */
+            if (debugFonts) {
+                System.err.println("Cannot read font " + path + ": " + e);
+            }
+        }
+        Face[] faces = new Face[fonts.size()];
+        for (int i = 0; i < faces.length; i++) {
+            FontNames names = fonts.get(i);
+            faces[i] = new Face(names.fullName, names.familyName,
+                                names.localeFullName, names.localeFamilyName);
+        }
+        return faces;
+    }
+
+    private static String clean(String name) {
+        return name == null ? "" : name.replace('\t', ' ').replace('\n', ' ');
+    }
+
+    synchronized void load() {
+        if (file == null) {
+            return;
+        }
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                if (!HEADER.equals(in.readLine())) {
+                    return null;
+                }
+                String line;
+                while ((line = in.readLine()) != null) {
+                    // path, modification time, size, then the four names of
+                    // each font
+                    String[] fields = line.split("\t", -1);
+                    if (fields.length < 3 || (fields.length - 3) % 4 != 0) {
+                        continue;
+                    }
+                    Face[] faces = new Face[(fields.length - 3) / 4];
+                    for (int i = 0; i < faces.length; i++) {
+                        int f = 3 + i * 4;
+                        faces[i] = new Face(fields[f], fields[f + 1],
+                                            fields[f + 2], fields[f + 3]);
+                    }
+                    entries.put(fields[0], new Entry(Long.parseLong(fields[1]),
+                                                     Long.parseLong(fields[2]),
+                                                     faces));
+                }
+            } catch (IOException | RuntimeException e) {
+                entries.clear();
+                if (debugFonts) {
+                    System.err.println("Cannot read font index " + file + ": " + e);
+                }
+            }
+            return null;
+        });
+    }
+
+    synchronized void save() {
+        if (file == null || !modified) {
+            return;
+        }
+        modified = false;
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            Path temp = null;
+            try {
+                Path dir = file.toAbsolutePath().getParent();
+                if (dir != null) {
+                    Files.createDirectories(dir);
+                }
+                temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+                try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    out.write(HEADER);
+                    out.newLine();
+                    for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                        Entry entry = e.getValue();
+                        StringBuilder line = new StringBuilder(e.getKey());
+                        line.append('\t').append(entry.lastModified)
+                            .append('\t').append(entry.length);
+                        for (Face face : entry.faces) {
+                            line.append('\t').append(clean(face.fullName))
+                                .append('\t').append(clean(face.familyName))
+                                .append('\t').append(clean(face.localeFullName))
+                                .append('\t').append(clean(face.localeFamilyName));
+                        }
+                        out.write(line.toString());
+                        out.newLine();
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                if (debugFonts) {
+                    System.err.println("Cannot write font index " + file + ": " + e);
+                }
+            } finally {
+                if (temp != null) {
+                    try {
+                        Files.deleteIfExists(temp);
+                    } catch (IOException e) {
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
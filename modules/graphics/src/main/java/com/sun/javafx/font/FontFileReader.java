@@ -25,23 +25,79 @@
 
 package com.sun.javafx.font;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
+import java.util.HashMap;
+import java.util.HashSet;
 
 /*
  * Utility class to read font files.
+ *
+ * Unless disabled with prism.mapfonts=false, a file is memory mapped
+ * read-only the first time it is opened and readBlock() returns slices of
+ * that mapping instead of copying the data into the heap. The mapping is
+ * shared with every other reader of the same file, eg the other fonts of
+ * a TTC, and stays valid for as long as any of the slices is reachable,
+ * so tables that are kept around for lookups cost (almost) no heap.
+ * Temporary font files, such as embedded or decoded fonts, are never
+ * mapped as a mapped file cannot be deleted on some platforms. For the
+ * same reason the files of fonts loaded by the application, eg with
+ * Font.loadFont(), are mapped only if they are large enough for the
+ * mapping to pay off; the fonts of the platform's font directories are
+ * always mapped.
+ * If a mapped file is truncated while in use, accessing its mapping fails
+ * with an InternalError. The Buffer that failed then reads its data from
+ * the file instead, and the file is not mapped again. The VM may raise the
+ * error only after the access returned, it then reaches the caller.
  */
 class FontFileReader implements FontConstants {
+
+    private static final boolean mapFiles = AccessController.doPrivileged(
+            (PrivilegedAction<Boolean>) () ->
+                    !"false".equals(System.getProperty("prism.mapfonts")));
+
+    /* The size from which the files of fonts loaded by the application are
+     * mapped, smaller files are read into the heap.
+     */
+    static final long LOADED_FONT_MIN_MAPPED_SIZE = 4 * 1024 * 1024;
+
     String filename;
     long filesize;
     RandomAccessFile raFile;
+    ByteBuffer mapped;
+    private final long minMappedSize;
 
     public FontFileReader(String filename) {
+        this(filename, true);
+    }
+
+    /**
+     * @param filename the font file
+     * @param map false if the file must not be memory mapped, eg because
+     * it is a temporary file that will be deleted
+     */
+    public FontFileReader(String filename, boolean map) {
+        this(filename, map ? 0 : Long.MAX_VALUE);
+    }
+
+    /**
+     * @param filename the font file
+     * @param minMappedSize the size from which the file is memory mapped,
+     * a smaller file is read into the heap
+     */
+    FontFileReader(String filename, long minMappedSize) {
         this.filename = filename;
+        this.minMappedSize = minMappedSize;
     }
 
     public String getFilename() {
@@ -50,14 +106,23 @@ class FontFileReader implements FontConstants {
 
     /**
      * Opens the file.
+     * A mapped file does not need to be opened again after it has been
+     * closed, the mapping remains in place until the reader is discarded.
      * @return returns true if the file opened, false if the file was opened
      *  already or if it failed to open the file.
      * @throws PrivilegedActionException
      */
     public synchronized boolean openFile() throws PrivilegedActionException {
-        if (raFile != null) {
+        if (raFile != null || mapped != null) {
             return false;
         }
+        if (mapFiles && minMappedSize != Long.MAX_VALUE) {
+            mapped = getMapping(filename, minMappedSize);
+            if (mapped != null) {
+                filesize = mapped.capacity();
+                return true;
+            }
+        }
         raFile = AccessController.doPrivileged(
                 (PrivilegedAction<RandomAccessFile>) () -> {
                     try {
@@ -85,6 +150,106 @@ class FontFileReader implements FontConstants {
         }
     }
 
+    /* The mappings of all files that are mapped by at least one reader or
+     * one Buffer, keyed by file name. Entries are validated against the
+     * size and modification time of the file so that a font file that is
+     * replaced on disk is mapped again.
+     */
+    private static final HashMap<String, Mapping> mappings = new HashMap<>();
+    /* Files whose mapping failed, they are read with RandomAccessFile */
+    private static final HashSet<String> failedMappings = new HashSet<>();
+    private static final ReferenceQueue<ByteBuffer> staleMappings =
+            new ReferenceQueue<>();
+
+    private static class Mapping extends WeakReference<ByteBuffer> {
+        final String filename;
+        final long length;
+        final long lastModified;
+
+        Mapping(String filename, long length, long lastModified,
+                ByteBuffer buffer) {
+            super(buffer, staleMappings);
+            this.filename = filename;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * Returns the shared read-only mapping of a file, mapping it if
+     * necessary.
+     * @param minSize the size from which the file is mapped
+     * @return the mapping, or null if the file could not be mapped or is
+     * smaller than minSize
+     */
+    static ByteBuffer getMapping(String filename, long minSize) {
+        return AccessController.doPrivileged(
+                (PrivilegedAction<ByteBuffer>) () -> {
+                    File file = new File(filename);
+                    long length = file.length();
+                    long lastModified = file.lastModified();
+                    if (length <= 0 || length < minSize ||
+                        length > Integer.MAX_VALUE) {
+                        return null;
+                    }
+                    synchronized (mappings) {
+                        if (failedMappings.contains(filename)) {
+                            return null;
+                        }
+                        Mapping stale;
+                        while ((stale = (Mapping)staleMappings.poll()) != null) {
+                            if (mappings.get(stale.filename) == stale) {
+                                mappings.remove(stale.filename);
+                            }
+                        }
+                        Mapping mapping = mappings.get(filename);
+                        if (mapping != null && mapping.length == length &&
+                            mapping.lastModified == lastModified) {
+                            ByteBuffer buffer = mapping.get();
+                            if (buffer != null) {
+                                return buffer;
+                            }
+                        }
+                        try (FileChannel channel = FileChannel.open(
+                                file.toPath(), StandardOpenOption.READ)) {
+                            ByteBuffer buffer = channel.map(
+                                    FileChannel.MapMode.READ_ONLY, 0, length);
+                            mappings.put(filename, new Mapping(filename,
+                                    length, lastModified, buffer));
+                            return buffer;
+                        } catch (IOException | RuntimeException e) {
+                            return null;
+                        }
+                    }
+                }
+        );
+    }
+
+    /**
+     * Stops mapping a file whose mapping could not be accessed, and reads
+     * part of it with RandomAccessFile instead.
+     * @return the bytes read, or null if they could not be read
+     */
+    static byte[] mappingFailed(String filename, long offset, int len) {
+        synchronized (mappings) {
+            failedMappings.add(filename);
+            mappings.remove(filename);
+        }
+        return AccessController.doPrivileged((PrivilegedAction<byte[]>) () -> {
+            try (RandomAccessFile file = new RandomAccessFile(filename, "r")) {
+                byte[] data = new byte[len];
+                file.seek(offset);
+                file.readFully(data);
+                return data;
+            } catch (IOException e) {
+                if (PrismFontFactory.debugFonts) {
+                    e.printStackTrace();
+                }
+                return null;
+            }
+        });
+    }
+
     public synchronized long getLength() {
         return filesize;
     }
@@ -96,9 +261,14 @@ class FontFileReader implements FontConstants {
     }
 
     static class Buffer {
-        byte[] data;
+        ByteBuffer data;
         int pos;
         int orig;
+        /* The file of mapped data and the offset of the data in the file,
+         * so that the data can be read from the file if the mapping fails.
+         */
+        private String filename;
+        private long fileOffset;
 
         /**
          * @param data the buffer
@@ -108,61 +278,91 @@ class FontFileReader implements FontConstants {
          * assumed to be careful.
          */
         Buffer(byte[] data, int bufStart) {
+            this(ByteBuffer.wrap(data), bufStart);
+        }
+
+        /**
+         * @param data the big endian buffer, which is only ever accessed
+         * by absolute index so it may be shared
+         * @param bufStart the starting position within the data buffer.
+         */
+        Buffer(ByteBuffer data, int bufStart) {
             this.orig = this.pos = bufStart;
             this.data = data;
         }
 
+        /**
+         * @param mapped the mapped data, starting at {@code fileOffset}
+         * in the file
+         */
+        Buffer(ByteBuffer mapped, String filename, long fileOffset) {
+            this(mapped, 0);
+            this.filename = filename;
+            this.fileOffset = fileOffset;
+        }
+
+        /* Replaces the mapped data that could not be accessed with the
+         * same data read from the file, or rethrows the error.
+         */
+        private void unmap(InternalError e) {
+            if (filename == null) {
+                throw e;
+            }
+            byte[] copy = mappingFailed(filename, fileOffset, data.capacity());
+            if (copy == null) {
+                throw e;
+            }
+            if (PrismFontFactory.debugFonts) {
+                System.err.println("Font file mapping failed, reading "
+                                   + filename + ": " + e);
+            }
+            data = ByteBuffer.wrap(copy);
+            filename = null;
+        }
+
         int getInt(int tpos) {
-            tpos += orig;
-            int val = data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            return val;
+            try {
+                return data.getInt(tpos + orig);
+            } catch (InternalError e) {
+                unmap(e);
+                return data.getInt(tpos + orig);
+            }
         }
 
         int getInt() {
-            int val = data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
+            int val = getInt(pos - orig);
+            pos += 4;
             return val;
         }
 
         short getShort(int tpos) {
-            tpos += orig;
-            int val = data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            return (short)val;
+            try {
+                return data.getShort(tpos + orig);
+            } catch (InternalError e) {
+                unmap(e);
+                return data.getShort(tpos + orig);
+            }
         }
 
         short getShort() {
-            int val = data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
-            return (short)val;
+            short val = getShort(pos - orig);
+            pos += 2;
+            return val;
         }
 
         char getChar(int tpos) {
-            tpos += orig;
-            int val = data[tpos++]&0xff;
-            val <<= 8;
-            val |= data[tpos++]&0xff;
-            return (char)val;
+            try {
+                return data.getChar(tpos + orig);
+            } catch (InternalError e) {
+                unmap(e);
+                return data.getChar(tpos + orig);
+            }
         }
 
         char getChar() {
-            int val = data[pos++]&0xff;
-            val <<= 8;
-            val |= data[pos++]&0xff;
-            return (char)(val);
+            char val = getChar(pos - orig);
+            pos += 2;
+            return val;
         }
 
         void position(int newPos) {
@@ -170,16 +370,20 @@ class FontFileReader implements FontConstants {
         }
 
         int capacity() {
-            return data.length-orig;
+            return data.capacity()-orig;
         }
 
         byte get() {
-            return data[pos++];
+            return get(pos++ - orig);
         }
 
         byte get(int tpos) {
-            tpos += orig;
-            return data[tpos];
+            try {
+                return data.get(tpos + orig);
+            } catch (InternalError e) {
+                unmap(e);
+                return data.get(tpos + orig);
+            }
         }
 
         void skip(int nbytes) {
@@ -187,7 +391,33 @@ class FontFileReader implements FontConstants {
         }
 
         void get(int startPos, byte[] dest, int destPos, int destLen) {
-            System.arraycopy(data, orig+startPos, dest, destPos, destLen);
+            try {
+                ByteBuffer src = data.duplicate();
+                src.position(orig+startPos);
+                src.get(dest, destPos, destLen);
+            } catch (InternalError e) {
+                unmap(e);
+                get(startPos, dest, destPos, destLen);
+            }
+        }
+
+        /**
+         * Returns a Buffer of {@code len} bytes from {@code startPos} that
+         * stays valid when the reader is closed or reads another block, so
+         * it can be kept for lookups. Mapped data is shared, heap data
+         * is copied.
+         */
+        Buffer slice(int startPos, int len) {
+            if (data.isDirect()) {
+                ByteBuffer src = data.duplicate();
+                src.position(orig+startPos);
+                src.limit(orig+startPos+len);
+                return new Buffer(src.slice(), filename,
+                                  fileOffset+orig+startPos);
+            }
+            byte[] dest = new byte[len];
+            get(startPos, dest, 0, len);
+            return new Buffer(dest, 0);
         }
     }
 
@@ -230,6 +460,15 @@ class FontFileReader implements FontConstants {
     private int readBufferLen;
     private int readBufferStart;
     synchronized public Buffer readBlock(int offset, int len) {
+        if (mapped != null) {
+            /* Never read past the end of the file */
+            offset = (int)Math.min(offset, filesize);
+            len = (int)Math.min(len, filesize - offset);
+            ByteBuffer block = mapped.duplicate();
+            block.position(offset);
+            block.limit(offset+len);
+            return new Buffer(block.slice(), filename, offset);
+        }
         if (readBuffer == null) {
             readBuffer = new byte[READBUFFERSIZE];
             readBufferLen = 0; // length of valid contents.
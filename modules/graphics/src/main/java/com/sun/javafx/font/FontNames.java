@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+
+import com.sun.javafx.font.FontFileReader.Buffer;
+
+import static com.sun.javafx.font.PrismFontFile.FAMILY_NAME_ID;
+import static com.sun.javafx.font.PrismFontFile.FULL_NAME_ID;
+import static com.sun.javafx.font.PrismFontFile.MACROMAN_ENGLISH_LANG;
+import static com.sun.javafx.font.PrismFontFile.MACROMAN_SPECIFIC_ID;
+import static com.sun.javafx.font.PrismFontFile.MAC_PLATFORM_ID;
+import static com.sun.javafx.font.PrismFontFile.MS_ENGLISH_LOCALE_ID;
+import static com.sun.javafx.font.PrismFontFile.MS_PLATFORM_ID;
+import static com.sun.javafx.font.PrismFontFile.PS_NAME_ID;
+import static com.sun.javafx.font.PrismFontFile.STYLE_NAME_ID;
+
+/**
+ * The names of a font, as found in its 'name' table.
+ */
+final class FontNames implements FontConstants {
+
+    String familyName;           /* Family font name (English) */
+    String fullName;             /* Full font name (English)   */
+    String psName;               /* PostScript font name       */
+    String styleName;
+    String localeFamilyName;
+    String localeFullName;
+    String localeStyleName;
+
+    /**
+     * Reads the names from a 'name' table. The localized names are the
+     * names for the given locale, or the English names.
+     */
+    static FontNames read(Buffer buffer, short nameLocaleID) throws Exception {
+        FontNames names = new FontNames();
+        byte[] name = new byte[256];
+
+        buffer.skip(2); // format - not needed.
+        short numRecords = buffer.getShort();
+        /* The name table uses unsigned shorts. Many of these
+         * are known small values that fit in a short.
+         * The values that are sizes or offsets into the table could be
+         * greater than 32767, so read and store those as ints
+         */
+        int stringPtr = buffer.getShort() & 0xffff;
+
+        /* Microsoft Windows font names are preferred but numerous Mac
+         * fonts do not have these, so we must also accept these in the
+         * absence of the preferred Windows names.
+         */
+        for (int i=0; i<numRecords; i++) {
+            short platformID = buffer.getShort();
+            if (platformID != MS_PLATFORM_ID &&
+                platformID != MAC_PLATFORM_ID) {
+                buffer.skip(10);
+                continue; // skip over this record.
+            }
+            short encodingID = buffer.getShort();
+            // only want UTF-16 (inc. symbol) encodingIDs for Windows,
+            // or MacRoman on Mac.
+            if ((platformID == MS_PLATFORM_ID && encodingID > 1) ||
+                (platformID == MAC_PLATFORM_ID &&
+                 encodingID != MACROMAN_SPECIFIC_ID)) {
+                buffer.skip(8);
+                continue;
+            }
+            short langID     = buffer.getShort();
+            if (platformID == MAC_PLATFORM_ID &&
+                langID != MACROMAN_ENGLISH_LANG) {
+                buffer.skip(6);
+                continue;
+            }
+            short nameID     = buffer.getShort();
+            int nameLen    = ((int)buffer.getShort()) & 0xffff;
+            int namePtr    = (((int)buffer.getShort()) & 0xffff) + stringPtr;
+            String tmpName = null;
+            String enc;
+            switch (nameID) {
+
+            case FAMILY_NAME_ID:
+
+                if (names.familyName == null || langID == MS_ENGLISH_LOCALE_ID ||
+                    langID == nameLocaleID)
+                    {
+                        buffer.get(namePtr, name, 0, nameLen);
+                        if (platformID == MAC_PLATFORM_ID) {
+                            enc = "US-ASCII";
+                        } else {
+                            enc = "UTF-16BE";
+                        }
+                        tmpName = new String(name, 0, nameLen, enc);
+
+                        if (names.familyName == null ||
+                            langID == MS_ENGLISH_LOCALE_ID){
+                            names.familyName = tmpName;
+                        }
+                        if (langID == nameLocaleID) {
+                            names.localeFamilyName = tmpName;
+                        }
+                    }
+                    break;
+
+                case FULL_NAME_ID:
+
+                    if (names.fullName == null ||
+                        langID == MS_ENGLISH_LOCALE_ID ||
+                        langID == nameLocaleID)
+                    {
+                        buffer.get(namePtr, name, 0, nameLen);
+                        if (platformID == MAC_PLATFORM_ID) {
+                            enc = "US-ASCII";
+                        } else {
+                            enc = "UTF-16BE";
+                        }
+                        tmpName = new String(name, 0, nameLen, enc);
+
+                        if (names.fullName == null ||
+                            langID == MS_ENGLISH_LOCALE_ID) {
+                            names.fullName = tmpName;
+                        }
+                        if (langID == nameLocaleID) {
+                            names.localeFullName = tmpName;
+                        }
+                    }
+                    break;
+
+                case PS_NAME_ID:
+
+                    if (names.psName == null) {
+                        buffer.get(namePtr, name, 0, nameLen);
+                        if (platformID == MAC_PLATFORM_ID) {
+                            enc = "US-ASCII";
+                        } else {
+                            enc = "UTF-16BE";
+                        }
+                        names.psName = new String(name, 0, nameLen, enc);
+                    }
+                    break;
+
+                case STYLE_NAME_ID:
+
+                    if (names.styleName == null ||
+                        langID == MS_ENGLISH_LOCALE_ID ||
+                        langID == nameLocaleID)
+                    {
+                        buffer.get(namePtr, name, 0, nameLen);
+                        if (platformID == MAC_PLATFORM_ID) {
+                            enc = "US-ASCII";
+                        } else {
+                            enc = "UTF-16BE";
+                        }
+                        tmpName = new String(name, 0, nameLen, enc);
+
+                        if (names.styleName == null ||
+                            langID == MS_ENGLISH_LOCALE_ID) {
+                            names.styleName = tmpName;
+                        }
+                        if (langID == nameLocaleID) {
+                            names.localeStyleName = tmpName;
+                        }
+                    }
+                    break;
+
+            default:
+                break;
+            }
+
+            if (names.localeFamilyName == null) {
+                names.localeFamilyName = names.familyName;
+            }
+            if (names.localeFullName == null) {
+                names.localeFullName = names.fullName;
+            }
+            if (names.localeStyleName == null) {
+                names.localeStyleName = names.styleName;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Reads the names of the fonts of a font file, or of its only font,
+     * without creating font resources. The names are added to the list as
+     * they are read, so the fonts before one that cannot be read are kept.
+     */
+    static void readFonts(String filename, short nameLocaleID,
+                          List<FontNames> fonts) throws Exception {
+        /* Only the tables directories and the 'name' tables are read */
+        FontFileReader reader = new FontFileReader(filename, false);
+        WoffDecoder decoder = null;
+        try {
+            if (!reader.openFile()) {
+                throw new FileNotFoundException("Unable to open font file "
+                        + filename);
+            }
+            Buffer buffer = reader.readBlock(0, TTCHEADERSIZE);
+            int sfntTag = buffer.getInt();
+
+            /* Handle wOFF files */
+            if (sfntTag == woffTag) {
+                decoder = new WoffDecoder();
+                File file = decoder.openFile();
+                decoder.decode(reader);
+                decoder.closeFile();
+
+                /* Read the decoded file */
+                reader.closeFile();
+                reader = new FontFileReader(file.getPath(), false);
+                if (!reader.openFile()) {
+                    throw new FileNotFoundException("Unable to open decoded"
+                            + " font file " + filename);
+                }
+                buffer = reader.readBlock(0, TTCHEADERSIZE);
+                sfntTag = buffer.getInt();
+            }
+
+            if (sfntTag == ttcfTag) {
+                buffer.getInt(); // skip TTC version ID
+                int directoryCount = buffer.getInt();
+                for (int i = 0; i < directoryCount; i++) {
+                    int headerOffset =
+                        reader.readBlock(TTCHEADERSIZE+4*i, 4).getInt();
+                    fonts.add(readFont(reader, headerOffset, nameLocaleID));
+                }
+            } else {
+                fonts.add(readFont(reader, 0, nameLocaleID));
+            }
+        } finally {
+            reader.closeFile();
+            if (decoder != null) {
+                decoder.deleteFile();
+            }
+        }
+    }
+
+    /* Reads the names of a font and does the sanity checks that
+     * PrismFontFile does when it creates the font, so that the names of a
+     * font that cannot be created are not indexed.
+     */
+    private static FontNames readFont(FontFileReader reader, int headerOffset,
+                                      short nameLocaleID) throws Exception
+    {
+        Buffer buffer = reader.readBlock(headerOffset, 6);
+        int sfntTag = buffer.getInt();
+        if (sfntTag != v1ttTag && sfntTag != trueTag && sfntTag != ottoTag) {
+            throw new Exception("Unsupported sfnt " + reader.getFilename());
+        }
+        int numTables = buffer.getShort();
+        Buffer directory = reader.readBlock(headerOffset+DIRECTORYHEADERSIZE,
+                                            numTables*DIRECTORYENTRYSIZE);
+        int headOffset = -1, headLength = 0;
+        int cmapOffset = -1, cmapLength = 0;
+        int nameOffset = -1, nameLength = 0;
+        for (int i=0; i<numTables; i++) {
+            int tag = directory.getInt();
+            /* checksum */ directory.skip(4);
+            int offset = directory.getInt();
+            int length = directory.getInt();
+            if (offset + length > reader.getLength()) {
+                throw new Exception("bad table, tag="+tag);
+            }
+            if (tag == headTag) {
+                headOffset = offset;
+                headLength = length;
+            } else if (tag == cmapTag) {
+                cmapOffset = offset;
+                cmapLength = length;
+            } else if (tag == nameTag) {
+                nameOffset = offset;
+                nameLength = length;
+            }
+        }
+
+        if (headOffset < 0) {
+            throw new Exception("No head table");
+        }
+        Buffer headTable = reader.readBlock(headOffset, headLength);
+        short indexToLocFormat = headTable.getShort(50);
+        if (indexToLocFormat < 0 || indexToLocFormat > 1) {
+            throw new Exception("Bad indexToLocFormat");
+        }
+        if (cmapOffset >= 0) {
+            checkCMAP(reader, cmapOffset, cmapLength);
+        }
+
+        if (nameOffset >= 0) {
+            FontNames names = read(reader.readBlock(nameOffset, nameLength),
+                                   nameLocaleID);
+            if (names.familyName != null && names.fullName != null) {
+                return names;
+            }
+        }
+        throw new Exception("Font name not found.");
+    }
+
+    /* Sanity check of the 'cmap' table, also done by PrismFontFile */
+    static void checkCMAP(FontFileReader reader, int cmapOffset, int cmapLength)
+        throws Exception
+    {
+        if (cmapLength < 4) {
+            throw new Exception("Invalid cmap table length");
+        }
+        Buffer cmapTableHeader = reader.readBlock(cmapOffset, 4);
+        short version = cmapTableHeader.getShort();
+        short numberSubTables = cmapTableHeader.getShort();
+        int indexLength = numberSubTables * 8;
+        if (numberSubTables <= 0 || cmapLength < indexLength + 4) {
+            throw new Exception("Invalid cmap subtables count");
+        }
+        Buffer cmapTableIndex = reader.readBlock(cmapOffset + 4, indexLength);
+        for (int i = 0; i < numberSubTables; i++) {
+            short platformID = cmapTableIndex.getShort();
+            short encodingID = cmapTableIndex.getShort();
+            int offset = cmapTableIndex.getInt();
+            if (offset < 0 || offset >= cmapLength) {
+                throw new Exception("Invalid cmap subtable offset");
+            }
+        }
+    }
+}
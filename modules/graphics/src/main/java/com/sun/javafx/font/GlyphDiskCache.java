@@ -0,0 +1,656 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+
+/**
+ * A file of rasterized glyph masks that is kept across runs, so that the
+ * glyph cache texture can be filled without rasterizing glyphs again.
+ *
+ * <p>The cache is enabled by setting {@code prism.glyphDiskCache} to the
+ * path of the file, which is memory-mapped when the first glyph is needed.
+ * Glyphs are keyed by the checksum and name of the font file, the size and
+ * transform of the strike, its antialiasing mode, and the subpixel
+ * position. The file also records the font rasterizer it was made with, and
+ * is ignored when a different rasterizer is used.</p>
+ *
+ * <p>With {@code prism.glyphDiskCache.record=true} the glyphs rasterized by
+ * the application are added to the file when the application exits, and the
+ * fonts, strikes and glyphs the application used are listed in a text file
+ * next to it, with the extension {@code .strikes}. {@link #rasterize}
+ * rasterizes the glyphs of such a list into a cache file, so that the file
+ * can be generated when an application is built.</p>
+ */
+public final class GlyphDiskCache {
+
+    private static final int MAGIC = 0x4a464743; // JFGC
+    private static final int VERSION = 1;
+
+    private static final String STRIKES_EXTENSION = ".strikes";
+
+    private static final String path;
+    private static final boolean record;
+
+    static {
+        String[] settings = AccessController.doPrivileged(
+                (PrivilegedAction<String[]>) () -> new String[] {
+                    System.getProperty("prism.glyphDiskCache"),
+                    System.getProperty("prism.glyphDiskCache.record", "false")
+                });
+        path = settings[0];
+        record = "true".equals(settings[1]);
+    }
+
+    private static GlyphDiskCache instance;
+    private static boolean initialized;
+
+    /**
+     * Returns the glyph cache file of this run, or null if it is not enabled.
+     */
+    public static synchronized GlyphDiskCache getInstance() {
+        if (!initialized) {
+            initialized = true;
+            if (path != null && !path.isEmpty()) {
+                GlyphDiskCache cache = new GlyphDiskCache(Paths.get(path),
+                        getRasterizer(), record);
+                cache.open();
+                if (record) {
+                    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                            try {
+                                cache.save();
+                            } catch (IOException e) {
+                                if (PrismFontFactory.debugFonts) {
+                                    System.err.println("Cannot write glyph cache " + path + ": " + e);
+                                }
+                            }
+                        }, "Glyph cache writer"));
+                        return null;
+                    });
+                }
+                instance = cache;
+            }
+        }
+        return instance;
+    }
+
+    private static String getRasterizer() {
+        PrismFontFactory factory = PrismFontFactory.getFontFactory();
+        return factory.getClass().getName() + " subpixel=" + factory.getSubPixelMode();
+    }
+
+    private final Path file;
+    private final String rasterizer;
+    private final boolean recording;
+
+    // the contents of the file, and the strikes in it with the number and
+    // position of the entries of their glyphs
+    private ByteBuffer data;
+    private final Map<StrikeKey, int[]> strikes = new HashMap<>();
+
+    // the glyphs rasterized in this run, when recording
+    private final Map<StrikeKey, Map<Integer, CachedGlyph>> recorded = new HashMap<>();
+    private final Map<StrikeKey, String> fontFiles = new HashMap<>();
+
+    private int hits, misses;
+
+    GlyphDiskCache(Path file, String rasterizer, boolean recording) {
+        this.file = file;
+        this.rasterizer = rasterizer;
+        this.recording = recording;
+    }
+
+    /**
+     * Reads the strikes in the file. When recording the file is read into
+     * memory instead of being mapped, so that it can be replaced on exit.
+     */
+    void open() {
+        try {
+            ByteBuffer buffer = AccessController.doPrivileged(
+                    (PrivilegedAction<ByteBuffer>) () -> {
+                        if (!Files.isRegularFile(file)) {
+                            return null;
+                        }
+                        try {
+                            if (recording) {
+                                return ByteBuffer.wrap(Files.readAllBytes(file));
+                            }
+                            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                            }
+                        } catch (IOException e) {
+                            return null;
+                        }
+                    });
+            if (buffer != null) {
+                readIndex(buffer);
+            }
+        } catch (RuntimeException e) {
+            // a damaged file is ignored, and replaced when recording
+            strikes.clear();
+            data = null;
+        }
+    }
+
+    private void readIndex(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            return;
+        }
+        buffer.position(8);
+        if (!rasterizer.equals(getString(buffer))) {
+            return;
+        }
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            StrikeKey key = new StrikeKey(buffer.getLong(), getString(buffer),
+                    buffer.getFloat(), buffer.getFloat(), buffer.getFloat(),
+                    buffer.getFloat(), buffer.getFloat(), buffer.getInt());
+            strikes.put(key, new int[] {buffer.getInt(), buffer.getInt()});
+        }
+        data = buffer;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xffff];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a glyph of a strike whose mask at the given subpixel position
+     * comes from the file if it is there. The user space values of a glyph
+     * from the file are taken from the strike when they are asked for.
+     */
+    public Glyph getGlyph(FontStrike strike, int glyphCode, int subPixel) {
+        FontStrike slotStrike = strike;
+        int slotGlyphCode = glyphCode;
+        if (strike instanceof CompositeStrike) {
+            slotStrike = ((CompositeStrike) strike).getStrikeSlot(glyphCode >>> 24);
+            slotGlyphCode = glyphCode & CompositeGlyphMapper.GLYPHMASK;
+        }
+        if (!(slotStrike instanceof PrismFontStrike)) {
+            return strike.getGlyph(glyphCode);
+        }
+        PrismFontStrike<?> prismStrike = (PrismFontStrike<?>) slotStrike;
+        StrikeKey key = StrikeKey.of(prismStrike);
+        CachedGlyph glyph = lookup(key, prismStrike, slotGlyphCode, subPixel);
+        if (glyph != null) {
+            return glyph;
+        }
+        Glyph rasterized = slotStrike.getGlyph(slotGlyphCode);
+        if (!recording || rasterized == null) {
+            return rasterized;
+        }
+        glyph = new CachedGlyph(prismStrike, slotGlyphCode, rasterized.getPixelData(subPixel),
+                rasterized.getOriginX(), rasterized.getOriginY(),
+                rasterized.getWidth(), rasterized.getHeight(),
+                rasterized.getPixelXAdvance(), rasterized.getPixelYAdvance(),
+                rasterized.isLCDGlyph());
+        add(key, prismStrike.getFontResource().getFileName(), subPixel, glyph);
+        return glyph;
+    }
+
+    /**
+     * Returns the number of glyphs that were found in the cache and the
+     * number that had to be rasterized.
+     */
+    public synchronized int[] getStatistics() {
+        return new int[] {hits, misses};
+    }
+
+    synchronized void add(StrikeKey key, String fontFile, int subPixel, CachedGlyph glyph) {
+        recorded.computeIfAbsent(key, k -> new HashMap<>())
+                .put(glyphKey(glyph.getGlyphCode(), subPixel), glyph);
+        if (fontFile != null) {
+            fontFiles.put(key, fontFile);
+        }
+    }
+
+    private static int glyphKey(int glyphCode, int subPixel) {
+        return subPixel << 24 | glyphCode & CompositeGlyphMapper.GLYPHMASK;
+    }
+
+    synchronized CachedGlyph lookup(StrikeKey key, FontStrike strike, int glyphCode, int subPixel) {
+        int glyphKey = glyphKey(glyphCode, subPixel);
+        Map<Integer, CachedGlyph> glyphs = recorded.get(key);
+        if (glyphs != null) {
+            CachedGlyph glyph = glyphs.get(glyphKey);
+            if (glyph != null) {
+                hits++;
+                return glyph;
+            }
+        }
+        int[] entries = strikes.get(key);
+        if (entries == null) {
+            misses++;
+            return null;
+        }
+        // binary search in the sorted entries of the strike
+        int low = 0, high = entries[0] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = entries[1] + mid * 8;
+            int midKey = data.getInt(entry);
+            if (midKey < glyphKey) {
+                low = mid + 1;
+            } else if (midKey > glyphKey) {
+                high = mid - 1;
+            } else {
+                hits++;
+                return readGlyph(strike, glyphCode, data.getInt(entry + 4));
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    private CachedGlyph readGlyph(FontStrike strike, int glyphCode, int offset) {
+        ByteBuffer buffer = data.duplicate();
+        buffer.position(offset);
+        int originX = buffer.getInt();
+        int originY = buffer.getInt();
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        float xAdvance = buffer.getFloat();
+        float yAdvance = buffer.getFloat();
+        boolean lcd = buffer.get() != 0;
+        byte[] pixels = new byte[buffer.getInt()];
+        buffer.get(pixels);
+        return new CachedGlyph(strike, glyphCode, pixels, originX, originY, width, height,
+                xAdvance, yAdvance, lcd);
+    }
+
+    /**
+     * Writes the glyphs of the file and the glyphs rasterized in this run to
+     * the file, and lists the strikes and glyphs rasterized in this run.
+     */
+    synchronized void save() throws IOException {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        Map<StrikeKey, Map<Integer, CachedGlyph>> glyphs = new HashMap<>();
+        for (Map.Entry<StrikeKey, int[]> strike : strikes.entrySet()) {
+            Map<Integer, CachedGlyph> strikeGlyphs = new HashMap<>();
+            for (int i = 0; i < strike.getValue()[0]; i++) {
+                int entry = strike.getValue()[1] + i * 8;
+                int glyphKey = data.getInt(entry);
+                strikeGlyphs.put(glyphKey, readGlyph(null, glyphKey & CompositeGlyphMapper.GLYPHMASK,
+                        data.getInt(entry + 4)));
+            }
+            glyphs.put(strike.getKey(), strikeGlyphs);
+        }
+        for (Map.Entry<StrikeKey, Map<Integer, CachedGlyph>> strike : recorded.entrySet()) {
+            glyphs.computeIfAbsent(strike.getKey(), k -> new HashMap<>()).putAll(strike.getValue());
+        }
+        write(file, rasterizer, glyphs);
+        writeStrikes(Paths.get(file + STRIKES_EXTENSION));
+    }
+
+    static void write(Path file, String rasterizer,
+            Map<StrikeKey, Map<Integer, CachedGlyph>> glyphs) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(out, rasterizer, glyphs);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static void write(OutputStream stream, String rasterizer,
+            Map<StrikeKey, Map<Integer, CachedGlyph>> glyphs) throws IOException {
+        // the index: the header, the strikes, and the sorted entries of the
+        // glyphs of every strike; then the glyphs
+        List<StrikeKey> keys = new ArrayList<>(glyphs.keySet());
+        byte[] rasterizerBytes = rasterizer.getBytes(StandardCharsets.UTF_8);
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeShort(rasterizerBytes.length);
+        out.write(rasterizerBytes);
+        out.writeInt(keys.size());
+        int entriesOffset = 8 + 2 + rasterizerBytes.length + 4;
+        for (StrikeKey key : keys) {
+            entriesOffset += 8 + 2 + key.fontName.getBytes(StandardCharsets.UTF_8).length + 5 * 4 + 4 + 8;
+        }
+        int glyphOffset = entriesOffset;
+        for (StrikeKey key : keys) {
+            glyphOffset += glyphs.get(key).size() * 8;
+        }
+        List<TreeMap<Integer, CachedGlyph>> sorted = new ArrayList<>();
+        for (StrikeKey key : keys) {
+            TreeMap<Integer, CachedGlyph> strikeGlyphs = new TreeMap<>(glyphs.get(key));
+            sorted.add(strikeGlyphs);
+            byte[] name = key.fontName.getBytes(StandardCharsets.UTF_8);
+            out.writeLong(key.checksum);
+            out.writeShort(name.length);
+            out.write(name);
+            out.writeFloat(key.size);
+            out.writeFloat(key.mxx);
+            out.writeFloat(key.myx);
+            out.writeFloat(key.mxy);
+            out.writeFloat(key.myy);
+            out.writeInt(key.aaMode);
+            out.writeInt(strikeGlyphs.size());
+            out.writeInt(entriesOffset);
+            entriesOffset += strikeGlyphs.size() * 8;
+        }
+        for (TreeMap<Integer, CachedGlyph> strikeGlyphs : sorted) {
+            for (Map.Entry<Integer, CachedGlyph> glyph : strikeGlyphs.entrySet()) {
+                out.writeInt(glyph.getKey());
+                out.writeInt(glyphOffset);
+                glyphOffset += 4 * 4 + 2 * 4 + 1 + 4 + glyph.getValue().pixels.length;
+            }
+        }
+        for (TreeMap<Integer, CachedGlyph> strikeGlyphs : sorted) {
+            for (CachedGlyph glyph : strikeGlyphs.values()) {
+                out.writeInt(glyph.originX);
+                out.writeInt(glyph.originY);
+                out.writeInt(glyph.width);
+                out.writeInt(glyph.height);
+                out.writeFloat(glyph.xAdvance);
+                out.writeFloat(glyph.yAdvance);
+                out.writeByte(glyph.lcd ? 1 : 0);
+                out.writeInt(glyph.pixels.length);
+                out.write(glyph.pixels);
+            }
+        }
+        out.flush();
+    }
+
+    // one line per strike: font file, font name, checksum, size, transform,
+    // antialiasing mode, and the glyph keys (subpixel position and glyph code)
+    private void writeStrikes(Path strikesFile) throws IOException {
+        Map<StrikeKey, List<Integer>> used = new HashMap<>();
+        if (Files.isRegularFile(strikesFile)) {
+            try (BufferedReader in = Files.newBufferedReader(strikesFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String[] fields = line.split("\t");
+                    if (fields.length < 6) {
+                        continue;
+                    }
+                    StrikeKey key = StrikeKey.parse(fields);
+                    fontFiles.putIfAbsent(key, fields[0]);
+                    List<Integer> keys = used.computeIfAbsent(key, k -> new ArrayList<>());
+                    for (int i = 6; i < fields.length; i++) {
+                        keys.add(Integer.parseUnsignedInt(fields[i], 16));
+                    }
+                }
+            } catch (RuntimeException e) {
+                used.clear();
+            }
+        }
+        for (Map.Entry<StrikeKey, Map<Integer, CachedGlyph>> strike : recorded.entrySet()) {
+            List<Integer> keys = used.computeIfAbsent(strike.getKey(), k -> new ArrayList<>());
+            for (Integer glyphKey : strike.getValue().keySet()) {
+                if (!keys.contains(glyphKey)) {
+                    keys.add(glyphKey);
+                }
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(strikesFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<StrikeKey, List<Integer>> strike : used.entrySet()) {
+                StringBuilder line = new StringBuilder();
+                String fontFile = fontFiles.get(strike.getKey());
+                line.append(fontFile != null ? fontFile : "").append('\t');
+                strike.getKey().format(line);
+                for (Integer glyphKey : strike.getValue()) {
+                    line.append('\t').append(Integer.toHexString(glyphKey));
+                }
+                out.write(line.toString());
+                out.newLine();
+            }
+        }
+    }
+
+    /**
+     * Rasterizes the glyphs listed in a strikes file into a cache file.
+     * Strikes of fonts that are not installed, or that differ from the fonts
+     * the list was made with, are skipped.
+     *
+     * @param strikesFile the list of strikes and glyphs
+     * @param cacheFile the cache file to write
+     * @param skippedFonts receives the names of the fonts that were skipped
+     * @return the number of glyphs written
+     */
+    public static int rasterize(Path strikesFile, Path cacheFile,
+            List<String> skippedFonts) throws IOException {
+        PrismFontFactory factory = PrismFontFactory.getFontFactory();
+        Map<StrikeKey, Map<Integer, CachedGlyph>> glyphs = new HashMap<>();
+        int count = 0;
+        for (String line : Files.readAllLines(strikesFile, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t");
+            if (fields.length < 6) {
+                continue;
+            }
+            StrikeKey key = StrikeKey.parse(fields);
+            FontResource font = factory.getFontResource(key.fontName, null, false);
+            if (!(font instanceof PrismFontFile)
+                    || ((PrismFontFile) font).getChecksum() != key.checksum) {
+                skippedFonts.add(key.fontName);
+                continue;
+            }
+            BaseTransform tx = new Affine2D(key.mxx, key.myx, key.mxy, key.myy, 0, 0);
+            FontStrike strike = font.getStrike(key.size, tx, key.aaMode);
+            Map<Integer, CachedGlyph> strikeGlyphs = glyphs.computeIfAbsent(key, k -> new HashMap<>());
+            for (int i = 6; i < fields.length; i++) {
+                int glyphKey = Integer.parseUnsignedInt(fields[i], 16);
+                int glyphCode = glyphKey & CompositeGlyphMapper.GLYPHMASK;
+                int subPixel = glyphKey >>> 24;
+                Glyph glyph = strike.getGlyph(glyphCode);
+                if (glyph != null) {
+                    strikeGlyphs.put(glyphKey, new CachedGlyph(strike, glyphCode,
+                            glyph.getPixelData(subPixel),
+                            glyph.getOriginX(), glyph.getOriginY(),
+                            glyph.getWidth(), glyph.getHeight(),
+                            glyph.getPixelXAdvance(), glyph.getPixelYAdvance(),
+                            glyph.isLCDGlyph()));
+                    count++;
+                }
+            }
+        }
+        write(cacheFile, getRasterizer(), glyphs);
+        return count;
+    }
+
+    static final class StrikeKey {
+        final long checksum;
+        final String fontName;
+        final float size, mxx, myx, mxy, myy;
+        final int aaMode;
+        private final int hash;
+
+        StrikeKey(long checksum, String fontName, float size,
+                  float mxx, float myx, float mxy, float myy, int aaMode) {
+            this.checksum = checksum;
+            this.fontName = fontName;
+            this.size = size;
+            this.mxx = mxx;
+            this.myx = myx;
+            this.mxy = mxy;
+            this.myy = myy;
+            this.aaMode = aaMode;
+            int h = Long.hashCode(checksum);
+            h = 31 * h + fontName.hashCode();
+            h = 31 * h + Float.floatToIntBits(size);
+            h = 31 * h + Float.floatToIntBits(mxx);
+            h = 31 * h + Float.floatToIntBits(myx);
+            h = 31 * h + Float.floatToIntBits(mxy);
+            h = 31 * h + Float.floatToIntBits(myy);
+            this.hash = 31 * h + aaMode;
+        }
+
+        static StrikeKey of(PrismFontStrike<?> strike) {
+            PrismFontFile font = strike.getFontResource();
+            BaseTransform tx = strike.getTransform();
+            return new StrikeKey(font.getChecksum(), font.getFullName(), strike.getSize(),
+                    (float) tx.getMxx(), (float) tx.getMyx(),
+                    (float) tx.getMxy(), (float) tx.getMyy(), strike.getAAMode());
+        }
+
+        static StrikeKey parse(String[] fields) {
+            String[] m = fields[4].split(",");
+            return new StrikeKey(Long.parseUnsignedLong(fields[2], 16), fields[1],
+                    Float.parseFloat(fields[3]),
+                    Float.parseFloat(m[0]), Float.parseFloat(m[1]),
+                    Float.parseFloat(m[2]), Float.parseFloat(m[3]),
+                    Integer.parseInt(fields[5]));
+        }
+
+        // the fields after the font file, as parsed by parse
+        void format(StringBuilder line) {
+            line.append(fontName).append('\t')
+                .append(Long.toHexString(checksum)).append('\t')
+                .append(size).append('\t')
+                .append(mxx).append(',').append(myx).append(',')
+                .append(mxy).append(',').append(myy).append('\t')
+                .append(aaMode);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StrikeKey)) {
+                return false;
+            }
+            StrikeKey other = (StrikeKey) obj;
+            return checksum == other.checksum && size == other.size
+                    && mxx == other.mxx && myx == other.myx
+                    && mxy == other.mxy && myy == other.myy
+                    && aaMode == other.aaMode && fontName.equals(other.fontName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A glyph with the mask for one subpixel position. The user space values
+     * are not in the file; they are taken from the strike the glyph belongs
+     * to when they are asked for.
+     */
+    static final class CachedGlyph implements Glyph {
+        private final FontStrike strike;
+        private final int glyphCode;
+        final byte[] pixels;
+        final int originX, originY, width, height;
+        final float xAdvance, yAdvance;
+        final boolean lcd;
+
+        private Shape shape;
+
+        /**
+         * @param strike the strike of the glyph, or null if the glyph is
+         *        only written to a file.
+         */
+        CachedGlyph(FontStrike strike, int glyphCode, byte[] pixels,
+                    int originX, int originY, int width, int height,
+                    float xAdvance, float yAdvance, boolean lcd) {
+            this.strike = strike;
+            this.glyphCode = glyphCode;
+            this.pixels = pixels != null ? pixels : new byte[0];
+            this.originX = originX;
+            this.originY = originY;
+            this.width = width;
+            this.height = height;
+            this.xAdvance = xAdvance;
+            this.yAdvance = yAdvance;
+            this.lcd = lcd;
+        }
+
+        @Override public int getGlyphCode() { return glyphCode; }
+
+        @Override
+        public RectBounds getBBox() {
+            float[] bb = strike.getFontResource().getGlyphBoundingBox(glyphCode,
+                    strike.getSize(), new float[4]);
+            return new RectBounds(bb[0], bb[1], bb[2], bb[3]);
+        }
+
+        @Override
+        public float getAdvance() {
+            return strike.getFontResource().getAdvance(glyphCode, strike.getSize());
+        }
+
+        @Override
+        public Shape getShape() {
+            if (shape == null) {
+                shape = strike.getGlyph(glyphCode).getShape();
+            }
+            return shape;
+        }
+
+        @Override public byte[] getPixelData() { return pixels; }
+        @Override public byte[] getPixelData(int subPixel) { return pixels; }
+        @Override public float getPixelXAdvance() { return xAdvance; }
+        @Override public float getPixelYAdvance() { return yAdvance; }
+        @Override public boolean isLCDGlyph() { return lcd; }
+        @Override public int getWidth() { return width; }
+        @Override public int getHeight() { return height; }
+        @Override public int getOriginX() { return originX; }
+        @Override public int getOriginY() { return originY; }
+    }
+}
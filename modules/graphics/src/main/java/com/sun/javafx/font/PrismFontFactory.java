@@ -39,6 +39,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 
 import com.sun.glass.ui.Screen;
@@ -1151,18 +1152,22 @@ public abstract class PrismFontFactory implements FontFactory {
          HashMap<String,String> fontToFamilyNameMap,
          HashMap<String,ArrayList<String>> familyToFontListMap) {
 
+        HashMap<String,String> fullPaths = new HashMap<String,String>();
+        for (String file : unmappedFiles) {
+            fullPaths.put(file, getPathNameWindows(file));
+        }
+        FontFileIndex index = FontFileIndex.getInstance();
+        index.update(null, fullPaths.values(), path -> true);
+
         for (String file : unmappedFiles) {
             try {
-                int fn = 0;
-                PrismFontFile ttf;
-                String fullPath = getPathNameWindows(file);
-                do {
-                    ttf = createFontResource(fullPath, fn++);
-                    if (ttf == null) {
-                        break;
-                    }
-                    String fontNameLC = ttf.getFullName().toLowerCase();
-                    String localeNameLC =ttf.getLocaleFullName().toLowerCase();
+                FontFileIndex.Face[] faces = index.getFaces(fullPaths.get(file));
+                if (faces == null) {
+                    continue;
+                }
+                for (FontFileIndex.Face ttf : faces) {
+                    String fontNameLC = ttf.fullName.toLowerCase();
+                    String localeNameLC = ttf.localeFullName.toLowerCase();
                     if (unmappedFonts.contains(fontNameLC) ||
                         unmappedFonts.contains(localeNameLC)) {
                         fontToFileMap.put(fontNameLC, file);
@@ -1178,21 +1183,21 @@ public abstract class PrismFontFactory implements FontFactory {
                          */
                         if (unmappedFonts.contains(localeNameLC)) {
                             unmappedFonts.remove(localeNameLC);
-                            String family = ttf.getFamilyName();
+                            String family = ttf.familyName;
                             String familyLC = family.toLowerCase();
                             fontToFamilyNameMap.remove(localeNameLC);
                             fontToFamilyNameMap.put(fontNameLC, family);
                             ArrayList<String> familylist =
                                 familyToFontListMap.get(familyLC);
                             if (familylist != null) {
-                                familylist.remove(ttf.getLocaleFullName());
+                                familylist.remove(ttf.localeFullName);
                             } else {
                                 /* The family name was not English.
                                  * Remove the non-English family list
                                  * and replace it with the English one
                                  */
                                 String localeFamilyLC =
-                                    ttf.getLocaleFamilyName().toLowerCase();
+                                    ttf.localeFamilyName.toLowerCase();
                                 familylist =
                                     familyToFontListMap.get(localeFamilyLC);
                                 if (familylist != null) {
@@ -1201,12 +1206,10 @@ public abstract class PrismFontFactory implements FontFactory {
                                 familylist = new ArrayList<String>();
                                 familyToFontListMap.put(familyLC, familylist);
                             }
-                            familylist.add(ttf.getFullName());
+                            familylist.add(ttf.fullName);
                         }
                     }
-
                 }
-                while (fn < ttf.getFontCount());
             } catch (Exception e) {
                 if (debugFonts) {
                     e.printStackTrace();
@@ -1582,6 +1585,14 @@ public abstract class PrismFontFactory implements FontFactory {
         return true;
     }
 
+    /* Returns true if registerEmbeddedFont() has to be called for the system
+     * font files on every run, rather than only checking that the rasterizer
+     * can use them.
+     */
+    protected boolean requiresFontRegistration() {
+        return false;
+    }
+
     // Used for testing
     private int numEmbeddedFonts = 0;
     public int test_getNumEmbeddedFonts() {
@@ -1835,9 +1846,10 @@ public abstract class PrismFontFactory implements FontFactory {
             return;
         }
 
-        String fullName = fr.getFullName();
-        String familyName = fr.getFamilyName();
+        addToMaps(fr.getFullName(), fr.getFamilyName(), fr.getFileName());
+    }
 
+    private void addToMaps(String fullName, String familyName, String fileName) {
         if (fullName == null || familyName == null) {
             return;
         }
@@ -1845,7 +1857,7 @@ public abstract class PrismFontFactory implements FontFactory {
         String lcFullName = fullName.toLowerCase();
         String lcFamilyName = familyName.toLowerCase();
 
-        fontToFileMap.put(lcFullName, fr.getFileName());
+        fontToFileMap.put(lcFullName, fileName);
         fontToFamilyNameMap.put(lcFullName, familyName);
         ArrayList<String> familyList = familyToFontListMap.get(lcFamilyName);
         if (familyList == null) {
@@ -1869,28 +1881,29 @@ public abstract class PrismFontFactory implements FontFactory {
             return;
         }
 
+        /* The names of the fonts come from the font index, which only
+         * opens the files that changed since they were last indexed.
+         */
+        List<String> paths = new ArrayList<String>(files.length);
         for (int i=0;i<files.length;i++) {
-            try {
-                String path = fontDir+File.separator+files[i];
+            paths.add(fontDir+File.separator+files[i]);
+        }
+        boolean register = requiresFontRegistration();
+        FontFileIndex index = FontFileIndex.getInstance();
+        index.update(fontDir, paths, path -> register || registerEmbeddedFont(path));
 
-                /* Use filename from the resource so woff fonts are handled */
-                if (!registerEmbeddedFont(path)) {
+        for (String path : paths) {
+            try {
+                if (register && !registerEmbeddedFont(path)) {
                     /* This font file can't be used by the underlying rasterizer */
                     continue;
                 }
-
-                int index = 0;
-                PrismFontFile fr = createFontResource(path, index++);
-                if (fr == null) {
+                FontFileIndex.Face[] faces = index.getFaces(path);
+                if (faces == null) {
                     continue;
                 }
-                addToMaps(fr);
-                while (index < fr.getFontCount()) {
-                    fr = createFontResource(path, index++);
-                    if (fr == null) {
-                        break;
-                    }
-                    addToMaps(fr);
+                for (FontFileIndex.Face face : faces) {
+                    addToMaps(face.fullName, face.familyName, path);
                 }
             } catch (Exception e) {
                 /* Keep going if anything bad happens with a font */
@@ -74,6 +74,7 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
     String localeStyleName;
     String filename;
     int filesize;
+    int checkSumAdjustment; /* from the 'head' table */
     FontFileReader filereader;
     int numGlyphs = -1;
     short indexToLocFormat;
@@ -220,6 +221,14 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
         return fontIndex;
     }
 
+    /**
+     * Returns a checksum of the font file, made of the size of the file and
+     * the checksum of the whole file that is stored in its 'head' table.
+     */
+    long getChecksum() {
+        return ((long) filesize << 32) | (checkSumAdjustment & 0xffffffffL);
+    }
+
     public String getFullName() {
         return fullName;
     }
@@ -397,7 +406,13 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
      * Throws an exception if it doesn't like what it finds.
      */
     private void init(String name, int fIndex) throws Exception {
-        filereader = new FontFileReader(filename);
+        /* Copies of embedded fonts are temporary files, don't map them.
+         * Other fonts loaded by the application are mapped only if they are
+         * large, so that their files are not held open needlessly.
+         */
+        long minMappedSize = isCopy ? Long.MAX_VALUE
+                : isEmbedded ? FontFileReader.LOADED_FONT_MIN_MAPPED_SIZE : 0;
+        filereader = new FontFileReader(filename, minMappedSize);
         WoffDecoder decoder = null;
         try {
             if (!filereader.openFile()) {
@@ -416,7 +431,7 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
 
                 /* Create a new reader with the decoded file */
                 filereader.closeFile();
-                filereader = new FontFileReader(file.getPath());
+                filereader = new FontFileReader(file.getPath(), false);
                 if (!filereader.openFile()) {
                     throw new FileNotFoundException("Unable to create "
                             + "FontResource for file " + filename);
@@ -480,6 +495,7 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
             DirectoryEntry headDE = getDirectoryEntry(headTag);
             Buffer headTable = filereader.readBlock(headDE.offset,
                                                     headDE.length);
+            checkSumAdjustment = headTable.getInt(8);
             // Important font attribute must be set in order to prevent div by zero
             upem = (float)(headTable.getShort(18) & 0xffff);
             if (!(16 <= upem && upem <= 16384)) {
@@ -684,175 +700,23 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
     public static final int PS_NAME_ID = 6;
 
     void initNames() throws Exception {
-        byte[] name = new byte[256];
-
         DirectoryEntry nameDE = getDirectoryEntry(nameTag);
         Buffer buffer = filereader.readBlock(nameDE.offset, nameDE.length);
 
-        buffer.skip(2); // format - not needed.
-        short numRecords = buffer.getShort();
-        /* The name table uses unsigned shorts. Many of these
-         * are known small values that fit in a short.
-         * The values that are sizes or offsets into the table could be
-         * greater than 32767, so read and store those as ints
-         */
-        int stringPtr = buffer.getShort() & 0xffff;
-
-        /* Microsoft Windows font names are preferred but numerous Mac
-         * fonts do not have these, so we must also accept these in the
-         * absence of the preferred Windows names.
-         */
-        for (int i=0; i<numRecords; i++) {
-            short platformID = buffer.getShort();
-            if (platformID != MS_PLATFORM_ID &&
-                platformID != MAC_PLATFORM_ID) {
-                buffer.skip(10);
-                continue; // skip over this record.
-            }
-            short encodingID = buffer.getShort();
-            // only want UTF-16 (inc. symbol) encodingIDs for Windows,
-            // or MacRoman on Mac.
-            if ((platformID == MS_PLATFORM_ID && encodingID > 1) ||
-                (platformID == MAC_PLATFORM_ID &&
-                 encodingID != MACROMAN_SPECIFIC_ID)) {
-                buffer.skip(8);
-                continue;
-            }
-            short langID     = buffer.getShort();
-            if (platformID == MAC_PLATFORM_ID &&
-                langID != MACROMAN_ENGLISH_LANG) {
-                buffer.skip(6);
-                continue;
-            }
-            short nameID     = buffer.getShort();
-            int nameLen    = ((int)buffer.getShort()) & 0xffff;
-            int namePtr    = (((int)buffer.getShort()) & 0xffff) + stringPtr;
-            String tmpName = null;
-            String enc;
-            switch (nameID) {
-
-            case FAMILY_NAME_ID:
-
-                if (familyName == null || langID == MS_ENGLISH_LOCALE_ID ||
-                    langID == nameLocaleID)
-                    {
-                        buffer.get(namePtr, name, 0, nameLen);
-                        if (platformID == MAC_PLATFORM_ID) {
-                            enc = "US-ASCII";
-                        } else {
-                            enc = "UTF-16BE";
-                        }
-                        tmpName = new String(name, 0, nameLen, enc);
-
-                        if (familyName == null ||
-                            langID == MS_ENGLISH_LOCALE_ID){
-                            familyName = tmpName;
-                        }
-                        if (langID == nameLocaleID) {
-                            localeFamilyName = tmpName;
-                        }
-                    }
-                    break;
-
-                case FULL_NAME_ID:
-
-                    if (fullName == null ||
-                        langID == MS_ENGLISH_LOCALE_ID ||
-                        langID == nameLocaleID)
-                    {
-                        buffer.get(namePtr, name, 0, nameLen);
-                        if (platformID == MAC_PLATFORM_ID) {
-                            enc = "US-ASCII";
-                        } else {
-                            enc = "UTF-16BE";
-                        }
-                        tmpName = new String(name, 0, nameLen, enc);
-
-                        if (fullName == null ||
-                            langID == MS_ENGLISH_LOCALE_ID) {
-                            fullName = tmpName;
-                        }
-                        if (langID == nameLocaleID) {
-                            localeFullName = tmpName;
-                        }
-                    }
-                    break;
-
-                case PS_NAME_ID:
-
-                    if (psName == null) {
-                        buffer.get(namePtr, name, 0, nameLen);
-                        if (platformID == MAC_PLATFORM_ID) {
-                            enc = "US-ASCII";
-                        } else {
-                            enc = "UTF-16BE";
-                        }
-                        psName = new String(name, 0, nameLen, enc);
-                    }
-                    break;
-
-                case STYLE_NAME_ID:
-
-                    if (styleName == null ||
-                        langID == MS_ENGLISH_LOCALE_ID ||
-                        langID == nameLocaleID)
-                    {
-                        buffer.get(namePtr, name, 0, nameLen);
-                        if (platformID == MAC_PLATFORM_ID) {
-                            enc = "US-ASCII";
-                        } else {
-                            enc = "UTF-16BE";
-                        }
-                        tmpName = new String(name, 0, nameLen, enc);
-
-                        if (styleName == null ||
-                            langID == MS_ENGLISH_LOCALE_ID) {
-                            styleName = tmpName;
-                        }
-                        if (langID == nameLocaleID) {
-                            localeStyleName = tmpName;
-                        }
-                    }
-                    break;
-
-            default:
-                break;
-            }
-
-            if (localeFamilyName == null) {
-                localeFamilyName = familyName;
-            }
-            if (localeFullName == null) {
-                localeFullName = fullName;
-            }
-            if (localeStyleName == null) {
-                localeStyleName = styleName;
-            }
-        }
+        FontNames names = FontNames.read(buffer, nameLocaleID);
+        familyName = names.familyName;
+        fullName = names.fullName;
+        psName = names.psName;
+        styleName = names.styleName;
+        localeFamilyName = names.localeFamilyName;
+        localeFullName = names.localeFullName;
+        localeStyleName = names.localeStyleName;
     }
 
     private void checkCMAP() throws Exception {
         DirectoryEntry cmapDE = getDirectoryEntry(FontConstants.cmapTag);
         if (cmapDE != null) {
-            if (cmapDE.length < 4) {
-                throw new Exception("Invalid cmap table length");
-            }
-            Buffer cmapTableHeader = filereader.readBlock(cmapDE.offset, 4);
-            short version = cmapTableHeader.getShort();
-            short numberSubTables = cmapTableHeader.getShort();
-            int indexLength = numberSubTables * 8;
-            if (numberSubTables <= 0 || cmapDE.length < indexLength + 4) {
-                throw new Exception("Invalid cmap subtables count");
-            }
-            Buffer cmapTableIndex = filereader.readBlock(cmapDE.offset + 4, indexLength);
-            for (int i = 0; i < numberSubTables; i++) {
-                short platformID = cmapTableIndex.getShort();
-                short encodingID = cmapTableIndex.getShort();
-                int offset = cmapTableIndex.getInt();
-                if (offset < 0 || offset >= cmapDE.length) {
-                    throw new Exception("Invalid cmap subtable offset");
-                }
-            }
+            FontNames.checkCMAP(filereader, cmapDE.offset, cmapDE.length);
         }
     }
 
@@ -1083,7 +947,9 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
         return getStrike(size, transform, getDefaultAAMode());
     }
 
-    char[] advanceWidths = null;
+    /* The (advanceWidth, lsb) pairs of the hmtx table. Usually a slice
+     * of the mapped font file, so advances are read from there. */
+    Buffer advanceWidths = null;
     /*
      * This is returning the unhinted advance, should be OK so
      * long as we do unhinted rendering. If we are doing hinted glyphs
@@ -1125,11 +991,7 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
                     numHMetrics = -1;
                     return 0;
                 }
-                char[] aw = new char[numHMetrics];
-                for (int i=0; i<numHMetrics; i++) {
-                    aw[i] = hmtx.getChar(i*4);
-                }
-                advanceWidths = aw;
+                advanceWidths = hmtx.slice(0, numHMetrics*4);
             }
         }
 
@@ -1137,9 +999,9 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
         if (numHMetrics > 0) {
             char cadv;
             if (glyphCode < numHMetrics) {
-                cadv = advanceWidths[glyphCode];
+                cadv = advanceWidths.getChar(glyphCode*4);
             } else {
-                cadv = advanceWidths[numHMetrics-1];
+                cadv = advanceWidths.getChar((numHMetrics-1)*4);
             }
             return ((float)(cadv & 0xffff)*ptSize)/upem;
         } else { // no valid lookup.
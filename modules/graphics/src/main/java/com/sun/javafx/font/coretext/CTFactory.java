@@ -51,6 +51,12 @@ public class CTFactory extends PrismFontFactory {
         return new CTGlyphLayout();
     }
 
+    @Override
+    protected boolean requiresFontRegistration() {
+        /* Fonts are registered with CoreText for this process */
+        return true;
+    }
+
     @Override
     protected boolean registerEmbeddedFont(String path) {
         boolean result = CTFontFile.registerFont(path);
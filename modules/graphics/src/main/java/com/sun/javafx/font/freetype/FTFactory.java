@@ -92,6 +92,12 @@ public class FTFactory extends PrismFontFactory {
         return LCD_SUPPORT && super.isLCDTextSupported();
     }
 
+    @Override
+    protected boolean requiresFontRegistration() {
+        /* Fonts are added to the fontconfig configuration used by Pango */
+        return OSFreetype.isPangoEnabled();
+    }
+
     @Override
     protected boolean registerEmbeddedFont(String path) {
         long[] ptr = new long[1];
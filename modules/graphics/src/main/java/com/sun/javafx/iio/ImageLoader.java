@@ -76,4 +76,32 @@ public interface ImageLoader {
      */
     public ImageFrame load(int imageIndex, int width, int height,
             boolean preserveAspectRatio, boolean smooth) throws IOException;
+
+    /**
+     * Loads a region of the image at a given index in an image stream, scaled
+     * to the desired size. If no image exists at that index <code>null</code>
+     * will be returned. Where the format allows it, only the part of the
+     * image that is needed is decoded and the image is scaled while it is
+     * decoded, so that the memory used is proportional to the size of the
+     * result rather than the size of the image.
+     *
+     * @param imageIndex the zero-relative index of the image to load.
+     * @param x the x coordinate of the region in the image.
+     * @param y the y coordinate of the region in the image.
+     * @param regionWidth the width of the region.
+     * @param regionHeight the height of the region.
+     * @param width the desired image width, or a non-positive value to
+     * derive it from the region.
+     * @param height the desired image height, or a non-positive value to
+     * derive it from the region.
+     * @param preserveAspectRatio whether to preserve the width-to-height ratio
+     * of the region.
+     * @param smooth whether to use a smooth downscaling algorithm.
+     * @return the region of the image at the specified index or
+     * <code>null</code> on error.
+     * @throws IllegalArgumentException if the region does not intersect the
+     * image.
+     */
+    public ImageFrame load(int imageIndex, int x, int y, int regionWidth, int regionHeight,
+            int width, int height, boolean preserveAspectRatio, boolean smooth) throws IOException;
 }
@@ -337,6 +337,58 @@ public class ImageStorage {
         return images;
     }
 
+    /**
+     * Loads a region of the first image in the specified input, scaled to the
+     * desired size. Loaders that support it decode only the rows they need
+     * and scale the image while decoding it, so loading a thumbnail of a
+     * large image does not need memory for the whole image.
+     *
+     * @param input the image data stream.
+     * @param listener a listener to receive notifications about image loading.
+     * @param x the x coordinate of the region in the image.
+     * @param y the y coordinate of the region in the image.
+     * @param regionWidth the width of the region.
+     * @param regionHeight the height of the region.
+     * @param width the desired width of the image; if non-positive, it is
+     * derived from the region.
+     * @param height the desired height of the image; if non-positive, it is
+     * derived from the region.
+     * @param preserveAspectRatio whether to preserve the width-to-height ratio
+     * of the region.
+     * @param smooth whether to apply smoothing when downsampling.
+     * @return the region of the image or <code>null</code> on error.
+     * @throws IllegalArgumentException if the region does not intersect the
+     * image.
+     */
+    public static ImageFrame loadRegion(InputStream input, ImageLoadListener listener,
+            int x, int y, int regionWidth, int regionHeight,
+            int width, int height, boolean preserveAspectRatio,
+            boolean smooth) throws ImageStorageException {
+        ImageLoader loader = null;
+        try {
+            if (isIOS) {
+                loader = IosImageLoaderFactory.getInstance().createImageLoader(input);
+            } else {
+                loader = getLoaderBySignature(input, listener);
+            }
+        } catch (IOException e) {
+            throw new ImageStorageException(e.getMessage(), e);
+        }
+
+        if (loader == null) {
+            throw new ImageStorageException("No loader for image data");
+        }
+
+        try {
+            return loader.load(0, x, y, regionWidth, regionHeight,
+                    width, height, preserveAspectRatio, smooth);
+        } catch (IOException e) {
+            throw new ImageStorageException(e.getMessage(), e);
+        } finally {
+            loader.dispose();
+        }
+    }
+
     private static synchronized int getMaxSignatureLength() {
         if (maxSignatureLength < 0) {
             maxSignatureLength = 0;
@@ -26,9 +26,11 @@
 package com.sun.javafx.iio.common;
 
 import com.sun.javafx.iio.ImageFormatDescription;
+import com.sun.javafx.iio.ImageFrame;
 import com.sun.javafx.iio.ImageLoadListener;
 import com.sun.javafx.iio.ImageLoader;
 import com.sun.javafx.iio.ImageMetadata;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Iterator;
 
@@ -97,4 +99,26 @@ public abstract class ImageLoaderImpl implements ImageLoader {
             }
         }
     }
+
+    /**
+     * Loads a region of an image by loading the whole image at its original
+     * size, then cropping and scaling it. Loaders that can decode a region
+     * directly override this method.
+     */
+    public ImageFrame load(int imageIndex, int x, int y, int regionWidth, int regionHeight,
+            int width, int height, boolean preserveAspectRatio, boolean smooth) throws IOException {
+        ImageFrame frame = load(imageIndex, 0, 0, false, smooth);
+        if (frame == null) {
+            return null;
+        }
+        int[] region = ImageTools.clipRegion(frame.getWidth(), frame.getHeight(),
+                x, y, regionWidth, regionHeight);
+        frame = ImageTools.cropImageFrame(frame, region[0], region[1], region[2], region[3]);
+        int[] outWH = ImageTools.computeDimensions(region[2], region[3],
+                width, height, preserveAspectRatio);
+        if (outWH[0] != region[2] || outWH[1] != region[3]) {
+            frame = ImageTools.scaleImageFrame(frame, outWH[0], outWH[1], smooth);
+        }
+        return frame;
+    }
 }
@@ -694,6 +694,48 @@ public class ImageTools {
         return new int[]{finalWidth, finalHeight};
     }
 
+    /**
+     * Clips a region to the bounds of an image.
+     *
+     * @return the x, y, width and height of the clipped region.
+     * @throws IllegalArgumentException if the region does not intersect the
+     * image.
+     */
+    public static int[] clipRegion(int imageWidth, int imageHeight,
+            int x, int y, int regionWidth, int regionHeight) {
+        long x0 = Math.max(0, x), y0 = Math.max(0, y);
+        long x1 = Math.min(imageWidth, (long) x + regionWidth);
+        long y1 = Math.min(imageHeight, (long) y + regionHeight);
+        if (x1 <= x0 || y1 <= y0) {
+            throw new IllegalArgumentException("Region " + x + ", " + y + ", "
+                    + regionWidth + "x" + regionHeight + " is outside of the image");
+        }
+        return new int[] {(int) x0, (int) y0, (int) (x1 - x0), (int) (y1 - y0)};
+    }
+
+    /**
+     * Returns a region of an image frame. The frame itself is returned if the
+     * region covers the whole frame.
+     */
+    public static ImageFrame cropImageFrame(ImageFrame src,
+            int x, int y, int width, int height) {
+        if (x == 0 && y == 0 && width == src.getWidth() && height == src.getHeight()) {
+            return src;
+        }
+        int numBands = ImageStorage.getNumBands(src.getImageType());
+        ByteBuffer srcData = (ByteBuffer) src.getImageData();
+        int srcStride = src.getStride();
+        int stride = width * numBands;
+        byte[] dst = new byte[stride * height];
+        for (int row = 0; row < height; row++) {
+            srcData.position((y + row) * srcStride + x * numBands);
+            srcData.get(dst, row * stride, stride);
+        }
+        srcData.rewind();
+        return new ImageFrame(src.getImageType(), ByteBuffer.wrap(dst),
+                width, height, stride, src.getPalette(), src.getMetadata());
+    }
+
     public static ImageFrame scaleImageFrame(ImageFrame src,
             int destWidth, int destHeight, boolean isSmooth)
     {
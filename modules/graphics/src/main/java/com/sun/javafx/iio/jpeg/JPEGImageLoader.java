@@ -208,14 +208,22 @@ public class JPEGImageLoader extends ImageLoaderImpl {
     }
 
     public ImageFrame load(int imageIndex, int width, int height, boolean preserveAspectRatio, boolean smooth) throws IOException {
+        return load(imageIndex, 0, 0, inWidth, inHeight, width, height, preserveAspectRatio, smooth);
+    }
+
+    @Override
+    public ImageFrame load(int imageIndex, int x, int y, int regionWidth, int regionHeight,
+            int width, int height, boolean preserveAspectRatio, boolean smooth) throws IOException {
         if (imageIndex != 0) {
             return null;
         }
 
+        int[] region = ImageTools.clipRegion(inWidth, inHeight, x, y, regionWidth, regionHeight);
+
         accessLock.lock();
 
         // Determine output image dimensions.
-        int[] widthHeight = ImageTools.computeDimensions(inWidth, inHeight, width, height, preserveAspectRatio);
+        int[] widthHeight = ImageTools.computeDimensions(region[2], region[3], width, height, preserveAspectRatio);
         width = widthHeight[0];
         height = widthHeight[1];
 
@@ -229,8 +237,12 @@ public class JPEGImageLoader extends ImageLoaderImpl {
 
         int outNumComponents;
         try {
+            // The decompressor always decodes the whole image, so ask for the
+            // size at which the region comes out at the requested size.
             outNumComponents = startDecompression(structPointer,
-                    outColorSpaceCode, width, height);
+                    outColorSpaceCode,
+                    (int) Math.ceil((double) inWidth * width / region[2]),
+                    (int) Math.ceil((double) inHeight * height / region[3]));
 
             // Uncomment next line for direct ByteBuffer.
             //buffer = decompressDirect(structPointer, listeners != null && !listeners.isEmpty());
@@ -249,18 +261,27 @@ public class JPEGImageLoader extends ImageLoaderImpl {
             throw new IOException("Error decompressing JPEG stream!");
         }
 
-        // Check whether the decompressed image has been scaled to the correct
-        // dimensions. If not, downscale it here. Note outData, outHeight, and
-        // outWidth refer to the image as returned by the decompressor. This
-        // image might have been downscaled from the original source by a factor
-        // of N/8 where 1 <= N <=8.
-        if (outWidth != width || outHeight != height) {
-            buffer = ImageTools.scaleImage(buffer,
-                    outWidth, outHeight, outNumComponents, width, height, smooth);
+        ImageFrame frame = new ImageFrame(outImageType, buffer,
+                outWidth, outHeight, outWidth * outNumComponents, null, md);
+
+        // Map the region onto the decompressed image, which might have been
+        // downscaled from the original source by a factor of N/8 where
+        // 1 <= N <= 8.
+        if (region[2] != inWidth || region[3] != inHeight) {
+            int x0 = (int) ((long) region[0] * outWidth / inWidth);
+            int y0 = (int) ((long) region[1] * outHeight / inHeight);
+            int x1 = (int) (((long) (region[0] + region[2]) * outWidth + inWidth - 1) / inWidth);
+            int y1 = (int) (((long) (region[1] + region[3]) * outHeight + inHeight - 1) / inHeight);
+            frame = ImageTools.cropImageFrame(frame, x0, y0, x1 - x0, y1 - y0);
+        }
+
+        // Check whether the decompressed region has been scaled to the
+        // correct dimensions. If not, downscale it here.
+        if (frame.getWidth() != width || frame.getHeight() != height) {
+            frame = ImageTools.scaleImageFrame(frame, width, height, smooth);
         }
 
-        return new ImageFrame(outImageType, buffer,
-                width, height, width * outNumComponents, null, md);
+        return frame;
     }
 
     private static class Lock {
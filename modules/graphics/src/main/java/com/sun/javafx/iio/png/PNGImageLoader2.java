@@ -33,7 +33,11 @@ import com.sun.javafx.iio.*;
 import com.sun.javafx.iio.common.*;
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.zip.*;
 
 public final class PNGImageLoader2 extends ImageLoaderImpl {
@@ -62,6 +66,11 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     static final int PNG_FILTER_UP = 2;
     static final int PNG_FILTER_AVERAGE = 3;
     static final int PNG_FILTER_PAETH = 4;
+    // images whose inflated data is at least this large are decoded on
+    // several threads
+    static int minParallelSize = PNGWorkers.PARALLELISM > 1 ? 1 << 20 : Integer.MAX_VALUE;
+    // the size of the rows held by a decoding pipeline
+    private static final int PIPELINE_SIZE = 1 << 18;
     // data stream
     private final DataInputStream stream;
     private int width, height, bitDepth, colorType;
@@ -628,6 +637,13 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
 
     public ImageFrame load(int imageIndex, int rWidth, int rHeight,
             boolean preserveAspectRatio, boolean smooth) throws IOException {
+        return load(imageIndex, 0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE,
+                rWidth, rHeight, preserveAspectRatio, smooth);
+    }
+
+    @Override
+    public ImageFrame load(int imageIndex, int x, int y, int regionWidth, int regionHeight,
+            int rWidth, int rHeight, boolean preserveAspectRatio, boolean smooth) throws IOException {
 
         if (imageIndex != 0) {
             return null;
@@ -640,7 +656,8 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
             return null;
         }
 
-        int[] outWH = ImageTools.computeDimensions(width, height, rWidth, rHeight, preserveAspectRatio);
+        int[] region = ImageTools.clipRegion(width, height, x, y, regionWidth, regionHeight);
+        int[] outWH = ImageTools.computeDimensions(region[2], region[3], rWidth, rHeight, preserveAspectRatio);
         rWidth = outWH[0];
         rHeight = outWH[1];
 
@@ -648,31 +665,230 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 null, null, null, null, null, rWidth, rHeight, null, null, null);
         updateImageMetadata(metaData);
 
-        int bpp = bpp();
-        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
-
         PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
         Inflater inf = new Inflater();
         InputStream data = new BufferedInputStream(new InflaterInputStream(iDat, inf));
 
         try {
-            load(bb.array(), data);
-        } catch (IOException e) {
-            throw e;
-        } finally {
-            if (inf != null) {
-                inf.end();
+            if (isInterlaced) {
+                return loadInterlaced(data, metaData, region, rWidth, rHeight, smooth);
             }
+            return loadRows(data, metaData, region, rWidth, rHeight, smooth);
+        } finally {
+            inf.end();
+        }
+    }
+
+    // every pass of an interlaced image covers the whole image, so it is
+    // decoded completely before it is cropped and scaled
+    private ImageFrame loadInterlaced(InputStream data, ImageMetadata metaData,
+            int region[], int rWidth, int rHeight, boolean smooth) throws IOException {
+        int bpp = bpp();
+        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
+
+        if ((long) height * (width * bitDepth * numBandsPerColorType[colorType] + 7) / 8
+                >= minParallelSize) {
+            loadPasses(bb.array(), data);
+        } else {
+            load(bb.array(), data);
         }
 
         ImageFrame imgPNG = colorType == PNG_COLOR_PALETTE
                 ? decodePalette(bb.array(), metaData)
                 : new ImageFrame(getType(), bb, width, height, bpp * width, palette, metaData);
 
-        if (width != rWidth || height != rHeight) {
+        imgPNG = ImageTools.cropImageFrame(imgPNG, region[0], region[1], region[2], region[3]);
+
+        if (region[2] != rWidth || region[3] != rHeight) {
             imgPNG = ImageTools.scaleImageFrame(imgPNG, rWidth, rHeight, smooth);
         }
 
         return imgPNG;
     }
+
+    // the passes of an interlaced image have to be inflated in order, but
+    // each pass is defiltered into the image on another thread while the
+    // passes after it are being inflated
+    private void loadPasses(byte image[], InputStream data) throws IOException {
+        List<Future<?>> passes = new ArrayList<>();
+        try {
+            for (int mip = 0; mip != 7; ++mip) {
+                if (width > starting_x[mip] && height > starting_y[mip]) {
+                    int mipWidth = mipSize(width, mip, starting_x, increment_x);
+                    int mipHeight = mipSize(height, mip, starting_y, increment_y);
+                    int scanLineSize = (mipWidth * bitDepth * numBandsPerColorType[colorType] + 7) / 8;
+                    byte pass[] = new byte[mipHeight * (scanLineSize + 1)];
+                    ImageTools.readFully(data, pass);
+                    int m = mip;
+                    passes.add(PNGWorkers.getExecutor().submit(() -> {
+                        loadMip(image, new ByteArrayInputStream(pass), m);
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> pass : passes) {
+                pass.get();
+            }
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            for (Future<?> pass : passes) {
+                pass.cancel(false);
+            }
+        }
+    }
+
+    // rows of a non-interlaced image are cropped and scaled as soon as they
+    // are defiltered, so only the result and a few rows are held in memory
+    // and the rows below the region are not decoded at all
+    private ImageFrame loadRows(InputStream data, ImageMetadata metaData,
+            int region[], int rWidth, int rHeight, boolean smooth) throws IOException {
+
+        int ry = region[1], rowCount = region[1] + region[3];
+
+        int scanLineSize = (width * bitDepth * numBandsPerColorType[colorType] + 7) / 8;
+        int srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
+
+        RowConverter converter = new RowConverter(region, rWidth, rHeight, smooth);
+
+        PNGRowPipeline pipeline = (long) rowCount * scanLineSize < minParallelSize ? null
+                : PNGRowPipeline.start(data, rowCount, scanLineSize,
+                        Math.max(4, PIPELINE_SIZE / scanLineSize),
+                        (line, previousLine, filterType) -> doFilter(line, previousLine, filterType, srcBpp));
+        if (pipeline != null) {
+            try {
+                for (int y = 0; y != rowCount; ++y) {
+                    PNGRowPipeline.Row row = pipeline.take();
+                    if (y >= ry) {
+                        converter.put(row.line);
+                    }
+                    pipeline.release(row);
+                }
+            } finally {
+                pipeline.close();
+            }
+            return converter.getFrame(metaData);
+        }
+
+        byte scanLine0[] = new byte[scanLineSize];
+        byte scanLine1[] = new byte[scanLineSize];
+
+        for (int y = 0; y != rowCount; ++y) {
+            int filterByte = data.read();
+            if (filterByte == -1) {
+                throw new EOFException();
+            }
+
+            ImageTools.readFully(data, scanLine0);
+
+            doFilter(scanLine0, scanLine1, filterByte, srcBpp);
+
+            if (y >= ry) {
+                converter.put(scanLine0);
+            }
+
+            byte scanLineSwp[] = scanLine0;
+            scanLine0 = scanLine1;
+            scanLine1 = scanLineSwp;
+        }
+
+        return converter.getFrame(metaData);
+    }
+
+    // converts defiltered rows to 8 bits per sample, crops them and copies
+    // or scales them into the image
+    private final class RowConverter {
+        private final int rx, rw, rWidth, rHeight;
+        private final int resultBpp, numBands, stride;
+        private final ImageStorage.ImageType type;
+        private final byte row[], pixels[];
+        private final PushbroomScaler scaler;
+        private final byte image[];
+        private int y;
+
+        RowConverter(int region[], int rWidth, int rHeight, boolean smooth) {
+            this.rx = region[0];
+            this.rw = region[2];
+            this.rWidth = rWidth;
+            this.rHeight = rHeight;
+
+            resultBpp = bpp();
+            row = new byte[width * resultBpp];
+
+            if (colorType == PNG_COLOR_PALETTE) {
+                type = tRNS_present ? ImageStorage.ImageType.RGBA : ImageStorage.ImageType.RGB;
+                pixels = new byte[rw * (tRNS_present ? 4 : 3)];
+            } else {
+                type = getType();
+                pixels = null;
+            }
+            numBands = ImageStorage.getNumBands(type);
+            stride = rw * numBands;
+
+            if (rw != rWidth || region[3] != rHeight) {
+                scaler = ScalerFactory.createScaler(rw, region[3], numBands, rWidth, rHeight, smooth);
+                image = null;
+            } else {
+                scaler = null;
+                image = new byte[stride * region[3]];
+            }
+        }
+
+        void put(byte line[]) {
+            if (bitDepth == 16) {
+                downsample16to8(line, row, 0, 1, resultBpp);
+            } else if (bitDepth < 8) {
+                upsampleTo8(line, row, 0, width, 1, resultBpp);
+            } else {
+                copy(line, row, 0, 1, resultBpp);
+            }
+
+            byte src[] = row;
+            int off = rx * numBands;
+            if (pixels != null) {
+                decodePalette(row, rx, rw, pixels);
+                src = pixels;
+                off = 0;
+            }
+
+            if (scaler != null) {
+                scaler.putSourceScanline(src, off);
+            } else {
+                System.arraycopy(src, off, image, y * stride, stride);
+            }
+            y++;
+        }
+
+        ImageFrame getFrame(ImageMetadata metaData) {
+            ByteBuffer bb = scaler != null ? scaler.getDestination() : ByteBuffer.wrap(image);
+            return new ImageFrame(type, bb, rWidth, rHeight, rWidth * numBands, null, metaData);
+        }
+    }
+
+    private void decodePalette(byte indices[], int x, int w, byte dst[]) {
+        if (tRNS_present) {
+            for (int i = x, j = 0; i != x + w; j += 4, i++) {
+                int index = 0xFF & indices[i];
+                dst[j + 0] = palette[0][index];
+                dst[j + 1] = palette[1][index];
+                dst[j + 2] = palette[2][index];
+                dst[j + 3] = palette[3][index];
+            }
+        } else {
+            for (int i = x, j = 0; i != x + w; j += 3, i++) {
+                int index = 0xFF & indices[i];
+                dst[j + 0] = palette[0][index];
+                dst[j + 1] = palette[1][index];
+                dst[j + 2] = palette[2][index];
+            }
+        }
+    }
 }
@@ -0,0 +1,497 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio.png;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.IntBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes 8 bit RGB and RGBA PNG images.
+ *
+ * <p>The rows of an image are split into bands which are filtered and
+ * compressed independently of each other, in parallel if the image has more
+ * than one band. Every band is compressed with its own <code>Deflater</code>
+ * into a part of the zlib stream that ends on a byte boundary, and is written
+ * as an IDAT chunk as soon as it and the bands before it are done, so only a
+ * few bands are held in memory at a time. The checksum of the zlib stream is
+ * combined from the checksums of the bands.</p>
+ */
+public final class PNGImageWriter {
+
+    /**
+     * The filter applied to every row of the image before it is compressed.
+     */
+    public enum Filter {
+        NONE, SUB, UP, AVERAGE, PAETH,
+        /**
+         * Chooses the filter for each row that gives the smallest sum of
+         * absolute differences, which usually compresses best.
+         */
+        ADAPTIVE
+    }
+
+    /**
+     * Provides the pixels of the image row by row.
+     */
+    public interface PixelSource {
+        /**
+         * Copies a row of non-premultiplied ARGB pixels into an array.
+         *
+         * @param y the row.
+         * @param argb the array, as long as the width of the image.
+         */
+        void getRow(int y, int[] argb);
+    }
+
+    // the number of filtered bytes in a band
+    private static final int BAND_SIZE = 1 << 18;
+
+    // the zlib default of 6 costs about twice as much time for images like
+    // charts and screenshots while making them only a few percent smaller
+    private static final int DEFAULT_COMPRESSION_LEVEL = 4;
+
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+    private static final int IHDR_TYPE = 0x49484452;
+    private static final int IDAT_TYPE = 0x49444154;
+    private static final int IEND_TYPE = 0x49454e44;
+
+    private final OutputStream output;
+    private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private Filter filter = Filter.ADAPTIVE;
+    private int parallelism = PNGWorkers.PARALLELISM;
+
+    public PNGImageWriter(OutputStream output) {
+        if (output == null) {
+            throw new NullPointerException("output == null");
+        }
+        this.output = output;
+    }
+
+    /**
+     * Sets the compression level, from 0 (no compression) to 9 (best
+     * compression), or -1 for the default level, which is 4.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        if (compressionLevel < -1 || compressionLevel > 9) {
+            throw new IllegalArgumentException("Invalid compression level: " + compressionLevel);
+        }
+        this.compressionLevel = compressionLevel == Deflater.DEFAULT_COMPRESSION
+                ? DEFAULT_COMPRESSION_LEVEL : compressionLevel;
+    }
+
+    public void setFilter(Filter filter) {
+        if (filter == null) {
+            throw new NullPointerException("filter == null");
+        }
+        this.filter = filter;
+    }
+
+    /**
+     * Sets the maximum number of bands that are compressed at the same time.
+     * With a parallelism of 1 the image is compressed on the calling thread.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Writes an image of non-premultiplied ARGB pixels.
+     *
+     * @param argb the pixels, starting at the position of the buffer.
+     * @param width the width of the image.
+     * @param height the height of the image.
+     * @param scanlineStride the distance between the rows in the buffer.
+     */
+    public void write(IntBuffer argb, int width, int height, int scanlineStride)
+            throws IOException {
+        int start = argb.position();
+        boolean opaque = true;
+        for (int y = 0; y < height && opaque; y++) {
+            for (int x = 0, i = start + y * scanlineStride; x < width; x++, i++) {
+                if ((argb.get(i) >>> 24) != 0xff) {
+                    opaque = false;
+                    break;
+                }
+            }
+        }
+        write(width, height, opaque, (y, row) -> {
+            for (int x = 0, i = start + y * scanlineStride; x < width; x++, i++) {
+                row[x] = argb.get(i);
+            }
+        });
+    }
+
+    /**
+     * Writes an image.
+     *
+     * @param width the width of the image.
+     * @param height the height of the image.
+     * @param opaque whether all pixels are opaque, in which case an RGB image
+     * is written, otherwise an RGBA image.
+     * @param source the pixels; rows are requested in order on the calling
+     * thread.
+     */
+    public void write(int width, int height, boolean opaque, PixelSource source)
+            throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid size: " + width + "x" + height);
+        }
+        int bpp = opaque ? 3 : 4;
+        if ((long) width * bpp + 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Image too wide: " + width);
+        }
+        int rowBytes = width * bpp;
+        int bandRows = Math.max(1, BAND_SIZE / (rowBytes + 1));
+        int bands = (height + bandRows - 1) / bandRows;
+
+        output.write(SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8;                      // bit depth
+        header[9] = (byte) (opaque ? 2 : 6); // color type
+        writeChunk(IHDR_TYPE, null, header, 0, header.length, null);
+
+        int[] argb = new int[width];
+        byte[] previousRow = null;
+        ArrayDeque<Future<Band>> pending = new ArrayDeque<>();
+        long adler = 1;
+        int written = 0;
+        try {
+            for (int band = 0; band < bands; band++) {
+                int y0 = band * bandRows;
+                int rows = Math.min(bandRows, height - y0);
+                // the rows of the band, preceded by the row above it
+                byte[] pixels = new byte[(rows + 1) * rowBytes];
+                if (previousRow != null) {
+                    System.arraycopy(previousRow, 0, pixels, 0, rowBytes);
+                }
+                for (int y = 0; y < rows; y++) {
+                    source.getRow(y0 + y, argb);
+                    toBytes(argb, pixels, (y + 1) * rowBytes, opaque);
+                }
+                if (previousRow == null) {
+                    previousRow = new byte[rowBytes];
+                }
+                System.arraycopy(pixels, rows * rowBytes, previousRow, 0, rowBytes);
+
+                Band task = new Band(pixels, band != 0, rows, rowBytes, bpp,
+                        band == bands - 1, filter, compressionLevel);
+                if (parallelism == 1 || bands == 1) {
+                    task.call();
+                    adler = writeBand(task, written++, adler);
+                } else {
+                    pending.add(PNGWorkers.getExecutor().submit(task));
+                    while (pending.size() >= parallelism) {
+                        adler = writeBand(pending.remove().get(), written++, adler);
+                    }
+                }
+            }
+            while (!pending.isEmpty()) {
+                adler = writeBand(pending.remove().get(), written++, adler);
+            }
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            for (Future<Band> future : pending) {
+                future.cancel(false);
+            }
+        }
+
+        writeChunk(IEND_TYPE, null, new byte[0], 0, 0, null);
+        output.flush();
+    }
+
+    private long writeBand(Band band, int index, long adler) throws IOException {
+        adler = combineAdler32(adler, band.adler, band.filteredLength);
+        byte[] prefix = null, suffix = null;
+        if (index == 0) {
+            prefix = zlibHeader(compressionLevel);
+        }
+        if (band.last) {
+            suffix = new byte[4];
+            putInt(suffix, 0, (int) adler);
+        }
+        writeChunk(IDAT_TYPE, prefix, band.compressed, 0, band.compressedLength, suffix);
+        return adler;
+    }
+
+    private void writeChunk(int type, byte[] prefix, byte[] data, int offset, int length,
+            byte[] suffix) throws IOException {
+        int total = length + (prefix != null ? prefix.length : 0)
+                + (suffix != null ? suffix.length : 0);
+        byte[] bytes = new byte[8];
+        putInt(bytes, 0, total);
+        putInt(bytes, 4, type);
+        output.write(bytes, 0, 8);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 4, 4);
+        if (prefix != null) {
+            output.write(prefix);
+            crc.update(prefix);
+        }
+        output.write(data, offset, length);
+        crc.update(data, offset, length);
+        if (suffix != null) {
+            output.write(suffix);
+            crc.update(suffix);
+        }
+        putInt(bytes, 0, (int) crc.getValue());
+        output.write(bytes, 0, 4);
+    }
+
+    private static void toBytes(int[] argb, byte[] dst, int offset, boolean opaque) {
+        if (opaque) {
+            for (int i = 0; i < argb.length; i++, offset += 3) {
+                int p = argb[i];
+                dst[offset] = (byte) (p >> 16);
+                dst[offset + 1] = (byte) (p >> 8);
+                dst[offset + 2] = (byte) p;
+            }
+        } else {
+            for (int i = 0; i < argb.length; i++, offset += 4) {
+                int p = argb[i];
+                dst[offset] = (byte) (p >> 16);
+                dst[offset + 1] = (byte) (p >> 8);
+                dst[offset + 2] = (byte) p;
+                dst[offset + 3] = (byte) (p >>> 24);
+            }
+        }
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    static byte[] zlibHeader(int compressionLevel) {
+        int cmf = 0x78; // deflate with a 32K window
+        int level;
+        if (compressionLevel == Deflater.DEFAULT_COMPRESSION || compressionLevel == 6) {
+            level = 2;
+        } else if (compressionLevel < 2) {
+            level = 0;
+        } else if (compressionLevel < 6) {
+            level = 1;
+        } else {
+            level = 3;
+        }
+        int flg = level << 6;
+        flg += 31 - (cmf * 256 + flg) % 31;
+        return new byte[] {(byte) cmf, (byte) flg};
+    }
+
+    /**
+     * Returns the Adler-32 checksum of two sequences of bytes, given the
+     * checksums of the sequences and the length of the second one, as
+     * adler32_combine in zlib does.
+     */
+    static long combineAdler32(long adler1, long adler2, long length2) {
+        final long base = 65521;
+        long remainder = length2 % base;
+        long sum1 = adler1 & 0xffff;
+        long sum2 = (remainder * sum1) % base;
+        sum1 += (adler2 & 0xffff) + base - 1;
+        sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff) + base - remainder;
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum2 >= base << 1) {
+            sum2 -= base << 1;
+        }
+        if (sum2 >= base) {
+            sum2 -= base;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    /**
+     * Filters and compresses a band of rows.
+     */
+    private static final class Band implements Callable<Band> {
+        private final byte[] pixels;
+        private final boolean hasPreviousRow;
+        private final int rows, rowBytes, bpp;
+        private final boolean last;
+        private final Filter filter;
+        private final int compressionLevel;
+
+        private byte[] compressed;
+        private int compressedLength;
+        private int filteredLength;
+        private long adler;
+
+        Band(byte[] pixels, boolean hasPreviousRow, int rows, int rowBytes, int bpp,
+                boolean last, Filter filter, int compressionLevel) {
+            this.pixels = pixels;
+            this.hasPreviousRow = hasPreviousRow;
+            this.rows = rows;
+            this.rowBytes = rowBytes;
+            this.bpp = bpp;
+            this.last = last;
+            this.filter = filter;
+            this.compressionLevel = compressionLevel;
+        }
+
+        @Override
+        public Band call() {
+            filteredLength = rows * (rowBytes + 1);
+            byte[] filtered = new byte[filteredLength];
+            byte[][] candidates = filter == Filter.ADAPTIVE
+                    ? new byte[5][rowBytes + 1] : null;
+            for (int y = 0; y < rows; y++) {
+                int current = (y + 1) * rowBytes;
+                int previous = y > 0 || hasPreviousRow ? y * rowBytes : -1;
+                int dst = y * (rowBytes + 1);
+                if (candidates == null) {
+                    filterRow(filter.ordinal(), pixels, current, previous,
+                            filtered, dst, rowBytes, bpp);
+                } else {
+                    long best = Long.MAX_VALUE;
+                    byte[] bestRow = null;
+                    for (int type = 0; type < 5; type++) {
+                        byte[] row = candidates[type];
+                        filterRow(type, pixels, current, previous, row, 0, rowBytes, bpp);
+                        long sum = 0;
+                        for (int i = 1; i <= rowBytes; i++) {
+                            sum += Math.abs((int) row[i]);
+                        }
+                        if (sum < best) {
+                            best = sum;
+                            bestRow = row;
+                        }
+                    }
+                    System.arraycopy(bestRow, 0, filtered, dst, rowBytes + 1);
+                }
+            }
+
+            Adler32 checksum = new Adler32();
+            checksum.update(filtered, 0, filteredLength);
+            adler = checksum.getValue();
+
+            Deflater deflater = new Deflater(compressionLevel, true);
+            try {
+                deflater.setInput(filtered, 0, filteredLength);
+                compressed = new byte[Math.max(64, filteredLength / 2)];
+                if (last) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        deflate(deflater, Deflater.NO_FLUSH);
+                    }
+                } else {
+                    // a sync flush ends the output on a byte boundary without
+                    // ending the stream, so the next band can follow it
+                    while (deflate(deflater, Deflater.SYNC_FLUSH)) {
+                    }
+                }
+            } finally {
+                deflater.end();
+            }
+            return this;
+        }
+
+        // returns whether the output buffer was filled
+        private boolean deflate(Deflater deflater, int flush) {
+            if (compressedLength == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            int space = compressed.length - compressedLength;
+            int count = deflater.deflate(compressed, compressedLength, space, flush);
+            compressedLength += count;
+            return count == space;
+        }
+    }
+
+    // applies a filter to the row at current, given the row above it at
+    // previous or -1 for the first row of the image
+    static void filterRow(int type, byte[] pixels, int current, int previous,
+            byte[] dst, int offset, int rowBytes, int bpp) {
+        dst[offset++] = (byte) type;
+        switch (type) {
+            case 0:
+                System.arraycopy(pixels, current, dst, offset, rowBytes);
+                break;
+            case 1:
+                for (int i = 0; i < rowBytes; i++) {
+                    int left = i >= bpp ? pixels[current + i - bpp] : 0;
+                    dst[offset + i] = (byte) (pixels[current + i] - left);
+                }
+                break;
+            case 2:
+                for (int i = 0; i < rowBytes; i++) {
+                    int up = previous >= 0 ? pixels[previous + i] : 0;
+                    dst[offset + i] = (byte) (pixels[current + i] - up);
+                }
+                break;
+            case 3:
+                for (int i = 0; i < rowBytes; i++) {
+                    int left = i >= bpp ? pixels[current + i - bpp] & 0xff : 0;
+                    int up = previous >= 0 ? pixels[previous + i] & 0xff : 0;
+                    dst[offset + i] = (byte) (pixels[current + i] - ((left + up) >> 1));
+                }
+                break;
+            default:
+                for (int i = 0; i < rowBytes; i++) {
+                    int left = i >= bpp ? pixels[current + i - bpp] & 0xff : 0;
+                    int up = previous >= 0 ? pixels[previous + i] & 0xff : 0;
+                    int upLeft = i >= bpp && previous >= 0 ? pixels[previous + i - bpp] & 0xff : 0;
+                    dst[offset + i] = (byte) (pixels[current + i] - paeth(left, up, upLeft));
+                }
+                break;
+        }
+    }
+
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        return pb <= pc ? b : c;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio.png;
+
+import com.sun.javafx.iio.common.ImageTools;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Inflates and defilters the scanlines of a non-interlaced PNG image on two
+ * threads, so that they overlap with each other and with the conversion of
+ * the rows on the calling thread.
+ *
+ * <p>A fixed number of rows circulate through the stages: the inflating
+ * stage fills free rows, the defiltering stage defilters them in place and
+ * passes each row on once the row below it has been defiltered, and the
+ * caller takes the rows in order and releases them when it is done with
+ * them. Since no stage can hold more rows than exist, handing a row on never
+ * blocks.</p>
+ */
+final class PNGRowPipeline implements AutoCloseable {
+
+    interface Defilter {
+        void defilter(byte[] line, byte[] previousLine, int filterType);
+    }
+
+    static final class Row {
+        final byte[] line;
+        int filterType;
+
+        Row(int length) {
+            line = new byte[length];
+        }
+    }
+
+    // passed on in place of a row when a stage has failed
+    private static final Row FAILED = new Row(0);
+    // wakes up a stage that waits for a row when the pipeline is closed
+    private static final Row CLOSED = new Row(0);
+
+    private final BlockingQueue<Row> free, inflated, defiltered;
+    private final CountDownLatch stopped = new CountDownLatch(2);
+    private volatile boolean closed;
+    private volatile Throwable failure;
+
+    /**
+     * Starts decoding rows, unless there are no threads left for the stages.
+     *
+     * @param data the inflated image data, positioned at the first row.
+     * @param rowCount the number of rows to decode.
+     * @param scanLineSize the size of a row without its filter type.
+     * @param ringSize the number of rows in the pipeline; at least 3.
+     * @return the pipeline, or null if the rows have to be decoded on the
+     *         calling thread.
+     */
+    static PNGRowPipeline start(InputStream data, int rowCount, int scanLineSize, int ringSize,
+            Defilter defilter) {
+        PNGRowPipeline pipeline = new PNGRowPipeline(ringSize, scanLineSize);
+        return pipeline.startStages(data, rowCount, scanLineSize, defilter) ? pipeline : null;
+    }
+
+    private PNGRowPipeline(int ringSize, int scanLineSize) {
+        free = new ArrayBlockingQueue<>(ringSize + 1);
+        inflated = new ArrayBlockingQueue<>(ringSize + 2);
+        defiltered = new ArrayBlockingQueue<>(ringSize + 1);
+        for (int i = 0; i < ringSize; i++) {
+            free.add(new Row(scanLineSize));
+        }
+    }
+
+    private boolean startStages(InputStream data, int rowCount, int scanLineSize, Defilter defilter) {
+        return PNGWorkers.tryStartStages(() -> stage(() -> {
+            for (int y = 0; y != rowCount && !closed; ++y) {
+                Row row = free.take();
+                if (row == CLOSED) {
+                    break;
+                }
+                row.filterType = data.read();
+                if (row.filterType == -1) {
+                    throw new EOFException();
+                }
+                ImageTools.readFully(data, row.line);
+                inflated.add(row);
+            }
+        }, inflated), () -> stage(() -> {
+            Row previous = null;
+            byte[] zeros = new byte[scanLineSize];
+            for (int y = 0; y != rowCount && !closed; ++y) {
+                Row row = inflated.take();
+                if (row == FAILED || row == CLOSED) {
+                    break;
+                }
+                defilter.defilter(row.line,
+                        previous != null ? previous.line : zeros, row.filterType);
+                if (previous != null) {
+                    defiltered.add(previous);
+                }
+                previous = row;
+            }
+            if (previous != null) {
+                defiltered.add(previous);
+            }
+        }, defiltered));
+    }
+
+    private interface Stage {
+        void run() throws Exception;
+    }
+
+    private void stage(Stage stage, BlockingQueue<Row> next) {
+        try {
+            stage.run();
+        } catch (Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+        } finally {
+            if (failure != null) {
+                next.add(FAILED);
+            }
+            stopped.countDown();
+        }
+    }
+
+    /**
+     * Returns the next defiltered row, which must be released when it is no
+     * longer needed.
+     */
+    Row take() throws IOException {
+        Row row;
+        try {
+            row = defiltered.take();
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+        if (row == FAILED) {
+            Throwable t = failure;
+            if (t instanceof IOException) {
+                throw (IOException) t;
+            } else if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            } else if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new IOException(t);
+        }
+        return row;
+    }
+
+    void release(Row row) {
+        free.add(row);
+    }
+
+    /**
+     * Stops the stages and waits until they no longer use the input. The
+     * stages are not interrupted, because interrupting a thread that reads
+     * from an interruptible channel would close the channel; a row that is
+     * being read is read to the end.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        free.add(CLOSED);
+        inflated.add(CLOSED);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                stopped.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
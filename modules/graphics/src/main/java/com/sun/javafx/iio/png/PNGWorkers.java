@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio.png;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The threads that compress and decompress parts of PNG images in parallel.
+ *
+ * <p>Independent tasks, such as the bands of an image being written, run on
+ * a pool of at most {@link #PARALLELISM} daemon threads, which exit when they
+ * have been idle for a second. When all threads are busy and the queue of
+ * the pool is full, the task runs on the thread that submits it.</p>
+ *
+ * <p>The stages of a decoding pipeline wait for each other and for the
+ * caller, so they can neither wait in a queue nor run on the caller. They
+ * get threads of their own instead, of which there are at most
+ * {@link #PARALLELISM}, but enough for one pipeline, at a time.</p>
+ */
+final class PNGWorkers {
+
+    static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private static ExecutorService executor;
+    private static final Semaphore stageThreads = new Semaphore(Math.max(2, PARALLELISM));
+
+    private PNGWorkers() {
+    }
+
+    static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    PARALLELISM, PARALLELISM, 1, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(2 * PARALLELISM),
+                    runnable -> newThread(runnable, "PNG worker"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        return executor;
+    }
+
+    /**
+     * Starts each of the given stages on a thread of its own, or none of
+     * them if there are not enough threads left.
+     *
+     * @return false if the stages have not been started.
+     */
+    static boolean tryStartStages(Runnable... stages) {
+        if (!stageThreads.tryAcquire(stages.length)) {
+            return false;
+        }
+        for (Runnable stage : stages) {
+            newThread(() -> {
+                try {
+                    stage.run();
+                } finally {
+                    stageThreads.release();
+                }
+            }, "PNG pipeline stage").start();
+        }
+        return true;
+    }
+
+    private static Thread newThread(Runnable runnable, String name) {
+        return AccessController.doPrivileged(
+                (PrivilegedAction<Thread>) () -> {
+                    Thread thread = new Thread(runnable, name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -50,8 +50,6 @@ import com.sun.javafx.scene.text.TextSpan;
 import java.text.Bidi;
 import java.text.BreakIterator;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Hashtable;
 
 public class PrismTextLayout implements TextLayout {
     private static final BaseTransform IDENTITY = BaseTransform.IDENTITY_TRANSFORM;
@@ -60,17 +58,22 @@ public class PrismTextLayout implements TextLayout {
     private static final int X_MAX_INDEX = 2;
     private static final int Y_MAX_INDEX = 3;
 
-    private static final Hashtable<Integer, LayoutCache> stringCache = new Hashtable<>();
-    private static final Object  CACHE_SIZE_LOCK = new Object();
-    private static int cacheSize = 0;
     private static final int MAX_STRING_SIZE = 256;
     private static final int MAX_CACHE_SIZE = PrismFontFactory.cacheLayoutSize;
 
+    /* Layouts of single font text shared by all instances. The shaping cache
+     * keeps the runs of a text in a font, the line cache also keeps the lines
+     * for one wrapping width, alignment and line spacing. */
+    private static final TextLayoutCache shapeCache =
+        new TextLayoutCache("Text shaping cache", MAX_CACHE_SIZE);
+    private static final TextLayoutCache lineCache =
+        new TextLayoutCache("Text line cache", MAX_CACHE_SIZE);
+
     private char[] text;
     private TextSpan[] spans;   /* Rich text  (null for single font text) */
     private PGFont font;        /* Single font text (null for rich text) */
     private FontStrike strike;  /* cached strike of font (identity) */
-    private Integer cacheKey;
+    private boolean cacheable;
     private TextLine[] lines;
     private TextRun[] runs;
     private int runCount;
@@ -79,6 +82,7 @@ public class PrismTextLayout implements TextLayout {
     private float layoutWidth, layoutHeight;
     private float wrapWidth, spacing;
     private LayoutCache layoutCache;
+    private boolean runsShared; /* runs array is owned by a shared LayoutCache */
     private Shape shape;
     private int flags;
 
@@ -90,6 +94,7 @@ public class PrismTextLayout implements TextLayout {
     private void reset() {
         layoutCache = null;
         runs = null;
+        runsShared = false;
         flags &= ~ANALYSIS_MASK;
         relayout();
     }
@@ -127,7 +132,7 @@ public class PrismTextLayout implements TextLayout {
         this.font = null;
         this.strike = null;
         this.text = null;   /* Initialized in getText() */
-        this.cacheKey = null;
+        this.cacheable = false;
         return true;
     }
 
@@ -137,12 +142,8 @@ public class PrismTextLayout implements TextLayout {
         this.font = (PGFont)font;
         this.strike = ((PGFont)font).getStrike(IDENTITY);
         this.text = text.toCharArray();
-        if (MAX_CACHE_SIZE > 0) {
-            int length = text.length();
-            if (0 < length && length <= MAX_STRING_SIZE) {
-                cacheKey = text.hashCode() * strike.hashCode();
-            }
-        }
+        int length = text.length();
+        this.cacheable = MAX_CACHE_SIZE > 0 && 0 < length && length <= MAX_STRING_SIZE;
         return true;
     }
 
@@ -666,50 +667,42 @@ public class PrismTextLayout implements TextLayout {
         return index;
     }
 
-    private boolean copyCache() {
-        int align = flags & ALIGN_MASK;
-        int boundsType = flags & BOUNDS_MASK;
-        /* Caching for boundsType == Center, bias towards  Modena */
-        return wrapWidth != 0 || align != ALIGN_LEFT || boundsType == 0 || isMirrored();
+    private TextLayoutCache.Key getCacheKey(boolean withLines) {
+        if (withLines) {
+            int mask = DIRECTION_MASK | BOUNDS_MASK | ALIGN_MASK;
+            return new TextLayoutCache.Key(text, font, flags & mask, wrapWidth, spacing);
+        }
+        int mask = DIRECTION_MASK | BOUNDS_MASK;
+        return new TextLayoutCache.Key(text, font, flags & mask, -1, 0);
     }
 
     private void initCache() {
-        if (cacheKey != null) {
-            if (layoutCache == null) {
-                LayoutCache cache = stringCache.get(cacheKey);
-                if (cache != null && cache.font.equals(font) && Arrays.equals(cache.text, text)) {
-                    layoutCache = cache;
-                    runs = cache.runs;
-                    runCount = cache.runCount;
-                    flags |= cache.analysis;
-                }
-            }
-            if (layoutCache != null) {
-                if (copyCache()) {
-                    /* This instance has some property that requires it to
-                     * build its own lines (i.e. wrapping width). Thus, only use
-                     * the runs from the cache (and it needs to make a copy
-                     * before using it as they will be modified).
-                     * Note: the copy of the elements in the array happens in
-                     * reuseRuns().
-                     */
-                    if (layoutCache.runs == runs) {
-                        runs = new TextRun[runCount];
-                        System.arraycopy(layoutCache.runs, 0, runs, 0, runCount);
-                    }
-                } else {
-                    if (layoutCache.lines != null) {
-                        runs = layoutCache.runs;
-                        runCount = layoutCache.runCount;
-                        flags |= layoutCache.analysis;
-                        lines = layoutCache.lines;
-                        layoutWidth = layoutCache.layoutWidth;
-                        layoutHeight = layoutCache.layoutHeight;
-                        float ascent = lines[0].getBounds().getMinY();
-                        logicalBounds = logicalBounds.deriveWithNewBounds(0, ascent, 0,
-                                layoutWidth, layoutHeight + ascent, 0);
-                    }
-                }
+        if (!cacheable) return;
+        LayoutCache cache = lineCache.get(getCacheKey(true));
+        if (cache != null) {
+            /* Whole layout, it must not be modified (see reuseRuns()) */
+            layoutCache = cache;
+            runs = cache.runs;
+            runCount = cache.runCount;
+            runsShared = true;
+            flags |= cache.analysis;
+            lines = cache.lines;
+            layoutWidth = cache.layoutWidth;
+            layoutHeight = cache.layoutHeight;
+            float ascent = lines[0].getBounds().getMinY();
+            logicalBounds = logicalBounds.deriveWithNewBounds(0, ascent, 0,
+                    layoutWidth, layoutHeight + ascent, 0);
+            return;
+        }
+        if (layoutCache == null) {
+            /* Only use the runs, the lines are built for this instance */
+            cache = shapeCache.get(getCacheKey(false));
+            if (cache != null) {
+                layoutCache = cache;
+                runs = cache.runs;
+                runCount = cache.runCount;
+                runsShared = true;
+                flags |= cache.analysis & ~FLAGS_WRAPPED;
             }
         }
     }
@@ -762,7 +755,8 @@ public class PrismTextLayout implements TextLayout {
 
     private void buildRuns(char[] chars) {
         runCount = 0;
-        if (runs == null) {
+        if (runs == null || runsShared) {
+            runsShared = false;
             int count = Math.max(4, Math.min(chars.length / 16, 16));
             runs = new TextRun[count];
         }
@@ -964,6 +958,10 @@ public class PrismTextLayout implements TextLayout {
          * is not thread safe) thus it can be modified at any time, but the
          * elements inside of the list are shared among threads and cannot be
          * modified. Each reused element has to be cloned.*/
+        if (runsShared) {
+            runs = runs.clone();
+            runsShared = false;
+        }
         runCount = 0;
         int index = 0;;
         while (index < runs.length) {
@@ -1277,29 +1275,28 @@ public class PrismTextLayout implements TextLayout {
 
 
         if (layoutCache != null) {
-            if (cacheKey != null && !layoutCache.valid && !copyCache()) {
-                /* After layoutCache is added to the stringCache it can be
+            if (cacheable) {
+                /* After the cache is added to the shared caches it can be
                  * accessed by multiple threads. All the data in it must
-                 * be immutable. See copyCache() for the cases where the entire
-                 * layout is immutable.
+                 * be immutable, this instance copies the runs before
+                 * changing them.
                  */
-                layoutCache.font = font;
-                layoutCache.text = text;
-                layoutCache.runs = runs;
-                layoutCache.runCount = runCount;
-                layoutCache.lines = lines;
-                layoutCache.layoutWidth = layoutWidth;
-                layoutCache.layoutHeight = layoutHeight;
-                layoutCache.analysis = flags & ANALYSIS_MASK;
-                synchronized (CACHE_SIZE_LOCK) {
-                    int charCount = chars.length;
-                    if (cacheSize + charCount > MAX_CACHE_SIZE) {
-                        stringCache.clear();
-                        cacheSize = 0;
-                    }
-                    stringCache.put(cacheKey, layoutCache);
-                    cacheSize += charCount;
+                LayoutCache cache = new LayoutCache();
+                cache.glyphs = layoutCache.glyphs;
+                cache.advances = layoutCache.advances;
+                cache.valid = true;
+                cache.runs = runs;
+                cache.runCount = runCount;
+                cache.lines = lines;
+                cache.layoutWidth = layoutWidth;
+                cache.layoutHeight = layoutHeight;
+                cache.analysis = flags & ANALYSIS_MASK;
+                if (!layoutCache.valid) {
+                    shapeCache.put(getCacheKey(false), cache);
                 }
+                lineCache.put(getCacheKey(true), cache);
+                layoutCache = cache;
+                runsShared = true;
             }
             layoutCache.valid = true;
         }
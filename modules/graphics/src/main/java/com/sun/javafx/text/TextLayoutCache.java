@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.sun.javafx.font.PGFont;
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+import com.sun.javafx.logging.PulseLogger;
+
+/**
+ * A cache of text layouts shared by all the PrismTextLayout instances.
+ * The cache holds layouts for at most maxSize characters of text, the layouts
+ * used least recently are removed first. It can be used by multiple threads.
+ */
+final class TextLayoutCache {
+
+    static final class Key {
+        final char[] text;
+        final PGFont font;
+        final int flags;
+        final float wrapWidth, spacing;
+        private final int hash;
+
+        Key(char[] text, PGFont font, int flags, float wrapWidth, float spacing) {
+            this.text = text;
+            this.font = font;
+            this.flags = flags;
+            this.wrapWidth = wrapWidth;
+            this.spacing = spacing;
+            int h = Arrays.hashCode(text);
+            h = 31 * h + font.hashCode();
+            h = 31 * h + flags;
+            h = 31 * h + Float.floatToIntBits(wrapWidth);
+            this.hash = 31 * h + Float.floatToIntBits(spacing);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key)obj;
+            return hash == other.hash && flags == other.flags &&
+                   wrapWidth == other.wrapWidth && spacing == other.spacing &&
+                   font.equals(other.font) && Arrays.equals(text, other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final String hitCounter, missCounter;
+    private final int maxSize;
+    private final LinkedHashMap<Key, LayoutCache> map =
+        new LinkedHashMap<Key, LayoutCache>(16, 0.75f, true);
+    private int size;
+    private int hits, misses;
+
+    TextLayoutCache(String name, int maxSize) {
+        this.hitCounter = name + " hits";
+        this.missCounter = name + " misses";
+        this.maxSize = maxSize;
+    }
+
+    LayoutCache get(Key key) {
+        LayoutCache cache;
+        synchronized (this) {
+            cache = map.get(key);
+            if (cache != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter(cache != null ? hitCounter : missCounter);
+        }
+        return cache;
+    }
+
+    synchronized void put(Key key, LayoutCache cache) {
+        int length = key.text.length;
+        if (length > maxSize) return;
+        LayoutCache old = map.put(key, cache);
+        if (old == null) {
+            size += length;
+        }
+        Iterator<Map.Entry<Key, LayoutCache>> it = map.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            Key eldest = it.next().getKey();
+            it.remove();
+            size -= eldest.text.length;
+        }
+    }
+
+    synchronized int getSize() {
+        return size;
+    }
+
+    synchronized int getHitCount() {
+        return hits;
+    }
+
+    synchronized int getMissCount() {
+        return misses;
+    }
+}
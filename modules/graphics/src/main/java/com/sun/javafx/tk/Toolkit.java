@@ -74,6 +74,7 @@ import com.sun.glass.ui.CommonDialogs.FileChooserResult;
 import com.sun.glass.utils.NativeLibLoader;
 import com.sun.javafx.PlatformUtil;
 import com.sun.javafx.beans.event.AbstractNotifyListener;
+import com.sun.javafx.collections.ChangeCoalescer;
 import com.sun.javafx.embed.HostInterface;
 import com.sun.javafx.geom.Path2D;
 import com.sun.javafx.geom.transform.BaseTransform;
@@ -227,6 +228,7 @@ public abstract class Toolkit {
         }
 
         fxUserThread = t;
+        ChangeCoalescer.setFlushThread(t);
     }
 
     public void checkFxUserThread() {
@@ -243,6 +245,7 @@ public abstract class Toolkit {
     }
 
     protected Toolkit() {
+        ChangeCoalescer.setPulseRequester(this::requestNextPulse);
     }
 
     public abstract boolean init();
@@ -358,6 +361,10 @@ public abstract class Toolkit {
     }
 
     public void firePulse() {
+        // Deliver the changes accumulated by coalescing collections first, so
+        // that the resulting scene graph updates are part of this pulse
+        ChangeCoalescer.flush();
+
         // Stages need to be notified of pulses before scenes so the Stage can resized
         // and those changes propogated to scene before it gets its pulse to update
 
@@ -550,6 +557,7 @@ public abstract class Toolkit {
     public abstract void defer(Runnable runnable);
     public void exit() {
         fxUserThread = null;
+        ChangeCoalescer.setFlushThread(null);
     }
 
     public abstract Map<Object, Object> getContextMap();
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.logging.PulseLogger;
+import com.sun.prism.ResourceFactory;
+import com.sun.prism.Texture;
+import com.sun.prism.Texture.WrapMode;
+import com.sun.prism.impl.packrect.SkylinePacker;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
+/**
+ * The mask textures holding the greyscale or the LCD glyphs of a
+ * BaseContext. Pages are added when the glyphs do not fit in the pages
+ * there are, up to prism.glyphCacheMaxPages. After that the page used least
+ * recently is cleared, and only the glyphs that were on it have to be
+ * rasterized again. The atlas is only used by the render thread.
+ *
+ * The atlas is the value of a weak map keyed by its context, so it must not
+ * refer to the context itself; the context is passed to the methods that
+ * need it instead.
+ */
+final class GlyphAtlas {
+
+    static final class Page {
+        final SkylinePacker packer;
+        // Incremented when the page is cleared, glyphs placed on the page
+        // before have to be placed again
+        int generation;
+        long lastUsed;
+
+        Page(SkylinePacker packer) {
+            this.packer = packer;
+        }
+
+        Texture getTexture() {
+            return packer.getBackingStore();
+        }
+    }
+
+    private final boolean lcd;
+    private final int width, height, maxPages;
+    private final List<Page> pages = new ArrayList<Page>();
+    private Page current;
+    private long clock;
+
+    GlyphAtlas(BaseContext context, boolean lcd, int width, int height, int maxPages) {
+        this.lcd = lcd;
+        this.width = width;
+        this.height = height;
+        this.maxPages = Math.max(1, maxPages);
+        current = createPage(context);
+    }
+
+    private Page createPage(BaseContext context) {
+        ResourceFactory factory = context.getResourceFactory();
+        Texture tex = factory.createMaskTexture(width, height,
+                                                WrapMode.CLAMP_NOT_NEEDED);
+        tex.contentsUseful();
+        tex.makePermanent();
+        if (!lcd && pages.isEmpty()) {
+            // The super shader can only draw the glyphs of the first page
+            factory.setGlyphTexture(tex);
+        }
+        tex.setLinearFiltering(false);
+        Page page = new Page(new SkylinePacker(tex, width, height));
+        page.lastUsed = clock;
+        pages.add(page);
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.addMessage("Glyph atlas page added, " + toString());
+        }
+        return page;
+    }
+
+    /**
+     * Starts a new use of the atlas, the pages touched since are the most
+     * recently used.
+     */
+    void tick() {
+        clock++;
+    }
+
+    void touch(Page page) {
+        page.lastUsed = clock;
+    }
+
+    /**
+     * Returns the page the glyphs are added to, whose texture is the one
+     * most likely needed to render the next glyphs.
+     */
+    Page getCurrentPage() {
+        return current;
+    }
+
+    /**
+     * Places the rectangle on a page.
+     *
+     * @param context the context the atlas belongs to
+     * @return the page, or null if the rectangle is larger than a page
+     */
+    Page add(BaseContext context, Rectangle rect) {
+        if (rect.width > width || rect.height > height) {
+            return null;
+        }
+        if (current.packer.add(rect)) {
+            touch(current);
+            return current;
+        }
+        for (Page page : pages) {
+            if (page != current && page.packer.add(rect)) {
+                current = page;
+                touch(page);
+                return page;
+            }
+        }
+        Page page;
+        if (pages.size() < maxPages) {
+            page = createPage(context);
+        } else {
+            page = pages.get(0);
+            for (Page p : pages) {
+                if (p.lastUsed < page.lastUsed) {
+                    page = p;
+                }
+            }
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Font Glyph Cache page evicted");
+            }
+            // flush any pending vertices that may depend on the current
+            // contents of the page
+            context.flushVertexBuffer();
+            page.packer.clear();
+            page.generation++;
+        }
+        current = page;
+        touch(page);
+        return page.packer.add(rect) ? page : null;
+    }
+
+    int getPageCount() {
+        return pages.size();
+    }
+
+    int getMaxPages() {
+        return maxPages;
+    }
+
+    /**
+     * Returns the fraction of the pages covered by glyphs.
+     */
+    float getOccupancy() {
+        float used = 0;
+        for (Page page : pages) {
+            used += page.packer.getOccupancy();
+        }
+        return used / pages.size();
+    }
+
+    @Override
+    public String toString() {
+        int glyphs = 0;
+        for (Page page : pages) {
+            glyphs += page.packer.getRectangleCount();
+        }
+        return (lcd ? "LCD" : "grey") + " glyph atlas: " + pages.size() + "/"
+                + maxPages + " pages of " + width + "x" + height + ", "
+                + glyphs + " glyphs, " + Math.round(getOccupancy() * 100)
+                + "% used";
+    }
+}
@@ -30,25 +30,21 @@ import com.sun.javafx.font.CompositeGlyphMapper;
 import com.sun.javafx.font.FontResource;
 import com.sun.javafx.font.FontStrike;
 import com.sun.javafx.font.Glyph;
+import com.sun.javafx.font.GlyphDiskCache;
 import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.scene.text.GlyphList;
-import com.sun.prism.impl.packrect.RectanglePacker;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.shape.MaskData;
 import com.sun.prism.paint.Color;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.WeakHashMap;
-
-import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
-import com.sun.javafx.logging.PulseLogger;
-
-import com.sun.prism.ResourceFactory;
-import com.sun.prism.Texture.WrapMode;
+import java.util.function.Consumer;
 
 public class GlyphCache {
 
@@ -61,7 +57,9 @@ public class GlyphCache {
     // to 1/4 of the strikes.
     private static final int WIDTH = PrismSettings.glyphCacheWidth; // in pixels
     private static final int HEIGHT = PrismSettings.glyphCacheHeight; // in pixels
+    private static final int MAX_PAGES = PrismSettings.glyphCacheMaxPages;
     private static ByteBuffer emptyMask;
+    private static final GlyphDiskCache diskCache = GlyphDiskCache.getInstance();
 
     private final BaseContext context;
     private final FontStrike strike;
@@ -76,47 +74,94 @@ public class GlyphCache {
     // Using them for subpixel
     private static final int SUBPIXEL_SHIFT = 27;
 
-    private RectanglePacker packer;
+    private GlyphAtlas atlas;
 
     private boolean isLCDCache;
 
-    /* Share a RectanglePacker and its associated texture cache
+    // Indices of the glyphs left for the next texture by render()
+    private boolean[] pending = new boolean[0];
+
+    /* Share a GlyphAtlas and its associated texture pages
      * for all uses on a particular screen.
      */
-    static WeakHashMap<BaseContext, RectanglePacker> greyPackerMap =
-        new WeakHashMap<BaseContext, RectanglePacker>();
+    static WeakHashMap<BaseContext, GlyphAtlas> greyAtlasMap =
+        new WeakHashMap<BaseContext, GlyphAtlas>();
 
-    static WeakHashMap<BaseContext, RectanglePacker> lcdPackerMap =
-        new WeakHashMap<BaseContext, RectanglePacker>();
+    static WeakHashMap<BaseContext, GlyphAtlas> lcdAtlasMap =
+        new WeakHashMap<BaseContext, GlyphAtlas>();
 
     public GlyphCache(BaseContext context, FontStrike strike) {
+        this(context, strike, null);
+    }
+
+    // The atlas is shared with the other caches of the context unless one is given
+    GlyphCache(BaseContext context, FontStrike strike, GlyphAtlas atlas) {
         this.context = context;
         this.strike = strike;
         //numGlyphs = strike.getNumGlyphs();
         //int numSegments = (numGlyphs + SEGSIZE-1)/SEGSIZE;
         //this.glyphs = new GlyphData[numSegments][];
         isLCDCache = strike.getAAMode() == FontResource.AA_LCD;
-        WeakHashMap<BaseContext, RectanglePacker>
-            packerMap = isLCDCache ? lcdPackerMap : greyPackerMap;
-        packer = packerMap.get(context);
-        if (packer == null) {
-            ResourceFactory factory = context.getResourceFactory();
-            Texture tex = factory.createMaskTexture(WIDTH, HEIGHT,
-                                                    WrapMode.CLAMP_NOT_NEEDED);
-            tex.contentsUseful();
-            tex.makePermanent();
-            if (!isLCDCache) {
-                factory.setGlyphTexture(tex);
+        if (atlas == null) {
+            WeakHashMap<BaseContext, GlyphAtlas>
+                atlasMap = isLCDCache ? lcdAtlasMap : greyAtlasMap;
+            atlas = atlasMap.get(context);
+            if (atlas == null) {
+                atlas = new GlyphAtlas(context, isLCDCache, WIDTH, HEIGHT, MAX_PAGES);
+                atlasMap.put(context, atlas);
             }
-            tex.setLinearFiltering(false);
-            packer = new RectanglePacker(tex, WIDTH, HEIGHT);
-            packerMap.put(context, packer);
         }
+        this.atlas = atlas;
     }
 
+    /**
+     * Renders the glyphs, one texture of the glyph atlas after the other.
+     * Before the glyphs of a texture are rendered, the validator is called to
+     * set up the graphics for the mask of the text on that texture.
+     */
     public void render(BaseContext ctx, GlyphList gl, float x, float y,
                        int start, int end, Color rangeColor, Color textColor,
-                       BaseTransform xform, BaseBounds clip) {
+                       BaseTransform xform, BaseBounds clip,
+                       Consumer<Texture> validator) {
+        atlas.tick();
+        int len = gl.getGlyphCount();
+        if (pending.length < len) {
+            pending = new boolean[len];
+        } else {
+            Arrays.fill(pending, 0, len, false);
+        }
+        // Placing a glyph can evict the page of a glyph left for a later
+        // pass. That is rare, but with more glyphs than fit in the atlas it
+        // could go on forever, so after a pass for every page the rest of the
+        // glyphs are rendered in steps that each stop at the first glyph
+        // placed on another page.
+        int maxPasses = atlas.getMaxPages() + 1;
+        Texture tex = getBackingStore();
+        for (int pass = 0; tex != null; pass++) {
+            if (pass == maxPasses) {
+                ctx.flushVertexBuffer();
+            }
+            validator.accept(tex);
+            tex = render(ctx, gl, x, y, start, end, rangeColor, textColor,
+                         xform, clip, tex, pass > 0, pass >= maxPasses);
+        }
+    }
+
+    /**
+     * Renders the glyphs that are on the given texture, and leaves the
+     * others for a later pass.
+     *
+     * @param pendingOnly whether to render only the glyphs left by the last
+     * pass
+     * @param stepwise whether to stop at the first glyph that is not on the
+     * texture, so that no glyph is placed after it
+     * @return the texture of the glyphs left to render, or null if all
+     * the glyphs were rendered
+     */
+    private Texture render(BaseContext ctx, GlyphList gl, float x, float y,
+                           int start, int end, Color rangeColor, Color textColor,
+                           BaseTransform xform, BaseBounds clip, Texture tex,
+                           boolean pendingOnly, boolean stepwise) {
 
         int dstw, dsth;
         if (isLCDCache) {
@@ -126,14 +171,19 @@ public class GlyphCache {
             dstw = 1;
             dsth = 1;
         }
-        Texture tex = getBackingStore();
         VertexBuffer vb = ctx.getVertexBuffer();
 
         int len = gl.getGlyphCount();
         Color currentColor = null;
         Point2D pt = new Point2D();
 
+        Texture next = null;
+
         for (int gi = 0; gi < len; gi++) {
+            if (pendingOnly) {
+                if (!pending[gi]) continue;
+                pending[gi] = false;
+            }
             int gc = gl.getGlyphCode(gi);
 
             // If we have a supplementary character, then a special
@@ -146,6 +196,16 @@ public class GlyphCache {
             int subPixel = strike.getQuantizedPosition(pt);
             GlyphData data = getCachedGlyph(gc, subPixel);
             if (data != null) {
+                if (data.page != null) {
+                    Texture glyphTex = data.page.getTexture();
+                    if (glyphTex != tex) {
+                        pending[gi] = true;
+                        if (next == null) next = glyphTex;
+                        if (stepwise) break;
+                        continue;
+                    }
+                    atlas.touch(data.page);
+                }
                 if (clip != null) {
                     // Always check clipping using user space.
                     if (x + gl.getPosX(gi) > clip.getMaxX()) break;
@@ -172,6 +232,7 @@ public class GlyphCache {
                 addDataToQuad(data, vb, tex, pt.x, pt.y, dstw, dsth);
             }
         }
+        return next;
     }
 
     private void addDataToQuad(GlyphData data, VertexBuffer vb,
@@ -222,20 +283,13 @@ public class GlyphCache {
     }
 
     public Texture getBackingStore() {
-        return packer.getBackingStore();
+        return atlas.getCurrentPage().getTexture();
     }
 
     public void clear() {
         glyphDataMap.clear();
     }
 
-    private void clearAll() {
-        // flush any pending vertices that may depend on the current state
-        // of the glyph cache texture.
-        context.flushVertexBuffer();
-        context.clearGlyphCaches();
-        packer.clear();
-    }
 
     private GlyphData getCachedGlyph(int glyphCode, int subPixel) {
         int segIndex = glyphCode >> SEGSHIFT;
@@ -243,8 +297,12 @@ public class GlyphCache {
         segIndex |= (subPixel << SUBPIXEL_SHIFT);
         GlyphData[] segment = glyphDataMap.get(segIndex);
         if (segment != null) {
-            if (segment[subIndex] != null) {
-                return segment[subIndex];
+            GlyphData data = segment[subIndex];
+            if (data != null) {
+                // Glyphs on a page that was cleared are placed again
+                if (data.page == null || data.generation == data.page.generation) {
+                    return data;
+                }
             }
         } else {
             segment = new GlyphData[SEGSIZE];
@@ -253,7 +311,9 @@ public class GlyphCache {
 
         // Render the glyph and insert it in the cache
         GlyphData data = null;
-        Glyph glyph = strike.getGlyph(glyphCode);
+        Glyph glyph = diskCache != null
+                ? diskCache.getGlyph(strike, glyphCode, subPixel)
+                : strike.getGlyph(glyphCode);
         if (glyph != null) {
             byte[] glyphImage = glyph.getPixelData(subPixel);
             if (glyphImage == null || glyphImage.length == 0) {
@@ -279,19 +339,22 @@ public class GlyphCache {
                 int originX = maskData.getOriginX();
                 int originY = maskData.getOriginY();
                 Rectangle rect = new Rectangle(0, 0, rectW, rectH);
+                GlyphAtlas.Page page = atlas.add(context, rect);
+                if (page == null) {
+                    // The glyph does not fit in a page
+                    data = new GlyphData(0, 0, 0,
+                                         glyph.getPixelXAdvance(),
+                                         glyph.getPixelYAdvance(),
+                                         null);
+                    segment[subIndex] = data;
+                    return data;
+                }
                 data = new GlyphData(originX, originY, border,
                                      glyph.getPixelXAdvance(),
                                      glyph.getPixelYAdvance(),
                                      rect);
-
-                if (!packer.add(rect)) {
-                    if (PULSE_LOGGING_ENABLED) {
-                        PulseLogger.incrementCounter("Font Glyph Cache Cleared");
-                    }
-                    // If add fails,clear up the cache. Try add again.
-                    clearAll();
-                    packer.add(rect);
-                }
+                data.page = page;
+                data.generation = page.generation;
 
                 // We always pass skipFlush=true to backingStore.update()
                 // since we are in control of the contents of the backingStore
@@ -302,7 +365,7 @@ public class GlyphCache {
                 // Upload the an empty byte array to ensure the boundary
                 // area is filled with zeros. Note that the rectangle
                 // is already padded on each edge.
-                Texture backingStore = getBackingStore();
+                Texture backingStore = page.getTexture();
                 int emw = rect.width;
                 int emh = rect.height;
                 int bpp = backingStore.getPixelFormat().getBytesPerPixelUnit();
@@ -354,6 +417,11 @@ public class GlyphCache {
         // The rectangle on the backing store corresponding to this glyph
         private final Rectangle rect;
 
+        // The page of the rectangle, and the generation of the page when
+        // the glyph was placed on it
+        private GlyphAtlas.Page page;
+        private int generation;
+
         GlyphData(int originX, int originY, int blankBoundary,
                   float xAdvance, float yAdvance, Rectangle rect)
         {
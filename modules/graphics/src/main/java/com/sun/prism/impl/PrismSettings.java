@@ -79,6 +79,7 @@ public final class PrismSettings {
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
+    public static final int glyphCacheMaxPages;
     public static final String perfLog;
     public static final boolean perfLogExitFlush;
     public static final boolean perfLogFirstPaintFlush;
@@ -313,6 +314,8 @@ public final class PrismSettings {
                 "Try -Dprism.glyphCacheWidth=<number>");
         glyphCacheHeight = getInt(systemProperties, "prism.glyphCacheHeight", 1024,
                 "Try -Dprism.glyphCacheHeight=<number>");
+        glyphCacheMaxPages = getInt(systemProperties, "prism.glyphCacheMaxPages", 4,
+                "Try -Dprism.glyphCacheMaxPages=<number>");
 
         /*
          * Performance Logger flags
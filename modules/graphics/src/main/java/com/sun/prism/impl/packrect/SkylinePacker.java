@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl.packrect;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.prism.Texture;
+import java.util.Arrays;
+
+/**
+ * Packs rectangles into a backing store using the skyline bottom-left
+ * strategy. The packer keeps the top edge of the rectangles packed so far,
+ * as a list of horizontal segments, and places each new rectangle where its
+ * bottom edge is the lowest. This wastes less space than packing into levels
+ * when the rectangles have many different heights, as glyphs do.
+ */
+public class SkylinePacker {
+    private Texture backingStore;
+    private final int width;
+    private final int height;
+
+    // The skyline, in segments sorted by x: segment i spans from x[i] to
+    // x[i] + w[i] at height y[i]. The segments cover the whole width.
+    private int[] x = new int[16];
+    private int[] y = new int[16];
+    private int[] w = new int[16];
+    private int count;
+
+    private long usedArea;
+    private int rectCount;
+
+    /**
+     * Creates a new SkylinePacker for the space of the given size on the
+     * backing store.
+     *
+     * @param backingStore The backing store texture
+     * @param width The width of the backing store, must be > 0
+     * @param height The height of the backing store, must be > 0
+     */
+    public SkylinePacker(Texture backingStore, int width, int height) {
+        this.backingStore = backingStore;
+        this.width = width;
+        this.height = height;
+        clear();
+    }
+
+    public final Texture getBackingStore() {
+        return backingStore;
+    }
+
+    public final int getWidth() {
+        return width;
+    }
+
+    public final int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the fraction of the backing store covered by the rectangles
+     * added since it was last cleared.
+     */
+    public final float getOccupancy() {
+        return (float) ((double) usedArea / ((long) width * height));
+    }
+
+    /**
+     * Returns the number of rectangles added since it was last cleared.
+     */
+    public final int getRectangleCount() {
+        return rectCount;
+    }
+
+    /**
+     * Decides upon an (x, y) position for the given rectangle (leaving
+     * its width and height unchanged).
+     *
+     * @return false if there is no room left for the rectangle
+     */
+    public final boolean add(Rectangle rect) {
+        final int rw = rect.width;
+        final int rh = rect.height;
+        if (rw > width || rh > height) return false;
+
+        int bestIndex = -1;
+        int bestTop = Integer.MAX_VALUE;
+        int bestWidth = Integer.MAX_VALUE;
+        int bestY = 0;
+        for (int i = 0; i < count; i++) {
+            int top = fit(i, rw, rh);
+            if (top < 0) continue;
+            // Lowest top edge first, then the narrowest segment
+            if (top < bestTop || (top == bestTop && w[i] < bestWidth)) {
+                bestIndex = i;
+                bestTop = top;
+                bestWidth = w[i];
+                bestY = top - rh;
+            }
+        }
+        if (bestIndex == -1) return false;
+
+        rect.x = x[bestIndex];
+        rect.y = bestY;
+        place(bestIndex, rect.x, bestTop, rw);
+        usedArea += (long) rw * rh;
+        rectCount++;
+        return true;
+    }
+
+    /**
+     * Returns the top edge of a rectangle placed at the left of segment i,
+     * or -1 if it does not fit there.
+     */
+    private int fit(int i, int rw, int rh) {
+        int left = x[i];
+        if (left + rw > width) return -1;
+        int bottom = 0;
+        int remaining = rw;
+        while (remaining > 0) {
+            bottom = Math.max(bottom, y[i]);
+            if (bottom + rh > height) return -1;
+            remaining -= w[i];
+            i++;
+        }
+        return bottom + rh;
+    }
+
+    /**
+     * Raises the skyline to top from left to left + rw, starting at
+     * segment index.
+     */
+    private void place(int index, int left, int top, int rw) {
+        int right = left + rw;
+        // Shrink or remove the segments under the new one
+        int i = index;
+        while (i < count && x[i] < right) {
+            int segmentRight = x[i] + w[i];
+            if (segmentRight <= right) {
+                i++;
+            } else {
+                w[i] = segmentRight - right;
+                x[i] = right;
+                break;
+            }
+        }
+        // Segments index..i-1 are covered, replace them with the new one
+        int removed = i - index;
+        if (removed == 0) {
+            insert(index);
+        } else if (removed > 1) {
+            System.arraycopy(x, i, x, index + 1, count - i);
+            System.arraycopy(y, i, y, index + 1, count - i);
+            System.arraycopy(w, i, w, index + 1, count - i);
+            count -= removed - 1;
+        }
+        x[index] = left;
+        y[index] = top;
+        w[index] = rw;
+
+        // Merge with the neighbours at the same height
+        if (index + 1 < count && y[index + 1] == top) {
+            w[index] += w[index + 1];
+            remove(index + 1);
+        }
+        if (index > 0 && y[index - 1] == top) {
+            w[index - 1] += w[index];
+            remove(index);
+        }
+    }
+
+    private void insert(int index) {
+        if (count == x.length) {
+            int length = count * 2;
+            x = Arrays.copyOf(x, length);
+            y = Arrays.copyOf(y, length);
+            w = Arrays.copyOf(w, length);
+        }
+        System.arraycopy(x, index, x, index + 1, count - index);
+        System.arraycopy(y, index, y, index + 1, count - index);
+        System.arraycopy(w, index, w, index + 1, count - index);
+        count++;
+    }
+
+    private void remove(int index) {
+        System.arraycopy(x, index + 1, x, index, count - index - 1);
+        System.arraycopy(y, index + 1, y, index, count - index - 1);
+        System.arraycopy(w, index + 1, w, index, count - index - 1);
+        count--;
+    }
+
+    /**
+     * Clears all Rectangles contained in this SkylinePacker.
+     */
+    public void clear() {
+        x[0] = 0;
+        y[0] = 0;
+        w[0] = width;
+        count = 1;
+        usedArea = 0;
+        rectCount = 0;
+    }
+
+    /**
+     * Disposes the backing store. This SkylinePacker may no longer be used
+     * after calling this method.
+     */
+    public void dispose() {
+        if (backingStore != null) {
+            backingStore.dispose();
+        }
+        backingStore = null;
+    }
+}
@@ -2033,7 +2033,6 @@ public abstract class BaseShaderGraphics
          * description.
          */
         GlyphCache glyphCache = context.getGlyphCache(strike);
-        Texture cacheTex = glyphCache.getBackingStore();
 
         //Since we currently cannot support LCD text on transparant surfaces, we
         //verify that we are drawing to an opaque surface.
@@ -2059,7 +2058,6 @@ public abstract class BaseShaderGraphics
                 initLCDSampleRT();
             }
             float invgamma = PrismFontFactory.getLCDContrast();
-            float gamma = 1.0f/invgamma;
             textColor = new Color((float)Math.pow(textColor.getRed(),   invgamma),
                                   (float)Math.pow(textColor.getGreen(), invgamma),
                                   (float)Math.pow(textColor.getBlue(),  invgamma),
@@ -2071,6 +2069,32 @@ public abstract class BaseShaderGraphics
                         (float)Math.pow(selectColor.getBlue(),  invgamma),
                         (float)Math.pow(selectColor.getAlpha(), invgamma));
             }
+        }
+        if (isSimpleTranslate) {
+            // Applying this rounding allows for smoother text animation,
+            // when animating simple translated text.
+            // Asking glyph textures to be rendered at non-integral
+            // locations produces very poor text. This doesn't solve
+            // the problem for scaled (etc) cases, but addresses a
+            // common case.
+            p2d.y = Math.round(p2d.y);
+            p2d.x = Math.round(p2d.x);
+        }
+        final FontStrike glyphStrike = strike;
+        final Color color = textColor;
+        final float fbx = bx, fby = by, fbw = bw, fbh = bh;
+        glyphCache.render(context, gl, p2d.x, p2d.y, selectStart, selectEnd,
+                          selectColor, textColor, xform, clip,
+                          tex -> validateGlyphCacheOp(glyphStrike, tex, color, blendMode,
+                                                      fbx, fby, fbw, fbh));
+    }
+
+    private void validateGlyphCacheOp(FontStrike strike, Texture cacheTex,
+                                      Color textColor, CompositeMode blendMode,
+                                      float bx, float by, float bw, float bh) {
+        if (strike.getAAMode() == FontResource.AA_LCD) {
+            float invgamma = PrismFontFactory.getLCDContrast();
+            float gamma = 1.0f/invgamma;
 
             // In order to handle transparency, the LCD shader need to manually
             // composite source with destination. Thus, SRC_OVER compositing
@@ -2088,18 +2112,6 @@ public abstract class BaseShaderGraphics
         } else {
             context.validatePaintOp(this, IDENT, cacheTex, bx, by, bw, bh);
         }
-        if (isSimpleTranslate) {
-            // Applying this rounding allows for smoother text animation,
-            // when animating simple translated text.
-            // Asking glyph textures to be rendered at non-integral
-            // locations produces very poor text. This doesn't solve
-            // the problem for scaled (etc) cases, but addresses a
-            // common case.
-            p2d.y = Math.round(p2d.y);
-            p2d.x = Math.round(p2d.x);
-        }
-        glyphCache.render(context, gl, p2d.x, p2d.y, selectStart, selectEnd,
-                          selectColor, textColor, xform, clip);
     }
 
     //This function is used by the LCD path to render a quad into the
@@ -25,15 +25,15 @@
 
 package javafx.scene.image;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.ref.WeakReference;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.regex.Pattern;
 import javafx.animation.KeyFrame;
@@ -51,6 +51,7 @@ import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
+import com.sun.javafx.iio.png.PNGImageWriter;
 import com.sun.javafx.runtime.async.AsyncOperation;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
 import com.sun.javafx.tk.ImageLoader;
@@ -804,8 +805,8 @@ public class Image {
                 loader = loadImage(impl_source, getRequestedWidth(), getRequestedHeight(),
                                    isPreserveRatio(), isSmooth());
             } else {
-                loader = loadImage(impl_getUrl(), getRequestedWidth(), getRequestedHeight(),
-                                   isPreserveRatio(), isSmooth());
+                loader = loadImageCached(impl_getUrl(), getRequestedWidth(), getRequestedHeight(),
+                                         isPreserveRatio(), isSmooth());
             }
             finishImage(loader);
         }
@@ -917,35 +918,29 @@ public class Image {
         }
     }
 
-    private void cycleTasks() {
-        synchronized (pendingTasks) {
-            runningTasks--;
-            // do we have any pending tasks to run ?
-            // we can assume we are under the throttle limit because
-            // one task just completed.
-            final ImageTask nextTask = pendingTasks.poll();
-            if (nextTask != null) {
-                runningTasks++;
-                nextTask.start();
-            }
+    private void loadInBackground() {
+        backgroundTask = new ImageTask();
+        backgroundTask.begin();
+    }
+
+    /**
+     * Called by an {@code ImageView} in a scene that starts showing this
+     * image. Background loads of shown images start first.
+     */
+    void viewShown() {
+        if (++viewCount == 1 && backgroundTask != null) {
+            backgroundTask.shownChanged(true);
         }
     }
 
-    private void loadInBackground() {
-        backgroundTask = new ImageTask();
-        // This is an artificial throttle on background image loading tasks.
-        // It has been shown that with large images, we can quickly use up the
-        // heap loading images, even if they result in thumbnails.
-        // The limit of MAX_RUNNING_TASKS is arbitrary, and was based on initial
-        // testing with
-        // about 60 2-6 megapixel images.
-        synchronized (pendingTasks) {
-            if (runningTasks >= MAX_RUNNING_TASKS) {
-                pendingTasks.offer(backgroundTask);
-            } else {
-                runningTasks++;
-                backgroundTask.start();
-            }
+    /**
+     * Called by an {@code ImageView} that stops showing this image or leaves
+     * its scene. A queued background load of an image that is no longer
+     * shown does not start until the image is shown again.
+     */
+    void viewHidden() {
+        if (--viewCount == 0 && backgroundTask != null) {
+            backgroundTask.shownChanged(false);
         }
     }
 
@@ -1002,36 +997,101 @@ public class Image {
         platformImage.set(newPlatformImage);
     }
 
-    private static final int MAX_RUNNING_TASKS = 4;
-    private static int runningTasks = 0;
-    private static final Queue<ImageTask> pendingTasks =
-            new LinkedList<ImageTask>();
+    private static final ImageLoadQueue loadQueue =
+            new ImageLoadQueue(ImageLoadQueue.MAX_RUNNING, ImageLoadQueue.MAX_RUNNING_PER_HOST);
+
+    // the number of ImageViews in a scene that show this image
+    private int viewCount;
 
-    private final class ImageTask
-            implements AsyncOperationListener<ImageLoader> {
+    private final class ImageTask extends ImageLoadQueue.Load
+            implements AsyncOperationListener<ImageLoader>, ImageCache.BackgroundLoad {
 
         private final AsyncOperation peer;
+        private final Object cacheKey;
+        // whether the peer has been submitted to the load queue, rather than
+        // the image being loaded by another task through the image cache
+        private boolean scheduled;
+        // whether the task was taken out of the queue because the image is
+        // no longer shown
+        private boolean parked;
 
         public ImageTask() {
+            super(url);
             peer = constructPeer();
+            cacheKey = ImageCache.key(url, requestedWidth, requestedHeight,
+                                      preserveRatio, smooth);
+        }
+
+        void begin() {
+            if (cacheKey != null && !ImageCache.loadInBackground(cacheKey, this)) {
+                // loaded from the cache, or completed by the load in progress
+                return;
+            }
+            startLoading();
+        }
+
+        void shownChanged(boolean shown) {
+            if (shown && parked) {
+                parked = false;
+                begin();
+            } else if (!shown && scheduled && loadQueue.unqueue(this)) {
+                scheduled = false;
+                parked = true;
+                if (cacheKey != null) {
+                    // let a waiting load of the same image take over
+                    ImageCache.backgroundCancelled(cacheKey, this);
+                }
+            } else {
+                loadQueue.setVisible(this, shown);
+            }
+        }
+
+        @Override
+        void run() {
+            peer.start();
         }
 
         @Override
         public void onCancel() {
+            if (cacheKey != null) {
+                ImageCache.backgroundCancelled(cacheKey, this);
+            }
             finishImage(new CancellationException("Loading cancelled"));
-            cycleTasks();
+            loadQueue.remove(this);
         }
 
         @Override
         public void onException(Exception exception) {
+            if (cacheKey != null) {
+                ImageCache.backgroundFailed(cacheKey, this, exception);
+            }
             finishImage(exception);
-            cycleTasks();
+            loadQueue.remove(this);
         }
 
         @Override
         public void onCompletion(ImageLoader value) {
+            if (cacheKey != null) {
+                ImageCache.backgroundLoaded(cacheKey, this, value);
+            }
             finishImage(value);
-            cycleTasks();
+            loadQueue.remove(this);
+        }
+
+        @Override
+        public void loaded(ImageLoader loader) {
+            finishImage(loader);
+        }
+
+        @Override
+        public void failed(Exception exception) {
+            finishImage(exception);
+        }
+
+        @Override
+        public void startLoading() {
+            scheduled = true;
+            loadQueue.submit(this, viewCount > 0);
         }
 
         @Override
@@ -1044,12 +1104,14 @@ public class Image {
             }
         }
 
-        public void start() {
-            peer.start();
-        }
-
         public void cancel() {
-            peer.cancel();
+            if (scheduled) {
+                peer.cancel();
+            } else if (parked
+                       || (cacheKey != null && ImageCache.backgroundCancelled(cacheKey, this))) {
+                parked = false;
+                finishImage(new CancellationException("Loading cancelled"));
+            }
         }
 
         private AsyncOperation constructPeer() {
@@ -1067,6 +1129,17 @@ public class Image {
 
     }
 
+    private static ImageLoader loadImageCached(
+            String url, double width, double height,
+            boolean preserveRatio, boolean smooth) {
+        final Object cacheKey = ImageCache.key(url, width, height, preserveRatio, smooth);
+        if (cacheKey == null) {
+            return loadImage(url, width, height, preserveRatio, smooth);
+        }
+        return ImageCache.load(cacheKey,
+                () -> loadImage(url, width, height, preserveRatio, smooth));
+    }
+
     private static ImageLoader loadImage(
             InputStream stream, double width, double height,
             boolean preserveRatio, boolean smooth) {
@@ -1235,6 +1308,66 @@ public class Image {
         return reader;
     }
 
+    /**
+     * Writes this image to a stream in the PNG format, as an 8 bit RGB image
+     * if all of its pixels are opaque and as an 8 bit RGBA image otherwise.
+     * The pixels are read with the {@link #getPixelReader() PixelReader} of
+     * this image, without converting the image to an AWT image, and large
+     * images are compressed on several threads. The stream is not closed.
+     *
+     * @param output the stream to write to
+     * @throws NullPointerException if {@code output} is null
+     * @throws IllegalStateException if the pixels of this image cannot be
+     * read, for instance because it has not finished loading
+     * @throws IOException if an I/O error occurs
+     * @since JavaFX 8u112
+     */
+    public final void writePNG(OutputStream output) throws IOException {
+        writePNG(output, -1);
+    }
+
+    /**
+     * Writes this image to a stream in the PNG format with the given
+     * compression level, from 0 for no compression to 9 for the smallest
+     * output, or -1 for the default level. See {@link #writePNG(OutputStream)}.
+     *
+     * @param output the stream to write to
+     * @param compressionLevel the compression level
+     * @throws NullPointerException if {@code output} is null
+     * @throws IllegalArgumentException if {@code compressionLevel} is not
+     * in the range -1 to 9
+     * @throws IllegalStateException if the pixels of this image cannot be
+     * read, for instance because it has not finished loading
+     * @throws IOException if an I/O error occurs
+     * @since JavaFX 8u112
+     */
+    public final void writePNG(OutputStream output, int compressionLevel) throws IOException {
+        PNGImageWriter writer = new PNGImageWriter(output);
+        writer.setCompressionLevel(compressionLevel);
+        PixelReader pixels = getPixelReader();
+        if (pixels == null) {
+            throw new IllegalStateException("The pixels of the image cannot be read");
+        }
+        int w = (int) getWidth();
+        int h = (int) getHeight();
+        WritablePixelFormat<IntBuffer> format = PixelFormat.getIntArgbInstance();
+        boolean opaque = pixels.getPixelFormat().getType() == PixelFormat.Type.BYTE_RGB;
+        if (!opaque) {
+            opaque = true;
+            int[] row = new int[w];
+            for (int y = 0; y < h && opaque; y++) {
+                pixels.getPixels(0, y, w, 1, format, row, 0, w);
+                for (int x = 0; x < w; x++) {
+                    if ((row[x] >>> 24) != 0xff) {
+                        opaque = false;
+                        break;
+                    }
+                }
+            }
+        }
+        writer.write(w, h, opaque, (y, row) -> pixels.getPixels(0, y, w, 1, format, row, 0, w));
+    }
+
     PlatformImage getWritablePlatformImage() {
         PlatformImage pimg = platformImage.get();
         if (!pimg.isWritable()) {
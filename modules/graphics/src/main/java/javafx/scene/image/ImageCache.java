@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.image;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import com.sun.javafx.tk.ImageLoader;
+
+/**
+ * A process-wide cache of decoded images that lets {@link Image}s loaded from
+ * the same URL share the decoded pixels instead of decoding the resource
+ * again.
+ *
+ * <p>
+ * The cache is disabled by default. It is enabled by giving it a maximum size
+ * in bytes with {@link #setMaxSize(long)}. Images are cached by their URL,
+ * requested width and height, {@code preserveRatio} and {@code smooth}
+ * values; images loaded from an {@code InputStream} are not cached. When the
+ * decoded images exceed the maximum size, the least recently used images are
+ * evicted. The size of an image is estimated as four bytes per pixel and
+ * frame.
+ * </p>
+ *
+ * <p>
+ * When an image is requested while the same image is already being loaded,
+ * the request shares that load: a synchronous load waits for another
+ * synchronous load of the image, and a background load completes together
+ * with another background load of the image. Background loads are shared
+ * this way even while the cache is disabled. Images that fail to load are
+ * not cached.
+ * </p>
+ *
+ * <p>
+ * Since the cache keeps a decoded image for as long as it is not evicted, an
+ * image that is changed at its URL is not loaded again until it has been
+ * evicted or the cache has been {@link #clear() cleared}.
+ * </p>
+ *
+ * <p>All methods of this class can be called from any thread.</p>
+ *
+ * @since JavaFX 8u112
+ */
+public final class ImageCache {
+
+    private static final Object LOCK = new Object();
+
+    private static final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static long maxSize;
+    private static long size;
+    private static long hitCount;
+    private static long missCount;
+    private static long evictionCount;
+
+    private ImageCache() {
+    }
+
+    /**
+     * Sets the maximum size in bytes of the decoded images kept by the cache.
+     * A size of {@code 0} disables the cache and removes all images from it.
+     * Reducing the size evicts the least recently used images that no longer
+     * fit.
+     *
+     * @param bytes the maximum size in bytes
+     * @throws IllegalArgumentException if {@code bytes} is negative
+     */
+    public static void setMaxSize(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative: " + bytes);
+        }
+        synchronized (LOCK) {
+            maxSize = bytes;
+            if (bytes == 0) {
+                removeAll();
+            } else {
+                evict();
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum size in bytes of the decoded images kept by the
+     * cache, or {@code 0} if the cache is disabled.
+     *
+     * @return the maximum size in bytes
+     */
+    public static long getMaxSize() {
+        synchronized (LOCK) {
+            return maxSize;
+        }
+    }
+
+    /**
+     * Returns the estimated size in bytes of the decoded images currently
+     * kept by the cache.
+     *
+     * @return the size in bytes
+     */
+    public static long getSize() {
+        synchronized (LOCK) {
+            return size;
+        }
+    }
+
+    /**
+     * Returns the number of image requests that were served by an image in
+     * the cache or shared a load in progress.
+     *
+     * @return the number of cache hits
+     */
+    public static long getHitCount() {
+        synchronized (LOCK) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * Returns the number of image requests that had to load the image while
+     * the cache was enabled.
+     *
+     * @return the number of cache misses
+     */
+    public static long getMissCount() {
+        synchronized (LOCK) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Returns the number of images that were evicted from the cache because
+     * it exceeded its maximum size.
+     *
+     * @return the number of evictions
+     */
+    public static long getEvictionCount() {
+        synchronized (LOCK) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * Removes all loaded images from the cache. The statistics are not reset.
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            removeAll();
+        }
+    }
+
+    // ------------------------------------------------------------ Image support
+
+    /**
+     * A background load of an {@code Image} that can share the load of
+     * another image.
+     */
+    interface BackgroundLoad {
+        /** Completes this load with the image loaded by another load. */
+        void loaded(ImageLoader loader);
+
+        /** Completes this load with the failure of another load. */
+        void failed(Exception exception);
+
+        /** Starts this load after the load it waited for was cancelled. */
+        void startLoading();
+    }
+
+    /**
+     * Returns the cache key of an image loaded from the URL.
+     */
+    static Object key(String url, double width, double height,
+                      boolean preserveRatio, boolean smooth) {
+        return (url == null) ? null : new Key(url, width, height, preserveRatio, smooth);
+    }
+
+    /**
+     * Returns the cached image for the key, or loads it with {@code loading}
+     * and adds it to the cache. Waits if the image is being loaded by another
+     * thread. Only loads the image if the cache is disabled.
+     */
+    static ImageLoader load(Object key, Supplier<ImageLoader> loading) {
+        Entry entry = null;
+        synchronized (LOCK) {
+            while (maxSize != 0) {
+                entry = entries.get(key);
+                if (entry == null) {
+                    missCount++;
+                    entry = new Entry((Key) key, null);
+                    entries.put(entry.key, entry);
+                    break;
+                }
+                if (entry.loader != null) {
+                    hitCount++;
+                    return entry.loader;
+                }
+                if (entry.owner != null) {
+                    // loading in background, which may need this thread to complete
+                    missCount++;
+                    entry = null;
+                    break;
+                }
+                entry = null;
+                try {
+                    LOCK.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    missCount++;
+                    break;
+                }
+            }
+        }
+
+        ImageLoader loader = null;
+        try {
+            loader = loading.get();
+        } finally {
+            if (entry != null) {
+                synchronized (LOCK) {
+                    complete(entry, loader);
+                    LOCK.notifyAll();
+                }
+            }
+        }
+        return loader;
+    }
+
+    /**
+     * Starts or joins the background load of the image for the key. Returns
+     * {@code true} if the caller needs to load the image itself, otherwise
+     * the image has been loaded from the cache or {@code load} is completed
+     * by the load in progress.
+     */
+    static boolean loadInBackground(Object key, BackgroundLoad load) {
+        final ImageLoader loader;
+        synchronized (LOCK) {
+            final boolean enabled = maxSize != 0;
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                if (enabled) {
+                    missCount++;
+                }
+                entry = new Entry((Key) key, load);
+                entries.put(entry.key, entry);
+                return true;
+            }
+            if (entry.loader == null && entry.owner == null) {
+                // loading synchronously on another thread
+                if (enabled) {
+                    missCount++;
+                }
+                return true;
+            }
+            if (enabled) {
+                hitCount++;
+            }
+            if (entry.loader == null) {
+                entry.waiting.add(load);
+                return false;
+            }
+            loader = entry.loader;
+        }
+        load.loaded(loader);
+        return false;
+    }
+
+    /**
+     * Completes the background load of the image for the key, and the loads
+     * waiting for it.
+     */
+    static void backgroundLoaded(Object key, BackgroundLoad load, ImageLoader loader) {
+        final List<BackgroundLoad> waiting = completeBackground(key, load, loader);
+        for (BackgroundLoad waiter : waiting) {
+            waiter.loaded(loader);
+        }
+    }
+
+    /**
+     * Completes the failed background load of the image for the key, and the
+     * loads waiting for it.
+     */
+    static void backgroundFailed(Object key, BackgroundLoad load, Exception exception) {
+        final List<BackgroundLoad> waiting = completeBackground(key, load, null);
+        for (BackgroundLoad waiter : waiting) {
+            waiter.failed(exception);
+        }
+    }
+
+    /**
+     * Removes a cancelled background load. Returns {@code true} if the load
+     * was waiting for another load. If the cancelled load was loading the
+     * image, the first load waiting for it takes over.
+     */
+    static boolean backgroundCancelled(Object key, BackgroundLoad load) {
+        final BackgroundLoad next;
+        synchronized (LOCK) {
+            final Entry entry = entries.get(key);
+            if (entry == null || entry.loader != null) {
+                return false;
+            }
+            if (entry.owner != load) {
+                return entry.waiting.remove(load);
+            }
+            if (entry.waiting.isEmpty()) {
+                entries.remove(entry.key);
+                return false;
+            }
+            next = entry.waiting.remove(0);
+            entry.owner = next;
+        }
+        next.startLoading();
+        return false;
+    }
+
+    private static List<BackgroundLoad> completeBackground(Object key, BackgroundLoad load,
+                                                           ImageLoader loader) {
+        synchronized (LOCK) {
+            final Entry entry = entries.get(key);
+            if (entry == null || entry.loader != null || entry.owner != load) {
+                return new ArrayList<>();
+            }
+            final List<BackgroundLoad> waiting = entry.waiting;
+            entry.waiting = new ArrayList<>();
+            complete(entry, loader);
+            return waiting;
+        }
+    }
+
+    private static void complete(Entry entry, ImageLoader loader) {
+        if (maxSize == 0 || loader == null || loader.getException() != null
+                || loader.getFrameCount() == 0) {
+            entries.remove(entry.key);
+            return;
+        }
+        entry.loader = loader;
+        entry.owner = null;
+        entry.size = 4L * loader.getWidth() * loader.getHeight() * loader.getFrameCount();
+        size += entry.size;
+        evict();
+    }
+
+    private static void evict() {
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (entry.loader != null) {
+                iterator.remove();
+                size -= entry.size;
+                evictionCount++;
+            }
+        }
+    }
+
+    private static void removeAll() {
+        // loads in progress stay, so that the loads waiting for them complete
+        entries.values().removeIf(entry -> entry.loader != null);
+        size = 0;
+    }
+
+    private static final class Key {
+        final String url;
+        final double width;
+        final double height;
+        final boolean preserveRatio;
+        final boolean smooth;
+
+        Key(String url, double width, double height, boolean preserveRatio, boolean smooth) {
+            this.url = url;
+            this.width = width;
+            this.height = height;
+            this.preserveRatio = preserveRatio;
+            this.smooth = smooth;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return url.equals(other.url)
+                    && Double.compare(width, other.width) == 0
+                    && Double.compare(height, other.height) == 0
+                    && preserveRatio == other.preserveRatio
+                    && smooth == other.smooth;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = url.hashCode();
+            hash = 31 * hash + Double.hashCode(width);
+            hash = 31 * hash + Double.hashCode(height);
+            hash = 31 * hash + (preserveRatio ? 1 : 0);
+            return 31 * hash + (smooth ? 1 : 0);
+        }
+    }
+
+    private static final class Entry {
+        final Key key;
+        // the background load that loads the image, or null if the image is
+        // loaded synchronously or has been loaded
+        BackgroundLoad owner;
+        List<BackgroundLoad> waiting = new ArrayList<>();
+        ImageLoader loader;
+        long size;
+
+        Entry(Key key, BackgroundLoad owner) {
+            this.key = key;
+            this.owner = owner;
+        }
+    }
+}
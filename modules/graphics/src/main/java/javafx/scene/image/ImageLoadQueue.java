@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.image;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Schedules the background loads of images. A limited number of loads run at
+ * the same time, and at most {@link #MAX_RUNNING_PER_HOST} of them load from
+ * the same network host. Queued loads of images that are shown by an
+ * {@code ImageView} in a scene start before the other loads; among loads of
+ * the same priority the oldest starts first.
+ */
+final class ImageLoadQueue {
+
+    // This is an artificial throttle on background image loading tasks.
+    // It has been shown that with large images, we can quickly use up the
+    // heap loading images, even if they result in thumbnails.
+    // The limit was originally fixed at 4, based on initial testing with
+    // about 60 2-6 megapixel images; it now follows the number of cores, so
+    // that decoding keeps them busy, within the same order of magnitude.
+    static final int MAX_RUNNING =
+            Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    // Like HTTP clients, do not open more than two connections to a server
+    static final int MAX_RUNNING_PER_HOST = 2;
+
+    /**
+     * A background load.
+     */
+    abstract static class Load {
+        private final String host;
+        private boolean visible;
+        private long sequence;
+        private boolean queued;
+        private boolean running;
+
+        Load(String url) {
+            this.host = networkHost(url);
+        }
+
+        /** Starts loading, called while the queue is locked. */
+        abstract void run();
+    }
+
+    private final int maxRunning;
+    private final int maxRunningPerHost;
+
+    private final TreeSet<Load> queued = new TreeSet<>((load1, load2) -> {
+        if (load1.visible != load2.visible) {
+            return load1.visible ? -1 : 1;
+        }
+        return Long.compare(load1.sequence, load2.sequence);
+    });
+    private final Map<String, Integer> runningPerHost = new HashMap<>();
+    private int running;
+    private long sequence;
+
+    ImageLoadQueue(int maxRunning, int maxRunningPerHost) {
+        this.maxRunning = maxRunning;
+        this.maxRunningPerHost = maxRunningPerHost;
+    }
+
+    /**
+     * Starts the load, or queues it if too many loads are running.
+     */
+    synchronized void submit(Load load, boolean visible) {
+        if (load.queued || load.running) {
+            return;
+        }
+        load.visible = visible;
+        load.sequence = sequence++;
+        if (canStart(load)) {
+            start(load);
+        } else {
+            load.queued = true;
+            queued.add(load);
+        }
+    }
+
+    /**
+     * Removes a load that has been queued but has not started. Returns
+     * {@code true} if the load was queued.
+     */
+    synchronized boolean unqueue(Load load) {
+        if (!load.queued) {
+            return false;
+        }
+        load.queued = false;
+        queued.remove(load);
+        return true;
+    }
+
+    /**
+     * Removes a load that has completed or has been cancelled, and starts the
+     * next queued loads if the load was running.
+     */
+    synchronized void remove(Load load) {
+        if (unqueue(load) || !load.running) {
+            return;
+        }
+        load.running = false;
+        running--;
+        if (load.host != null) {
+            runningPerHost.merge(load.host, -1, (count, delta) -> count == 1 ? null : count + delta);
+        }
+        startQueued();
+    }
+
+    /**
+     * Changes the priority of a queued load.
+     */
+    synchronized void setVisible(Load load, boolean visible) {
+        if (load.visible == visible) {
+            return;
+        }
+        if (load.queued) {
+            queued.remove(load);
+            load.visible = visible;
+            queued.add(load);
+        } else {
+            load.visible = visible;
+        }
+    }
+
+    synchronized int getRunningCount() {
+        return running;
+    }
+
+    synchronized int getQueuedCount() {
+        return queued.size();
+    }
+
+    private void startQueued() {
+        while (running < maxRunning) {
+            Load next = null;
+            for (Load load : queued) {
+                if (canStart(load)) {
+                    next = load;
+                    break;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            queued.remove(next);
+            next.queued = false;
+            start(next);
+        }
+    }
+
+    private boolean canStart(Load load) {
+        if (running >= maxRunning) {
+            return false;
+        }
+        return load.host == null
+                || runningPerHost.getOrDefault(load.host, 0) < maxRunningPerHost;
+    }
+
+    private void start(Load load) {
+        load.running = true;
+        running++;
+        if (load.host != null) {
+            runningPerHost.merge(load.host, 1, Integer::sum);
+        }
+        load.run();
+    }
+
+    /**
+     * Returns the host of a URL that loads from the network, or {@code null}
+     * for local URLs.
+     */
+    static String networkHost(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            final URL parsed = new URL(url);
+            final String protocol = parsed.getProtocol();
+            if ("file".equals(protocol) || "jar".equals(protocol) || "jrt".equals(protocol)) {
+                return null;
+            }
+            final String host = parsed.getHost();
+            return (host == null || host.isEmpty()) ? null : host.toLowerCase();
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import com.sun.javafx.sg.prism.NGImageView;
 import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.tk.Toolkit;
 import javafx.beans.DefaultProperty;
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.*;
 import javafx.css.CssMetaData;
@@ -223,6 +224,15 @@ public class ImageView extends Node {
                         impl_geomChanged();
                     }
                     impl_markDirty(DirtyBits.NODE_CONTENTS);
+
+                    if (sceneListener == null && _image != null
+                            && _image.isBackgroundLoading() && _image.getProgress() < 1) {
+                        sceneListener = observable -> updateShownImage();
+                        sceneProperty().addListener(sceneListener);
+                    }
+                    if (sceneListener != null) {
+                        updateShownImage();
+                    }
                 }
 
                 @Override
@@ -239,6 +249,25 @@ public class ImageView extends Node {
         return image;
     }
 
+    // Background loads of images shown by an ImageView in a scene start
+    // first. The image shown by this view is tracked once it has shown an
+    // image that was loading in background.
+    private InvalidationListener sceneListener;
+    private Image shownImage;
+
+    private void updateShownImage() {
+        final Image newShownImage = (getScene() != null) ? getImage() : null;
+        if (newShownImage != shownImage) {
+            if (shownImage != null) {
+                shownImage.viewHidden();
+            }
+            shownImage = newShownImage;
+            if (newShownImage != null) {
+                newShownImage.viewShown();
+            }
+        }
+    }
+
     private StringProperty imageUrl = null;
     /**
      * The imageUrl property is set from CSS and then the image property is
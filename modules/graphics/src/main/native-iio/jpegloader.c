@@ -1526,9 +1526,8 @@ JNIEXPORT jint JNICALL Java_com_sun_javafx_iio_jpeg_JPEGImageLoader_startDecompr
     struct jpeg_source_mgr *src = cinfo->src;
     sun_jpeg_error_ptr jerr;
 
-    jfloat x_scale;
-    jfloat y_scale;
-    jfloat max_scale;
+    jlong x_scale;
+    jlong y_scale;
 
     if (GET_ARRAYS(env, data, &cinfo->src->next_input_byte) == NOT_OK) {
         ThrowByName(env,
@@ -1563,28 +1562,26 @@ JNIEXPORT jint JNICALL Java_com_sun_javafx_iio_jpeg_JPEGImageLoader_startDecompr
      *     unsigned int scale_num, scale_denom
      *
      *     Scale the image by the fraction scale_num/scale_denom.  Default is
-     *     1/1, or no scaling.  Currently, the only supported scaling ratios
-     *     are 1/1, 1/2, 1/4, and 1/8.  (The library design allows for arbitrary
-     *     scaling ratios but this is not likely to be implemented any time soon.)
+     *     1/1, or no scaling.  Currently, the supported scaling ratios are
+     *     M/N with all M from 1 to 16, where N is the source DCT size, which
+     *     is 8 for baseline JPEG.
      *     Smaller scaling ratios permit significantly faster decoding since
      *     fewer pixels need be processed and a simpler IDCT method can be used.
+     *
+     * Use the smallest ratio N/8 that still produces at least the requested
+     * size, so that as little as possible is left to the Java scaler.
      */
 
-    cinfo->scale_num = 1;
-
-    x_scale = (jfloat) dest_width / (jfloat) cinfo->image_width;
-    y_scale = (jfloat) dest_height / (jfloat) cinfo->image_height;
-    max_scale = x_scale > y_scale ? x_scale : y_scale;
+    x_scale = ((jlong) dest_width * 8 + cinfo->image_width - 1) / cinfo->image_width;
+    y_scale = ((jlong) dest_height * 8 + cinfo->image_height - 1) / cinfo->image_height;
 
-    if (max_scale > 0.5) {
-        cinfo->scale_denom = 1;
-    } else if (max_scale > 0.25) {
-        cinfo->scale_denom = 2;
-    } else if (max_scale > 0.125) {
-        cinfo->scale_denom = 4;
-    } else {
-        cinfo->scale_denom = 8;
+    cinfo->scale_num = (unsigned int) (x_scale > y_scale ? x_scale : y_scale);
+    if (cinfo->scale_num < 1) {
+        cinfo->scale_num = 1;
+    } else if (cinfo->scale_num > 8) {
+        cinfo->scale_num = 8;
     }
+    cinfo->scale_denom = 8;
 
     jpeg_start_decompress(cinfo);
 
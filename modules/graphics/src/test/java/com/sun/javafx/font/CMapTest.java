@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import com.sun.javafx.font.FontFileReader.Buffer;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CMapTest {
+
+    private static Buffer[] buffers(ByteBuffer data) {
+        byte[] bytes = new byte[data.capacity()];
+        data.get(bytes);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        return new Buffer[] {new Buffer(bytes, 0), new Buffer(direct, 0)};
+    }
+
+    @Test
+    public void testFormat4() {
+        ByteBuffer data = ByteBuffer.allocate(48);
+        data.putShort((short) 4).putShort((short) 48).putShort((short) 0);
+        data.putShort((short) 6).putShort((short) 4).putShort((short) 1)
+            .putShort((short) 2);
+        data.putChar((char) 0x7e).putChar((char) 0x4e03).putChar((char) 0xffff);
+        data.putShort((short) 0);
+        data.putChar((char) 0x20).putChar((char) 0x4e00).putChar((char) 0xffff);
+        data.putShort((short) -29).putShort((short) 0).putShort((short) 1);
+        data.putShort((short) 0).putShort((short) 4).putShort((short) 0);
+        data.putChar((char) 100).putChar((char) 101).putChar((char) 0)
+            .putChar((char) 103);
+        data.flip();
+
+        for (Buffer buffer : buffers(data)) {
+            CMap cmap = CMap.createCMap(buffer, 0);
+            assertEquals(36, cmap.getGlyph('A'));
+            assertEquals(97, cmap.getGlyph('~'));
+            assertEquals(0, cmap.getGlyph(0x100));
+            assertEquals(100, cmap.getGlyph(0x4e00));
+            assertEquals(101, cmap.getGlyph(0x4e01));
+            assertEquals(0, cmap.getGlyph(0x4e02));
+            assertEquals(103, cmap.getGlyph(0x4e03));
+            assertEquals(0, cmap.getGlyph(0x1f600));
+        }
+    }
+
+    @Test
+    public void testFormat12() {
+        ByteBuffer data = ByteBuffer.allocate(16 + 3 * 12);
+        data.putShort((short) 12).putShort((short) 0).putInt(52).putInt(0);
+        data.putInt(3);
+        data.putInt(0x41).putInt(0x5a).putInt(10);
+        data.putInt(0x4e00).putInt(0x9fff).putInt(200);
+        data.putInt(0x1f600).putInt(0x1f64f).putInt(500);
+        data.flip();
+
+        for (Buffer buffer : buffers(data)) {
+            CMap cmap = CMap.createCMap(buffer, 0);
+            assertEquals(10, cmap.getGlyph('A'));
+            assertEquals(12, cmap.getGlyph('C'));
+            assertEquals(0, cmap.getGlyph('a'));
+            assertEquals(201, cmap.getGlyph(0x4e01));
+            assertEquals(501, cmap.getGlyph(0x1f601));
+            assertEquals(0, cmap.getGlyph(0x1f650));
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FontFileIndexTest {
+
+    private Path dir;
+    private List<String> files;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("fontindex");
+        files = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Path file = dir.resolve("font" + i + ".ttf");
+            Files.write(file, new byte[] {(byte) i});
+            files.add(file.toString());
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        for (File f : dir.toFile().listFiles()) {
+            f.delete();
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testOnlyChangedFilesRead() throws IOException {
+        FontFileIndex index = new FontFileIndex(null);
+        AtomicInteger reads = new AtomicInteger();
+        index.update(dir.toString(), files, path -> {
+            reads.incrementAndGet();
+            return false;
+        });
+        assertEquals(files.size(), reads.get());
+        for (String file : files) {
+            assertEquals(0, index.getFaces(file).length);
+        }
+        assertNull(index.getFaces(dir.resolve("other.ttf").toString()));
+
+        reads.set(0);
+        index.update(dir.toString(), files, path -> {
+            reads.incrementAndGet();
+            return false;
+        });
+        assertEquals(0, reads.get());
+
+        /* A file whose size changed is read again */
+        Files.write(new File(files.get(3)).toPath(), new byte[] {1, 2, 3});
+        index.update(dir.toString(), files, path -> {
+            assertEquals(files.get(3), path);
+            reads.incrementAndGet();
+            return false;
+        });
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        Path file = dir.resolve("index");
+        FontFileIndex index = new FontFileIndex(file);
+        index.load();
+        index.update(dir.toString(), files, path -> false);
+        assertTrue(Files.isRegularFile(file));
+
+        FontFileIndex loaded = new FontFileIndex(file);
+        loaded.load();
+        for (String f : files) {
+            assertNotNull(loaded.getFaces(f));
+        }
+        AtomicInteger reads = new AtomicInteger();
+        loaded.update(dir.toString(), files, path -> {
+            reads.incrementAndGet();
+            return false;
+        });
+        assertEquals(0, reads.get());
+    }
+
+    @Test
+    public void testRemovedFilesArePruned() throws IOException {
+        Path file = dir.resolve("index");
+        FontFileIndex index = new FontFileIndex(file);
+        index.update(dir.toString(), files, path -> false);
+        String other = dir.resolve("other").resolve("font.ttf").toString();
+        index.update(null, Arrays.asList(other), path -> false);
+
+        String removed = files.remove(5);
+        index.update(dir.toString(), files, path -> false);
+        assertNull(index.getFaces(removed));
+        assertNotNull(index.getFaces(files.get(5)));
+        /* Files that are not directly in the directory are kept */
+        assertNotNull(index.getFaces(other));
+
+        FontFileIndex loaded = new FontFileIndex(file);
+        loaded.load();
+        assertNull(loaded.getFaces(removed));
+        assertNotNull(loaded.getFaces(files.get(5)));
+    }
+
+    /* A font with a 'head', a 'cmap' and a 'name' table, which has a family
+     * and a full name
+     */
+    private static void writeFont(String file, short indexToLocFormat)
+        throws IOException
+    {
+        String[] names = {"Test Family", "Test Full"};
+        ByteBuffer font = ByteBuffer.allocate(200);
+        int numTables = 3;
+        font.putInt(FontConstants.v1ttTag).putShort((short) numTables).put(new byte[6]);
+        int headOffset = 12 + 16 * numTables;
+        int headLength = 54;
+        int cmapOffset = headOffset + headLength;
+        int cmapLength = 12;
+        int nameOffset = cmapOffset + cmapLength;
+        int stringOffset = 6 + 12 * names.length;
+        int nameLength = stringOffset + 2 * (names[0].length() + names[1].length());
+        font.putInt(FontConstants.headTag).putInt(0).putInt(headOffset).putInt(headLength);
+        font.putInt(FontConstants.cmapTag).putInt(0).putInt(cmapOffset).putInt(cmapLength);
+        font.putInt(FontConstants.nameTag).putInt(0).putInt(nameOffset).putInt(nameLength);
+        font.put(new byte[18]).putShort((short) 2048).put(new byte[30])
+            .putShort(indexToLocFormat).putShort((short) 0);
+        font.putShort((short) 0).putShort((short) 1)
+            .putShort((short) PrismFontFile.MS_PLATFORM_ID).putShort((short) 1).putInt(4);
+        font.putShort((short) 0).putShort((short) names.length).putShort((short) stringOffset);
+        int ptr = 0;
+        for (int i = 0; i < names.length; i++) {
+            int len = 2 * names[i].length();
+            font.putShort((short) PrismFontFile.MS_PLATFORM_ID).putShort((short) 1)
+                .putShort(PrismFontFile.MS_ENGLISH_LOCALE_ID)
+                .putShort((short) (i == 0 ? PrismFontFile.FAMILY_NAME_ID
+                                          : PrismFontFile.FULL_NAME_ID))
+                .putShort((short) len).putShort((short) ptr);
+            ptr += len;
+        }
+        for (String name : names) {
+            font.put(name.getBytes(StandardCharsets.UTF_16BE));
+        }
+        Files.write(new File(file).toPath(),
+                    Arrays.copyOf(font.array(), font.position()));
+    }
+
+    @Test
+    public void testReadFaces() throws IOException {
+        writeFont(files.get(0), (short) 0);
+
+        short locale = PrismFontFile.MS_ENGLISH_LOCALE_ID;
+        FontFileIndex.Face[] faces = FontFileIndex.readFaces(files.get(0), locale);
+        assertEquals(1, faces.length);
+        assertEquals("Test Full", faces[0].fullName);
+        assertEquals("Test Family", faces[0].familyName);
+        assertEquals("Test Full", faces[0].localeFullName);
+    }
+
+    @Test
+    public void testLoadFaces() throws IOException {
+        Path file = dir.resolve("index");
+        File font = new File(files.get(0));
+        String line = font.getPath() + "\t" + font.lastModified() + "\t" + font.length()
+                + "\tArial\tArial\tArial\tArial"
+                + "\tArial Bold\tArial\tArial Gras\tArial";
+        Files.write(file, Arrays.asList("JFXFONTINDEX 1", line, "bad line"));
+
+        FontFileIndex index = new FontFileIndex(file);
+        index.load();
+        FontFileIndex.Face[] faces = index.getFaces(font.getPath());
+        assertEquals(2, faces.length);
+        assertEquals("Arial", faces[0].fullName);
+        assertEquals("Arial Bold", faces[1].fullName);
+        assertEquals("Arial", faces[1].familyName);
+        assertEquals("Arial Gras", faces[1].localeFullName);
+        assertNull(index.getFaces(files.get(1)));
+    }
+
+    @Test
+    public void testFontThatCannotBeCreatedIsNotRead() throws IOException {
+        writeFont(files.get(0), (short) 2);
+        List<FontNames> fonts = new ArrayList<>();
+        try {
+            FontNames.readFonts(files.get(0), PrismFontFile.MS_ENGLISH_LOCALE_ID, fonts);
+            fail("Bad indexToLocFormat accepted");
+        } catch (Exception e) {
+            assertTrue(fonts.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import com.sun.javafx.font.FontFileReader.Buffer;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FontFileReaderTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("fontreader", ".ttf");
+        write(4096, 0);
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    private void write(int length, int seed) throws IOException {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 7 + seed);
+        }
+        Files.write(file.toPath(), data);
+    }
+
+    private static int expectedInt(int offset, int seed) {
+        int val = 0;
+        for (int i = 0; i < 4; i++) {
+            val = (val << 8) | ((offset + i) * 7 + seed) & 0xff;
+        }
+        return val;
+    }
+
+    @Test
+    public void testMappedAndHeapReadsAgree() throws Exception {
+        FontFileReader mapped = new FontFileReader(file.getPath(), true);
+        FontFileReader heap = new FontFileReader(file.getPath(), false);
+        assertTrue(mapped.openFile());
+        assertTrue(heap.openFile());
+        assertNotNull(mapped.mapped);
+        assertNull(heap.mapped);
+        assertEquals(4096, mapped.getLength());
+        assertEquals(4096, heap.getLength());
+
+        int[][] blocks = {{0, 12}, {100, 16}, {1000, 2000}, {4090, 6}};
+        for (int[] block : blocks) {
+            Buffer m = mapped.readBlock(block[0], block[1]);
+            Buffer h = heap.readBlock(block[0], block[1]);
+            assertTrue(m.data.isDirect());
+            assertEquals(block[1], m.capacity());
+            for (int i = 0; i + 4 <= block[1]; i += 2) {
+                assertEquals(expectedInt(block[0] + i, 0), m.getInt(i));
+                assertEquals(h.getInt(i), m.getInt(i));
+                assertEquals(h.getShort(i), m.getShort(i));
+            }
+        }
+        heap.closeFile();
+        mapped.closeFile();
+        // the mapping outlives closeFile(), there is nothing to reopen
+        assertFalse(mapped.openFile());
+        assertEquals(expectedInt(8, 0), mapped.readBlock(8, 4).getInt());
+    }
+
+    @Test
+    public void testSmallFileIsNotMapped() throws Exception {
+        FontFileReader small = new FontFileReader(file.getPath(), 4097);
+        assertTrue(small.openFile());
+        assertNull(small.mapped);
+        assertEquals(expectedInt(20, 0), small.readBlock(20, 4).getInt());
+        small.closeFile();
+
+        FontFileReader large = new FontFileReader(file.getPath(), 4096);
+        assertTrue(large.openFile());
+        assertNotNull(large.mapped);
+    }
+
+    @Test
+    public void testMappingIsShared() throws Exception {
+        FontFileReader r1 = new FontFileReader(file.getPath());
+        FontFileReader r2 = new FontFileReader(file.getPath());
+        r1.openFile();
+        r2.openFile();
+        assertSame(r1.mapped, r2.mapped);
+
+        // a file that changed on disk is mapped again
+        write(2048, 3);
+        FontFileReader r3 = new FontFileReader(file.getPath());
+        r3.openFile();
+        assertNotSame(r1.mapped, r3.mapped);
+        assertEquals(2048, r3.getLength());
+        assertEquals(expectedInt(20, 3), r3.readBlock(20, 4).getInt());
+    }
+
+    @Test
+    public void testFailedMappingIsReadFromTheFile() throws Exception {
+        FontFileReader reader = new FontFileReader(file.getPath());
+        assertTrue(reader.openFile());
+        assertNotNull(reader.mapped);
+
+        byte[] data = FontFileReader.mappingFailed(file.getPath(), 1000, 8);
+        assertEquals(expectedInt(1000, 0), ByteBuffer.wrap(data).getInt(0));
+        assertEquals(expectedInt(1004, 0), ByteBuffer.wrap(data).getInt(4));
+
+        // the file is not mapped again
+        FontFileReader again = new FontFileReader(file.getPath());
+        assertTrue(again.openFile());
+        assertNull(again.mapped);
+        Buffer buffer = again.readBlock(20, 4);
+        assertFalse(buffer.data.isDirect());
+        assertEquals(expectedInt(20, 0), buffer.getInt());
+        again.closeFile();
+    }
+
+    @Test
+    public void testSliceSurvivesFurtherReads() throws Exception {
+        for (boolean map : new boolean[] {true, false}) {
+            FontFileReader reader = new FontFileReader(file.getPath(), map);
+            reader.openFile();
+            Buffer slice = reader.readBlock(200, 64).slice(8, 16);
+            reader.readBlock(2000, 64);
+            reader.closeFile();
+            assertEquals(16, slice.capacity());
+            assertEquals(expectedInt(208, 0), slice.getInt(0));
+            assertEquals(expectedInt(220, 0), slice.getInt(12));
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.sun.javafx.font.GlyphDiskCache.CachedGlyph;
+import com.sun.javafx.font.GlyphDiskCache.StrikeKey;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.RectBounds;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GlyphDiskCacheTest {
+
+    private static final String RASTERIZER = "test subpixel=0";
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("glyphs", ".cache").toPath();
+        Files.delete(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".strikes"));
+    }
+
+    private static StrikeKey key(float size) {
+        return new StrikeKey(0x1234L << 32 | 0x89abcdefL, "Test Font", size,
+                             1, 0, 0, 1, FontResource.AA_GREYSCALE);
+    }
+
+    private static CachedGlyph glyph(int code, int width, int height) {
+        byte[] pixels = new byte[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = (byte) (code + i);
+        }
+        return new CachedGlyph(null, code, pixels, 1, -height, width, height,
+                               width + 1.5f, 0, false);
+    }
+
+    private static void assertGlyph(CachedGlyph expected, CachedGlyph actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getGlyphCode(), actual.getGlyphCode());
+        assertArrayEquals(expected.getPixelData(), actual.getPixelData());
+        assertEquals(expected.getOriginX(), actual.getOriginX());
+        assertEquals(expected.getOriginY(), actual.getOriginY());
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getPixelXAdvance(), actual.getPixelXAdvance(), 0);
+        assertEquals(expected.getPixelYAdvance(), actual.getPixelYAdvance(), 0);
+    }
+
+    @Test
+    public void testWriteAndMap() throws IOException {
+        Map<StrikeKey, Map<Integer, CachedGlyph>> glyphs = new HashMap<>();
+        Map<Integer, CachedGlyph> small = new HashMap<>();
+        Map<Integer, CachedGlyph> large = new HashMap<>();
+        for (int code = 10; code > 0; code--) {
+            small.put(code, glyph(code, 5, 7));
+            large.put(2 << 24 | code, glyph(code, 11, 13));
+        }
+        glyphs.put(key(12), small);
+        glyphs.put(key(24), large);
+        GlyphDiskCache.write(file, RASTERIZER, glyphs);
+
+        GlyphDiskCache cache = new GlyphDiskCache(file, RASTERIZER, false);
+        cache.open();
+        for (int code = 1; code <= 10; code++) {
+            assertGlyph(small.get(code), cache.lookup(key(12), null, code, 0));
+            assertGlyph(large.get(2 << 24 | code), cache.lookup(key(24), null, code, 2));
+            assertNull(cache.lookup(key(24), null, code, 0));
+        }
+        assertNull(cache.lookup(key(12), null, 11, 0));
+        assertNull(cache.lookup(key(18), null, 1, 0));
+        assertArrayEquals(new int[] {20, 12}, cache.getStatistics());
+    }
+
+    @Test
+    public void testOtherRasterizerIgnored() throws IOException {
+        Map<StrikeKey, Map<Integer, CachedGlyph>> glyphs = new HashMap<>();
+        Map<Integer, CachedGlyph> small = new HashMap<>();
+        small.put(1, glyph(1, 5, 7));
+        glyphs.put(key(12), small);
+        GlyphDiskCache.write(file, RASTERIZER, glyphs);
+
+        GlyphDiskCache cache = new GlyphDiskCache(file, "other subpixel=0", false);
+        cache.open();
+        assertNull(cache.lookup(key(12), null, 1, 0));
+    }
+
+    @Test
+    public void testDamagedFileIgnored() throws IOException {
+        Files.write(file, new byte[] {0x4a, 0x46, 0x47, 0x43, 0, 0, 0, 1, 0x7f});
+        GlyphDiskCache cache = new GlyphDiskCache(file, RASTERIZER, false);
+        cache.open();
+        assertNull(cache.lookup(key(12), null, 1, 0));
+    }
+
+    @Test
+    public void testRecordAndSave() throws IOException {
+        GlyphDiskCache cache = new GlyphDiskCache(file, RASTERIZER, true);
+        cache.open();
+        CachedGlyph first = glyph(3, 4, 4);
+        cache.add(key(12), "/fonts/test.ttf", 0, first);
+        assertGlyph(first, cache.lookup(key(12), null, 3, 0));
+        cache.save();
+
+        // a second run adds to the glyphs of the first
+        cache = new GlyphDiskCache(file, RASTERIZER, true);
+        cache.open();
+        assertGlyph(first, cache.lookup(key(12), null, 3, 0));
+        CachedGlyph second = glyph(4, 6, 2);
+        cache.add(key(12), "/fonts/test.ttf", 1, second);
+        cache.save();
+
+        cache = new GlyphDiskCache(file, RASTERIZER, false);
+        cache.open();
+        assertGlyph(first, cache.lookup(key(12), null, 3, 0));
+        assertGlyph(second, cache.lookup(key(12), null, 4, 1));
+
+        Path strikes = file.resolveSibling(file.getFileName() + ".strikes");
+        String[] fields = Files.readAllLines(strikes).get(0).split("\t");
+        assertEquals("/fonts/test.ttf", fields[0]);
+        assertEquals(key(12), StrikeKey.parse(fields));
+        assertEquals(8, fields.length);
+    }
+
+    @Test
+    public void testUserSpaceValuesComeFromTheStrike() throws IOException {
+        Path2D outline = new Path2D();
+        outline.moveTo(0, 0);
+        outline.lineTo(5, 7);
+        Glyph strikeGlyph = stub(Glyph.class, (method, args) ->
+                method.equals("getShape") ? outline : null);
+        FontResource font = stub(FontResource.class, (method, args) -> {
+            switch (method) {
+                case "getAdvance":
+                    return (Float) args[1] / 2;
+                case "getGlyphBoundingBox":
+                    float[] bb = (float[]) args[2];
+                    bb[0] = 1; bb[1] = -7; bb[2] = 6; bb[3] = 0;
+                    return bb;
+                default:
+                    return null;
+            }
+        });
+        FontStrike strike = stub(FontStrike.class, (method, args) -> {
+            switch (method) {
+                case "getFontResource": return font;
+                case "getSize": return 12f;
+                case "getGlyph": return strikeGlyph;
+                default: return null;
+            }
+        });
+
+        Map<StrikeKey, Map<Integer, CachedGlyph>> glyphs = new HashMap<>();
+        Map<Integer, CachedGlyph> small = new HashMap<>();
+        small.put(3, glyph(3, 5, 7));
+        glyphs.put(key(12), small);
+        GlyphDiskCache.write(file, RASTERIZER, glyphs);
+        GlyphDiskCache cache = new GlyphDiskCache(file, RASTERIZER, false);
+        cache.open();
+
+        CachedGlyph glyph = cache.lookup(key(12), strike, 3, 0);
+        assertEquals(6, glyph.getAdvance(), 0);
+        assertEquals(new RectBounds(1, -7, 6, 0), glyph.getBBox());
+        assertSame(outline, glyph.getShape());
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> answer.answer(method.getName(), args)));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio;
+
+import com.sun.javafx.iio.common.ImageTools;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class ImageLoaderRegionTest {
+
+    private BufferedImage createImage(int w, int h, int type) {
+        BufferedImage bImg = new BufferedImage(w, h, type);
+        ImageTestHelper.drawImageRandom(bImg);
+        return bImg;
+    }
+
+    private ByteArrayInputStream writeInterlacedPNG(BufferedImage bImg) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            Iterator<ImageWriter> iter = ImageIO.getImageWritersByFormatName("png");
+            ImageWriter writer = iter.next();
+            ImageWriteParam iwp = writer.getDefaultWriteParam();
+            iwp.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(ios);
+            try {
+                writer.write(null, new IIOImage(bImg, null, null), iwp);
+            } finally {
+                writer.dispose();
+                ios.flush();
+            }
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static byte[] getPixels(ImageFrame frame) {
+        ByteBuffer buffer = (ByteBuffer) frame.getImageData();
+        int numBands = ImageStorage.getNumBands(frame.getImageType());
+        int rowLength = frame.getWidth() * numBands;
+        byte[] pixels = new byte[rowLength * frame.getHeight()];
+        for (int y = 0; y < frame.getHeight(); y++) {
+            buffer.position(y * frame.getStride());
+            buffer.get(pixels, y * rowLength, rowLength);
+        }
+        buffer.rewind();
+        return pixels;
+    }
+
+    // the region must come out exactly as if the whole image had been
+    // loaded, cropped and scaled
+    private void testRegion(ByteArrayInputStream in, int x, int y, int rw, int rh,
+            int width, int height, boolean smooth) throws Exception {
+        in.reset();
+        ImageFrame[] frames = ImageStorage.loadAll(in, null, 0, 0, false, 1.0f, false);
+        assertNotNull(frames);
+        ImageFrame expected = ImageTools.cropImageFrame(frames[0], x, y, rw, rh);
+        if (width != rw || height != rh) {
+            expected = ImageTools.scaleImageFrame(expected, width, height, smooth);
+        }
+
+        in.reset();
+        ImageFrame frame = ImageStorage.loadRegion(in, null, x, y, rw, rh,
+                width, height, false, smooth);
+        assertNotNull(frame);
+        assertEquals(expected.getImageType(), frame.getImageType());
+        assertEquals(width, frame.getWidth());
+        assertEquals(height, frame.getHeight());
+        assertArrayEquals(getPixels(expected), getPixels(frame));
+    }
+
+    private void testRegions(ByteArrayInputStream in) throws Exception {
+        testRegion(in, 0, 0, 60, 40, 60, 40, false);
+        testRegion(in, 0, 0, 60, 40, 17, 9, true);
+        testRegion(in, 0, 0, 60, 40, 17, 9, false);
+        testRegion(in, 10, 5, 30, 20, 30, 20, false);
+        testRegion(in, 10, 5, 30, 20, 7, 11, true);
+        testRegion(in, 59, 39, 1, 1, 1, 1, false);
+        testRegion(in, 45, 0, 15, 40, 5, 40, true);
+    }
+
+    @Test
+    public void testRegionsPNG() throws Exception {
+        int[] types = {
+            BufferedImage.TYPE_INT_RGB,
+            BufferedImage.TYPE_INT_ARGB,
+            BufferedImage.TYPE_BYTE_GRAY,
+            BufferedImage.TYPE_USHORT_GRAY,
+            BufferedImage.TYPE_BYTE_BINARY,
+            BufferedImage.TYPE_BYTE_INDEXED
+        };
+        for (int type : types) {
+            testRegions(ImageTestHelper.writeImageToStream(
+                    createImage(60, 40, type), "png", null));
+        }
+    }
+
+    @Test
+    public void testRegionsInterlacedPNG() throws Exception {
+        testRegions(writeInterlacedPNG(createImage(60, 40, BufferedImage.TYPE_INT_ARGB)));
+        testRegions(writeInterlacedPNG(createImage(60, 40, BufferedImage.TYPE_BYTE_INDEXED)));
+    }
+
+    @Test
+    public void testRegionsBMP() throws Exception {
+        testRegions(ImageTestHelper.writeImageToStream(
+                createImage(60, 40, BufferedImage.TYPE_INT_RGB), "bmp", null));
+    }
+
+    @Test
+    public void testRegionsGIF() throws Exception {
+        testRegions(ImageTestHelper.writeImageToStream(
+                createImage(60, 40, BufferedImage.TYPE_INT_RGB), "gif", null));
+    }
+
+    @Test
+    public void testRegionIsClipped() throws Exception {
+        ByteArrayInputStream in = ImageTestHelper.writeImageToStream(
+                createImage(60, 40, BufferedImage.TYPE_INT_RGB), "png", null);
+        ImageFrame frame = ImageStorage.loadRegion(in, null, 50, -10, 20, 30,
+                0, 0, false, false);
+        assertEquals(10, frame.getWidth());
+        assertEquals(20, frame.getHeight());
+        testRegion(in, 50, 0, 10, 20, 10, 20, false);
+    }
+
+    @Test
+    public void testRegionPreservesAspectRatio() throws Exception {
+        ByteArrayInputStream in = ImageTestHelper.writeImageToStream(
+                createImage(60, 40, BufferedImage.TYPE_INT_RGB), "png", null);
+        ImageFrame frame = ImageStorage.loadRegion(in, null, 0, 0, 20, 40,
+                10, 10, true, true);
+        assertEquals(5, frame.getWidth());
+        assertEquals(10, frame.getHeight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegionOutsideOfImage() throws Exception {
+        ByteArrayInputStream in = ImageTestHelper.writeImageToStream(
+                createImage(60, 40, BufferedImage.TYPE_INT_RGB), "png", null);
+        ImageStorage.loadRegion(in, null, 60, 0, 10, 10, 0, 0, false, false);
+    }
+
+    // rows below the region are never decoded, so a truncated image can
+    // still provide the rows above the truncation
+    @Test
+    public void testRegionAboveTruncatedDataPNG() throws Exception {
+        ByteArrayInputStream full = ImageTestHelper.writeImageToStream(
+                createImage(600, 400, BufferedImage.TYPE_INT_RGB), "png", null);
+        byte[] data = new byte[full.available()];
+        full.read(data);
+        ByteArrayInputStream in = new ByteArrayInputStream(data, 0, data.length / 2);
+        ImageFrame frame = ImageStorage.loadRegion(in, null, 0, 0, 600, 10,
+                60, 1, false, true);
+        assertEquals(60, frame.getWidth());
+        assertEquals(1, frame.getHeight());
+    }
+}
@@ -25,10 +25,28 @@
 
 package com.sun.javafx.iio.png;
 
+import com.sun.javafx.iio.ImageFrame;
 import com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import static org.junit.Assert.*;
 import org.junit.Test;
 
 public class PNGImageLoaderTest {
@@ -75,4 +93,126 @@ public class PNGImageLoaderTest {
         ByteArrayInputStream stream = ImageTestHelper.constructStreamFromInts(corruptedIDATLength);
         testImage(stream);
     }
+
+    private static byte[] writePNG(BufferedImage bImg, boolean interlaced) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            Iterator<ImageWriter> iter = ImageIO.getImageWritersByFormatName("png");
+            ImageWriter writer = iter.next();
+            ImageWriteParam iwp = writer.getDefaultWriteParam();
+            iwp.setProgressiveMode(interlaced
+                    ? ImageWriteParam.MODE_DEFAULT : ImageWriteParam.MODE_DISABLED);
+            writer.setOutput(ios);
+            try {
+                writer.write(null, new IIOImage(bImg, null, null), iwp);
+            } finally {
+                writer.dispose();
+                ios.flush();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] getPixels(ImageFrame frame) {
+        ByteBuffer buffer = (ByteBuffer) frame.getImageData();
+        byte[] pixels = new byte[buffer.remaining()];
+        buffer.get(pixels);
+        buffer.rewind();
+        return pixels;
+    }
+
+    private static ImageFrame load(byte[] png, boolean parallel, int x, int y, int w, int h,
+            int width, int height) throws IOException {
+        int minParallelSize = PNGImageLoader2.minParallelSize;
+        PNGImageLoader2.minParallelSize = parallel ? 0 : Integer.MAX_VALUE;
+        try {
+            return new PNGImageLoader2(new ByteArrayInputStream(png))
+                    .load(0, x, y, w, h, width, height, false, true);
+        } finally {
+            PNGImageLoader2.minParallelSize = minParallelSize;
+        }
+    }
+
+    private void testParallelDecode(int type, boolean interlaced) throws IOException {
+        BufferedImage bImg = new BufferedImage(157, 301, type);
+        ImageTestHelper.drawImageRandom(bImg);
+        byte[] png = writePNG(bImg, interlaced);
+        int[][] loads = {
+            {0, 0, 157, 301, 0, 0},
+            {0, 0, 157, 301, 40, 30},
+            {20, 100, 50, 60, 0, 0},
+            {0, 290, 157, 11, 15, 1}
+        };
+        for (int[] l : loads) {
+            ImageFrame expected = load(png, false, l[0], l[1], l[2], l[3], l[4], l[5]);
+            ImageFrame frame = load(png, true, l[0], l[1], l[2], l[3], l[4], l[5]);
+            assertEquals(expected.getImageType(), frame.getImageType());
+            assertEquals(expected.getWidth(), frame.getWidth());
+            assertEquals(expected.getHeight(), frame.getHeight());
+            assertArrayEquals(getPixels(expected), getPixels(frame));
+        }
+    }
+
+    @Test
+    public void testParallelDecode() throws IOException {
+        int[] types = {
+            BufferedImage.TYPE_INT_RGB,
+            BufferedImage.TYPE_INT_ARGB,
+            BufferedImage.TYPE_USHORT_GRAY,
+            BufferedImage.TYPE_BYTE_BINARY,
+            BufferedImage.TYPE_BYTE_INDEXED
+        };
+        for (int type : types) {
+            testParallelDecode(type, false);
+            testParallelDecode(type, true);
+        }
+    }
+
+    @Test
+    public void testConcurrentParallelDecodes() throws Exception {
+        BufferedImage bImg = new BufferedImage(300, 300, BufferedImage.TYPE_INT_ARGB);
+        ImageTestHelper.drawImageRandom(bImg);
+        for (boolean interlaced : new boolean[] {false, true}) {
+            byte[] png = writePNG(bImg, interlaced);
+            byte[] expected = getPixels(load(png, false, 0, 0, 300, 300, 0, 0));
+            int minParallelSize = PNGImageLoader2.minParallelSize;
+            PNGImageLoader2.minParallelSize = 0;
+            try {
+                // more decodes than there are workers, so some of them have
+                // to run on their own thread
+                List<Future<byte[]>> results = new ArrayList<>();
+                ExecutorService callers = Executors.newFixedThreadPool(8);
+                try {
+                    for (int i = 0; i < 8; i++) {
+                        results.add(callers.submit(() -> getPixels(
+                                new PNGImageLoader2(new ByteArrayInputStream(png))
+                                        .load(0, 0, 0, 300, 300, 0, 0, false, true))));
+                    }
+                    for (Future<byte[]> result : results) {
+                        assertArrayEquals(expected, result.get(10, TimeUnit.SECONDS));
+                    }
+                } finally {
+                    callers.shutdownNow();
+                }
+            } finally {
+                PNGImageLoader2.minParallelSize = minParallelSize;
+            }
+        }
+    }
+
+    @Test
+    public void testParallelDecodeTruncated() throws IOException {
+        BufferedImage bImg = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+        ImageTestHelper.drawImageRandom(bImg);
+        for (boolean interlaced : new boolean[] {false, true}) {
+            byte[] png = writePNG(bImg, interlaced);
+            png = Arrays.copyOf(png, png.length / 2);
+            try {
+                load(png, true, 0, 0, 400, 400, 0, 0);
+                fail("truncated image was loaded");
+            } catch (IOException e) {
+                // expected
+            }
+        }
+    }
 }
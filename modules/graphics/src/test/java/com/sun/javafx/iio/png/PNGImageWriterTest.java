@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio.png;
+
+import com.sun.javafx.iio.ImageFrame;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.zip.Adler32;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class PNGImageWriterTest {
+
+    private static int[] createPixels(int w, int h, boolean opaque) {
+        Random random = new Random(1);
+        int[] argb = new int[w * h];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                // smooth gradients with some noise, so that every filter
+                // gets chosen for some rows
+                int r = x * 255 / w, g = y * 255 / h, b = random.nextInt(256);
+                int a = opaque ? 0xff : (x + y) & 0xff;
+                argb[y * w + x] = a << 24 | r << 16 | g << 8 | b;
+            }
+        }
+        return argb;
+    }
+
+    private static byte[] write(int[] argb, int w, int h, PNGImageWriter.Filter filter,
+            int parallelism, int compressionLevel) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PNGImageWriter writer = new PNGImageWriter(out);
+        writer.setFilter(filter);
+        writer.setParallelism(parallelism);
+        writer.setCompressionLevel(compressionLevel);
+        writer.write(IntBuffer.wrap(argb), w, h, w);
+        return out.toByteArray();
+    }
+
+    private static void checkImageIO(byte[] png, int[] argb, int w, int h, boolean opaque)
+            throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(w, image.getWidth());
+        assertEquals(h, image.getHeight());
+        assertEquals(!opaque, image.getColorModel().hasAlpha());
+        int[] decoded = image.getRGB(0, 0, w, h, null, 0, w);
+        for (int i = 0; i < argb.length; i++) {
+            if (argb[i] != decoded[i]) {
+                fail("pixel " + (i % w) + ", " + (i / w) + ": expected "
+                        + Integer.toHexString(argb[i]) + " but was "
+                        + Integer.toHexString(decoded[i]));
+            }
+        }
+    }
+
+    private static void checkLoader(byte[] png, int[] argb, int w, int h, boolean opaque)
+            throws IOException {
+        ImageFrame frame = new PNGImageLoader2(new ByteArrayInputStream(png))
+                .load(0, 0, 0, false, false);
+        assertEquals(w, frame.getWidth());
+        assertEquals(h, frame.getHeight());
+        ByteBuffer data = (ByteBuffer) frame.getImageData();
+        int bpp = opaque ? 3 : 4;
+        for (int i = 0; i < argb.length; i++) {
+            int p = i * bpp;
+            int a = opaque ? 0xff : data.get(p + 3) & 0xff;
+            int decoded = a << 24 | (data.get(p) & 0xff) << 16
+                    | (data.get(p + 1) & 0xff) << 8 | (data.get(p + 2) & 0xff);
+            assertEquals(argb[i], decoded);
+        }
+    }
+
+    private static void testWrite(int w, int h, boolean opaque) throws IOException {
+        int[] argb = createPixels(w, h, opaque);
+        for (PNGImageWriter.Filter filter : PNGImageWriter.Filter.values()) {
+            for (int parallelism : new int[] {1, 4}) {
+                byte[] png = write(argb, w, h, filter, parallelism, -1);
+                checkImageIO(png, argb, w, h, opaque);
+                checkLoader(png, argb, w, h, opaque);
+            }
+        }
+    }
+
+    @Test
+    public void testWriteSmall() throws IOException {
+        testWrite(1, 1, true);
+        testWrite(1, 1, false);
+        testWrite(7, 3, true);
+        testWrite(7, 3, false);
+    }
+
+    // large enough to be split into several bands
+    @Test
+    public void testWriteBands() throws IOException {
+        testWrite(500, 400, true);
+        testWrite(500, 400, false);
+    }
+
+    // a single row can be larger than a band
+    @Test
+    public void testWriteWideRows() throws IOException {
+        testWrite(70000, 3, false);
+    }
+
+    @Test
+    public void testCompressionLevels() throws IOException {
+        int[] argb = createPixels(300, 300, false);
+        for (int level = -1; level <= 9; level++) {
+            byte[] png = write(argb, 300, 300, PNGImageWriter.Filter.ADAPTIVE, 4, level);
+            checkImageIO(png, argb, 300, 300, false);
+        }
+    }
+
+    @Test
+    public void testParallelOutputMatchesSequential() throws IOException {
+        int[] argb = createPixels(500, 400, false);
+        assertArrayEquals(
+                write(argb, 500, 400, PNGImageWriter.Filter.ADAPTIVE, 1, -1),
+                write(argb, 500, 400, PNGImageWriter.Filter.ADAPTIVE, 8, -1));
+    }
+
+    @Test
+    public void testCombineAdler32() {
+        byte[] data = new byte[100000];
+        new Random(2).nextBytes(data);
+        Adler32 whole = new Adler32();
+        whole.update(data, 0, data.length);
+        for (int split : new int[] {0, 1, 65521, 70000, data.length}) {
+            Adler32 first = new Adler32();
+            first.update(data, 0, split);
+            Adler32 second = new Adler32();
+            second.update(data, split, data.length - split);
+            assertEquals(whole.getValue(), PNGImageWriter.combineAdler32(
+                    first.getValue(), second.getValue(), data.length - split));
+        }
+    }
+
+    @Test
+    public void testZlibHeader() {
+        for (int level = -1; level <= 9; level++) {
+            byte[] header = PNGImageWriter.zlibHeader(level);
+            assertEquals(0x78, header[0]);
+            assertEquals(0, ((header[0] & 0xff) * 256 + (header[1] & 0xff)) % 31);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCompressionLevel() {
+        new PNGImageWriter(new ByteArrayOutputStream()).setCompressionLevel(10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() throws IOException {
+        new PNGImageWriter(new ByteArrayOutputStream()).write(0, 1, true, (y, row) -> {});
+    }
+}
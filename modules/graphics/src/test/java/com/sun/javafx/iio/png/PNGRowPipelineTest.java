@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio.png;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class PNGRowPipelineTest {
+
+    private static final PNGRowPipeline.Defilter NO_FILTER = (line, previousLine, filterType) -> { };
+
+    // an endless image whose rows are all zero; reads can be held up
+    private static class SlowStream extends InputStream {
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        volatile boolean hold;
+
+        @Override
+        public int read() throws IOException {
+            if (hold) {
+                reading.countDown();
+                try {
+                    proceed.await();
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw new IOException(e);
+                }
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                interrupted.set(true);
+            }
+            return 0;
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testCloseLetsTheReaderFinish() throws Exception {
+        SlowStream data = new SlowStream();
+        PNGRowPipeline pipeline = PNGRowPipeline.start(data, 1000, 16, 4, NO_FILTER);
+        assertNotNull(pipeline);
+        pipeline.release(pipeline.take());
+        data.hold = true;
+        pipeline.release(pipeline.take());
+        assertTrue(data.reading.await(5, TimeUnit.SECONDS));
+
+        Thread closer = new Thread(pipeline::close);
+        closer.start();
+        closer.join(200);
+        // close waits for the read to end instead of interrupting it
+        assertTrue(closer.isAlive());
+        data.hold = false;
+        data.proceed.countDown();
+        closer.join();
+        assertFalse(data.interrupted.get());
+    }
+
+    @Test(timeout = 10000)
+    public void testCloseStopsWaitingStages() throws Exception {
+        SlowStream data = new SlowStream();
+        PNGRowPipeline pipeline = PNGRowPipeline.start(data, 1000, 16, 4, NO_FILTER);
+        assertNotNull(pipeline);
+        // the rows are not released, so the stages run out of rows and wait
+        pipeline.take();
+        Thread.sleep(100);
+        pipeline.close();
+        assertFalse(data.interrupted.get());
+        // the stage threads become available again
+        PNGRowPipeline next;
+        while ((next = PNGRowPipeline.start(data, 10, 16, 4, NO_FILTER)) == null) {
+            Thread.sleep(10);
+        }
+        for (int y = 0; y < 10; y++) {
+            next.release(next.take());
+        }
+        next.close();
+    }
+}
@@ -85,6 +85,9 @@ public class StubWritablePlatformImage implements PlatformImage {
 
     @Override
     public void getPixels(int x, int y, int w, int h, WritablePixelFormat<IntBuffer> pixelformat, int[] pixels, int offset, int scanlineInts) {
+        for (int row = 0; row < h; row++) {
+            System.arraycopy(data, (y + row) * this.w + x, pixels, offset + row * scanlineInts, w);
+        }
     }
 
     @Override
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+import java.lang.reflect.Proxy;
+
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.scene.text.TextLayout;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TextLayoutCacheTest {
+
+    private static PGFont font() {
+        return (PGFont)Proxy.newProxyInstance(PGFont.class.getClassLoader(),
+                new Class<?>[] {PGFont.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals": return proxy == args[0];
+                        case "hashCode": return System.identityHashCode(proxy);
+                        default: return null;
+                    }
+                });
+    }
+
+    private static TextLayoutCache.Key key(String text, PGFont font, float wrapWidth) {
+        return new TextLayoutCache.Key(text.toCharArray(), font,
+                                       TextLayout.BOUNDS_CENTER, wrapWidth, 0);
+    }
+
+    @Test public void keyEquality() {
+        PGFont font = font();
+        TextLayoutCache.Key key = key("Hello", font, 0);
+        assertEquals(key, key("Hello", font, 0));
+        assertEquals(key.hashCode(), key("Hello", font, 0).hashCode());
+        assertNotEquals(key, key("Hello!", font, 0));
+        assertNotEquals(key, key("Hello", font(), 0));
+        assertNotEquals(key, key("Hello", font, 100));
+        assertNotEquals(key, new TextLayoutCache.Key("Hello".toCharArray(), font,
+                                                     0, 0, 0));
+        assertNotEquals(key, new TextLayoutCache.Key("Hello".toCharArray(), font,
+                                                     TextLayout.BOUNDS_CENTER, 0, 2));
+    }
+
+    @Test public void hitsAndMisses() {
+        PGFont font = font();
+        TextLayoutCache cache = new TextLayoutCache("Test", 100);
+        LayoutCache layout = new LayoutCache();
+        assertNull(cache.get(key("Hello", font, 0)));
+        cache.put(key("Hello", font, 0), layout);
+        assertSame(layout, cache.get(key("Hello", font, 0)));
+        assertNull(cache.get(key("Hello", font, 50)));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(5, cache.getSize());
+
+        cache.put(key("Hello", font, 0), new LayoutCache());
+        assertEquals(5, cache.getSize());
+    }
+
+    @Test public void leastRecentlyUsedRemoved() {
+        PGFont font = font();
+        TextLayoutCache cache = new TextLayoutCache("Test", 10);
+        cache.put(key("aaaa", font, 0), new LayoutCache());
+        cache.put(key("bbbb", font, 0), new LayoutCache());
+        assertNotNull(cache.get(key("aaaa", font, 0)));
+        cache.put(key("cccc", font, 0), new LayoutCache());
+        assertEquals(8, cache.getSize());
+        assertNotNull(cache.get(key("aaaa", font, 0)));
+        assertNull(cache.get(key("bbbb", font, 0)));
+        assertNotNull(cache.get(key("cccc", font, 0)));
+
+        /* Longer than the whole cache */
+        cache.put(key("dddddddddddd", font, 0), new LayoutCache());
+        assertNull(cache.get(key("dddddddddddd", font, 0)));
+        assertEquals(8, cache.getSize());
+    }
+}
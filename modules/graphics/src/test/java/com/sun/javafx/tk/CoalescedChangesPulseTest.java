@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk;
+
+import com.sun.javafx.pgstub.StubToolkit;
+import java.util.ArrayList;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CoalescedChangesPulseTest {
+
+    private StubToolkit toolkit;
+
+    @Before
+    public void setUp() {
+        toolkit = (StubToolkit) Toolkit.getToolkit();
+        toolkit.firePulse();
+        toolkit.clearPulseRequested();
+    }
+
+    @Test
+    public void testModificationRequestsPulse() {
+        ObservableList<String> list = FXCollections.coalescingObservableList(new ArrayList<>());
+        list.add("a");
+        assertTrue(toolkit.isPulseRequested());
+    }
+
+    @Test
+    public void testChangesAreDeliveredOncePerPulse() {
+        ObservableList<Integer> list = FXCollections.coalescingObservableList(new ArrayList<>());
+        int[] notifications = new int[1];
+        list.addListener((ListChangeListener<Integer>) c -> notifications[0]++);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(0, notifications[0]);
+
+        toolkit.fireTestPulse();
+        assertEquals(1, notifications[0]);
+
+        toolkit.fireTestPulse();
+        assertEquals(1, notifications[0]);
+    }
+}
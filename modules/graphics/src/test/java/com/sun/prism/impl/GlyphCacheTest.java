@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.sun.javafx.font.FontResource;
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.font.Glyph;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.scene.text.GlyphList;
+import com.sun.javafx.sg.prism.NGCamera;
+import com.sun.prism.Image;
+import com.sun.prism.MediaFrame;
+import com.sun.prism.Mesh;
+import com.sun.prism.MeshView;
+import com.sun.prism.PhongMaterial;
+import com.sun.prism.PixelFormat;
+import com.sun.prism.Presentable;
+import com.sun.prism.PresentableState;
+import com.sun.prism.RTTexture;
+import com.sun.prism.RenderTarget;
+import com.sun.prism.ResourceFactory;
+import com.sun.prism.ResourceFactoryListener;
+import com.sun.prism.Texture;
+import com.sun.prism.Texture.WrapMode;
+import com.sun.prism.paint.Color;
+import com.sun.prism.shape.ShapeRep;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GlyphCacheTest {
+
+    // Each glyph takes a quarter of a page, borders included
+    private static final int PAGE_SIZE = 16;
+    private static final int GLYPH_SIZE = 6;
+    private static final int MAX_PAGES = 2;
+
+    private TestContext context;
+    private GlyphCache cache;
+
+    @Before
+    public void setUp() {
+        context = new TestContext();
+        FontStrike strike = stub(FontStrike.class, (method, args) -> {
+            switch (method) {
+                case "getAAMode": return FontResource.AA_GREYSCALE;
+                case "getGlyph": return glyph((Integer) args[0]);
+                default: return null;
+            }
+        });
+        GlyphAtlas atlas = new GlyphAtlas(context, false, PAGE_SIZE, PAGE_SIZE, MAX_PAGES);
+        cache = new GlyphCache(context, strike, atlas);
+    }
+
+    @Test(timeout = 10000)
+    public void testRenderGlyphsThatFitInTheAtlas() {
+        assertEquals(1, render(0, 1, 2, 1, 0));
+    }
+
+    @Test(timeout = 10000)
+    public void testRenderMoreGlyphsThanFitInTheAtlas() {
+        int[] codes = new int[30];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = i % 15;
+        }
+        assertEquals(MAX_PAGES, render(codes));
+    }
+
+    /**
+     * Renders the glyphs and checks that each was drawn once.
+     *
+     * @return the number of textures the glyphs were drawn from
+     */
+    private int render(int... codes) {
+        GlyphList gl = stub(GlyphList.class, (method, args) -> {
+            switch (method) {
+                case "getGlyphCount": return codes.length;
+                case "getGlyphCode": return codes[(Integer) args[0]];
+                case "getPosX": return (Integer) args[0] * 10f;
+                default: return null;
+            }
+        });
+        Set<Texture> textures = new HashSet<>();
+        cache.render(context, gl, 0, 0, 0, 0, null, Color.BLACK,
+                     BaseTransform.IDENTITY_TRANSFORM, null, tex -> {
+                         context.flushVertexBuffer();
+                         textures.add(tex);
+                     });
+        context.flushVertexBuffer();
+        assertEquals(codes.length, context.quads);
+        return textures.size();
+    }
+
+    private static Texture texture() {
+        return stub(Texture.class, (method, args) -> {
+            switch (method) {
+                case "getPixelFormat": return PixelFormat.BYTE_ALPHA;
+                case "getPhysicalWidth":
+                case "getPhysicalHeight": return PAGE_SIZE;
+                default: return null;
+            }
+        });
+    }
+
+    private static Glyph glyph(int code) {
+        int size = GLYPH_SIZE - 2;
+        byte[] pixels = new byte[size * size];
+        return stub(Glyph.class, (method, args) -> {
+            switch (method) {
+                case "getGlyphCode": return code;
+                case "getPixelData": return pixels;
+                case "getWidth":
+                case "getHeight": return size;
+                case "getPixelXAdvance": return (float) size;
+                default: return null;
+            }
+        });
+    }
+
+    private static final class TestContext extends BaseContext {
+        int quads;
+
+        TestContext() {
+            super(null, new TestResourceFactory(), 4);
+        }
+
+        @Override
+        protected void renderQuads(float[] coordArray, byte[] colorArray, int numVertices) {
+            quads += numVertices / 4;
+        }
+
+        @Override
+        protected void setRenderTarget(RenderTarget target, NGCamera camera,
+                                       boolean depthTest, boolean state3D) {
+        }
+
+        @Override
+        public void validateClearOp(BaseGraphics g) {
+        }
+
+        @Override
+        public void validatePaintOp(BaseGraphics g, BaseTransform xform, Texture maskTex,
+                                    float bx, float by, float bw, float bh) {
+        }
+
+        @Override
+        public void validateTextureOp(BaseGraphics g, BaseTransform xform,
+                                      Texture src, PixelFormat format) {
+        }
+
+        @Override
+        public RTTexture getLCDBuffer() {
+            return null;
+        }
+    }
+
+    private static final class TestResourceFactory implements ResourceFactory {
+        @Override public boolean isDeviceReady() { return true; }
+
+        @Override public TextureResourcePool getTextureResourcePool() { return null; }
+        @Override public Texture createTexture(Image image, Texture.Usage usageHint, WrapMode wrapMode) { return null; }
+        @Override public Texture createTexture(Image image, Texture.Usage usageHint, WrapMode wrapMode, boolean useMipmap) { return null; }
+        @Override public Texture createTexture(PixelFormat formatHint, Texture.Usage usageHint, WrapMode wrapMode, int w, int h) { return null; }
+        @Override public Texture createTexture(PixelFormat formatHint, Texture.Usage usageHint, WrapMode wrapMode, int w, int h, boolean useMipmap) { return null; }
+        @Override public Texture createTexture(MediaFrame frame) { return null; }
+        @Override public boolean isCompatibleTexture(Texture tex) { return true; }
+        @Override public boolean isWrapModeSupported(WrapMode mode) { return true; }
+        @Override public Texture getCachedTexture(Image image, WrapMode wrapMode) { return null; }
+        @Override public Texture getCachedTexture(Image image, WrapMode wrapMode, boolean useMipmap) { return null; }
+        @Override public boolean isFormatSupported(PixelFormat format) { return false; }
+        @Override public int getMaximumTextureSize() { return 0; }
+        @Override public Texture createMaskTexture(int width, int height, WrapMode wrapMode) { return texture(); }
+        @Override public Texture createFloatTexture(int width, int height) { return null; }
+        @Override public int getRTTWidth(int w, WrapMode wrapMode) { return w; }
+        @Override public int getRTTHeight(int h, WrapMode wrapMode) { return h; }
+        @Override public RTTexture createRTTexture(int width, int height, WrapMode wrapMode) { return null; }
+        @Override public RTTexture createRTTexture(int width, int height, WrapMode wrapMode, boolean msaa) { return null; }
+        @Override public Presentable createPresentable(PresentableState pstate) { return null; }
+        @Override public ShapeRep createPathRep() { return null; }
+        @Override public ShapeRep createRoundRectRep() { return null; }
+        @Override public ShapeRep createEllipseRep() { return null; }
+        @Override public ShapeRep createArcRep() { return null; }
+        @Override public void addFactoryListener(ResourceFactoryListener l) { }
+        @Override public void removeFactoryListener(ResourceFactoryListener l) { }
+        @Override public void dispose() { }
+
+        @Override public PhongMaterial createPhongMaterial() { return null; }
+        @Override public MeshView createMeshView(Mesh mesh) { return null; }
+        @Override public Mesh createMesh() { return null; }
+        @Override public void setRegionTexture(Texture texture) { }
+        @Override public Texture getRegionTexture() { return null; }
+        @Override public void setGlyphTexture(Texture texture) { }
+        @Override public Texture getGlyphTexture() { return null; }
+        @Override public boolean isSuperShaderAllowed() { return false; }
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    // Methods without an answer return the default value of their type
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    Object value = answer.answer(method.getName(), args);
+                    Class<?> rt = method.getReturnType();
+                    if (value != null || !rt.isPrimitive() || rt == void.class) {
+                        return value;
+                    }
+                    if (rt == boolean.class) return false;
+                    if (rt == float.class) return 0f;
+                    if (rt == double.class) return 0d;
+                    if (rt == long.class) return 0L;
+                    return rt == int.class ? (Object) 0 : (Object) (short) 0;
+                }));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl.packrect;
+
+import com.sun.javafx.geom.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SkylinePackerTest {
+
+    private static void assertNoOverlap(List<Rectangle> rects, int width, int height) {
+        for (int i = 0; i < rects.size(); i++) {
+            Rectangle r = rects.get(i);
+            assertTrue(r.x >= 0 && r.y >= 0);
+            assertTrue(r.x + r.width <= width && r.y + r.height <= height);
+            for (int j = 0; j < i; j++) {
+                Rectangle o = rects.get(j);
+                boolean disjoint = r.x + r.width <= o.x || o.x + o.width <= r.x ||
+                                   r.y + r.height <= o.y || o.y + o.height <= r.y;
+                assertTrue(r + " overlaps " + o, disjoint);
+            }
+        }
+    }
+
+    /* Sizes like the glyphs of a CJK font with some latin text */
+    private static Rectangle nextGlyph(Random random) {
+        if (random.nextInt(4) == 0) {
+            return new Rectangle(4 + random.nextInt(8), 6 + random.nextInt(12));
+        }
+        return new Rectangle(14 + random.nextInt(6), 13 + random.nextInt(8));
+    }
+
+    @Test
+    public void testPackWithoutOverlap() {
+        SkylinePacker packer = new SkylinePacker(null, 256, 256);
+        Random random = new Random(1);
+        List<Rectangle> rects = new ArrayList<Rectangle>();
+        while (true) {
+            Rectangle rect = nextGlyph(random);
+            if (!packer.add(rect)) break;
+            rects.add(rect);
+        }
+        assertNoOverlap(rects, 256, 256);
+        assertEquals(rects.size(), packer.getRectangleCount());
+        long area = 0;
+        for (Rectangle r : rects) area += r.width * r.height;
+        assertEquals(area / (256f * 256f), packer.getOccupancy(), 1e-6);
+        assertTrue("occupancy " + packer.getOccupancy(), packer.getOccupancy() > 0.8f);
+    }
+
+    @Test
+    public void testPacksMoreThanLevels() {
+        Random random = new Random(2);
+        SkylinePacker skyline = new SkylinePacker(null, 512, 512);
+        RectanglePacker levels = new RectanglePacker(null, 512, 512);
+        int skylineCount = 0, levelCount = 0;
+        boolean skylineFull = false, levelsFull = false;
+        while (!skylineFull || !levelsFull) {
+            Rectangle rect = nextGlyph(random);
+            if (!skylineFull) {
+                if (skyline.add(new Rectangle(rect))) skylineCount++; else skylineFull = true;
+            }
+            if (!levelsFull) {
+                if (levels.add(new Rectangle(rect))) levelCount++; else levelsFull = true;
+            }
+        }
+        assertTrue(skylineCount + " <= " + levelCount, skylineCount > levelCount);
+    }
+
+    @Test
+    public void testExactFit() {
+        SkylinePacker packer = new SkylinePacker(null, 64, 32);
+        List<Rectangle> rects = new ArrayList<Rectangle>();
+        for (int i = 0; i < 8; i++) {
+            Rectangle rect = new Rectangle(16, 16);
+            assertTrue(packer.add(rect));
+            rects.add(rect);
+        }
+        assertNoOverlap(rects, 64, 32);
+        assertEquals(1f, packer.getOccupancy(), 0f);
+        assertFalse(packer.add(new Rectangle(1, 1)));
+        assertFalse(packer.add(new Rectangle(65, 1)));
+
+        packer.clear();
+        assertEquals(0f, packer.getOccupancy(), 0f);
+        Rectangle rect = new Rectangle(64, 32);
+        assertTrue(packer.add(rect));
+        assertEquals(0, rect.x);
+        assertEquals(0, rect.y);
+    }
+
+    @Test
+    public void testFillsGaps() {
+        SkylinePacker packer = new SkylinePacker(null, 30, 100);
+        Rectangle tall = new Rectangle(10, 20);
+        Rectangle shortRect = new Rectangle(10, 5);
+        assertTrue(packer.add(tall));
+        assertTrue(packer.add(shortRect));
+        // The next rectangle goes in the lowest place, next to the tall one
+        Rectangle next = new Rectangle(10, 5);
+        assertTrue(packer.add(next));
+        assertEquals(0, next.y);
+        assertEquals(20, next.x);
+        Rectangle wide = new Rectangle(20, 5);
+        assertTrue(packer.add(wide));
+        assertEquals(10, wide.x);
+        assertEquals(5, wide.y);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.image;
+
+import com.sun.javafx.pgstub.StubAsyncImageLoader;
+import com.sun.javafx.pgstub.StubImageLoaderFactory;
+import com.sun.javafx.pgstub.StubPlatformImageInfo;
+import com.sun.javafx.pgstub.StubToolkit;
+import com.sun.javafx.tk.Toolkit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public final class ImageCacheTest {
+    private final StubImageLoaderFactory imageLoaderFactory =
+            ((StubToolkit) Toolkit.getToolkit()).getImageLoaderFactory();
+
+    @Before
+    public void setUp() {
+        imageLoaderFactory.reset();
+        imageLoaderFactory.registerImage("file:a.png", new StubPlatformImageInfo(100, 100));
+        imageLoaderFactory.registerImage("file:b.png", new StubPlatformImageInfo(100, 100));
+        imageLoaderFactory.registerImage("file:c.png", new StubPlatformImageInfo(100, 100));
+        ImageCache.setMaxSize(1 << 20);
+    }
+
+    @After
+    public void tearDown() {
+        ImageCache.setMaxSize(0);
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        ImageCache.setMaxSize(0);
+        final long misses = ImageCache.getMissCount();
+
+        final Image image1 = new Image("file:a.png");
+        final Image image2 = new Image("file:a.png");
+
+        assertNotSame(image1.impl_getPlatformImage(), image2.impl_getPlatformImage());
+        assertEquals(misses, ImageCache.getMissCount());
+        assertEquals(0, ImageCache.getSize());
+    }
+
+    @Test
+    public void testSharesDecodedImage() {
+        final long hits = ImageCache.getHitCount();
+        final long misses = ImageCache.getMissCount();
+
+        final Image image1 = new Image("file:a.png");
+        final Image image2 = new Image("file:a.png");
+
+        assertSame(image1.impl_getPlatformImage(), image2.impl_getPlatformImage());
+        assertEquals(100, image2.getWidth(), 0);
+        assertEquals(hits + 1, ImageCache.getHitCount());
+        assertEquals(misses + 1, ImageCache.getMissCount());
+        assertEquals(4 * 100 * 100, ImageCache.getSize());
+    }
+
+    @Test
+    public void testKeyIncludesLoadParameters() {
+        final Image image1 = new Image("file:a.png");
+        final Image image2 = new Image("file:a.png", 50, 50, true, false);
+        final Image image3 = new Image("file:a.png", 50, 50, true, true);
+        final Image image4 = new Image("file:a.png", 50, 50, true, true);
+
+        assertNotSame(image1.impl_getPlatformImage(), image2.impl_getPlatformImage());
+        assertNotSame(image2.impl_getPlatformImage(), image3.impl_getPlatformImage());
+        assertSame(image3.impl_getPlatformImage(), image4.impl_getPlatformImage());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        ImageCache.setMaxSize(2 * 4 * 100 * 100);
+        final long evictions = ImageCache.getEvictionCount();
+
+        final Image a = new Image("file:a.png");
+        final Image b = new Image("file:b.png");
+        new Image("file:a.png");
+        new Image("file:c.png");
+
+        assertEquals(evictions + 1, ImageCache.getEvictionCount());
+        assertEquals(2 * 4 * 100 * 100, ImageCache.getSize());
+        assertSame(a.impl_getPlatformImage(), new Image("file:a.png").impl_getPlatformImage());
+        assertNotSame(b.impl_getPlatformImage(), new Image("file:b.png").impl_getPlatformImage());
+    }
+
+    @Test
+    public void testReducingMaxSizeEvicts() {
+        new Image("file:a.png");
+        new Image("file:b.png");
+
+        ImageCache.setMaxSize(4 * 100 * 100);
+
+        assertEquals(4 * 100 * 100, ImageCache.getSize());
+    }
+
+    @Test
+    public void testClear() {
+        final Image image = new Image("file:a.png");
+
+        ImageCache.clear();
+
+        assertEquals(0, ImageCache.getSize());
+        assertNotSame(image.impl_getPlatformImage(), new Image("file:a.png").impl_getPlatformImage());
+    }
+
+    @Test
+    public void testFailedImageIsNotCached() {
+        final long misses = ImageCache.getMissCount();
+
+        assertTrue(new Image("file:missing.png").isError());
+        assertTrue(new Image("file:missing.png").isError());
+
+        assertEquals(misses + 2, ImageCache.getMissCount());
+        assertEquals(0, ImageCache.getSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxSize() {
+        ImageCache.setMaxSize(-1);
+    }
+
+    @Test
+    public void testBackgroundLoadFromCache() {
+        final Image image1 = new Image("file:a.png");
+        final Image image2 = new Image("file:a.png", true);
+
+        assertFalse(imageLoaderFactory.getLastAsyncImageLoader().isStarted());
+        assertSame(image1.impl_getPlatformImage(), image2.impl_getPlatformImage());
+        assertEquals(1, image2.getProgress(), 0);
+    }
+
+    @Test
+    public void testBackgroundLoadsShareLoad() {
+        final long hits = ImageCache.getHitCount();
+        final Image image1 = new Image("file:a.png", true);
+        final StubAsyncImageLoader loader1 = imageLoaderFactory.getLastAsyncImageLoader();
+        final Image image2 = new Image("file:a.png", true);
+        final StubAsyncImageLoader loader2 = imageLoaderFactory.getLastAsyncImageLoader();
+
+        assertTrue(loader1.isStarted());
+        assertFalse(loader2.isStarted());
+        assertNull(image2.impl_getPlatformImage());
+
+        loader1.finish();
+
+        assertNotNull(image1.impl_getPlatformImage());
+        assertSame(image1.impl_getPlatformImage(), image2.impl_getPlatformImage());
+        assertEquals(1, image2.getProgress(), 0);
+        assertEquals(hits + 1, ImageCache.getHitCount());
+        assertSame(image1.impl_getPlatformImage(), new Image("file:a.png").impl_getPlatformImage());
+    }
+
+    @Test
+    public void testBackgroundLoadFailureIsShared() {
+        final Image image1 = new Image("file:a.png", true);
+        final StubAsyncImageLoader loader1 = imageLoaderFactory.getLastAsyncImageLoader();
+        final Image image2 = new Image("file:a.png", true);
+
+        loader1.finish(new Exception("Loading failed"));
+
+        assertTrue(image1.isError());
+        assertTrue(image2.isError());
+        assertEquals(0, ImageCache.getSize());
+    }
+
+    @Test
+    public void testCancelledLoadIsTakenOverByWaitingLoad() {
+        final Image image1 = new Image("file:a.png", true);
+        final Image image2 = new Image("file:a.png", true);
+        final StubAsyncImageLoader loader2 = imageLoaderFactory.getLastAsyncImageLoader();
+        final Image image3 = new Image("file:a.png", true);
+
+        image1.cancel();
+
+        assertTrue(image1.isError());
+        assertFalse(image2.isError());
+        assertTrue(loader2.isStarted());
+
+        loader2.finish();
+
+        assertNotNull(image2.impl_getPlatformImage());
+        assertSame(image2.impl_getPlatformImage(), image3.impl_getPlatformImage());
+    }
+
+    @Test
+    public void testCancelWaitingLoad() {
+        final Image image1 = new Image("file:a.png", true);
+        final StubAsyncImageLoader loader1 = imageLoaderFactory.getLastAsyncImageLoader();
+        final Image image2 = new Image("file:a.png", true);
+        final StubAsyncImageLoader loader2 = imageLoaderFactory.getLastAsyncImageLoader();
+
+        image2.cancel();
+
+        assertTrue(image2.isError());
+        assertFalse(loader2.isStarted());
+        assertFalse(loader1.isCancelled());
+
+        loader1.finish();
+
+        assertNotNull(image1.impl_getPlatformImage());
+        assertNull(image2.impl_getPlatformImage());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.image;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public final class ImageLoadQueueTest {
+    private final ImageLoadQueue queue = new ImageLoadQueue(2, 1);
+    private final List<String> started = new ArrayList<>();
+
+    private final class TestLoad extends ImageLoadQueue.Load {
+        private final String name;
+
+        TestLoad(String name, String url) {
+            super(url);
+            this.name = name;
+        }
+
+        @Override
+        void run() {
+            started.add(name);
+        }
+    }
+
+    @Test
+    public void testStartsUpToMaxRunning() {
+        final TestLoad a = new TestLoad("a", "file:a.png");
+        final TestLoad b = new TestLoad("b", "file:b.png");
+        final TestLoad c = new TestLoad("c", "file:c.png");
+
+        queue.submit(a, false);
+        queue.submit(b, false);
+        queue.submit(c, false);
+
+        assertEquals(List.of("a", "b"), started);
+        assertEquals(2, queue.getRunningCount());
+        assertEquals(1, queue.getQueuedCount());
+
+        queue.remove(a);
+
+        assertEquals(List.of("a", "b", "c"), started);
+        assertEquals(0, queue.getQueuedCount());
+    }
+
+    @Test
+    public void testShownLoadsStartFirst() {
+        queue.submit(new TestLoad("a", "file:a.png"), false);
+        final TestLoad b = new TestLoad("b", "file:b.png");
+        queue.submit(b, false);
+        queue.submit(new TestLoad("c", "file:c.png"), false);
+        queue.submit(new TestLoad("d", "file:d.png"), true);
+        final TestLoad e = new TestLoad("e", "file:e.png");
+        queue.submit(e, false);
+        queue.setVisible(e, true);
+
+        queue.remove(b);
+        assertEquals(List.of("a", "b", "d"), started);
+
+        queue.remove(e);
+        assertEquals(List.of("a", "b", "d"), started);
+
+        queue.remove(new TestLoad("x", "file:x.png"));
+        assertEquals(List.of("a", "b", "d"), started);
+    }
+
+    @Test
+    public void testUnqueue() {
+        final TestLoad a = new TestLoad("a", "file:a.png");
+        final TestLoad b = new TestLoad("b", "file:b.png");
+        final TestLoad c = new TestLoad("c", "file:c.png");
+        queue.submit(a, false);
+        queue.submit(b, false);
+        queue.submit(c, false);
+
+        assertFalse(queue.unqueue(a));
+        assertTrue(queue.unqueue(c));
+        queue.remove(a);
+
+        assertEquals(List.of("a", "b"), started);
+        assertEquals(1, queue.getRunningCount());
+
+        queue.submit(c, true);
+        assertEquals(List.of("a", "b", "c"), started);
+    }
+
+    @Test
+    public void testLimitsLoadsPerHost() {
+        final TestLoad a = new TestLoad("a", "http://example.com/a.png");
+        queue.submit(a, false);
+        queue.submit(new TestLoad("b", "http://EXAMPLE.com/b.png"), true);
+        queue.submit(new TestLoad("c", "http://example.org/c.png"), false);
+
+        assertEquals(List.of("a", "c"), started);
+
+        queue.remove(a);
+        assertEquals(List.of("a", "c", "b"), started);
+    }
+
+    @Test
+    public void testNetworkHost() {
+        assertEquals("example.com", ImageLoadQueue.networkHost("https://Example.com/a.png"));
+        assertNull(ImageLoadQueue.networkHost("file:/tmp/a.png"));
+        assertNull(ImageLoadQueue.networkHost("jar:file:/tmp/a.jar!/a.png"));
+        assertNull(ImageLoadQueue.networkHost("not a url"));
+        assertNull(ImageLoadQueue.networkHost(null));
+    }
+}
@@ -30,13 +30,20 @@ import com.sun.javafx.test.PropertyInvalidationCounter;
 import com.sun.javafx.tk.Toolkit;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import javafx.scene.Group;
+import javafx.scene.Scene;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.LinkedList;
 import java.util.Queue;
+import javax.imageio.ImageIO;
 
 import static org.junit.Assert.*;
 
@@ -231,6 +238,149 @@ public final class ImageTest {
         verifyLoadedImage(image2, 0, 0, false, false, 200, 100);
     }
 
+    @Test
+    public void loadImageAsyncSharesLoadTest() {
+        final String url = "file:test.png";
+        registerImage(url, 200, 100);
+
+        final Image image1 = new Image(url, true);
+        final StubAsyncImageLoader loader1 = getLastAsyncImageLoader();
+        final Image image2 = new Image(url, true);
+
+        assertFalse(imageLoaderFactory.getLastAsyncImageLoader().isStarted());
+
+        loader1.finish();
+        verifyLoadedImage(image1, 0, 0, false, false, 200, 100);
+        verifyLoadedImage(image2, 0, 0, false, false, 200, 100);
+    }
+
+    @Test
+    public void loadImageAsyncShownImageFirstTest() {
+        final List<StubAsyncImageLoader> running = startBackgroundLoads();
+        registerImage("file:queued1.png", 200, 100);
+        registerImage("file:queued2.png", 200, 100);
+
+        final Image queued1 = new Image("file:queued1.png", true);
+        final StubAsyncImageLoader queuedLoader1 =
+                imageLoaderFactory.getLastAsyncImageLoader();
+        final Image queued2 = new Image("file:queued2.png", true);
+        final StubAsyncImageLoader queuedLoader2 =
+                imageLoaderFactory.getLastAsyncImageLoader();
+        assertFalse(queuedLoader1.isStarted());
+        assertFalse(queuedLoader2.isStarted());
+
+        new Scene(new Group(new ImageView(queued2)));
+        running.remove(0).finish();
+
+        assertTrue(queuedLoader2.isStarted());
+        assertFalse(queuedLoader1.isStarted());
+        queuedLoader2.finish();
+        assertEquals(200, queued2.getWidth(), 0);
+
+        assertTrue(queuedLoader1.isStarted());
+        queuedLoader1.finish();
+        assertEquals(200, queued1.getWidth(), 0);
+        finish(running);
+    }
+
+    @Test
+    public void loadImageAsyncHiddenImageTest() {
+        final List<StubAsyncImageLoader> running = startBackgroundLoads();
+        final String url = "file:queued.png";
+        registerImage(url, 200, 100);
+
+        final Image image = new Image(url, true);
+        final StubAsyncImageLoader loader = imageLoaderFactory.getLastAsyncImageLoader();
+        final ImageView imageView = new ImageView(image);
+        final Group root = new Group(imageView);
+        new Scene(root);
+        root.getChildren().clear();
+
+        running.remove(0).finish();
+        assertFalse(loader.isStarted());
+        assertEquals(0, image.getProgress(), 0);
+        assertFalse(image.isError());
+
+        root.getChildren().add(imageView);
+        assertTrue(loader.isStarted());
+        loader.finish();
+        verifyLoadedImage(image, 0, 0, false, false, 200, 100);
+        finish(running);
+    }
+
+    @Test
+    public void loadImageAsyncCancelHiddenImageTest() {
+        final List<StubAsyncImageLoader> running = startBackgroundLoads();
+        final String url = "file:queued.png";
+        registerImage(url, 200, 100);
+
+        final Image image = new Image(url, true);
+        final ImageView imageView = new ImageView(image);
+        new Scene(new Group(imageView));
+        imageView.setImage(null);
+
+        image.cancel();
+        assertTrue(image.isError());
+        finish(running);
+    }
+
+    @Test
+    public void writePNGTest() throws Exception {
+        final WritableImage image = new WritableImage(3, 2);
+        final int[] argb = {
+            0xFFFF0000, 0xFF00FF00, 0xFF0000FF,
+            0x80FFFFFF, 0x00000000, 0xFF123456
+        };
+        for (int i = 0; i < argb.length; i++) {
+            image.getPixelWriter().setArgb(i % 3, i / 3, argb[i]);
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        image.writePNG(out);
+
+        final BufferedImage decoded =
+                ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(3, decoded.getWidth());
+        assertEquals(2, decoded.getHeight());
+        assertTrue(decoded.getColorModel().hasAlpha());
+        for (int i = 0; i < argb.length; i++) {
+            final int expected = (argb[i] >>> 24) == 0 ? 0 : argb[i];
+            final int actual = decoded.getRGB(i % 3, i / 3);
+            assertEquals(expected, (actual >>> 24) == 0 ? 0 : actual);
+        }
+    }
+
+    @Test
+    public void writePNGOpaqueTest() throws Exception {
+        final WritableImage image = new WritableImage(2, 2);
+        for (int i = 0; i < 4; i++) {
+            image.getPixelWriter().setArgb(i % 2, i / 2, 0xFF000000 | (i * 0x404040));
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        image.writePNG(out, 9);
+
+        final BufferedImage decoded =
+                ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertFalse(decoded.getColorModel().hasAlpha());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0xFF000000 | (i * 0x404040), decoded.getRGB(i % 2, i / 2));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void writePNGLoadingImageTest() throws Exception {
+        final String url = "file:test.png";
+        registerImage(url, 200, 100);
+
+        final Image image = new Image(url, true);
+        try {
+            image.writePNG(new ByteArrayOutputStream());
+        } finally {
+            getLastAsyncImageLoader().finish();
+        }
+    }
+
     @Test
     public void loadImageAsyncErrorTest() {
         final String url = "file:test.png";
@@ -436,6 +586,23 @@ public final class ImageTest {
         lastAsyncImageLoader.finish();
     }
 
+    private List<StubAsyncImageLoader> startBackgroundLoads() {
+        final List<StubAsyncImageLoader> loaders = new ArrayList<>();
+        for (int i = 0; i < ImageLoadQueue.MAX_RUNNING; i++) {
+            final String url = "file:running" + i + ".png";
+            registerImage(url, 10, 10);
+            new Image(url, true);
+            loaders.add(getLastAsyncImageLoader());
+        }
+        return loaders;
+    }
+
+    private static void finish(final List<StubAsyncImageLoader> loaders) {
+        for (StubAsyncImageLoader loader : loaders) {
+            loader.finish();
+        }
+    }
+
     private static void verifyLoadedImage(final Image image,
                                           final int loadWidth,
                                           final int loadHeight,
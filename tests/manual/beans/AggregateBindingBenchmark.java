@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.ObjectBinding;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * Changes the price of random elements of a large list and reads the total
+ * and the maximum price after every change, once computed by a
+ * ListChangeListener that rescans the list and once with the incremental
+ * Bindings.sum and Bindings.max.
+ *
+ * Usage: java AggregateBindingBenchmark [size] [operations]
+ */
+public class AggregateBindingBenchmark {
+
+    static final class Quote {
+        double price;
+
+        Quote(double price) {
+            this.price = price;
+        }
+    }
+
+    static final class QuoteList extends ModifiableObservableListBase<Quote> {
+        private final List<Quote> quotes = new ArrayList<>();
+
+        void setPrice(int index, double price) {
+            quotes.get(index).price = price;
+            beginChange();
+            nextUpdate(index);
+            endChange();
+        }
+
+        @Override public Quote get(int index) {
+            return quotes.get(index);
+        }
+
+        @Override public int size() {
+            return quotes.size();
+        }
+
+        @Override protected void doAdd(int index, Quote element) {
+            quotes.add(index, element);
+        }
+
+        @Override protected Quote doSet(int index, Quote element) {
+            return quotes.set(index, element);
+        }
+
+        @Override protected Quote doRemove(int index) {
+            return quotes.remove(index);
+        }
+    }
+
+    private static int size = 1_000_000;
+    private static int operations = 2_000;
+
+    private static double total;
+    private static double highest;
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            size = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            operations = Integer.parseInt(args[1]);
+        }
+        Random random = new Random(0);
+
+        QuoteList rescanned = createQuotes(random);
+        rescanned.addListener((ListChangeListener<Quote>) c -> {
+            total = 0;
+            highest = Double.NEGATIVE_INFINITY;
+            for (Quote q : rescanned) {
+                total += q.price;
+                highest = Math.max(highest, q.price);
+            }
+        });
+        measure("rescan", () -> {
+            rescanned.setPrice(random.nextInt(size), random.nextDouble());
+        });
+
+        QuoteList aggregated = createQuotes(random);
+        DoubleBinding sum = Bindings.sum(aggregated, q -> q.price);
+        ObjectBinding<Double> max = Bindings.max(aggregated, q -> q.price);
+        measure("Bindings.sum/max", () -> {
+            aggregated.setPrice(random.nextInt(size), random.nextDouble());
+            total = sum.get();
+            highest = max.get();
+        });
+    }
+
+    private static QuoteList createQuotes(Random random) {
+        QuoteList quotes = new QuoteList();
+        List<Quote> initial = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            initial.add(new Quote(random.nextDouble()));
+        }
+        quotes.addAll(initial);
+        return quotes;
+    }
+
+    private static void measure(String name, Runnable operation) {
+        for (int i = 0; i < operations / 10; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            operation.run();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%-28s %10.2f us / operation%n", name, nanos / 1e3 / operations);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.BindingScheduler;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * Builds layers of bindings where every binding depends on all bindings of
+ * the previous layer and observes the last layer with a ChangeListener.
+ * The source is modified with and without a transaction, and the time as
+ * well as the number of evaluations of all bindings are reported.
+ *
+ * Usage: java BindingSchedulerBenchmark [layers] [width] [changes]
+ */
+public class BindingSchedulerBenchmark {
+
+    private static int layers = 6;
+    private static int width = 4;
+    private static int changes = 1000;
+    private static double sink;
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            layers = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            width = Integer.parseInt(args[1]);
+        }
+        if (args.length > 2) {
+            changes = Integer.parseInt(args[2]);
+        }
+        for (int round = 0; round < 3; round++) {
+            run("without transaction", false);
+            run("in transaction", true);
+        }
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static void run(String name, boolean transaction) {
+        final DoubleProperty source = new SimpleDoubleProperty();
+        DoubleBinding[] layer = {source.add(0)};
+        final int count = layers * width + 1;
+        final DoubleBinding[] all = new DoubleBinding[count];
+        all[0] = layer[0];
+        int n = 1;
+        for (int l = 0; l < layers; l++) {
+            final DoubleBinding[] previous = layer;
+            layer = new DoubleBinding[width];
+            for (int i = 0; i < width; i++) {
+                final double factor = i + 1;
+                layer[i] = Bindings.createDoubleBinding(() -> {
+                    double sum = 0;
+                    for (DoubleBinding binding : previous) {
+                        sum += binding.get();
+                    }
+                    return sum * factor;
+                }, previous);
+                all[n++] = layer[i];
+            }
+        }
+        for (DoubleBinding binding : layer) {
+            binding.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> sink += newValue.doubleValue());
+        }
+
+        BindingScheduler.resetEvaluationCounts();
+        BindingScheduler.setEvaluationCountingEnabled(true);
+        final long start = System.nanoTime();
+        for (int i = 1; i <= changes; i++) {
+            final double value = i;
+            if (transaction) {
+                BindingScheduler.runInTransaction(() -> source.set(value));
+            } else {
+                source.set(value);
+            }
+        }
+        final long nanos = System.nanoTime() - start;
+        BindingScheduler.setEvaluationCountingEnabled(false);
+        long evaluations = 0;
+        for (DoubleBinding binding : all) {
+            evaluations += BindingScheduler.getEvaluationCount(binding);
+        }
+        System.out.printf("%-20s %10.1f us / change %8.1f evaluations / change (%d bindings)%n",
+                name, nanos / 1e3 / changes, (double) evaluations / changes, count);
+    }
+}
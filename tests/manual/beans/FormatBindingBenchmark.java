@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringExpression;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.util.converter.NumberStringConverter;
+
+/**
+ * Updates the values of a label-like format binding and reads the text after
+ * every change, compared with calling String.format directly, and converts
+ * numbers with a NumberStringConverter, compared with creating a new
+ * NumberFormat for every conversion.
+ *
+ * Usage: java FormatBindingBenchmark [operations]
+ */
+public class FormatBindingBenchmark {
+
+    private static int operations = 1_000_000;
+
+    private static int length;
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            operations = Integer.parseInt(args[0]);
+        }
+        final String format = "Item %d of %d: %.2f%% done";
+
+        int[] counter = new int[1];
+        measure("String.format", () -> {
+            int i = counter[0]++;
+            length += String.format(format, i, operations, i * 100.0 / operations).length();
+        });
+
+        IntegerProperty index = new SimpleIntegerProperty();
+        DoubleProperty progress = new SimpleDoubleProperty();
+        StringExpression text = Bindings.format(format, index, operations, progress);
+        measure("Bindings.format", () -> {
+            int i = index.get() + 1;
+            index.set(i);
+            progress.set(i * 100.0 / operations);
+            length += text.get().length();
+        });
+
+        measure("NumberFormat per call", () -> {
+            int i = counter[0]++;
+            length += NumberFormat.getNumberInstance(Locale.US).format(i * 0.5).length();
+        });
+
+        NumberStringConverter converter = new NumberStringConverter(Locale.US);
+        measure("NumberStringConverter", () -> {
+            int i = counter[0]++;
+            length += converter.toString(i * 0.5).length();
+        });
+    }
+
+    private static void measure(String name, Runnable operation) {
+        for (int i = 0; i < operations / 10; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            operation.run();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%-28s %10.3f us / operation%n", name, nanos / 1e3 / operations);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntFunction;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.DoubleChangeListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Measures the cost of notifying 1, 10 and 1000 listeners of a property or
+ * list. For every case the time and the number of bytes allocated per
+ * notification are reported; the listener dispatch itself should not
+ * allocate, so the allocation column shows the cost of boxing the values
+ * and of the change objects.
+ *
+ * Usage: java ListenerFanOutBenchmark [notifications] [rounds]
+ */
+public class ListenerFanOutBenchmark {
+
+    private static final int[] FAN_OUT = {1, 10, 1000};
+
+    private static int notifications = 1_000_000;
+    private static int rounds = 5;
+    private static long sink;
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            notifications = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            rounds = Integer.parseInt(args[1]);
+        }
+        for (int listeners : FAN_OUT) {
+            run("InvalidationListener", listeners, ListenerFanOutBenchmark::invalidation);
+            run("ChangeListener<Number>", listeners, ListenerFanOutBenchmark::change);
+            run("DoubleChangeListener", listeners, ListenerFanOutBenchmark::doubleChange);
+            run("ListChangeListener", listeners, ListenerFanOutBenchmark::listChange);
+        }
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static Runnable invalidation(int listeners) {
+        DoubleProperty property = new SimpleDoubleProperty();
+        for (int i = 0; i < listeners; i++) {
+            property.addListener((InvalidationListener) o -> sink++);
+        }
+        // get() validates the property again, otherwise it would notify only once
+        return () -> property.set(property.get() + 1);
+    }
+
+    private static Runnable change(int listeners) {
+        DoubleProperty property = new SimpleDoubleProperty();
+        for (int i = 0; i < listeners; i++) {
+            property.addListener((ChangeListener<Number>) (o, oldValue, newValue) -> sink++);
+        }
+        return () -> property.set(property.get() + 1);
+    }
+
+    private static Runnable doubleChange(int listeners) {
+        DoubleProperty property = new SimpleDoubleProperty();
+        for (int i = 0; i < listeners; i++) {
+            property.addDoubleChangeListener((DoubleChangeListener) (o, oldValue, newValue) -> sink++);
+        }
+        return () -> property.set(property.get() + 1);
+    }
+
+    private static Runnable listChange(int listeners) {
+        ObservableList<Object> list = FXCollections.observableArrayList("a");
+        for (int i = 0; i < listeners; i++) {
+            list.addListener((ListChangeListener<Object>) c -> sink++);
+        }
+        Object[] values = {"a", "b"};
+        int[] index = new int[1];
+        return () -> list.set(0, values[index[0]++ & 1]);
+    }
+
+    private static void run(String name, int listeners, IntFunction<Runnable> setup) {
+        final int count = Math.max(1, notifications / listeners);
+        long nanos = 0;
+        long bytes = 0;
+        for (int r = 0; r < rounds; r++) {
+            Runnable notification = setup.apply(listeners);
+            long allocated = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                notification.run();
+            }
+            nanos = System.nanoTime() - start;
+            bytes = allocatedBytes() - allocated;
+        }
+        System.out.printf("%-24s %5d listeners %10.1f ns %8.1f B / notification%n",
+                name, listeners, (double) nanos / count, (double) bytes / count);
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.function.Supplier;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.binding.PropertyPath;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+/**
+ * Measures select bindings which are invalidated and evaluated again, as
+ * happens when a form model is edited. Three paths of the same length are
+ * compared: a select binding over JavaFX properties, a select binding over
+ * plain Java Bean getters, and the typed {@link PropertyPath}.
+ *
+ * Usage: java SelectBindingBenchmark [evaluations] [rounds]
+ */
+public class SelectBindingBenchmark {
+
+    public static class Address {
+        private final StringProperty city = new SimpleStringProperty("Berlin");
+        public StringProperty cityProperty() { return city; }
+        public String getCity() { return city.get(); }
+    }
+
+    public static class Person {
+        private final ObjectProperty<Address> address = new SimpleObjectProperty<>(new Address());
+        public ObjectProperty<Address> addressProperty() { return address; }
+        public Address getAddress() { return address.get(); }
+    }
+
+    public static class BeanAddress {
+        private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+        private String city = "Berlin";
+        public String getCity() { return city; }
+        public void setCity(String city) {
+            final String old = this.city;
+            this.city = city;
+            pcs.firePropertyChange("city", old, city);
+        }
+        public void addPropertyChangeListener(String name, PropertyChangeListener listener) {
+            pcs.addPropertyChangeListener(name, listener);
+        }
+        public void removePropertyChangeListener(String name, PropertyChangeListener listener) {
+            pcs.removePropertyChangeListener(name, listener);
+        }
+    }
+
+    public static class BeanPerson {
+        private final BeanAddress address = new BeanAddress();
+        public BeanAddress getAddress() { return address; }
+    }
+
+    private static int evaluations = 200_000;
+    private static int rounds = 5;
+    private static long sink;
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            evaluations = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            rounds = Integer.parseInt(args[1]);
+        }
+        run("select, properties", () -> {
+            final ObjectProperty<Person> root = new SimpleObjectProperty<>(new Person());
+            final ObjectBinding<Object> binding = Bindings.select(root, "address", "city");
+            final StringProperty city = root.get().getAddress().cityProperty();
+            return () -> {
+                city.set(city.get() == "a" ? "b" : "a");
+                return binding.get();
+            };
+        });
+        run("select, Java Beans", () -> {
+            final ObjectProperty<BeanPerson> root = new SimpleObjectProperty<>(new BeanPerson());
+            final ObjectBinding<Object> binding = Bindings.select(root, "address", "city");
+            final BeanAddress address = root.get().getAddress();
+            return () -> {
+                address.setCity(address.getCity() == "a" ? "b" : "a");
+                return binding.get();
+            };
+        });
+        run("PropertyPath", () -> {
+            final ObjectProperty<Person> root = new SimpleObjectProperty<>(new Person());
+            final ObjectBinding<String> binding = PropertyPath.of(root)
+                    .select(Person::addressProperty)
+                    .select(Address::cityProperty)
+                    .toBinding();
+            final StringProperty city = root.get().getAddress().cityProperty();
+            return () -> {
+                city.set(city.get() == "a" ? "b" : "a");
+                return binding.get();
+            };
+        });
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static void run(String name, Supplier<Supplier<Object>> setup) {
+        long nanos = 0;
+        for (int r = 0; r < rounds; r++) {
+            final Supplier<Object> evaluation = setup.get();
+            final long start = System.nanoTime();
+            for (int i = 0; i < evaluations; i++) {
+                sink += evaluation.get().hashCode();
+            }
+            nanos = System.nanoTime() - start;
+        }
+        System.out.printf("%-24s %10.1f ns / evaluation%n", name, (double) nanos / evaluations);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.scene.Scene;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ScatterChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.layout.HBox;
+import javafx.stage.Stage;
+
+/**
+ * Benchmark for charts plotting buffered series. It fills a line chart and a
+ * scatter chart with 1M and 10M values, reports the time of the first layout,
+ * and then streams 10k values per frame into the line chart while reporting
+ * the average frame time.
+ *
+ * Usage: java LargeSeriesBenchmark [count...]
+ */
+public class LargeSeriesBenchmark extends Application {
+
+    private static final int STREAM_BLOCK = 10000;
+    private static final int STREAM_FRAMES = 300;
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    @Override public void start(Stage stage) {
+        int[] counts = {1000000, 10000000};
+        if (!getParameters().getRaw().isEmpty()) {
+            counts = getParameters().getRaw().stream().mapToInt(Integer::parseInt).toArray();
+        }
+
+        LineChart<Number,Number> lineChart = new LineChart<>(new NumberAxis(), new NumberAxis());
+        ScatterChart<Number,Number> scatterChart = new ScatterChart<>(new NumberAxis(), new NumberAxis());
+        lineChart.setAnimated(false);
+        scatterChart.setAnimated(false);
+        HBox root = new HBox(lineChart, scatterChart);
+        stage.setScene(new Scene(root, 1600, 600));
+        stage.setTitle("Large series benchmark");
+        stage.show();
+
+        for (int count : counts) {
+            XYChart.Series<Number,Number> lineSeries = new XYChart.Series<>();
+            XYChart.Series<Number,Number> scatterSeries = new XYChart.Series<>();
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            for (int i = 0; i < count; i++) {
+                xs[i] = i;
+                ys[i] = Math.sin(i / 5000.0) * 100 + Math.random() * 20;
+            }
+            lineSeries.getDataBuffer().addAll(xs, ys);
+            scatterSeries.getDataBuffer().addAll(xs, ys);
+            lineChart.getData().setAll(lineSeries);
+            scatterChart.getData().setAll(scatterSeries);
+
+            long start = System.nanoTime();
+            root.applyCss();
+            root.layout();
+            System.out.printf("%,d values: first layout %.1f ms%n", count, (System.nanoTime() - start) / 1e6);
+
+            lineChart.setVerticalGridLinesVisible(!lineChart.getVerticalGridLinesVisible());
+            start = System.nanoTime();
+            root.layout();
+            System.out.printf("%,d values: relayout %.1f ms%n", count, (System.nanoTime() - start) / 1e6);
+        }
+
+        XYChart.Series<Number,Number> stream = new XYChart.Series<>();
+        lineChart.getData().setAll(stream);
+        new AnimationTimer() {
+            private int frame;
+            private long first;
+            private double x;
+
+            @Override public void handle(long now) {
+                if (frame == 0) first = now;
+                double[] xs = new double[STREAM_BLOCK];
+                double[] ys = new double[STREAM_BLOCK];
+                for (int i = 0; i < STREAM_BLOCK; i++) {
+                    xs[i] = x++;
+                    ys[i] = Math.sin(x / 5000.0) * 100;
+                }
+                stream.getDataBuffer().addAll(xs, ys);
+                if (++frame == STREAM_FRAMES) {
+                    stop();
+                    System.out.printf("streaming %,d values: %.2f ms per frame%n",
+                            stream.getDataBuffer().size(), (now - first) / 1e6 / (STREAM_FRAMES - 1));
+                }
+            }
+        }.start();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import com.sun.javafx.collections.ChangeCoalescer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.stage.Stage;
+
+/**
+ * Simulates a market data feed updating the rows of a TableView at a high
+ * rate. Every frame, a configurable number of random rows is replaced. The
+ * average frame time is reported every few seconds, together with the
+ * coalescing ratio when the table's list is a coalescing list.
+ *
+ * Usage: java CoalescedFeedBenchmark [updatesPerFrame] [coalesce=true|false]
+ */
+public class CoalescedFeedBenchmark extends Application {
+
+    private static final int ROWS = 500;
+
+    private int updatesPerFrame = 1000;
+    private boolean coalesce = true;
+
+    @Override public void start(Stage stage) {
+        List<String> args = getParameters().getRaw();
+        if (args.size() > 0) {
+            updatesPerFrame = Integer.parseInt(args.get(0));
+        }
+        if (args.size() > 1) {
+            coalesce = Boolean.parseBoolean(args.get(1));
+        }
+
+        List<Double> prices = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            prices.add(100.0);
+        }
+        ObservableList<Double> items = coalesce
+                ? FXCollections.coalescingObservableList(prices)
+                : FXCollections.observableList(prices);
+
+        TableView<Double> table = new TableView<>(items);
+        TableColumn<Double, Double> column = new TableColumn<>("Price");
+        column.setCellValueFactory(f -> new ReadOnlyObjectWrapper<>(f.getValue()));
+        column.setPrefWidth(200);
+        table.getColumns().add(column);
+
+        stage.setScene(new Scene(table, 300, 600));
+        stage.setTitle(coalesce ? "Coalescing list" : "Plain list");
+        stage.show();
+
+        Random random = new Random(0);
+        new AnimationTimer() {
+            long start;
+            int frames;
+            long updates;
+
+            @Override public void handle(long now) {
+                if (start == 0) {
+                    start = now;
+                    ChangeCoalescer.resetCounters();
+                }
+                for (int i = 0; i < updatesPerFrame; i++) {
+                    int row = random.nextInt(ROWS);
+                    items.set(row, items.get(row) + random.nextGaussian());
+                }
+                updates += updatesPerFrame;
+                frames++;
+                if (now - start > 5_000_000_000L) {
+                    System.out.printf("%d updates/s, %.2f ms/frame, coalescing ratio %.1f%n",
+                            updates * 1_000_000_000L / (now - start),
+                            (now - start) / 1e6 / frames,
+                            ChangeCoalescer.getCoalescingRatio());
+                    start = now;
+                    frames = 0;
+                    updates = 0;
+                    ChangeCoalescer.resetCounters();
+                }
+            }
+        }.start();
+    }
+
+    public static void main(String[] args) {
+        Application.launch(args);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.ListPipeline;
+import javafx.collections.transformation.SortedList;
+
+/**
+ * Compares a FilteredList wrapped in a SortedList with the equivalent
+ * ListPipeline on a large list: the time to build the view, to process an
+ * update of a random element and to process an insert and a remove in the
+ * middle of the source list.
+ *
+ * Usage: java ListPipelineBenchmark [size] [operations]
+ */
+public class ListPipelineBenchmark {
+
+    static final class Quote {
+        double price;
+
+        Quote(double price) {
+            this.price = price;
+        }
+    }
+
+    static final class QuoteList extends ModifiableObservableListBase<Quote> {
+        private final List<Quote> quotes = new ArrayList<>();
+
+        void setPrice(int index, double price) {
+            quotes.get(index).price = price;
+            beginChange();
+            nextUpdate(index);
+            endChange();
+        }
+
+        @Override public Quote get(int index) {
+            return quotes.get(index);
+        }
+
+        @Override public int size() {
+            return quotes.size();
+        }
+
+        @Override protected void doAdd(int index, Quote element) {
+            quotes.add(index, element);
+        }
+
+        @Override protected Quote doSet(int index, Quote element) {
+            return quotes.set(index, element);
+        }
+
+        @Override protected Quote doRemove(int index) {
+            return quotes.remove(index);
+        }
+    }
+
+    private static final Comparator<Quote> BY_PRICE = (a, b) -> Double.compare(a.price, b.price);
+
+    private static int size = 1_000_000;
+    private static int operations = 20_000;
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            size = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            operations = Integer.parseInt(args[1]);
+        }
+        Random random = new Random(0);
+
+        QuoteList stackedQuotes = createQuotes(random);
+        long start = System.nanoTime();
+        SortedList<Quote> stacked = new SortedList<>(
+                new FilteredList<>(stackedQuotes, q -> q.price < 0.5), BY_PRICE);
+        report("stacked build", System.nanoTime() - start);
+        stacked.addListener((ListChangeListener<Quote>) c -> { });
+        run("stacked", stackedQuotes, random);
+
+        QuoteList pipelineQuotes = createQuotes(random);
+        start = System.nanoTime();
+        ObservableList<Quote> pipeline = ListPipeline.from(pipelineQuotes)
+                .filter(q -> q.price < 0.5)
+                .sorted(BY_PRICE)
+                .toList();
+        report("pipeline build", System.nanoTime() - start);
+        pipeline.addListener((ListChangeListener<Quote>) c -> { });
+        run("pipeline", pipelineQuotes, random);
+    }
+
+    private static void run(String name, QuoteList quotes, Random random) {
+        measure(name + " update", () -> {
+            quotes.setPrice(random.nextInt(size), random.nextDouble());
+        });
+        measure(name + " insert/remove", () -> {
+            quotes.add(random.nextInt(size), new Quote(random.nextDouble()));
+            quotes.remove(random.nextInt(size));
+        });
+    }
+
+    private static QuoteList createQuotes(Random random) {
+        QuoteList quotes = new QuoteList();
+        List<Quote> initial = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            initial.add(new Quote(random.nextDouble()));
+        }
+        quotes.addAll(initial);
+        return quotes;
+    }
+
+    private static void report(String name, long nanos) {
+        System.out.printf("%-28s %10.2f ms%n", name, nanos / 1e6);
+    }
+
+    private static void measure(String name, Runnable operation) {
+        for (int i = 0; i < operations / 10; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            operation.run();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%-28s %10.2f us / operation%n", name, nanos / 1e3 / operations);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.function.Supplier;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableDoubleArray;
+import javafx.collections.ObservableIntegerMap;
+import javafx.collections.ObservableIntegerSet;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.collections.SetChangeListener;
+
+/**
+ * Compares the boxed observable collections with their primitive
+ * counterparts. Every case is run several times to let the JIT warm up, and
+ * the time of the last round is reported together with the heap growth
+ * measured after it.
+ *
+ * Usage: java PrimitiveCollectionsBenchmark [size] [rounds]
+ */
+public class PrimitiveCollectionsBenchmark {
+
+    private static int size = 1_000_000;
+    private static int rounds = 10;
+    private static long sink;
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            size = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            rounds = Integer.parseInt(args[1]);
+        }
+        run("ObservableList<Double> add", PrimitiveCollectionsBenchmark::boxedList);
+        run("ObservableDoubleArray add", PrimitiveCollectionsBenchmark::doubleArray);
+        run("ObservableMap<Integer, String> put/get", PrimitiveCollectionsBenchmark::boxedMap);
+        run("ObservableIntegerMap put/get", PrimitiveCollectionsBenchmark::intMap);
+        run("ObservableSet<Integer> add/contains", PrimitiveCollectionsBenchmark::boxedSet);
+        run("ObservableIntegerSet add/contains", PrimitiveCollectionsBenchmark::intSet);
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static Object boxedList() {
+        ObservableList<Double> list = FXCollections.observableArrayList();
+        list.addListener((ListChangeListener<Double>) c -> sink++);
+        for (int i = 0; i < size; i++) {
+            list.add((double) i);
+        }
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += list.get(i);
+        }
+        sink += (long) sum;
+        return list;
+    }
+
+    private static Object doubleArray() {
+        ObservableDoubleArray array = FXCollections.observableDoubleArray();
+        array.addListener((a, sizeChanged, from, to) -> sink++);
+        for (int i = 0; i < size; i++) {
+            array.addAll(i);
+        }
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array.get(i);
+        }
+        sink += (long) sum;
+        return array;
+    }
+
+    private static Object boxedMap() {
+        ObservableMap<Integer, String> map = FXCollections.observableMap(new HashMap<>());
+        map.addListener((MapChangeListener<Integer, String>) c -> sink++);
+        for (int i = 0; i < size; i++) {
+            map.put(i, "v");
+        }
+        for (int i = 0; i < size; i++) {
+            sink += map.get(i).length();
+        }
+        return map;
+    }
+
+    private static Object intMap() {
+        ObservableIntegerMap<String> map = FXCollections.observableIntegerMap();
+        map.addListener((ObservableIntegerMap<? extends String> m, int key, String removed, String added) -> sink++);
+        for (int i = 0; i < size; i++) {
+            map.put(i, "v");
+        }
+        for (int i = 0; i < size; i++) {
+            sink += map.get(i).length();
+        }
+        return map;
+    }
+
+    private static Object boxedSet() {
+        ObservableSet<Integer> set = FXCollections.observableSet(new HashSet<>());
+        set.addListener((SetChangeListener<Integer>) c -> sink++);
+        for (int i = 0; i < size; i++) {
+            set.add(i);
+        }
+        for (int i = 0; i < size; i++) {
+            sink += set.contains(i) ? 1 : 0;
+        }
+        return set;
+    }
+
+    private static Object intSet() {
+        ObservableIntegerSet set = FXCollections.observableIntegerSet();
+        set.addListener((ObservableIntegerSet s, int element, boolean wasAdded) -> sink++);
+        for (int i = 0; i < size; i++) {
+            set.add(i);
+        }
+        for (int i = 0; i < size; i++) {
+            sink += set.contains(i) ? 1 : 0;
+        }
+        return set;
+    }
+
+    private static void run(String name, Supplier<Object> test) {
+        long nanos = 0;
+        long bytes = 0;
+        Object keepAlive = null;
+        for (int r = 0; r < rounds; r++) {
+            keepAlive = null;
+            long before = usedMemory();
+            long start = System.nanoTime();
+            keepAlive = test.get();
+            nanos = System.nanoTime() - start;
+            bytes = usedMemory() - before;
+        }
+        System.out.printf("%-40s %8.2f ms %10d KB%n", name, nanos / 1e6, bytes / 1024);
+        if (keepAlive == null) {
+            System.out.println();
+        }
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.StagingQueue;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+
+/**
+ * Feeds a ListView from background threads, either through a StagingQueue or
+ * with one Platform.runLater call per element, and reports the achieved
+ * update rate and, for the staging queue, its depth and latency.
+ *
+ * Usage: java StagingQueueBenchmark [producers] [runLater=true|false]
+ */
+public class StagingQueueBenchmark extends Application {
+
+    private static final int MAX_ROWS = 2000;
+
+    @Override public void start(Stage stage) {
+        List<String> args = getParameters().getRaw();
+        final int producers = args.size() > 0 ? Integer.parseInt(args.get(0)) : 4;
+        final boolean runLater = args.size() > 1 && Boolean.parseBoolean(args.get(1));
+
+        ObservableList<String> items = FXCollections.observableArrayList();
+        StagingQueue<String> queue = new StagingQueue<>(items, 100_000, StagingQueue.OverflowPolicy.BLOCK);
+        AtomicLong applied = new AtomicLong();
+
+        ListView<String> listView = new ListView<>(items);
+        stage.setScene(new Scene(listView, 300, 600));
+        stage.setTitle(runLater ? "Platform.runLater" : "StagingQueue");
+        stage.show();
+
+        for (int p = 0; p < producers; p++) {
+            final String name = "producer " + p;
+            Thread producer = new Thread(() -> {
+                for (long i = 0; ; i++) {
+                    final String item = name + ": " + i;
+                    if (runLater) {
+                        Platform.runLater(() -> {
+                            items.add(item);
+                            applied.incrementAndGet();
+                        });
+                    } else {
+                        queue.add(item);
+                    }
+                }
+            });
+            producer.setDaemon(true);
+            producer.start();
+        }
+
+        new AnimationTimer() {
+            long start;
+            long lastApplied;
+
+            @Override public void handle(long now) {
+                if (items.size() > MAX_ROWS) {
+                    items.remove(0, items.size() - MAX_ROWS);
+                }
+                if (start == 0) {
+                    start = now;
+                } else if (now - start > 5_000_000_000L) {
+                    long count = runLater ? applied.getAndSet(0) : queue.getAppliedCount() - lastApplied;
+                    lastApplied = queue.getAppliedCount();
+                    System.out.printf("%d updates/s, depth %d, last latency %.2f ms, max latency %.2f ms%n",
+                            count * 1_000_000_000L / (now - start),
+                            queue.getQueueDepth(),
+                            queue.getLastApplyLatency() / 1e6,
+                            queue.getMaxApplyLatency() / 1e6);
+                    start = now;
+                }
+            }
+        }.start();
+    }
+
+    public static void main(String[] args) {
+        Application.launch(args);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+/**
+ * Changes the sort key of random elements of a large list and fires a
+ * single-element update change for each, as a list with an extractor does,
+ * and reports the time per update for a SortedList and a FilteredList on top
+ * of it. Inserts and removes in the middle of the list are measured as well.
+ * The source list fires the update itself so that the time spent finding
+ * the changed element in a list with an extractor is not included.
+ *
+ * Usage: java TransformationUpdateBenchmark [size] [operations]
+ */
+public class TransformationUpdateBenchmark {
+
+    static final class Quote {
+        double price;
+
+        Quote(double price) {
+            this.price = price;
+        }
+    }
+
+    static final class QuoteList extends ModifiableObservableListBase<Quote> {
+        private final List<Quote> quotes = new ArrayList<>();
+
+        void setPrice(int index, double price) {
+            quotes.get(index).price = price;
+            beginChange();
+            nextUpdate(index);
+            endChange();
+        }
+
+        @Override public Quote get(int index) {
+            return quotes.get(index);
+        }
+
+        @Override public int size() {
+            return quotes.size();
+        }
+
+        @Override protected void doAdd(int index, Quote element) {
+            quotes.add(index, element);
+        }
+
+        @Override protected Quote doSet(int index, Quote element) {
+            return quotes.set(index, element);
+        }
+
+        @Override protected Quote doRemove(int index) {
+            return quotes.remove(index);
+        }
+    }
+
+    private static int size = 1_000_000;
+    private static int operations = 20_000;
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            size = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            operations = Integer.parseInt(args[1]);
+        }
+        Random random = new Random(0);
+        QuoteList quotes = createQuotes(random);
+        SortedList<Quote> sorted = new SortedList<>(quotes,
+                (a, b) -> Double.compare(a.price, b.price));
+        sorted.addListener((ListChangeListener<Quote>) c -> { });
+        measure("SortedList update", () -> {
+            quotes.setPrice(random.nextInt(size), random.nextDouble());
+        });
+        measure("SortedList insert/remove", () -> {
+            quotes.add(random.nextInt(size), new Quote(random.nextDouble()));
+            quotes.remove(random.nextInt(size));
+        });
+        measure("SortedList get", () -> {
+            sorted.get(random.nextInt(size));
+        });
+
+        QuoteList filterQuotes = createQuotes(random);
+        FilteredList<Quote> filtered = new FilteredList<>(filterQuotes, q -> q.price < 0.5);
+        filtered.addListener((ListChangeListener<Quote>) c -> { });
+        measure("FilteredList update", () -> {
+            filterQuotes.setPrice(random.nextInt(size), random.nextDouble());
+        });
+        measure("FilteredList insert/remove", () -> {
+            filterQuotes.add(random.nextInt(size), new Quote(random.nextDouble()));
+            filterQuotes.remove(random.nextInt(size));
+        });
+        measure("FilteredList get", () -> {
+            filtered.get(random.nextInt(filtered.size()));
+        });
+    }
+
+    private static QuoteList createQuotes(Random random) {
+        QuoteList quotes = new QuoteList();
+        List<Quote> initial = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            initial.add(new Quote(random.nextDouble()));
+        }
+        quotes.addAll(initial);
+        return quotes;
+    }
+
+    private static void measure(String name, Runnable operation) {
+        for (int i = 0; i < operations / 10; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            operation.run();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%-28s %10.2f us / operation%n", name, nanos / 1e3 / operations);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import com.sun.javafx.scene.control.skin.CellPool;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.HBox;
+import javafx.stage.Stage;
+import javafx.util.Callback;
+
+/**
+ * Benchmark for building and tearing down lists and tables, as happens when
+ * switching between tabs of a dashboard. On every frame the content of the
+ * scene is replaced by a new ListView and TableView, and the average frame
+ * time and number of cells created are reported.
+ *
+ * Run it once as is, and once with
+ * -Dcom.sun.javafx.scene.control.skin.CellPool.capacity=2000 to compare
+ * against the shared cell pool.
+ *
+ * Usage: java TabSwitchBenchmark [switches]
+ */
+public class TabSwitchBenchmark extends Application {
+
+    private static final int ROWS = 1000;
+    private static final int COLUMNS = 8;
+
+    private int cellsCreated;
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    @Override public void start(Stage stage) {
+        final int switches = getParameters().getRaw().isEmpty() ? 500
+                : Integer.parseInt(getParameters().getRaw().get(0));
+
+        final ObservableList<String> items = FXCollections.observableArrayList();
+        for (int i = 0; i < ROWS; i++) {
+            items.add("Item " + i);
+        }
+
+        // shared factories, so that pooled cells can be adopted by every view
+        final Callback<ListView<String>, ListCell<String>> cellFactory = lv -> {
+            cellsCreated++;
+            return new ListCell<String>() {
+                @Override protected void updateItem(String item, boolean empty) {
+                    super.updateItem(item, empty);
+                    setText(empty ? null : item);
+                }
+            };
+        };
+        final Callback<TableView<String>, TableRow<String>> rowFactory = tv -> {
+            cellsCreated++;
+            return new TableRow<>();
+        };
+
+        final HBox root = new HBox();
+        stage.setScene(new Scene(root, 1000, 600));
+        stage.setTitle("Tab switch benchmark");
+        stage.show();
+
+        new AnimationTimer() {
+            int count;
+            long start;
+
+            @Override public void handle(long now) {
+                if (count == 0) {
+                    start = System.nanoTime();
+                }
+                if (count == switches) {
+                    stop();
+                    double ms = (System.nanoTime() - start) / 1e6 / switches;
+                    System.out.printf("%d switches: %.2f ms/switch, %d cells created%n",
+                            switches, ms, cellsCreated);
+                    CellPool pool = CellPool.getShared();
+                    if (pool != null) {
+                        System.out.printf("cell pool: %d hits, %d misses, %d evictions, %d pooled%n",
+                                pool.getHitCount(), pool.getMissCount(),
+                                pool.getEvictionCount(), pool.size());
+                    }
+                    return;
+                }
+
+                ListView<String> listView = new ListView<>(items);
+                listView.setCellFactory(cellFactory);
+
+                TableView<String> tableView = new TableView<>(items);
+                tableView.setRowFactory(rowFactory);
+                for (int i = 0; i < COLUMNS; i++) {
+                    TableColumn<String, String> column = new TableColumn<>("Column " + i);
+                    column.setCellValueFactory(f -> new ReadOnlyObjectWrapper<>(f.getValue()));
+                    tableView.getColumns().add(column);
+                }
+
+                root.getChildren().setAll(listView, tableView);
+                count++;
+            }
+        }.start();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageStorage;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Decodes a set of PNG images on the calling thread only, then with
+ * inflating, defiltering and conversion pipelined on separate threads and
+ * interlaced passes defiltered in parallel. Reports the decoded megapixels
+ * per second for every image.
+ *
+ * Usage: java PNGDecodeBenchmark [directory of PNG files [iterations]]
+ *
+ * Without a directory a few large generated images are used; real-world
+ * images such as maps and screenshots give more representative results.
+ */
+public class PNGDecodeBenchmark {
+
+    private static int iterations = 5;
+
+    public static void main(String[] args) throws Exception {
+        List<String> names = new ArrayList<>();
+        List<byte[]> images = new ArrayList<>();
+        if (args.length > 0) {
+            File[] files = new File(args[0]).listFiles((dir, name) ->
+                    name.toLowerCase().endsWith(".png"));
+            for (File file : files) {
+                names.add(file.getName());
+                images.add(Files.readAllBytes(file.toPath()));
+            }
+        } else {
+            names.add("4096x4096 RGB");
+            images.add(generate(4096, 4096, BufferedImage.TYPE_INT_RGB, false));
+            names.add("2048x2048 RGBA interlaced");
+            images.add(generate(2048, 2048, BufferedImage.TYPE_INT_ARGB, true));
+            names.add("4096x4096 indexed");
+            images.add(generate(4096, 4096, BufferedImage.TYPE_BYTE_INDEXED, false));
+        }
+        if (args.length > 1) {
+            iterations = Integer.parseInt(args[1]);
+        }
+
+        Field minParallelSize = Class.forName("com.sun.javafx.iio.png.PNGImageLoader2")
+                .getDeclaredField("minParallelSize");
+        minParallelSize.setAccessible(true);
+
+        System.out.printf("%-32s %14s %14s%n", "", "sequential", "parallel");
+        for (int i = 0; i < images.size(); i++) {
+            minParallelSize.setInt(null, Integer.MAX_VALUE);
+            double sequential = measure(images.get(i));
+            minParallelSize.setInt(null, 0);
+            double parallel = measure(images.get(i));
+            System.out.printf("%-32s %9.1f MP/s %9.1f MP/s%n",
+                    names.get(i), sequential, parallel);
+        }
+    }
+
+    private static double measure(byte[] png) throws Exception {
+        long pixels = 0;
+        decode(png);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            pixels += decode(png);
+        }
+        return pixels * 1e3 / (System.nanoTime() - start);
+    }
+
+    private static long decode(byte[] png) throws Exception {
+        ImageFrame frame = ImageStorage.loadAll(new ByteArrayInputStream(png), null,
+                0, 0, false, 1.0f, false)[0];
+        return (long) frame.getWidth() * frame.getHeight();
+    }
+
+    // a gradient with lines and noise, which compresses about as well as a map
+    private static byte[] generate(int w, int h, int type, boolean interlaced)
+            throws Exception {
+        BufferedImage image = new BufferedImage(w, h, type);
+        Random random = new Random(1);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int argb = (x % 64 == 0 || y % 64 == 0)
+                        ? 0xFF202020
+                        : 0x80000000 | (x * 255 / w) << 16 | (y * 255 / h) << 8 | random.nextInt(32);
+                image.setRGB(x, y, type == BufferedImage.TYPE_INT_ARGB ? argb : argb | 0xFF000000);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            Iterator<ImageWriter> iter = ImageIO.getImageWritersByFormatName("png");
+            ImageWriter writer = iter.next();
+            ImageWriteParam iwp = writer.getDefaultWriteParam();
+            iwp.setProgressiveMode(interlaced
+                    ? ImageWriteParam.MODE_DEFAULT : ImageWriteParam.MODE_DISABLED);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), iwp);
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
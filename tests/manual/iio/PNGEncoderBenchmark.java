@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import com.sun.javafx.iio.png.PNGImageWriter;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.IntBuffer;
+import java.util.Random;
+import javax.imageio.ImageIO;
+
+/**
+ * Encodes a chart-like ARGB image to PNG with javax.imageio, compared with
+ * PNGImageWriter on one thread and on all processors. Reports images per
+ * second and the size of the output.
+ *
+ * Usage: java PNGEncoderBenchmark [width [height [iterations]]]
+ */
+public class PNGEncoderBenchmark {
+
+    private static int width = 1920;
+    private static int height = 1080;
+    private static int iterations = 20;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            width = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            height = Integer.parseInt(args[1]);
+        }
+        if (args.length > 2) {
+            iterations = Integer.parseInt(args[2]);
+        }
+
+        // flat areas, gradients, lines and some noise
+        int[] argb = new int[width * height];
+        Random random = new Random(1);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int p;
+                if (x % 97 == 0 || y % 61 == 0) {
+                    p = 0xFF404040;
+                } else if (x < width / 2) {
+                    p = 0xFF000000 | (x * 255 / width) << 16 | (y * 255 / height) << 8 | 0x80;
+                } else {
+                    p = 0xFFFFFFFF - random.nextInt(4);
+                }
+                argb[y * width + x] = p;
+            }
+        }
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, argb, 0, width);
+
+        measure("ImageIO", out -> ImageIO.write(image, "png", out));
+        measure("PNGImageWriter, 1 thread", out -> {
+            PNGImageWriter writer = new PNGImageWriter(out);
+            writer.setParallelism(1);
+            writer.write(IntBuffer.wrap(argb), width, height, width);
+        });
+        measure("PNGImageWriter", out ->
+                new PNGImageWriter(out).write(IntBuffer.wrap(argb), width, height, width));
+        measure("PNGImageWriter, level 1", out -> {
+            PNGImageWriter writer = new PNGImageWriter(out);
+            writer.setCompressionLevel(1);
+            writer.write(IntBuffer.wrap(argb), width, height, width);
+        });
+    }
+
+    private interface Encoder {
+        void encode(ByteArrayOutputStream out) throws Exception;
+    }
+
+    private static void measure(String name, Encoder encoder) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            out.reset();
+            encoder.encode(out);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            out.reset();
+            encoder.encode(out);
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%-26s %8.2f images / s %10d bytes%n",
+                name, iterations * 1e9 / nanos, out.size());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageStorage;
+import com.sun.javafx.iio.common.ImageTools;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import javax.imageio.ImageIO;
+
+/**
+ * Creates thumbnails of a large PNG image by scaling it while it is decoded,
+ * compared with decoding the whole image and scaling it afterwards, and
+ * decodes a region of the image at its original size. Reports thumbnails per
+ * second and the bytes allocated per thumbnail.
+ *
+ * Usage: java ThumbnailBenchmark [size [thumbnailSize [iterations]]]
+ */
+public class ThumbnailBenchmark {
+
+    private static int size = 4000;
+    private static int thumbnailSize = 128;
+    private static int iterations = 20;
+
+    private static long pixels;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            size = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            thumbnailSize = Integer.parseInt(args[1]);
+        }
+        if (args.length > 2) {
+            iterations = Integer.parseInt(args[2]);
+        }
+
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(1);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                image.setRGB(x, y, (x * 255 / size) << 16 | (y * 255 / size) << 8
+                        | random.nextInt(64));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        image = null;
+        byte[] png = out.toByteArray();
+        System.out.printf("%dx%d PNG, %d bytes%n", size, size, png.length);
+
+        measure("decode, then scale", () -> {
+            ImageFrame frame = ImageStorage.loadAll(new ByteArrayInputStream(png), null,
+                    0, 0, true, 1.0f, true)[0];
+            frame = ImageTools.scaleImageFrame(frame, thumbnailSize, thumbnailSize, true);
+            pixels += frame.getWidth() * frame.getHeight();
+        });
+
+        measure("scale while decoding", () -> {
+            ImageFrame frame = ImageStorage.loadAll(new ByteArrayInputStream(png), null,
+                    thumbnailSize, thumbnailSize, true, 1.0f, true)[0];
+            pixels += frame.getWidth() * frame.getHeight();
+        });
+
+        measure("top-left region", () -> {
+            ImageFrame frame = ImageStorage.loadRegion(new ByteArrayInputStream(png), null,
+                    0, 0, thumbnailSize, thumbnailSize, 0, 0, false, true);
+            pixels += frame.getWidth() * frame.getHeight();
+        });
+    }
+
+    private interface Thumbnail {
+        void create() throws Exception;
+    }
+
+    private static void measure(String name, Thumbnail thumbnail) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 3; i++) {
+            thumbnail.create();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            thumbnail.create();
+        }
+        long nanos = System.nanoTime() - start;
+        allocated = threads.getCurrentThreadAllocatedBytes() - allocated;
+        System.out.printf("%-24s %8.2f thumbnails / s %10.1f MB allocated / thumbnail%n",
+                name, iterations * 1e9 / nanos, allocated / 1e6 / iterations);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import com.sun.javafx.font.CharToGlyphMapper;
+import com.sun.javafx.font.FontResource;
+import com.sun.javafx.font.PGFont;
+import com.sun.javafx.font.PrismFontFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Loads several instances of a font file and reports the heap retained per
+ * instance once the cmap and hmtx tables are in use, and the latency of
+ * looking up a glyph and its advance.
+ *
+ * Usage: java FontFileBenchmark font-file [instances [lookups]]
+ *
+ * The tables are read from a shared memory mapping of the file, run again
+ * with -Dprism.mapfonts=false to compare with the tables read into the heap.
+ *
+ * A large CJK font, such as Noto Sans CJK or MS Gothic, shows the difference
+ * best. Requires the native font libraries.
+ */
+public class FontFileBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String path = args[0];
+        int instances = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int lookups = args.length > 2 ? Integer.parseInt(args[2]) : 5000000;
+
+        boolean map = !"false".equals(System.getProperty("prism.mapfonts"));
+
+        long before = usedHeap();
+        List<FontResource> fonts = load(path, instances);
+        long heap = (usedHeap() - before) / instances;
+
+        int[] codePoints = codePoints(fonts.get(0), lookups);
+        float sum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            FontResource font = fonts.get(i % instances);
+            int glyph = font.getGlyphMapper().charToGlyph(codePoints[i]);
+            sum += font.getAdvance(glyph, 12);
+        }
+        double ns = (System.nanoTime() - start) / (double) lookups;
+        System.out.printf("%-8s %16s %14s%n", "", "heap/instance", "lookup");
+        System.out.printf("%-8s %13d KB %11.1f ns%s%n", map ? "mapped" : "heap",
+                heap / 1024, ns, sum < 0 ? "!" : "");
+    }
+
+    private static List<FontResource> load(String path, int instances) {
+        PrismFontFactory factory = PrismFontFactory.getFontFactory();
+        List<FontResource> fonts = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            PGFont font = factory.loadEmbeddedFont(null, path, 12, false);
+            FontResource resource = font.getFontResource();
+            // build the cmap and read the advances
+            resource.getAdvance(resource.getGlyphMapper().charToGlyph('A'), 12);
+            fonts.add(resource);
+        }
+        return fonts;
+    }
+
+    // code points the font supports, in random order
+    private static int[] codePoints(FontResource font, int count) {
+        CharToGlyphMapper mapper = font.getGlyphMapper();
+        List<Integer> supported = new ArrayList<>();
+        for (int cp = 0x20; cp < 0x30000; cp++) {
+            if (mapper.charToGlyph(cp) != mapper.getMissingGlyphCode()) {
+                supported.add(cp);
+            }
+        }
+        Random random = new Random(1);
+        int[] codePoints = new int[count];
+        for (int i = 0; i < count; i++) {
+            codePoints[i] = supported.get(random.nextInt(supported.size()));
+        }
+        return codePoints;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+import com.sun.javafx.font.GlyphDiskCache;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rasterizes the glyphs listed in a strikes file, as recorded by running an
+ * application with {@code -Dprism.glyphDiskCache=app.glyphs} and
+ * {@code -Dprism.glyphDiskCache.record=true}, into a glyph cache file. Run it
+ * with the same font rasterizer settings as the application, for example as
+ * a step of the application's build.
+ *
+ * Usage: java GlyphDiskCacheGenerator strikes-file cache-file
+ */
+public class GlyphDiskCacheGenerator {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: GlyphDiskCacheGenerator strikes-file cache-file");
+            System.exit(1);
+        }
+        List<String> skipped = new ArrayList<>();
+        int count = GlyphDiskCache.rasterize(Paths.get(args[0]), Paths.get(args[1]), skipped);
+        for (String font : skipped) {
+            System.err.println("Skipping " + font + ": font not found or different");
+        }
+        System.out.println("Wrote " + count + " glyphs to " + args[1]);
+    }
+}